@@ -0,0 +1,190 @@
+package com.entain.data.access;
+
+import com.entain.data.EventStatus;
+import com.entain.data.SportEvent;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hot paths of {@link InMemorySportEventStore} at 10k, 100k and 1M stored events.
+ * <p>
+ * Each operation is measured with 1, 4 and all available threads ({@code _1t}, {@code _4t} and {@code _maxt}
+ * methods) to show how it scales under contention. The store is pre-filled with a realistic mix:
+ * most events FINISHED, a small share ACTIVE, spread over a handful of sports.
+ * <p>
+ * {@code findAll} is measured for a selective filter (ACTIVE football) and for the unfiltered listing.
+ * {@code updateStatus} flips pre-filled events between ACTIVE and FINISHED; the store itself does not validate
+ * transitions, so this isolates the cost of the write and its index maintenance.
+ * <p>
+ * The store is rebuilt before every iteration. {@code save} grows it by every call, so its iterations are kept short
+ * to stay close to the nominal size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InMemorySportEventStoreBenchmark {
+
+    static final String[] SPORTS = {"FOOTBALL", "HOCKEY", "BASKETBALL", "TENNIS", "VOLLEYBALL"};
+
+    @Param({"10000", "100000", "1000000"})
+    public int events;
+
+    private InMemorySportEventStore store;
+    private UUID[] ids;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        store = new InMemorySportEventStore();
+        ids = new UUID[events];
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < events; i++) {
+            // ~1% ACTIVE, ~9% INACTIVE, the rest FINISHED history
+            EventStatus status = i % 100 == 0 ? EventStatus.ACTIVE
+                    : i % 10 == 0 ? EventStatus.INACTIVE
+                    : EventStatus.FINISHED;
+            SportEvent event = new SportEvent(UUID.randomUUID(), "Event " + i, SPORTS[i % SPORTS.length],
+                    status, now.plusMinutes(i));
+            store.save(event);
+            ids[i] = event.id();
+        }
+    }
+
+    private UUID randomId() {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+
+    private SportEvent newEvent() {
+        return new SportEvent(UUID.randomUUID(), "New event", "FOOTBALL", EventStatus.INACTIVE, LocalDateTime.now());
+    }
+
+    private void flipStatus() {
+        store.updateStatus(randomId(), ThreadLocalRandom.current().nextBoolean() ? EventStatus.ACTIVE : EventStatus.FINISHED);
+    }
+
+    // --- save: every call inserts a fresh event, so the store grows during the trial ---
+
+    @Benchmark
+    @Threads(1)
+    @Warmup(iterations = 5, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 10, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    public SportEvent save_1t() {
+        return store.save(newEvent());
+    }
+
+    @Benchmark
+    @Threads(4)
+    @Warmup(iterations = 5, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 10, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    public SportEvent save_4t() {
+        return store.save(newEvent());
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    @Warmup(iterations = 5, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 10, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    public SportEvent save_maxt() {
+        return store.save(newEvent());
+    }
+
+    // --- findById ---
+
+    @Benchmark
+    @Threads(1)
+    public Optional<SportEvent> findById_1t() {
+        return store.findById(randomId());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Optional<SportEvent> findById_4t() {
+        return store.findById(randomId());
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Optional<SportEvent> findById_maxt() {
+        return store.findById(randomId());
+    }
+
+    // --- findAll with a selective filter ---
+
+    @Benchmark
+    @Threads(1)
+    public List<SportEvent> findAllActiveFootball_1t() {
+        return store.findAll(EventStatus.ACTIVE, "FOOTBALL");
+    }
+
+    @Benchmark
+    @Threads(4)
+    public List<SportEvent> findAllActiveFootball_4t() {
+        return store.findAll(EventStatus.ACTIVE, "FOOTBALL");
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public List<SportEvent> findAllActiveFootball_maxt() {
+        return store.findAll(EventStatus.ACTIVE, "FOOTBALL");
+    }
+
+    // --- findAll without filters (full listing) ---
+
+    @Benchmark
+    @Threads(1)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public List<SportEvent> findAllUnfiltered_1t() {
+        return store.findAll(null, null);
+    }
+
+    @Benchmark
+    @Threads(4)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public List<SportEvent> findAllUnfiltered_4t() {
+        return store.findAll(null, null);
+    }
+
+    // --- updateStatus ---
+
+    @Benchmark
+    @Threads(1)
+    public void updateStatus_1t() {
+        flipStatus();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void updateStatus_4t() {
+        flipStatus();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void updateStatus_maxt() {
+        flipStatus();
+    }
+
+    // --- mixed read-mostly workload: 90% findById, 9% findAll(ACTIVE), 1% updateStatus ---
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void mixedReadMostly_maxt(Blackhole blackhole) {
+        int dice = ThreadLocalRandom.current().nextInt(100);
+        if (dice == 0) {
+            flipStatus();
+        } else if (dice < 10) {
+            blackhole.consume(store.findAll(EventStatus.ACTIVE, null));
+        } else {
+            blackhole.consume(store.findById(randomId()));
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.entain.data.access.index;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ConcurrentUuidMap} against the {@code ConcurrentHashMap<UUID, V>} it replaced as the primary index of
+ * {@code InMemorySportEventStore}, at 100k and 1M entries.
+ * <p>
+ * {@code get} looks up a random stored id, {@code getMiss} an id that is not stored (the 404 path), and
+ * {@code compute} replaces the value of a random stored id as a status change does. Each is measured with 1 and all
+ * available threads. Run with {@code -prof gc} to compare allocation, and compare the retained heap of the two maps
+ * in a heap dump: the node and {@code UUID} objects per entry are what the primitive map saves.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConcurrentUuidMapBenchmark {
+
+    /** The two implementations behind one call site; each trial uses one of them only. */
+    private interface UuidMap {
+        Object get(UUID id);
+
+        Object compute(UUID id, Object value);
+    }
+
+    @Param({"ConcurrentHashMap", "ConcurrentUuidMap"})
+    public String map;
+
+    @Param({"100000", "1000000"})
+    public int entries;
+
+    private UuidMap index;
+    private UUID[] ids;
+    private UUID[] missing;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        index = map.equals("ConcurrentHashMap") ? concurrentHashMap() : concurrentUuidMap();
+        ids = new UUID[entries];
+        missing = new UUID[entries];
+        for (int i = 0; i < entries; i++) {
+            // Fresh UUID objects for the lookups, as a controller parses them from the request
+            UUID id = UUID.randomUUID();
+            index.compute(new UUID(id.getMostSignificantBits(), id.getLeastSignificantBits()), i);
+            ids[i] = id;
+            missing[i] = UUID.randomUUID();
+        }
+    }
+
+    private static UuidMap concurrentHashMap() {
+        ConcurrentHashMap<UUID, Object> delegate = new ConcurrentHashMap<>();
+        return new UuidMap() {
+            @Override
+            public Object get(UUID id) {
+                return delegate.get(id);
+            }
+
+            @Override
+            public Object compute(UUID id, Object value) {
+                return delegate.compute(id, (key, current) -> value);
+            }
+        };
+    }
+
+    private static UuidMap concurrentUuidMap() {
+        ConcurrentUuidMap<Object> delegate = new ConcurrentUuidMap<>();
+        return new UuidMap() {
+            @Override
+            public Object get(UUID id) {
+                return delegate.get(id);
+            }
+
+            @Override
+            public Object compute(UUID id, Object value) {
+                return delegate.compute(id, (key, current) -> value);
+            }
+        };
+    }
+
+    private UUID randomId() {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+
+    private UUID randomMissingId() {
+        return missing[ThreadLocalRandom.current().nextInt(missing.length)];
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object get_1t() {
+        return index.get(randomId());
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Object get_maxt() {
+        return index.get(randomId());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object getMiss_1t() {
+        return index.get(randomMissingId());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object compute_1t() {
+        return index.compute(randomId(), Boolean.TRUE);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Object compute_maxt() {
+        return index.compute(randomId(), Boolean.TRUE);
+    }
+}
@@ -0,0 +1,78 @@
+package com.entain.data.access.snapshot;
+
+import com.entain.data.EventStatus;
+import com.entain.data.SportEvent;
+import com.entain.data.access.InMemorySportEventStore;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dumping and loading a whole event population with {@link SportEventSnapshot}.
+ * <ul>
+ *     <li>{@code write} — encoding the events to a file, including the final fsync.</li>
+ *     <li>{@code read} — decoding the file only.</li>
+ *     <li>{@code restore} — decoding into a fresh {@link InMemorySportEventStore}, i.e. a warm restart.</li>
+ * </ul>
+ * Single-shot, since one operation already takes from milliseconds to seconds.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xmx8g"})
+public class SportEventSnapshotBenchmark {
+
+    private static final String[] SPORTS = {"FOOTBALL", "BASKETBALL", "TENNIS", "HOCKEY", "VOLLEYBALL"};
+    private static final EventStatus[] STATUSES = EventStatus.values();
+
+    @Param({"1000000", "5000000"})
+    public int events;
+
+    private List<SportEvent> population;
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        population = new ArrayList<>(events);
+        LocalDateTime start = LocalDateTime.of(2030, 1, 1, 12, 0);
+        for (int i = 0; i < events; i++) {
+            population.add(new SportEvent(UUID.randomUUID(), "Match " + i, SPORTS[i % SPORTS.length],
+                    STATUSES[i % STATUSES.length], start.plusMinutes(i)));
+        }
+        file = Files.createTempFile("events", ".snapshot");
+        SportEventSnapshot.write(file, population);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long write() throws IOException {
+        return SportEventSnapshot.write(file, population);
+    }
+
+    @Benchmark
+    public long read() throws IOException {
+        long[] checksum = new long[1];
+        SportEventSnapshot.read(file, e -> checksum[0] += e.id().getLeastSignificantBits());
+        return checksum[0];
+    }
+
+    @Benchmark
+    public InMemorySportEventStore restore() throws IOException {
+        InMemorySportEventStore store = new InMemorySportEventStore();
+        SportEventSnapshot.read(file, store::restore);
+        return store;
+    }
+}
@@ -0,0 +1,150 @@
+package com.entain.service;
+
+import com.entain.config.SportsConfig;
+import com.entain.data.EventStatus;
+import com.entain.data.SportEvent;
+import com.entain.data.access.InMemorySportEventStore;
+import com.entain.event.DomainEvent;
+import com.entain.event.DomainEventPublisher;
+import com.entain.exception.InvalidStatusChangeException;
+import com.entain.validation.EventValidationRule;
+import com.entain.validation.SportTypeRule;
+import com.entain.validation.StatusChangeRule;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link SportEventService#changeStatus(UUID, EventStatus)} path and its validation chain.
+ * <ul>
+ *     <li>{@code validationChain} — only the configured rules ({@link StatusChangeRule}, {@link SportTypeRule}
+ *         with extra sports from config) for a valid INACTIVE → ACTIVE transition.</li>
+ *     <li>{@code changeStatus} — the full service call against an {@link InMemorySportEventStore}. Transitions
+ *         are one-way, so each thread walks a pool of INACTIVE events and rebuilds it when exhausted; the figure
+ *         includes that amortized refill (one {@code save} per operation).</li>
+ *     <li>{@code changeStatusRejected} — a forbidden FINISHED → ACTIVE transition, i.e. the exception path.</li>
+ * </ul>
+ * Domain events are discarded so only the service, rules and store are measured.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SportEventServiceBenchmark {
+
+    static List<EventValidationRule> rules() {
+        SportsConfig config = new SportsConfig();
+        config.setExtraTypes(List.of("TENNIS", "VOLLEYBALL"));
+        return List.of(new StatusChangeRule(), new SportTypeRule(config));
+    }
+
+    static SportEventService service(InMemorySportEventStore store) {
+        DomainEventPublisher discardingPublisher = new DomainEventPublisher(null, null) {
+            @Override
+            public void publish(DomainEvent event) {
+                // not measured
+            }
+        };
+        return new SportEventService(store, discardingPublisher, rules());
+    }
+
+    static SportEvent futureEvent(String sport, EventStatus status) {
+        return new SportEvent(UUID.randomUUID(), "Benchmark match", sport, status, LocalDateTime.now().plusDays(1));
+    }
+
+    @State(Scope.Benchmark)
+    public static class RulesState {
+        List<EventValidationRule> rules;
+        SportEvent event;
+
+        @Setup
+        public void setUp() {
+            rules = rules();
+            // An extra sport from config is the slowest successful lookup
+            event = futureEvent("VOLLEYBALL", EventStatus.INACTIVE);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ChangeStatusState {
+        static final int POOL_SIZE = 1 << 16;
+
+        SportEventService service;
+        UUID[] ids;
+        int cursor;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            refill();
+        }
+
+        void refill() {
+            InMemorySportEventStore store = new InMemorySportEventStore();
+            service = service(store);
+            ids = new UUID[POOL_SIZE];
+            for (int i = 0; i < POOL_SIZE; i++) {
+                ids[i] = store.save(futureEvent("FOOTBALL", EventStatus.INACTIVE)).id();
+            }
+            cursor = 0;
+        }
+
+        UUID nextInactive() {
+            if (cursor == POOL_SIZE) {
+                refill();
+            }
+            return ids[cursor++];
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class FinishedEventState {
+        SportEventService service;
+        UUID finishedId;
+
+        @Setup
+        public void setUp() {
+            InMemorySportEventStore store = new InMemorySportEventStore();
+            service = service(store);
+            finishedId = store.save(futureEvent("FOOTBALL", EventStatus.FINISHED)).id();
+        }
+    }
+
+    @Benchmark
+    public SportEvent validationChain(RulesState state) {
+        for (EventValidationRule rule : state.rules) {
+            rule.validate(state.event, EventStatus.ACTIVE);
+        }
+        return state.event;
+    }
+
+    @Benchmark
+    @Threads(1)
+    public SportEvent changeStatus_1t(ChangeStatusState state) {
+        return state.service.changeStatus(state.nextInactive(), EventStatus.ACTIVE);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public SportEvent changeStatus_4t(ChangeStatusState state) {
+        return state.service.changeStatus(state.nextInactive(), EventStatus.ACTIVE);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public SportEvent changeStatus_maxt(ChangeStatusState state) {
+        return state.service.changeStatus(state.nextInactive(), EventStatus.ACTIVE);
+    }
+
+    @Benchmark
+    public Object changeStatusRejected(FinishedEventState state) {
+        try {
+            return state.service.changeStatus(state.finishedId, EventStatus.ACTIVE);
+        } catch (InvalidStatusChangeException e) {
+            return e;
+        }
+    }
+}
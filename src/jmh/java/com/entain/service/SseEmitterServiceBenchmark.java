@@ -0,0 +1,74 @@
+package com.entain.service;
+
+import com.entain.config.SseConfig;
+import com.entain.data.EventStatus;
+import com.entain.data.SportEvent;
+import com.entain.sse.SseFrameEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SseEmitterService#emitUpdate(SportEvent)} fan-out to N in-memory emitters.
+ * <p>
+ * The writer executor runs drains inline, so one operation covers the whole delivery path: encoding the frame,
+ * offering it to every subscriber queue and handing it to every emitter. Emitters only count frames, so the result
+ * is the server-side cost per broadcast without any network I/O.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SseEmitterServiceBenchmark {
+
+    @Param({"1", "100", "1000", "10000"})
+    public int subscribers;
+
+    private SseEmitterService service;
+    private SportEvent event;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        service = new SseEmitterService(new SseConfig(), Runnable::run, new SseFrameEncoder(objectMapper),
+                new SimpleMeterRegistry());
+        for (int i = 0; i < subscribers; i++) {
+            service.register(new CountingEmitter());
+        }
+        event = new SportEvent(UUID.randomUUID(), "Benchmark match", "FOOTBALL",
+                EventStatus.ACTIVE, LocalDateTime.now().plusHours(1));
+    }
+
+    @Benchmark
+    public void emitUpdate() {
+        service.emitUpdate(event);
+    }
+
+    /**
+     * In-memory subscriber that accepts every frame immediately.
+     */
+    static final class CountingEmitter extends SseEmitter {
+
+        long frames;
+
+        CountingEmitter() {
+            super(0L);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            frames++;
+        }
+    }
+}
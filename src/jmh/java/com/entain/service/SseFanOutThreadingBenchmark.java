@@ -0,0 +1,125 @@
+package com.entain.service;
+
+import com.entain.config.SseConfig;
+import com.entain.data.EventStatus;
+import com.entain.data.SportEvent;
+import com.entain.sse.SseFrameEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Compares SSE delivery on platform-thread writers with virtual-thread writers.
+ * <p>
+ * Every subscriber simulates a slow socket by blocking for {@code writeLatencyMicros} per frame, and one operation
+ * is a broadcast followed by waiting until every subscriber received it. With a fixed pool of platform writers the
+ * broadcast takes roughly {@code subscribers * latency / writerThreads}; with virtual threads blocked writers are
+ * unmounted and the broadcast completes in close to a single write latency.
+ * <p>
+ * The {@code VIRTUAL} mode needs Java 21: run with {@code ./gradlew jmh -PjmhJavaVersion=21 -PjmhIncludes=SseFanOutThreading}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SseFanOutThreadingBenchmark {
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    public String threading;
+
+    @Param({"1000", "10000"})
+    public int subscribers;
+
+    @Param({"200"})
+    public int writeLatencyMicros;
+
+    private final AtomicInteger delivered = new AtomicInteger();
+    private ThreadPoolTaskExecutor platformWriters;
+    private SimpleAsyncTaskExecutor virtualWriters;
+    private SseEmitterService service;
+    private SportEvent event;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SseConfig config = new SseConfig();
+        Executor writers;
+        if ("VIRTUAL".equals(threading)) {
+            virtualWriters = new SimpleAsyncTaskExecutor("sse-writer-");
+            virtualWriters.setVirtualThreads(true);
+            writers = virtualWriters;
+        } else {
+            platformWriters = new ThreadPoolTaskExecutor();
+            platformWriters.setCorePoolSize(config.getWriterThreads());
+            platformWriters.setMaxPoolSize(config.getWriterThreads());
+            platformWriters.setThreadNamePrefix("sse-writer-");
+            platformWriters.initialize();
+            writers = platformWriters;
+        }
+
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        service = new SseEmitterService(config, writers, new SseFrameEncoder(objectMapper), new SimpleMeterRegistry());
+
+        long latencyNanos = TimeUnit.MICROSECONDS.toNanos(writeLatencyMicros);
+        for (int i = 0; i < subscribers; i++) {
+            service.register(new SlowEmitter(latencyNanos, delivered));
+        }
+        event = new SportEvent(UUID.randomUUID(), "Benchmark match", "FOOTBALL",
+                EventStatus.ACTIVE, LocalDateTime.now().plusHours(1));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (platformWriters != null) {
+            platformWriters.shutdown();
+        }
+        if (virtualWriters != null) {
+            virtualWriters.close();
+        }
+    }
+
+    @Benchmark
+    public void broadcastUntilDelivered() {
+        int target = delivered.get() + subscribers;
+        service.emitUpdate(event);
+        while (delivered.get() < target) {
+            LockSupport.parkNanos(10_000);
+        }
+    }
+
+    /**
+     * In-memory subscriber that blocks like a client behind a slow network link.
+     */
+    static final class SlowEmitter extends SseEmitter {
+
+        private final long latencyNanos;
+        private final AtomicInteger delivered;
+
+        SlowEmitter(long latencyNanos, AtomicInteger delivered) {
+            super(0L);
+            this.latencyNanos = latencyNanos;
+            this.delivered = delivered;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            LockSupport.parkNanos(latencyNanos);
+            delivered.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.entain.cluster;
+
+import java.util.function.Consumer;
+
+/**
+ * Transport carrying domain events between the nodes of a cluster, so that SSE subscribers connected to any node
+ * see changes made on every node.
+ *
+ * <p>Implementations are selected with {@code cluster.transport}: {@link NoopClusterBus} ({@code none}, default)
+ * for a single node and {@link TcpClusterBus} ({@code tcp}) for a fixed list of peers. A transport only moves
+ * messages; numbering and de-duplication are done by {@link ClusterForwarder}, so a transport may deliver a message
+ * more than once or lose it, but must never block the caller of {@link #broadcast(ClusterMessage)} on a peer.</p>
+ */
+public interface ClusterBus {
+
+    /**
+     * Sends the message to every peer node.
+     */
+    void broadcast(ClusterMessage message);
+
+    /**
+     * Sets where messages received from peers are delivered. Called once, before any message is broadcast.
+     */
+    void onMessage(Consumer<ClusterMessage> receiver);
+
+    /**
+     * @return messages discarded because a peer could not keep up
+     */
+    default long getDroppedCount() {
+        return 0;
+    }
+
+    /**
+     * @return received messages that could not be decoded or were rejected by the receiver
+     */
+    default long getMalformedCount() {
+        return 0;
+    }
+}
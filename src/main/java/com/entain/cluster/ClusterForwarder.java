@@ -0,0 +1,185 @@
+package com.entain.cluster;
+
+import com.entain.config.ClusterConfig;
+import com.entain.event.DomainEvent;
+import com.entain.event.DomainEventSink;
+import com.entain.event.EventDispatcher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Connects the local domain events with the other nodes of the cluster.
+ *
+ * <p>Outgoing: every locally published domain event is numbered and handed to the {@link ClusterBus}.</p>
+ *
+ * <p>Incoming: messages from peers are de-duplicated by origin and sequence number and submitted to the local
+ * {@link EventDispatcher} only, never forwarded again, so an event travels one hop and cannot loop. Messages of
+ * one origin are numbered by concurrent request threads and may arrive slightly out of order; each origin keeps a
+ * window of the last {@value #WINDOW} sequence numbers, and anything older than the window is treated as
+ * already seen. Every restart of a peer is a new origin; beyond {@value #MAX_ORIGINS} origins the window of the one
+ * that has been silent the longest is forgotten.</p>
+ *
+ * <p>A received message without an origin, a kind or an event is rejected with an
+ * {@link IllegalArgumentException}, which the transport counts as malformed.</p>
+ */
+@Slf4j
+@Component
+public class ClusterForwarder implements DomainEventSink {
+
+    /** Number of recent sequence numbers remembered per origin. */
+    static final int WINDOW = Long.SIZE;
+
+    /** Number of origins whose windows are kept. */
+    static final int MAX_ORIGINS = 1_024;
+
+    private final ClusterBus bus;
+    private final EventDispatcher dispatcher;
+    private final String origin;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<String, ReplayWindow> windows = new ConcurrentHashMap<>();
+    // Ticks once per received message; orders the windows by last use
+    private final AtomicLong receipts = new AtomicLong();
+
+    private final LongAdder forwarded = new LongAdder();
+    private final LongAdder received = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+
+    public ClusterForwarder(ClusterBus bus, EventDispatcher dispatcher, ClusterConfig config) {
+        this.bus = bus;
+        this.dispatcher = dispatcher;
+        String nodeId = config.getNodeId() == null || config.getNodeId().isBlank()
+                ? UUID.randomUUID().toString().substring(0, 8)
+                : config.getNodeId();
+        // A restarted node numbers its messages from 1 again, so it must not look like the previous run
+        this.origin = nodeId + "/" + Long.toString(System.currentTimeMillis(), 36);
+        bus.onMessage(this::receive);
+    }
+
+    /**
+     * Sends a locally published domain event to the other nodes.
+     */
+    public void forward(DomainEvent event) {
+        bus.broadcast(ClusterMessage.of(origin, sequence.incrementAndGet(), event));
+        forwarded.increment();
+    }
+
+    public void forwardAll(Collection<? extends DomainEvent> events) {
+        for (DomainEvent event : events) {
+            forward(event);
+        }
+    }
+
+    @Override
+    public void accept(DomainEvent event) {
+        forward(event);
+    }
+
+    @Override
+    public void acceptAll(Collection<? extends DomainEvent> events) {
+        forwardAll(events);
+    }
+
+    /**
+     * Publishes a message from a peer to the local listeners, unless it was seen before.
+     *
+     * @throws IllegalArgumentException if the message lacks its origin, kind or event
+     */
+    void receive(ClusterMessage message) {
+        if (message.origin() == null || message.kind() == null || message.event() == null
+                || message.event().id() == null) {
+            throw new IllegalArgumentException("Incomplete cluster message: " + message);
+        }
+        if (origin.equals(message.origin())) {
+            // A peer list that includes this node itself
+            return;
+        }
+        ReplayWindow window = window(message.origin());
+        if (!window.accept(message.sequence(), receipts.incrementAndGet())) {
+            duplicates.increment();
+            return;
+        }
+        received.increment();
+        dispatcher.submit(message.toDomainEvent(System.nanoTime()));
+    }
+
+    private ReplayWindow window(String messageOrigin) {
+        ReplayWindow window = windows.get(messageOrigin);
+        if (window != null) {
+            return window;
+        }
+        window = windows.computeIfAbsent(messageOrigin, o -> new ReplayWindow());
+        if (windows.size() > MAX_ORIGINS) {
+            // New origins are rare, one per peer restart, so a scan for the stalest is cheap
+            windows.entrySet().stream()
+                    .filter(entry -> !entry.getKey().equals(messageOrigin))
+                    .min(Comparator.comparingLong(entry -> entry.getValue().lastReceipt()))
+                    .ifPresent(stalest -> windows.remove(stalest.getKey(), stalest.getValue()));
+        }
+        return window;
+    }
+
+    /**
+     * @return origins whose sequence numbers are remembered
+     */
+    int getOriginCount() {
+        return windows.size();
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    public long getForwardedCount() {
+        return forwarded.sum();
+    }
+
+    public long getReceivedCount() {
+        return received.sum();
+    }
+
+    public long getDuplicateCount() {
+        return duplicates.sum();
+    }
+
+    /**
+     * Sequence numbers seen from one origin: the highest one, and a bit per each of the {@value #WINDOW} before it.
+     */
+    static final class ReplayWindow {
+
+        private long highest;
+        // Bit i set: sequence "highest - i" was seen
+        private long seen;
+        private volatile long lastReceipt;
+
+        /**
+         * @param receipt position of the message among all received ones
+         */
+        synchronized boolean accept(long sequence, long receipt) {
+            lastReceipt = receipt;
+            if (sequence > highest) {
+                long shift = sequence - highest;
+                seen = shift >= WINDOW ? 1L : seen << shift | 1L;
+                highest = sequence;
+                return true;
+            }
+            long offset = highest - sequence;
+            if (offset >= WINDOW || (seen & 1L << offset) != 0) {
+                return false;
+            }
+            seen |= 1L << offset;
+            return true;
+        }
+
+        long lastReceipt() {
+            return lastReceipt;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.entain.cluster;
+
+import com.entain.data.SportEvent;
+import com.entain.event.DomainEvent;
+import com.entain.event.SportEventCreated;
+import com.entain.event.SportEventStatusChanged;
+
+/**
+ * A domain event as sent between nodes.
+ *
+ * <p>Both kinds of domain events are carried as the state of the sport event after the change, which is all a
+ * receiving node needs to notify its subscribers. The publish time is not sent: {@code nanoTime} values mean
+ * nothing on another JVM, so the receiver stamps the event when it arrives.</p>
+ *
+ * @param origin   the sending node and its incarnation, e.g. {@code node-a/kx3f9}; a restarted node is a new origin
+ * @param sequence number of the message among those sent by {@code origin}, starting at 1
+ * @param kind     which domain event this is
+ * @param event    the sport event after the change
+ */
+public record ClusterMessage(String origin, long sequence, Kind kind, SportEvent event) {
+
+    public enum Kind {
+        CREATED, STATUS_CHANGED
+    }
+
+    /**
+     * @throws IllegalArgumentException for a domain event type that cannot be sent
+     */
+    public static ClusterMessage of(String origin, long sequence, DomainEvent domainEvent) {
+        if (domainEvent instanceof SportEventCreated created) {
+            return new ClusterMessage(origin, sequence, Kind.CREATED, created.event());
+        }
+        if (domainEvent instanceof SportEventStatusChanged changed) {
+            SportEvent event = new SportEvent(changed.eventId(), changed.name(), changed.sport(), changed.newStatus(),
+                    changed.startTime(), changed.version());
+            return new ClusterMessage(origin, sequence, Kind.STATUS_CHANGED, event);
+        }
+        throw new IllegalArgumentException("Unsupported domain event: " + domainEvent.getClass().getName());
+    }
+
+    /**
+     * @param publishedAtNanos when the message arrived on this node
+     * @return the domain event to publish to the local listeners
+     */
+    public DomainEvent toDomainEvent(long publishedAtNanos) {
+        return switch (kind) {
+            case CREATED -> new SportEventCreated(event, publishedAtNanos);
+            case STATUS_CHANGED -> new SportEventStatusChanged(event.id(), event.status(), event.name(), event.sport(),
+                    event.startTime(), event.version(), publishedAtNanos);
+        };
+    }
+}
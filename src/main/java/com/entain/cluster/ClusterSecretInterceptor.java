@@ -0,0 +1,37 @@
+package com.entain.cluster;
+
+import com.entain.exception.InvalidClusterSecretException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import static com.entain.config.EntainConstant.CLUSTER_SECRET_HEADER;
+
+/**
+ * Admits requests to the node-to-node endpoints ({@link #PATH_PATTERN}) only if they carry the cluster secret in
+ * the {@code X-Cluster-Secret} header; others fail with 403. Without a secret every such request is rejected.
+ */
+public class ClusterSecretInterceptor implements HandlerInterceptor {
+
+    public static final String PATH_PATTERN = "/internal/**";
+
+    private final byte[] secret;
+
+    public ClusterSecretInterceptor(String secret) {
+        this.secret = secret == null || secret.isBlank() ? null : secret.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String given = request.getHeader(CLUSTER_SECRET_HEADER);
+        // Compared in constant time, so response times do not tell how much of a guess was right
+        if (secret == null || given == null
+                || !MessageDigest.isEqual(secret, given.getBytes(StandardCharsets.UTF_8))) {
+            throw new InvalidClusterSecretException();
+        }
+        return true;
+    }
+}
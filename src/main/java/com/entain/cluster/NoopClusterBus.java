@@ -0,0 +1,24 @@
+package com.entain.cluster;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+
+/**
+ * {@link ClusterBus} of a single node: there is nobody to send to and nothing is ever received.
+ */
+@Component
+@ConditionalOnProperty(prefix = "cluster", name = "transport", havingValue = "none", matchIfMissing = true)
+public class NoopClusterBus implements ClusterBus {
+
+    @Override
+    public void broadcast(ClusterMessage message) {
+        // single node
+    }
+
+    @Override
+    public void onMessage(Consumer<ClusterMessage> receiver) {
+        // nothing to receive
+    }
+}
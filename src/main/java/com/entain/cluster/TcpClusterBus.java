@@ -0,0 +1,375 @@
+package com.entain.cluster;
+
+import com.entain.config.ClusterConfig;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * {@link ClusterBus} over plain TCP between a configured list of peers ({@code cluster.transport=tcp}).
+ *
+ * <p>Every node listens on {@code cluster.port} and keeps one outgoing connection to each of {@code cluster.peers},
+ * so a cluster of N nodes is a full mesh in which every node sends its own events directly to all others. Messages
+ * are newline-delimited JSON, one {@link ClusterMessage} per line.</p>
+ *
+ * <p>{@link #broadcast(ClusterMessage)} serializes the message once and only appends it to a bounded queue per
+ * peer; a sender thread per peer writes whatever has queued up and flushes once. While a peer is unreachable its
+ * queue keeps the newest {@code cluster.queue-capacity} messages and the sender retries every
+ * {@code cluster.reconnect-interval-ms}. A message being written when the connection breaks is lost. Delivery is
+ * therefore at most once.</p>
+ *
+ * <p>The first line of every connection is {@code cluster.secret}; a connection that does not send it within
+ * {@value #HANDSHAKE_TIMEOUT_MS} ms is closed before any message is read. The listener binds to
+ * {@code cluster.bind-address}, reads at most {@code cluster.max-connections} connections at a time and closes one
+ * whose message exceeds {@code cluster.max-message-size}. The secret and the messages are not encrypted.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "cluster", name = "transport", havingValue = "tcp")
+public class TcpClusterBus implements ClusterBus {
+
+    private static final int CONNECT_TIMEOUT_MS = 2_000;
+    private static final int HANDSHAKE_TIMEOUT_MS = 2_000;
+    private static final byte NEWLINE = '\n';
+
+    private final ObjectMapper objectMapper;
+    private final String bindAddress;
+    private final int port;
+    private final long reconnectIntervalMs;
+    private final byte[] secret;
+    private final Semaphore connectionPermits;
+    private final int maxMessageBytes;
+    private final List<PeerLink> peers = new ArrayList<>();
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+    // Accept and sender threads; readers end when their socket is closed
+    private final List<Thread> threads = new ArrayList<>();
+
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder malformed = new LongAdder();
+    private final LongAdder rejectedConnections = new LongAdder();
+
+    private volatile Consumer<ClusterMessage> receiver = message -> { };
+    private volatile boolean running;
+    private ServerSocket server;
+
+    public TcpClusterBus(ClusterConfig config, ObjectMapper objectMapper) {
+        String clusterSecret = config.requireSecret("cluster.transport=tcp");
+        if (clusterSecret.indexOf('\n') >= 0 || clusterSecret.indexOf('\r') >= 0) {
+            throw new IllegalStateException("cluster.secret must not contain line breaks");
+        }
+        this.objectMapper = objectMapper;
+        this.bindAddress = config.getBindAddress();
+        this.port = config.getPort();
+        this.reconnectIntervalMs = config.getReconnectIntervalMs();
+        this.secret = clusterSecret.getBytes(StandardCharsets.UTF_8);
+        this.connectionPermits = new Semaphore(config.getMaxConnections());
+        this.maxMessageBytes = Math.toIntExact(config.getMaxMessageSize().toBytes());
+        for (String peer : config.getPeers()) {
+            peers.add(new PeerLink(parse(peer), config.getQueueCapacity()));
+        }
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        running = true;
+        server = new ServerSocket();
+        server.setReuseAddress(true);
+        server.bind(bindAddress == null || bindAddress.isBlank()
+                ? new InetSocketAddress(port)
+                : new InetSocketAddress(bindAddress, port));
+        threads.add(startThread("cluster-accept", this::accept));
+        for (PeerLink peer : peers) {
+            threads.add(startThread("cluster-send-" + peer.name, peer::run));
+        }
+        log.info("Cluster bus listening on {}, peers {}", server.getLocalSocketAddress(), peerAddresses());
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        closeQuietly(server);
+        connections.forEach(TcpClusterBus::closeQuietly);
+        threads.forEach(Thread::interrupt);
+    }
+
+    @Override
+    public void broadcast(ClusterMessage message) {
+        if (peers.isEmpty()) {
+            return;
+        }
+        byte[] line;
+        try {
+            line = encode(message);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to encode cluster message {}", message, e);
+            return;
+        }
+        for (PeerLink peer : peers) {
+            peer.offer(line);
+        }
+    }
+
+    @Override
+    public void onMessage(Consumer<ClusterMessage> receiver) {
+        this.receiver = receiver;
+    }
+
+    @Override
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    @Override
+    public long getMalformedCount() {
+        return malformed.sum();
+    }
+
+    /**
+     * @return incoming connections closed for a wrong secret or because {@code cluster.max-connections} were open
+     */
+    public long getRejectedConnectionCount() {
+        return rejectedConnections.sum();
+    }
+
+    /**
+     * @return the port actually listened on, e.g. when {@code cluster.port} is 0
+     */
+    public int getLocalPort() {
+        return server.getLocalPort();
+    }
+
+    private byte[] encode(ClusterMessage message) throws JsonProcessingException {
+        // Compact JSON has no line breaks, so the newline terminates the message
+        byte[] json = objectMapper.writeValueAsBytes(message);
+        byte[] line = new byte[json.length + 1];
+        System.arraycopy(json, 0, line, 0, json.length);
+        line[json.length] = NEWLINE;
+        return line;
+    }
+
+    private void accept() {
+        while (running) {
+            try {
+                Socket socket = server.accept();
+                if (!connectionPermits.tryAcquire()) {
+                    rejectedConnections.increment();
+                    log.warn("Refusing cluster connection from {}: too many open connections",
+                            socket.getRemoteSocketAddress());
+                    closeQuietly(socket);
+                    continue;
+                }
+                connections.add(socket);
+                startThread("cluster-read-" + socket.getRemoteSocketAddress(), () -> read(socket));
+            } catch (IOException e) {
+                if (running) {
+                    log.warn("Failed to accept cluster connection", e);
+                }
+            }
+        }
+    }
+
+    private void read(Socket socket) {
+        try (socket; InputStream in = new BufferedInputStream(socket.getInputStream())) {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            socket.setSoTimeout(HANDSHAKE_TIMEOUT_MS);
+            byte[] hello = readLine(in, buffer);
+            // Compared in constant time, so response times do not tell how much of a guess was right
+            if (hello == null || !MessageDigest.isEqual(secret, hello)) {
+                rejectedConnections.increment();
+                log.warn("Rejected cluster connection from {}: missing or wrong cluster.secret",
+                        socket.getRemoteSocketAddress());
+                return;
+            }
+            socket.setSoTimeout(0);
+            byte[] line;
+            while ((line = readLine(in, buffer)) != null) {
+                try {
+                    receiver.accept(objectMapper.readValue(line, ClusterMessage.class));
+                } catch (IOException | RuntimeException e) {
+                    // One bad message must not end the connection, nor the messages behind it
+                    malformed.increment();
+                    log.warn("Ignoring malformed cluster message from {}: {}", socket.getRemoteSocketAddress(),
+                            e.toString());
+                }
+            }
+        } catch (OversizedMessageException e) {
+            malformed.increment();
+            log.warn("Closing cluster connection from {}: {}", socket.getRemoteSocketAddress(), e.getMessage());
+        } catch (SocketTimeoutException e) {
+            rejectedConnections.increment();
+            log.warn("Rejected cluster connection from {}: no cluster.secret within {} ms",
+                    socket.getRemoteSocketAddress(), HANDSHAKE_TIMEOUT_MS);
+        } catch (IOException e) {
+            if (running) {
+                log.debug("Cluster connection from {} closed", socket.getRemoteSocketAddress(), e);
+            }
+        } finally {
+            connections.remove(socket);
+            connectionPermits.release();
+        }
+    }
+
+    /**
+     * Reads one line, without its line break.
+     *
+     * @param buffer reused between the lines of a connection
+     * @return the line, or {@code null} at the end of the stream
+     * @throws OversizedMessageException if the line exceeds {@code cluster.max-message-size}
+     */
+    private byte[] readLine(InputStream in, ByteArrayOutputStream buffer) throws IOException {
+        buffer.reset();
+        int next;
+        while ((next = in.read()) != NEWLINE) {
+            if (next < 0) {
+                return buffer.size() == 0 ? null : buffer.toByteArray();
+            }
+            if (buffer.size() == maxMessageBytes) {
+                throw new OversizedMessageException("message exceeds " + maxMessageBytes + " bytes");
+            }
+            buffer.write(next);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static Thread startThread(String name, Runnable task) {
+        Thread thread = new Thread(task, name);
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    private List<String> peerAddresses() {
+        return peers.stream().map(peer -> peer.name).toList();
+    }
+
+    private static InetSocketAddress parse(String peer) {
+        int separator = peer.lastIndexOf(':');
+        if (separator <= 0) {
+            throw new IllegalArgumentException("Cluster peer must be host:port: " + peer);
+        }
+        return InetSocketAddress.createUnresolved(peer.substring(0, separator),
+                Integer.parseInt(peer.substring(separator + 1)));
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        if (closeable == null) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (Exception ignored) {
+            // shutting down
+        }
+    }
+
+    /**
+     * Queue and sender of one outgoing peer connection.
+     */
+    private final class PeerLink {
+
+        private final InetSocketAddress address;
+        private final String name;
+        private final BlockingQueue<byte[]> queue;
+
+        PeerLink(InetSocketAddress address, int capacity) {
+            this.address = address;
+            this.name = address.getHostString() + ":" + address.getPort();
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+
+        void offer(byte[] line) {
+            while (!queue.offer(line)) {
+                // Full: the oldest message makes room, as in the other bounded queues of the notification path
+                if (queue.poll() != null) {
+                    dropped.increment();
+                }
+            }
+        }
+
+        void run() {
+            boolean connectedBefore = false;
+            while (running) {
+                Socket socket = new Socket();
+                connections.add(socket);
+                try (socket) {
+                    socket.connect(new InetSocketAddress(address.getHostString(), address.getPort()),
+                            CONNECT_TIMEOUT_MS);
+                    socket.setTcpNoDelay(true);
+                    log.info("Connected to cluster peer {}", name);
+                    connectedBefore = true;
+                    send(socket.getOutputStream());
+                } catch (IOException e) {
+                    if (running && connectedBefore) {
+                        log.warn("Lost cluster peer {}: {}", name, e.toString());
+                        connectedBefore = false;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } finally {
+                    connections.remove(socket);
+                }
+                try {
+                    TimeUnit.MILLISECONDS.sleep(reconnectIntervalMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+
+        private void send(OutputStream socketOut) throws IOException, InterruptedException {
+            OutputStream out = new BufferedOutputStream(socketOut);
+            out.write(secret);
+            out.write(NEWLINE);
+            out.flush();
+            while (running) {
+                byte[] line = queue.poll(1, TimeUnit.SECONDS);
+                if (line == null) {
+                    continue;
+                }
+                // Write the whole backlog, then flush once
+                do {
+                    out.write(line);
+                } while ((line = queue.poll()) != null);
+                out.flush();
+            }
+        }
+    }
+
+    /**
+     * A line longer than {@code cluster.max-message-size}; the rest of the stream cannot be trusted to be in sync.
+     */
+    private static final class OversizedMessageException extends IOException {
+        OversizedMessageException(String message) {
+            super(message);
+        }
+    }
+}
@@ -1,24 +1,91 @@
 package com.entain.config;
 
+import com.entain.event.StripedExecutor;
 import com.entain.exception.CustomRejectedExecutionHandler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.time.Duration;
 import java.util.concurrent.Executor;
 
+/**
+ * Executors used for domain event handling and SSE delivery.
+ * <p>
+ * Two threading modes are supported, selected by Spring Boot's {@code spring.threads.virtual.enabled} property:
+ * <ul>
+ *     <li><b>platform</b> (default) — fixed pools of platform threads.</li>
+ *     <li><b>virtual</b> (Java 21+) — {@code eventExecutor} stripes run on virtual threads and every subscriber
+ *         drain gets its own virtual thread, so a subscriber blocked on a slow socket costs almost nothing.
+ *         Spring Boot switches Tomcat request handling to virtual threads with the same property.</li>
+ * </ul>
+ * On Java 17 the property has no effect and the platform mode is used.
+ */
 @Configuration
 public class AsyncConfig {
 
-    @Bean(name = "eventExecutor")
-    public Executor eventExecutor() {
+    /**
+     * Executor for domain event listeners.
+     * <p>
+     * Work is striped by sport event id: updates for the same event are delivered in publication order,
+     * while different events are processed in parallel, one stripe per available core.
+     * <p>
+     * Tasks are submitted by the {@link com.entain.event.EventDispatcher} thread only. When a stripe is full
+     * the dispatcher waits for room, so pressure is pushed back into its coalescing buffer instead of
+     * failing a request.
+     */
+    @Bean(name = "eventExecutor", destroyMethod = "shutdown")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public StripedExecutor eventExecutor(DispatchConfig dispatchConfig) {
+        return new StripedExecutor(
+                "event-async-",
+                Runtime.getRuntime().availableProcessors(),
+                100,
+                new CustomRejectedExecutionHandler(Duration.ofMillis(dispatchConfig.getHandoffTimeoutMs()))
+        );
+    }
+
+    @Bean(name = "eventExecutor", destroyMethod = "shutdown")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public StripedExecutor virtualEventExecutor(DispatchConfig dispatchConfig) {
+        return new StripedExecutor(
+                new VirtualThreadTaskExecutor("event-async-").getVirtualThreadFactory(),
+                Runtime.getRuntime().availableProcessors(),
+                100,
+                new CustomRejectedExecutionHandler(Duration.ofMillis(dispatchConfig.getHandoffTimeoutMs()))
+        );
+    }
+
+    /**
+     * Writer pool draining per-subscriber SSE queues.
+     * <p>
+     * The work queue is left unbounded on purpose: each subscriber has at most one drain task
+     * pending, so its length is bounded by the number of connected subscribers.
+     */
+    @Bean(name = "sseWriterExecutor")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public Executor sseWriterExecutor(SseConfig sseConfig) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(4);
-        executor.setMaxPoolSize(10);
-        executor.setQueueCapacity(100);
-        executor.setThreadNamePrefix("event-async-");
-        executor.setRejectedExecutionHandler(new CustomRejectedExecutionHandler());
+        executor.setCorePoolSize(sseConfig.getWriterThreads());
+        executor.setMaxPoolSize(sseConfig.getWriterThreads());
+        executor.setThreadNamePrefix("sse-writer-");
         executor.initialize();
         return executor;
     }
+
+    /**
+     * Virtual-thread SSE writers: each subscriber drain runs in its own virtual thread,
+     * so {@code sse.writer-threads} does not limit how many slow clients are written to concurrently.
+     */
+    @Bean(name = "sseWriterExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public Executor virtualSseWriterExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("sse-writer-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
 }
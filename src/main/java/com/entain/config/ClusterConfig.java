@@ -0,0 +1,140 @@
+package com.entain.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.entain.config.EntainConstant.MISSING_CLUSTER_SECRET;
+
+@Configuration
+@ConfigurationProperties(prefix = "cluster")
+public class ClusterConfig {
+
+    /** Which {@code ClusterBus} forwards domain events to other nodes: {@code none} or {@code tcp}. */
+    private String transport = "none";
+
+    /** Name of this node in cluster messages; a random one if empty. */
+    private String nodeId = "";
+
+    /** Port the TCP transport listens on for peers. */
+    private int port = 7601;
+
+    /** Address the TCP transport listens on, e.g. the one of the cluster network; every interface if empty. */
+    private String bindAddress = "";
+
+    /** Maximum number of open incoming TCP connections; further peers are refused until one closes. */
+    private int maxConnections = 64;
+
+    /** Longest message accepted from a peer; a longer one closes the connection. */
+    private DataSize maxMessageSize = DataSize.ofKilobytes(64);
+
+    /** Peers the TCP transport sends to, as {@code host:port}. */
+    private List<String> peers = new ArrayList<>();
+
+    /** Maximum number of messages waiting for one peer; the oldest is dropped when full. */
+    private int queueCapacity = 10_000;
+
+    /** Pause between attempts to (re)connect to an unreachable peer. */
+    private long reconnectIntervalMs = 1_000;
+
+    /**
+     * Shared by all nodes; required in the {@code X-Cluster-Secret} header of every request to {@code /internal/**},
+     * which are rejected while it is empty, and as the first line of every TCP transport connection.
+     */
+    private String secret = "";
+
+    public String getTransport() {
+        return transport;
+    }
+
+    public void setTransport(String transport) {
+        this.transport = transport;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void setNodeId(String nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public void setPort(int port) {
+        this.port = port;
+    }
+
+    public String getBindAddress() {
+        return bindAddress;
+    }
+
+    public void setBindAddress(String bindAddress) {
+        this.bindAddress = bindAddress;
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    public DataSize getMaxMessageSize() {
+        return maxMessageSize;
+    }
+
+    public void setMaxMessageSize(DataSize maxMessageSize) {
+        this.maxMessageSize = maxMessageSize;
+    }
+
+    public List<String> getPeers() {
+        return peers;
+    }
+
+    public void setPeers(List<String> peers) {
+        this.peers = peers;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public long getReconnectIntervalMs() {
+        return reconnectIntervalMs;
+    }
+
+    public void setReconnectIntervalMs(long reconnectIntervalMs) {
+        this.reconnectIntervalMs = reconnectIntervalMs;
+    }
+
+    public String getSecret() {
+        return secret;
+    }
+
+    public void setSecret(String secret) {
+        this.secret = secret;
+    }
+
+    /**
+     * @param setting the setting that serves or calls the internal endpoints, for the error message
+     * @return the secret
+     * @throws IllegalStateException if it is not set
+     */
+    public String requireSecret(String setting) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalStateException(MISSING_CLUSTER_SECRET + setting);
+        }
+        return secret;
+    }
+}
@@ -0,0 +1,42 @@
+package com.entain.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "events.dispatch")
+public class DispatchConfig {
+
+    /** Maximum number of distinct sport events with a pending notification. */
+    private int capacity = 10_000;
+
+    /** Maximum number of notifications handed to listeners per drain. */
+    private int batchSize = 256;
+
+    /** How long the dispatcher waits for room in a full eventExecutor stripe before giving up on a notification. */
+    private long handoffTimeoutMs = 1_000;
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getHandoffTimeoutMs() {
+        return handoffTimeoutMs;
+    }
+
+    public void setHandoffTimeoutMs(long handoffTimeoutMs) {
+        this.handoffTimeoutMs = handoffTimeoutMs;
+    }
+}
@@ -9,10 +9,28 @@ public interface EntainConstant {
     String NOT_FOUND =  " not found";
     String INVALID_STATUS_CHANGE_ATTEMPT =  "Invalid status change operation according to business rules";
     String INVALID_SPORT =  "Invalid sport: ";
+    int MAX_NAME_LENGTH = 255;
+    String INVALID_NAME = "Event name must be at most " + MAX_NAME_LENGTH + " characters";
     String ALLOWED =  ". Allowed: ";
     String THREAD_POOL_FULL_ERROR =  "Async task rejected: thread pool is full! Active threads: ";
     String QUEUE_SIZE =  ", Queue size: ";
     String TASK_REJECTED = "Async task rejected";
+    int MAX_PAGE_LIMIT = 1000;
+    String INVALID_LIMIT = "Page limit must be at least 1";
+    String INVALID_CURSOR = "Invalid cursor: ";
+    String INVALID_TIME_RANGE = "'from' must be before 'to'";
+    String EXPECTED_TYPE = "'. Expected: ";
+    int MAX_BATCH_SIZE = 10_000;
+    String INVALID_BATCH_SIZE = "Batch must contain at most " + MAX_BATCH_SIZE + " items";
+    String MISSING_BATCH_ITEM = "Batch item is missing";
+    String INVALID_STATUS_CHANGE_ITEM = "Status change must have an id and a status";
+    String EVENT_CONFLICT = " already exists. Conflict detected.";
+    String VERSION_CONFLICT = " has been modified since the version given in If-Match";
+    String SHARD_UNAVAILABLE = "Event store shard unavailable: ";
+    String READ_ONLY_REPLICA = "This node is a read-only replica; send changes to the leader at ";
+    String CLUSTER_SECRET_HEADER = "X-Cluster-Secret";
+    String INVALID_CLUSTER_SECRET = "Missing or invalid " + CLUSTER_SECRET_HEADER + " header";
+    String MISSING_CLUSTER_SECRET = "cluster.secret must be set with ";
 
 
 }
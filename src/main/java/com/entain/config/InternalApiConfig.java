@@ -0,0 +1,25 @@
+package com.entain.config;
+
+import com.entain.cluster.ClusterSecretInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Guards the node-to-node endpoints of the sharded store and of replication with {@code cluster.secret}.
+ */
+@Configuration
+public class InternalApiConfig implements WebMvcConfigurer {
+
+    private final ClusterConfig clusterConfig;
+
+    public InternalApiConfig(ClusterConfig clusterConfig) {
+        this.clusterConfig = clusterConfig;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ClusterSecretInterceptor(clusterConfig.getSecret()))
+                .addPathPatterns(ClusterSecretInterceptor.PATH_PATTERN);
+    }
+}
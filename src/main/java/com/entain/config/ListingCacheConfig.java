@@ -0,0 +1,43 @@
+package com.entain.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+@Configuration
+@ConfigurationProperties(prefix = "events.listing-cache")
+public class ListingCacheConfig {
+
+    /** Keep serialized {@code GET /events} listings between requests. */
+    private boolean enabled = true;
+
+    /** Maximum number of cached status/sport filters; further filters are served without caching. */
+    private int maxEntries = 64;
+
+    /** Largest listing kept in the cache; larger ones are serialized on every request. */
+    private DataSize maxEntrySize = DataSize.ofMegabytes(16);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public DataSize getMaxEntrySize() {
+        return maxEntrySize;
+    }
+
+    public void setMaxEntrySize(DataSize maxEntrySize) {
+        this.maxEntrySize = maxEntrySize;
+    }
+}
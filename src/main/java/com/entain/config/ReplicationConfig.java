@@ -0,0 +1,97 @@
+package com.entain.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "replication")
+public class ReplicationConfig {
+
+    /** Keep a log of the changes made on this node and serve it to followers. */
+    private boolean leader = false;
+
+    /** Changes kept in the leader's log; a follower further behind reloads a snapshot. */
+    private int logCapacity = 100_000;
+
+    /** Base URL of the leader, e.g. {@code http://leader:8080}; used by followers ({@code store.type=replica}). */
+    private String leaderUrl = "";
+
+    /** How long the leader holds a follower's request open while there is nothing new. */
+    private long pollWaitMs = 1_000;
+
+    /** Maximum number of changes fetched per request. */
+    private int batchSize = 1_000;
+
+    /** Connect timeout, and read timeout on top of {@link #pollWaitMs}, of the requests to the leader. */
+    private long timeoutMs = 2_000;
+
+    /** Pause before a follower retries after a failed request. */
+    private long retryIntervalMs = 1_000;
+
+    /** Lag beyond which a follower reports itself out of service. */
+    private long maxLagMs = 5_000;
+
+    public boolean isLeader() {
+        return leader;
+    }
+
+    public void setLeader(boolean leader) {
+        this.leader = leader;
+    }
+
+    public int getLogCapacity() {
+        return logCapacity;
+    }
+
+    public void setLogCapacity(int logCapacity) {
+        this.logCapacity = logCapacity;
+    }
+
+    public String getLeaderUrl() {
+        return leaderUrl;
+    }
+
+    public void setLeaderUrl(String leaderUrl) {
+        this.leaderUrl = leaderUrl;
+    }
+
+    public long getPollWaitMs() {
+        return pollWaitMs;
+    }
+
+    public void setPollWaitMs(long pollWaitMs) {
+        this.pollWaitMs = pollWaitMs;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getTimeoutMs() {
+        return timeoutMs;
+    }
+
+    public void setTimeoutMs(long timeoutMs) {
+        this.timeoutMs = timeoutMs;
+    }
+
+    public long getRetryIntervalMs() {
+        return retryIntervalMs;
+    }
+
+    public void setRetryIntervalMs(long retryIntervalMs) {
+        this.retryIntervalMs = retryIntervalMs;
+    }
+
+    public long getMaxLagMs() {
+        return maxLagMs;
+    }
+
+    public void setMaxLagMs(long maxLagMs) {
+        this.maxLagMs = maxLagMs;
+    }
+}
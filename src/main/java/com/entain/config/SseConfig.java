@@ -0,0 +1,65 @@
+package com.entain.config;
+
+import com.entain.sse.OverflowPolicy;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "sse")
+public class SseConfig {
+
+    /** Maximum number of pending updates per subscriber. */
+    private int queueCapacity = 256;
+
+    /** What to do when a subscriber's queue is full. */
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_OLDEST;
+
+    /** Number of threads writing queued updates to subscribers. */
+    private int writerThreads = 8;
+
+    /** Number of recent updates kept for clients resuming with {@code Last-Event-ID}; 0 disables resuming. */
+    private int replayCapacity = 1024;
+
+    /** Number of recent deliveries kept for the {@code deliveries} actuator endpoint; 0 keeps none. */
+    private int traceCapacity = 1024;
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    public int getWriterThreads() {
+        return writerThreads;
+    }
+
+    public void setWriterThreads(int writerThreads) {
+        this.writerThreads = writerThreads;
+    }
+
+    public int getReplayCapacity() {
+        return replayCapacity;
+    }
+
+    public void setReplayCapacity(int replayCapacity) {
+        this.replayCapacity = replayCapacity;
+    }
+
+    public int getTraceCapacity() {
+        return traceCapacity;
+    }
+
+    public void setTraceCapacity(int traceCapacity) {
+        this.traceCapacity = traceCapacity;
+    }
+}
@@ -0,0 +1,219 @@
+package com.entain.config;
+
+import com.entain.data.access.log.FsyncPolicy;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Configuration
+@ConfigurationProperties(prefix = "store")
+public class StoreConfig {
+
+    /**
+     * Which {@code SportEventDAO} to use: {@code memory}, {@code log}, {@code offheap}, {@code sharded} or
+     * {@code replica}.
+     */
+    private String type = "memory";
+
+    private final Log log = new Log();
+
+    private final Snapshot snapshot = new Snapshot();
+
+    private final Sharding sharding = new Sharding();
+
+    private final OffHeap offHeap = new OffHeap();
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public Log getLog() {
+        return log;
+    }
+
+    public Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    public Sharding getSharding() {
+        return sharding;
+    }
+
+    public OffHeap getOffHeap() {
+        return offHeap;
+    }
+
+    /**
+     * Settings of the append-only event log used when {@code store.type=log}.
+     */
+    public static class Log {
+
+        /** Directory holding log segments and snapshots. */
+        private String directory = "data/events";
+
+        /** Size of one memory-mapped log segment; a full segment triggers a rotation and a snapshot. */
+        private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+        /** When appended records are forced to disk. */
+        private FsyncPolicy fsyncPolicy = FsyncPolicy.INTERVAL;
+
+        /** Background fsync period for {@link FsyncPolicy#INTERVAL}. */
+        private long fsyncIntervalMs = 100;
+
+        /** How often the log is rotated and a snapshot written, if anything was appended since. */
+        private long snapshotIntervalMs = 300_000;
+
+        public String getDirectory() {
+            return directory;
+        }
+
+        public void setDirectory(String directory) {
+            this.directory = directory;
+        }
+
+        public DataSize getSegmentSize() {
+            return segmentSize;
+        }
+
+        public void setSegmentSize(DataSize segmentSize) {
+            this.segmentSize = segmentSize;
+        }
+
+        public FsyncPolicy getFsyncPolicy() {
+            return fsyncPolicy;
+        }
+
+        public void setFsyncPolicy(FsyncPolicy fsyncPolicy) {
+            this.fsyncPolicy = fsyncPolicy;
+        }
+
+        public long getFsyncIntervalMs() {
+            return fsyncIntervalMs;
+        }
+
+        public void setFsyncIntervalMs(long fsyncIntervalMs) {
+            this.fsyncIntervalMs = fsyncIntervalMs;
+        }
+
+        public long getSnapshotIntervalMs() {
+            return snapshotIntervalMs;
+        }
+
+        public void setSnapshotIntervalMs(long snapshotIntervalMs) {
+            this.snapshotIntervalMs = snapshotIntervalMs;
+        }
+    }
+
+    /**
+     * Snapshot file of the in-memory store, used when {@code store.type=memory}.
+     */
+    public static class Snapshot {
+
+        /** Snapshot file location. */
+        private String path = "data/events.snapshot";
+
+        /** Load the snapshot, if present, when the application starts. */
+        private boolean restoreOnStartup = false;
+
+        /** Write a snapshot when the application shuts down. */
+        private boolean saveOnShutdown = false;
+
+        public String getPath() {
+            return path;
+        }
+
+        public void setPath(String path) {
+            this.path = path;
+        }
+
+        public boolean isRestoreOnStartup() {
+            return restoreOnStartup;
+        }
+
+        public void setRestoreOnStartup(boolean restoreOnStartup) {
+            this.restoreOnStartup = restoreOnStartup;
+        }
+
+        public boolean isSaveOnShutdown() {
+            return saveOnShutdown;
+        }
+
+        public void setSaveOnShutdown(boolean saveOnShutdown) {
+            this.saveOnShutdown = saveOnShutdown;
+        }
+    }
+
+    /**
+     * Nodes sharing the event population when {@code store.type=sharded}.
+     */
+    public static class Sharding {
+
+        /** Name of this node; must be one of {@link #nodes}. */
+        private String self = "";
+
+        /** Every node of the cluster, this one included: name to base URL, e.g. {@code http://node-b:8080}. */
+        private Map<String, String> nodes = new LinkedHashMap<>();
+
+        /** Points per node on the consistent-hash ring. */
+        private int virtualNodes = 128;
+
+        /** Connect and read timeout of a request to another node. */
+        private long timeoutMs = 2_000;
+
+        public String getSelf() {
+            return self;
+        }
+
+        public void setSelf(String self) {
+            this.self = self;
+        }
+
+        public Map<String, String> getNodes() {
+            return nodes;
+        }
+
+        public void setNodes(Map<String, String> nodes) {
+            this.nodes = nodes;
+        }
+
+        public int getVirtualNodes() {
+            return virtualNodes;
+        }
+
+        public void setVirtualNodes(int virtualNodes) {
+            this.virtualNodes = virtualNodes;
+        }
+
+        public long getTimeoutMs() {
+            return timeoutMs;
+        }
+
+        public void setTimeoutMs(long timeoutMs) {
+            this.timeoutMs = timeoutMs;
+        }
+    }
+
+    /**
+     * Settings of the off-heap columnar store used when {@code store.type=offheap}.
+     */
+    public static class OffHeap {
+
+        /** Events the id index is sized for up front; set it near the expected population to avoid rehashing. */
+        private int initialCapacity = 100_000;
+
+        public int getInitialCapacity() {
+            return initialCapacity;
+        }
+
+        public void setInitialCapacity(int initialCapacity) {
+            this.initialCapacity = initialCapacity;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.entain.controller;
+
+import com.entain.config.ClusterConfig;
+import com.entain.data.access.SportEventDAO;
+import com.entain.replication.ReplicationBatch;
+import com.entain.replication.ReplicationLog;
+import com.entain.replication.ReplicationSnapshot;
+import io.swagger.v3.oas.annotations.Hidden;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import static com.entain.config.EntainConstant.MAX_BATCH_SIZE;
+
+/**
+ * Serves the {@link ReplicationLog} of a leader to its followers. Meant for the cluster network only, and hidden
+ * from the API docs; requests must carry {@code cluster.secret}, which the leader refuses to start without.
+ */
+@Hidden
+@RestController
+@RequestMapping(ReplicationController.PATH)
+@ConditionalOnProperty(prefix = "replication", name = "leader", havingValue = "true")
+public class ReplicationController {
+
+    public static final String PATH = "/internal/replication";
+
+    private static final long MAX_WAIT_MS = 30_000;
+
+    private final ReplicationLog replicationLog;
+    private final SportEventDAO sportEventDAO;
+
+    public ReplicationController(ReplicationLog replicationLog, SportEventDAO sportEventDAO,
+                                 ClusterConfig clusterConfig) {
+        clusterConfig.requireSecret("replication.leader=true");
+        this.replicationLog = replicationLog;
+        this.sportEventDAO = sportEventDAO;
+    }
+
+    @GetMapping("/changes")
+    public ReplicationBatch changes(@RequestParam long after, @RequestParam int limit,
+                                    @RequestParam(defaultValue = "0") long waitMs) throws InterruptedException {
+        return replicationLog.read(after, Math.max(1, Math.min(limit, MAX_BATCH_SIZE)),
+                Math.min(waitMs, MAX_WAIT_MS));
+    }
+
+    @GetMapping("/snapshot")
+    public ReplicationSnapshot snapshot() {
+        // Head first: the events read afterwards include at least every change up to it
+        long sequence = replicationLog.head();
+        return new ReplicationSnapshot(replicationLog.origin(), sequence, sportEventDAO.findAll(null, null));
+    }
+}
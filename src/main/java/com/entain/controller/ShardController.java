@@ -0,0 +1,90 @@
+package com.entain.controller;
+
+import com.entain.data.EventStatus;
+import com.entain.data.SportEvent;
+import com.entain.data.access.EventCursor;
+import com.entain.data.access.ShardedSportEventStore;
+import com.entain.data.access.shard.LocalShard;
+import com.entain.data.access.shard.RemoteShard;
+import com.entain.exception.EventNotFoundException;
+import io.swagger.v3.oas.annotations.Hidden;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Node-to-node API of the sharded store ({@code store.type=sharded}): serves this node's {@link LocalShard} to the
+ * {@link RemoteShard}s of the other nodes. It bypasses validation and notifications, which the node handling the
+ * client request has already taken care of, and is therefore hidden from the API docs and meant for the cluster
+ * network only. Requests must carry {@code cluster.secret}, see {@link com.entain.cluster.ClusterSecretInterceptor}.
+ */
+@Hidden
+@RestController
+@RequestMapping(RemoteShard.PATH)
+@ConditionalOnProperty(prefix = "store", name = "type", havingValue = "sharded")
+public class ShardController {
+
+    private final LocalShard shard;
+
+    public ShardController(ShardedSportEventStore store) {
+        this.shard = store.localShard();
+    }
+
+    @PostMapping("/events")
+    public List<SportEvent> saveAll(@RequestBody List<SportEvent> events) {
+        return shard.saveAll(events);
+    }
+
+    @GetMapping("/events/{id}")
+    public SportEvent findById(@PathVariable UUID id) {
+        return shard.findById(id).orElseThrow(() -> new EventNotFoundException(id));
+    }
+
+    @GetMapping("/events")
+    public List<SportEvent> find(
+            @RequestParam Optional<EventStatus> status,
+            @RequestParam Optional<String> sport,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Optional<LocalDateTime> from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Optional<LocalDateTime> to
+    ) {
+        return shard.find(status.orElse(null), sport.orElse(null), from.orElse(null), to.orElse(null));
+    }
+
+    @GetMapping("/events/first")
+    public List<SportEvent> findFirst(
+            @RequestParam Optional<EventStatus> status,
+            @RequestParam Optional<String> sport,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Optional<LocalDateTime> from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Optional<LocalDateTime> to,
+            @RequestParam Optional<UUID> afterId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Optional<LocalDateTime> afterTime,
+            @RequestParam int count
+    ) {
+        EventCursor after = afterId.map(id -> new EventCursor(afterTime.orElse(null), id)).orElse(null);
+        return shard.findFirst(status.orElse(null), sport.orElse(null), from.orElse(null), to.orElse(null),
+                after, count);
+    }
+
+    @PutMapping("/events/{id}/status")
+    public SportEvent compareAndSetStatus(@PathVariable UUID id, @RequestParam EventStatus status,
+                                          @RequestParam long expectedVersion) {
+        // A lost race surfaces as VersionConflictException, answered with 412
+        return shard.compareAndSetStatus(id, expectedVersion, status)
+                .orElseThrow(() -> new EventNotFoundException(id));
+    }
+
+    @GetMapping("/changes")
+    public long changeCount() {
+        return shard.changeCount();
+    }
+
+    @GetMapping("/count")
+    public long count(@RequestParam EventStatus status) {
+        return shard.count(status);
+    }
+}
@@ -1,38 +1,75 @@
 package com.entain.controller;
 
+import com.entain.data.BatchItemResult;
 import com.entain.data.EventStatus;
 import com.entain.data.SportEvent;
+import com.entain.data.StatusChange;
+import com.entain.data.access.EventPage;
+import com.entain.dto.BatchItemResponse;
 import com.entain.dto.CreateEventRequest;
 import com.entain.dto.ErrorResponse;
 import com.entain.dto.SportEventResponse;
+import com.entain.dto.StatusChangeRequest;
 import com.entain.dto.UpdateStatusRequest;
+import com.entain.exception.GlobalExceptionHandler;
+import com.entain.exception.VersionConflictException;
+import com.entain.service.EventListingCache;
 import com.entain.service.SportEventService;
 import com.entain.service.SseEmitterService;
+import com.entain.sse.SseFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedOutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+import static com.entain.config.EntainConstant.MAX_BATCH_SIZE;
+import static com.entain.config.EntainConstant.MAX_PAGE_LIMIT;
 
 @RestController
 @RequestMapping("/events")
 @Tag(name = "Sport Events API", description = "CRUD API for managing sport events with subscription to updates")
 public class SportEventController {
 
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int NDJSON_BUFFER_BYTES = 64 * 1024;
+
     private final SportEventService service;
     private final SseEmitterService sseEmitterService;
+    private final ObjectMapper objectMapper;
+    private final EventListingCache listingCache;
+    // Change counts restart with the process; the prefix keeps a listing ETag from an earlier run from matching
+    private final String listingTag = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36) + "-";
 
-    public SportEventController(SportEventService service, SseEmitterService sseEmitterService) {
+    public SportEventController(SportEventService service, SseEmitterService sseEmitterService,
+                                ObjectMapper objectMapper, EventListingCache listingCache) {
         this.service = service;
         this.sseEmitterService = sseEmitterService;
+        this.objectMapper = objectMapper;
+        this.listingCache = listingCache;
     }
 
 
@@ -66,60 +103,194 @@ public class SportEventController {
     }
 
 
+    @Operation(
+            summary = "Create sport events in bulk",
+            description = "Creates up to " + MAX_BATCH_SIZE + " INACTIVE events in one request. Each event is "
+                    + "validated on its own: the response holds one result per event, in request order, with either "
+                    + "the created event or the error that rejected it",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Batch processed; see the per-item results"),
+                    @ApiResponse(responseCode = "400", description = "Batch too large or malformed",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    @PostMapping("/batch")
+    public List<BatchItemResponse> createEvents(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Events to create",
+                    required = true
+            )
+            @RequestBody List<CreateEventRequest> requests
+    ) {
+        // A null item is passed on as such and reported as a failed item
+        List<SportEvent> events = requests.stream()
+                .map(request -> request == null ? null : new SportEvent(
+                        null,
+                        request.getName(),
+                        request.getSport(),
+                        EventStatus.INACTIVE,
+                        request.getStartTime()
+                ))
+                .toList();
+        return toResponses(service.createEvents(events));
+    }
+
+
     @Operation(
             summary = "Get list of sport events",
-            description = "Retrieve list of sport events with optional filtering by status and sport type"
+            description = "Retrieve list of sport events with optional filtering by status, sport type and a start "
+                    + "time range [from, to); with a range the events are ordered by start time. "
+                    + "With 'limit' (or 'cursor') the events are returned one page at a time, ordered by start time "
+                    + "then id; the X-Next-Cursor response header holds the cursor for the next page and is absent "
+                    + "on the last one. Request 'Accept: application/x-ndjson' to stream all matching events "
+                    + "as newline-delimited JSON instead. The ETag changes whenever any event does, or without a "
+                    + "range or pagination whenever an event matching the filter does; send it back "
+                    + "in If-None-Match to get a 304 while nothing has changed.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Events found", content = @Content(
+                            array = @ArraySchema(schema = @Schema(implementation = SportEventResponse.class)))),
+                    @ApiResponse(responseCode = "304", description = "No event changed since the ETag in If-None-Match")
+            }
     )
     @GetMapping
-    public List<SportEventResponse> getEvents(
+    public ResponseEntity<?> getEvents(
             @Parameter(description = "Optional event status filter")
             @RequestParam Optional<EventStatus> status,
 
             @Parameter(description = "Optional sport type filter (e.g. FOOTBALL, HOCKEY)")
-            @RequestParam Optional<String> sport
+            @RequestParam Optional<String> sport,
+
+            @Parameter(description = "Only events starting at or after this time (e.g. 2025-09-01T18:00:00)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Optional<LocalDateTime> from,
+
+            @Parameter(description = "Only events starting before this time")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Optional<LocalDateTime> to,
+
+            @Parameter(description = "Page size, at most " + MAX_PAGE_LIMIT + "; enables pagination")
+            @RequestParam Optional<Integer> limit,
+
+            @Parameter(description = "Cursor from the X-Next-Cursor header of the previous page")
+            @RequestParam Optional<String> cursor,
+
+            WebRequest webRequest
     ) {
-        return service.getEvents(status.orElse(null), sport.orElse(null)).stream()
-                .map(SportEventResponse::from)
-                .toList();
+        if (limit.isEmpty() && cursor.isEmpty() && from.isEmpty() && to.isEmpty()) {
+            // Served as the cached JSON, tagged with the change count it was read at
+            EventListingCache.Listing listing = listingCache.get(status.orElse(null), sport.orElse(null),
+                    service::getChangeCount, () -> service.getEvents(status.orElse(null), sport.orElse(null),
+                            null, null));
+            if (webRequest.checkNotModified(listingTag + listing.changeCount())) {
+                return null;
+            }
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(listing.json());
+        }
+        // Taken before reading, so a change made while the response is built only makes the ETag stale
+        if (webRequest.checkNotModified(listingTag + service.getChangeCount())) {
+            return null;
+        }
+        if (limit.isEmpty() && cursor.isEmpty()) {
+            List<SportEventResponse> events = service.getEvents(status.orElse(null), sport.orElse(null),
+                            from.orElse(null), to.orElse(null)).stream()
+                    .map(SportEventResponse::from)
+                    .toList();
+            return ResponseEntity.ok(events);
+        }
+
+        EventPage page = service.getEventPage(status.orElse(null), sport.orElse(null),
+                from.orElse(null), to.orElse(null), cursor.orElse(null), limit.orElse(MAX_PAGE_LIMIT));
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.next() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.next().encode());
+        }
+        return response.body(page.events().stream().map(SportEventResponse::from).toList());
+    }
+
+    @Operation(
+            summary = "Stream sport events as NDJSON",
+            description = "Writes every matching event as one JSON line while reading the store, "
+                    + "without building the whole list first. Events are ordered by start time when 'from' or 'to' "
+                    + "is given, and not in any particular order otherwise"
+    )
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamEvents(
+            @Parameter(description = "Optional event status filter")
+            @RequestParam Optional<EventStatus> status,
+
+            @Parameter(description = "Optional sport type filter (e.g. FOOTBALL, HOCKEY)")
+            @RequestParam Optional<String> sport,
+
+            @Parameter(description = "Only events starting at or after this time (e.g. 2025-09-01T18:00:00)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Optional<LocalDateTime> from,
+
+            @Parameter(description = "Only events starting before this time")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Optional<LocalDateTime> to
+    ) {
+        ObjectWriter writer = objectMapper.writerFor(SportEventResponse.class);
+        // Opened before the response is committed, so an invalid range still gets a 400
+        Stream<SportEvent> matching = service.streamEvents(status.orElse(null), sport.orElse(null),
+                from.orElse(null), to.orElse(null));
+        StreamingResponseBody body = outputStream -> {
+            BufferedOutputStream out = new BufferedOutputStream(outputStream, NDJSON_BUFFER_BYTES);
+            try (Stream<SportEvent> events = matching) {
+                Iterator<SportEvent> iterator = events.iterator();
+                while (iterator.hasNext()) {
+                    out.write(writer.writeValueAsBytes(SportEventResponse.from(iterator.next())));
+                    out.write('\n');
+                }
+            }
+            out.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
 
     @Operation(
             summary = "Get sport event by ID",
-            description = "Retrieve a single sport event by its unique identifier",
+            description = "Retrieve a single sport event by its unique identifier. The ETag is the event version; "
+                    + "send it back in If-None-Match to get a 304 while the event is unchanged",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Event found",
                             content = @Content(schema = @Schema(implementation = SportEventResponse.class))),
+                    @ApiResponse(responseCode = "304", description = "Event unchanged since the ETag in If-None-Match"),
                     @ApiResponse(responseCode = "404", description = "Event not found",
                             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
             }
     )
     @GetMapping("/{id}")
-    public SportEventResponse getEventById(
+    public ResponseEntity<SportEventResponse> getEventById(
             @Parameter(description = "UUID of the event", required = true)
             @PathVariable UUID id
     ) {
-        return SportEventResponse.from(service.getEventById(id));
+        // Spring answers a matching If-None-Match with 304 from the ETag, without writing the body
+        return withVersion(service.getEventById(id));
     }
 
 
     @Operation(
             summary = "Change sport event status",
-            description = "Update status of an event. Allowed transitions: INACTIVE→ACTIVE, ACTIVE→FINISHED",
+            description = "Update status of an event. Allowed transitions: INACTIVE→ACTIVE, ACTIVE→FINISHED. "
+                    + "With If-Match the change is applied only if the event is still at that ETag",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Status updated",
                             content = @Content(schema = @Schema(implementation = SportEventResponse.class))),
                     @ApiResponse(responseCode = "400", description = "Invalid status change",
                             content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
                     @ApiResponse(responseCode = "404", description = "Event not found",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "412", description = "Event changed since the ETag in If-Match",
                             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
             }
     )
     @PatchMapping("/{id}/status")
-    public SportEventResponse changeStatus(
+    public ResponseEntity<SportEventResponse> changeStatus(
             @Parameter(description = "UUID of the event", required = true)
             @PathVariable UUID id,
 
+            @Parameter(description = "ETag of the event version the change is based on, e.g. \"3\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+
             @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     description = "New status for the event",
                     required = true,
@@ -127,21 +298,106 @@ public class SportEventController {
             )
             @RequestBody UpdateStatusRequest request
     ) {
-        return SportEventResponse.from(service.changeStatus(id, request.status()));
+        Long expectedVersion = expectedVersion(id, ifMatch);
+        return withVersion(expectedVersion == null
+                ? service.changeStatus(id, request.status())
+                : service.changeStatus(id, request.status(), expectedVersion));
+    }
+
+
+    @Operation(
+            summary = "Change the status of sport events in bulk",
+            description = "Applies up to " + MAX_BATCH_SIZE + " status changes in request order, as if they were "
+                    + "sent one by one. The response holds one result per change, in request order, with either "
+                    + "the updated event or the error that rejected the change",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Batch processed; see the per-item results"),
+                    @ApiResponse(responseCode = "400", description = "Batch too large or malformed",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    @PatchMapping("/status")
+    public List<BatchItemResponse> changeStatuses(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Status changes to apply",
+                    required = true
+            )
+            @RequestBody List<StatusChangeRequest> requests
+    ) {
+        List<StatusChange> changes = requests.stream()
+                .map(request -> request == null ? null : new StatusChange(request.id(), request.status()))
+                .toList();
+        return toResponses(service.changeStatuses(changes));
     }
 
 
     @Operation(
             summary = "Subscribe to event updates",
-            description = "Subscribe via Server-Sent Events (SSE) to receive event status updates in real-time",
+            description = "Subscribe via Server-Sent Events (SSE) to receive event status updates in real-time, "
+                    + "optionally only for a sport, a status or a set of events. "
+                    + "A client reconnecting with the id of the last update it received gets only the updates it "
+                    + "missed, or a 'reset' event if they are no longer available",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Subscribed successfully (SSE stream opened)")
             }
     )
     @CrossOrigin(origins = "*")
     @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter subscribe() {
-        return sseEmitterService.createEmitter();
+    public SseEmitter subscribe(
+            @Parameter(description = "Id of the last received update, sent automatically by EventSource on reconnect")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+
+            @Parameter(description = "Same as the Last-Event-ID header, for clients that cannot set headers")
+            @RequestParam Optional<String> lastEventId,
+
+            @Parameter(description = "Only receive updates for this sport (case-insensitive)")
+            @RequestParam Optional<String> sport,
+
+            @Parameter(description = "Only receive updates leaving an event in this status")
+            @RequestParam Optional<EventStatus> status,
+
+            @Parameter(description = "Only receive updates for these event ids (repeat the parameter or separate with commas)")
+            @RequestParam Optional<Set<UUID>> eventId
+    ) {
+        SseFilter filter = new SseFilter(sport.orElse(null), status.orElse(null), eventId.orElse(Set.of()));
+        return sseEmitterService.createEmitter(lastEventIdHeader != null ? lastEventIdHeader : lastEventId.orElse(null), filter);
+    }
+
+    private static ResponseEntity<SportEventResponse> withVersion(SportEvent event) {
+        return ResponseEntity.ok()
+                .eTag(Long.toString(event.version()))
+                .body(SportEventResponse.from(event));
+    }
+
+    /**
+     * @return the version required by an {@code If-Match} header, or {@code null} if any version will do
+     * @throws VersionConflictException if the header is not a strong ETag of a version, e.g. a weak one, which
+     *                                  can never match
+     */
+    private static Long expectedVersion(UUID id, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.strip().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.strip();
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                return Long.parseLong(tag.substring(1, tag.length() - 1));
+            } catch (NumberFormatException e) {
+                // Not one of our tags
+            }
+        }
+        throw new VersionConflictException(id);
+    }
+
+    private static List<BatchItemResponse> toResponses(List<BatchItemResult> results) {
+        List<BatchItemResponse> responses = new ArrayList<>(results.size());
+        for (int i = 0; i < results.size(); i++) {
+            BatchItemResult result = results.get(i);
+            responses.add(result.succeeded()
+                    ? new BatchItemResponse(i, SportEventResponse.from(result.event()), null)
+                    : new BatchItemResponse(i, null, GlobalExceptionHandler.errorOf(result.error())));
+        }
+        return responses;
     }
 
 }
@@ -0,0 +1,22 @@
+package com.entain.data;
+
+/**
+ * Outcome of one item of a batch request: the resulting event, or the reason the item was rejected.
+ *
+ * @param event the created or updated event, or {@code null} if the item failed
+ * @param error why the item failed, or {@code null} if it succeeded
+ */
+public record BatchItemResult(SportEvent event, RuntimeException error) {
+
+    public static BatchItemResult success(SportEvent event) {
+        return new BatchItemResult(event, null);
+    }
+
+    public static BatchItemResult failure(RuntimeException error) {
+        return new BatchItemResult(null, error);
+    }
+
+    public boolean succeeded() {
+        return error == null;
+    }
+}
@@ -11,23 +11,36 @@ import java.util.UUID;
  *
  * <p>Provides a {@link #withStatus(EventStatus)} method to create a new instance with an updated status,
  * preserving immutability and ensuring thread-safe updates.</p>
+ *
+ * <p>{@code version} starts at {@value #INITIAL_VERSION} and grows by one with every change, so it identifies a state
+ * of the event for optimistic locking and HTTP conditional requests.</p>
  */
 public record SportEvent(
         UUID id,
         String name,
         String sport,
         EventStatus status,
-        LocalDateTime startTime
+        LocalDateTime startTime,
+        long version
 ) {
 
+    public static final long INITIAL_VERSION = 0;
+
+    /**
+     * Creates an event in its initial version.
+     */
+    public SportEvent(UUID id, String name, String sport, EventStatus status, LocalDateTime startTime) {
+        this(id, name, sport, status, startTime, INITIAL_VERSION);
+    }
+
     /**
      * Returns a new {@code SportEvent} instance with the given status, keeping all other fields unchanged.
      * This approach ensures that the original instance remains immutable and safe for concurrent access.
      *
      * @param newStatus the new status of the event
-     * @return a new SportEvent with updated status
+     * @return a new SportEvent with updated status and the next version
      */
     public SportEvent withStatus(EventStatus newStatus) {
-        return new SportEvent(this.id, this.name, this.sport, newStatus, this.startTime);
+        return new SportEvent(this.id, this.name, this.sport, newStatus, this.startTime, this.version + 1);
     }
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.entain.data;
+
+import java.util.UUID;
+
+/**
+ * A requested status change of one {@link SportEvent}, as applied in bulk by
+ * {@link com.entain.data.access.SportEventDAO#transitionStatuses}.
+ *
+ * @param id        id of the event to change
+ * @param newStatus the status to move the event to
+ */
+public record StatusChange(UUID id, EventStatus newStatus) {
+}
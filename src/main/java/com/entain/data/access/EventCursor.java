@@ -0,0 +1,81 @@
+package com.entain.data.access;
+
+import com.entain.data.SportEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.UUID;
+
+/**
+ * Position in the listing order of sport events: by {@code startTime} (events without one last), then by id.
+ *
+ * <p>Pages are requested relative to the last event of the previous page (keyset pagination), so a page costs
+ * the same regardless of how deep it is, and concurrent inserts never shift events between pages.</p>
+ *
+ * @param startTime start time of the last returned event, or {@code null} if it had none
+ * @param id        id of the last returned event
+ */
+public record EventCursor(LocalDateTime startTime, UUID id) {
+
+    /**
+     * Listing order of sport events.
+     */
+    public static final Comparator<SportEvent> ORDER = Comparator
+            .comparing(SportEvent::startTime, Comparator.nullsLast(Comparator.<LocalDateTime>naturalOrder()))
+            .thenComparing(SportEvent::id);
+
+    /**
+     * The same order over positions, for indexes keyed by them.
+     */
+    public static final Comparator<EventCursor> POSITION_ORDER = Comparator
+            .comparing(EventCursor::startTime, Comparator.nullsLast(Comparator.<LocalDateTime>naturalOrder()))
+            .thenComparing(EventCursor::id);
+
+    private static final String NO_TIME = "-";
+
+    public static EventCursor after(SportEvent event) {
+        return new EventCursor(event.startTime(), event.id());
+    }
+
+    /**
+     * @return {@code true} if the event comes after this position in {@link #ORDER}
+     */
+    public boolean precedes(SportEvent event) {
+        int byTime;
+        if (startTime == null || event.startTime() == null) {
+            // Events without a start time sort last
+            byTime = startTime == null ? (event.startTime() == null ? 0 : 1) : -1;
+        } else {
+            byTime = startTime.compareTo(event.startTime());
+        }
+        return byTime < 0 || byTime == 0 && id.compareTo(event.id()) < 0;
+    }
+
+    /**
+     * @return an opaque, URL-safe representation of the cursor
+     */
+    public String encode() {
+        String time = startTime == null ? NO_TIME : Long.toString(startTime.toEpochSecond(ZoneOffset.UTC));
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((time + "_" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the value was not produced by {@link #encode()}
+     */
+    public static EventCursor decode(String value) {
+        String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+        int separator = decoded.indexOf('_');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Malformed cursor: " + value);
+        }
+        String time = decoded.substring(0, separator);
+        LocalDateTime startTime = time.equals(NO_TIME)
+                ? null
+                : LocalDateTime.ofEpochSecond(Long.parseLong(time), 0, ZoneOffset.UTC);
+        return new EventCursor(startTime, UUID.fromString(decoded.substring(separator + 1)));
+    }
+}
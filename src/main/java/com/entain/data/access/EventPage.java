@@ -0,0 +1,26 @@
+package com.entain.data.access;
+
+import com.entain.data.SportEvent;
+
+import java.util.List;
+
+/**
+ * One page of sport events in {@link EventCursor#ORDER}.
+ *
+ * @param events the events of this page
+ * @param next   position to request the following page from, or {@code null} if this is the last page
+ */
+public record EventPage(List<SportEvent> events, EventCursor next) {
+
+    /**
+     * Builds a page from the first {@code limit + 1} matches in order; the extra one only tells whether
+     * another page follows.
+     */
+    static EventPage of(List<SportEvent> firstMatches, int limit) {
+        if (firstMatches.size() <= limit) {
+            return new EventPage(List.copyOf(firstMatches), null);
+        }
+        List<SportEvent> events = List.copyOf(firstMatches.subList(0, limit));
+        return new EventPage(events, EventCursor.after(events.get(limit - 1)));
+    }
+}
@@ -2,31 +2,83 @@ package com.entain.data.access;
 
 import com.entain.data.EventStatus;
 import com.entain.data.SportEvent;
+import com.entain.data.access.index.ConcurrentUuidMap;
+import com.entain.validation.EventValidationRule;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
 
 /**
  * In-memory implementation of the {@link SportEventDAO} interface.
  *
- * <p>This implementation stores SportEvent objects in a concurrent hash map,
- * providing thread-safe access for read and write operations.</p>
+ * <p>This implementation stores SportEvent objects in a {@link ConcurrentUuidMap}, a concurrent hash map keyed by
+ * the two halves of the id, providing thread-safe access for read and write operations. Lookups by id take no lock
+ * and allocate nothing.</p>
  *
  * <p>It is suitable for prototyping, testing, or scenarios where persistent storage
- * is not required. For production, a database-backed implementation should be used.</p>
+ * is not required. For durability across restarts, use {@link LogStructuredSportEventStore}
+ * ({@code store.type=log}), which keeps its live data in an instance of this class.</p>
+ *
+ * <p>Besides the primary map, the store keeps secondary indexes of event ids by status,
+ * by normalized (upper-case) sport and by the status + sport pair, so filtered lookups
+ * cost O(result size) instead of a scan over every stored event.</p>
+ *
+ * <p>A sorted index of every event by {@code startTime} (events without one last), then id, answers start time
+ * range queries and pages in {@link EventCursor#ORDER} in O(log n + k): it seeks to the first position and walks
+ * forward only as far as the result needs.</p>
  *
  * <p>Concurrency notes:</p>
  * <ul>
  *     <li>{@link #updateStatus(UUID, EventStatus)} uses {@code computeIfPresent} to atomically
- *         update the status, preventing race conditions in concurrent environments.</li>
+ *         update the status, preventing race conditions in concurrent environments.
+ *         {@link #transitionStatus(UUID, EventStatus, EventValidationRule)} also runs the business rules inside
+ *         the same {@code computeIfPresent}, so a check and its write cannot be interleaved with another write.</li>
+ *     <li>Secondary indexes are maintained inside the same {@code compute} call that changes the
+ *         primary map, so index moves for one event are serialized with its updates.</li>
+ *     <li>Readers resolve index hits through the primary map and re-check the filter, so a
+ *         lookup racing with an index move never returns an event that does not match.</li>
+ *     <li>{@link #changeCount()} is incremented after a write returns from its {@code compute}, when the
+ *         change is already visible, never before.</li>
  * </ul>
  */
 @Repository
+@ConditionalOnProperty(prefix = "store", name = "type", havingValue = "memory", matchIfMissing = true)
 public class InMemorySportEventStore implements SportEventDAO {
-    private final Map<UUID, SportEvent> store = new ConcurrentHashMap<>();
+    /** A status/sport filter matching fewer than 1/8 of all events is paged from its own index. */
+    private static final int SELECTIVE_FILTER_RATIO = 8;
+    /** Smallest id, used to build positions that sort before every event with the same start time. */
+    private static final UUID MIN_ID = new UUID(Long.MIN_VALUE, Long.MIN_VALUE);
+
+    private final ConcurrentUuidMap<SportEvent> store = new ConcurrentUuidMap<>();
+    private final Map<EventStatus, Set<UUID>> byStatus = new EnumMap<>(EventStatus.class);
+    private final Map<String, Set<UUID>> bySport = new ConcurrentHashMap<>();
+    private final Map<EventStatus, Map<String, Set<UUID>>> byStatusAndSport = new EnumMap<>(EventStatus.class);
+    private final NavigableSet<EventCursor> byStartTime = new ConcurrentSkipListSet<>(EventCursor.POSITION_ORDER);
+    private final AtomicLong changes = new AtomicLong();
+
+    public InMemorySportEventStore() {
+        // Enum-keyed index levels are fully populated up front and never modified afterwards,
+        // so the EnumMaps themselves are safe to share between threads.
+        for (EventStatus status : EventStatus.values()) {
+            byStatus.put(status, ConcurrentHashMap.newKeySet());
+            byStatusAndSport.put(status, new ConcurrentHashMap<>());
+        }
+    }
 
     @Override
     public SportEvent save(SportEvent event) {
@@ -34,8 +86,17 @@ public class InMemorySportEventStore implements SportEventDAO {
         // If another event with the same ID exists, it will not be overwritten.
         // This ensures thread-safe insertion and prevents accidental overwrites
         // when multiple requests with the same ID are processed concurrently.
-        SportEvent existing = store.putIfAbsent(event.id(), event);
-        return existing != null ? existing : event;
+        SportEvent stored = store.compute(event.id(), (uuid, existing) -> {
+            if (existing != null) {
+                return existing;
+            }
+            index(event);
+            return event;
+        });
+        if (stored == event) {
+            changes.incrementAndGet();
+        }
+        return stored;
     }
 
     @Override
@@ -45,18 +106,210 @@ public class InMemorySportEventStore implements SportEventDAO {
 
     @Override
     public List<SportEvent> findAll(EventStatus status, String sport) {
-        return store.values().stream()
-                .filter(e -> status == null || e.status() == status)
-                .filter(e -> sport == null || e.sport().equalsIgnoreCase(sport))
-                .toList();
+        if (status == null && sport == null) {
+            return store.values().toList();
+        }
+        return stream(status, sport).toList();
+    }
+
+    @Override
+    public Stream<SportEvent> stream(EventStatus status, String sport) {
+        // Same as findAll, but lazily over the live maps instead of a copied list
+        if (status == null && sport == null) {
+            return store.values();
+        }
+        return candidates(status, sport).stream()
+                .map(store::get)
+                .filter(e -> e != null && matches(e, status, sport));
+    }
+
+    @Override
+    public Stream<SportEvent> stream(EventStatus status, String sport, LocalDateTime from, LocalDateTime to) {
+        if (from == null && to == null) {
+            return stream(status, sport);
+        }
+        return resolve(byStartTime(from, to, null), status, sport);
+    }
+
+    @Override
+    public EventPage findPage(EventStatus status, String sport, LocalDateTime from, LocalDateTime to,
+                              EventCursor after, int limit) {
+        if (from == null && to == null && (status != null || sport != null)
+                && candidates(status, sport).size() * SELECTIVE_FILTER_RATIO < store.size()) {
+            // Walking the time index would mostly skip non-matching events; one pass over the few candidates is cheaper
+            return SportEventDAO.super.findPage(status, sport, from, to, after, limit);
+        }
+        try (Stream<SportEvent> events = resolve(byStartTime(from, to, after), status, sport)) {
+            return EventPage.of(events.limit(limit + 1L).toList(), limit);
+        }
     }
 
     @Override
     public void updateStatus(UUID id, EventStatus newStatus) {
         // Atomically update the status of the event if it exists
-        // Using computeIfPresent ensures thread-safe update, preventing race conditions
-        // TODO: When switching to a database-backed implementation, consider using
-        //       optimistic locking (versioning) to prevent concurrent update conflicts
-        store.computeIfPresent(id, (uuid, oldEvent) -> oldEvent.withStatus(newStatus));
+        // Using computeIfPresent ensures thread-safe update, preventing race conditions.
+        // Every update bumps the event's version, which callers use for optimistic locking
+        // through transitionStatus (If-Match on the API).
+        SportEvent updated = store.computeIfPresent(id, (uuid, oldEvent) -> {
+            SportEvent newEvent = oldEvent.withStatus(newStatus);
+            reindex(oldEvent, newEvent);
+            return newEvent;
+        });
+        if (updated != null) {
+            changes.incrementAndGet();
+        }
+    }
+
+    @Override
+    public Optional<SportEvent> transitionStatus(UUID id, EventStatus newStatus, EventValidationRule validator) {
+        // Validating inside compute checks the state actually being replaced; an exception leaves it unchanged
+        SportEvent updated = store.computeIfPresent(id, (uuid, current) -> {
+            validator.validate(current, newStatus);
+            SportEvent newEvent = current.withStatus(newStatus);
+            reindex(current, newEvent);
+            return newEvent;
+        });
+        if (updated != null) {
+            changes.incrementAndGet();
+        }
+        return Optional.ofNullable(updated);
+    }
+
+    @Override
+    public long changeCount() {
+        return changes.get();
+    }
+
+    @Override
+    public long count(EventStatus status) {
+        return byStatus.get(status).size();
+    }
+
+    /**
+     * Inserts or replaces an event, keeping the indexes consistent.
+     * Used to rebuild the store from persisted state, where later records supersede earlier ones.
+     *
+     * @param event the event state to restore
+     */
+    public void restore(SportEvent event) {
+        store.compute(event.id(), (uuid, existing) -> {
+            if (existing == null) {
+                index(event);
+            } else {
+                reindex(existing, event);
+            }
+            return event;
+        });
+        changes.incrementAndGet();
+    }
+
+    /**
+     * Same as {@link #restore(SportEvent)}, but keeps a stored state with the same or a higher version. Used to
+     * apply replicated changes, which may arrive more than once or out of order.
+     *
+     * @return {@code true} if the event was stored
+     */
+    public boolean restoreIfNewer(SportEvent event) {
+        boolean[] applied = new boolean[1];
+        store.compute(event.id(), (uuid, existing) -> {
+            if (existing == null) {
+                index(event);
+            } else if (existing.version() < event.version()) {
+                reindex(existing, event);
+            } else {
+                return existing;
+            }
+            applied[0] = true;
+            return event;
+        });
+        if (applied[0]) {
+            changes.incrementAndGet();
+        }
+        return applied[0];
+    }
+
+    private Collection<UUID> candidates(EventStatus status, String sport) {
+        if (sport == null) {
+            return byStatus.get(status);
+        }
+        Map<String, Set<UUID>> sportIndex = status == null ? bySport : byStatusAndSport.get(status);
+        return sportIndex.getOrDefault(normalize(sport), Set.of());
+    }
+
+    /**
+     * Positions in the time index within {@code [from, to)} and strictly after {@code after}.
+     */
+    private NavigableSet<EventCursor> byStartTime(LocalDateTime from, LocalDateTime to, EventCursor after) {
+        EventCursor lower = from == null ? null : new EventCursor(from, MIN_ID);
+        boolean lowerInclusive = true;
+        if (after != null && (lower == null || EventCursor.POSITION_ORDER.compare(after, lower) >= 0)) {
+            lower = after;
+            lowerInclusive = false;
+        }
+        // Any range excludes events without a start time; they sort last, from (null, MIN_ID) on
+        EventCursor upper = from == null && to == null ? null : new EventCursor(to, MIN_ID);
+        if (lower == null) {
+            return upper == null ? byStartTime : byStartTime.headSet(upper, false);
+        }
+        if (upper == null) {
+            return byStartTime.tailSet(lower, lowerInclusive);
+        }
+        if (EventCursor.POSITION_ORDER.compare(lower, upper) >= 0) {
+            return Collections.emptyNavigableSet();
+        }
+        return byStartTime.subSet(lower, lowerInclusive, upper, false);
+    }
+
+    private Stream<SportEvent> resolve(Collection<EventCursor> positions, EventStatus status, String sport) {
+        return positions.stream()
+                .map(position -> {
+                    SportEvent event = store.get(position.id());
+                    // A stale position left by a concurrent start time change must not yield the event twice
+                    return event != null && Objects.equals(event.startTime(), position.startTime()) ? event : null;
+                })
+                .filter(e -> e != null && matches(e, status, sport));
+    }
+
+    private static boolean matches(SportEvent event, EventStatus status, String sport) {
+        return (status == null || event.status() == status)
+                && (sport == null || event.sport() != null && event.sport().equalsIgnoreCase(sport));
+    }
+
+    private void index(SportEvent event) {
+        byStartTime.add(EventCursor.after(event));
+        byStatus.get(event.status()).add(event.id());
+        String sport = normalize(event.sport());
+        if (sport != null) {
+            bySport.computeIfAbsent(sport, s -> ConcurrentHashMap.newKeySet()).add(event.id());
+            byStatusAndSport.get(event.status())
+                    .computeIfAbsent(sport, s -> ConcurrentHashMap.newKeySet())
+                    .add(event.id());
+        }
+    }
+
+    private void reindex(SportEvent oldEvent, SportEvent newEvent) {
+        if (!Objects.equals(oldEvent.startTime(), newEvent.startTime())) {
+            // Only a restore can move an event in time; status changes keep the start time
+            byStartTime.add(EventCursor.after(newEvent));
+            byStartTime.remove(EventCursor.after(oldEvent));
+        }
+        if (oldEvent.status() == newEvent.status()) {
+            return;
+        }
+        // Add to the new buckets before removing from the old ones, so a concurrent reader
+        // sees the event in at least one bucket while it moves.
+        byStatus.get(newEvent.status()).add(newEvent.id());
+        String sport = normalize(newEvent.sport());
+        if (sport != null) {
+            byStatusAndSport.get(newEvent.status())
+                    .computeIfAbsent(sport, s -> ConcurrentHashMap.newKeySet())
+                    .add(newEvent.id());
+            byStatusAndSport.get(oldEvent.status()).get(sport).remove(oldEvent.id());
+        }
+        byStatus.get(oldEvent.status()).remove(oldEvent.id());
+    }
+
+    private static String normalize(String sport) {
+        return sport == null ? null : sport.toUpperCase(Locale.ROOT);
     }
 }
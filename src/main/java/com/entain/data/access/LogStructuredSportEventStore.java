@@ -0,0 +1,208 @@
+package com.entain.data.access;
+
+import com.entain.config.StoreConfig;
+import com.entain.data.BatchItemResult;
+import com.entain.data.EventStatus;
+import com.entain.data.SportEvent;
+import com.entain.data.StatusChange;
+import com.entain.data.access.log.EventLog;
+import com.entain.exception.EventNotFoundException;
+import com.entain.validation.EventValidationRule;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Durable implementation of the {@link SportEventDAO} interface, enabled with {@code store.type=log}.
+ *
+ * <p>The live data set is held in an {@link InMemorySportEventStore}, so reads and filtered lookups are exactly
+ * as fast as with the in-memory store. Every create and status change is additionally appended to an
+ * {@link EventLog}; on startup the in-memory state is rebuilt from its newest snapshot plus the log tail.</p>
+ *
+ * <p>Concurrency notes:</p>
+ * <ul>
+ *     <li>Writes lock one of {@value #LOCK_STRIPES} stripes chosen by event id, append the change to the log and
+ *         only then apply it in memory, so the log order of the records of one event matches the order of its
+ *         updates, and a change whose append fails, e.g. on a full disk, is neither stored nor visible. Writes to
+ *         different events only meet in the log append, a short memory copy.</li>
+ *     <li>Waiting for durability happens after the stripe is released, so concurrent writers share one fsync
+ *         (group commit) under {@code fsync-policy: ALWAYS}. Batch writes append all their records first and
+ *         wait once.</li>
+ *     <li>A change is visible to readers slightly before it is durable; a crash in between loses only changes
+ *         whose requests had not completed yet.</li>
+ * </ul>
+ */
+@Repository
+@ConditionalOnProperty(prefix = "store", name = "type", havingValue = "log")
+public class LogStructuredSportEventStore implements SportEventDAO {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final InMemorySportEventStore memory = new InMemorySportEventStore();
+    private final Object[] locks = new Object[LOCK_STRIPES];
+    private final EventLog eventLog;
+
+    @Autowired
+    public LogStructuredSportEventStore(StoreConfig config) {
+        this(new EventLog(
+                Path.of(config.getLog().getDirectory()),
+                Math.toIntExact(config.getLog().getSegmentSize().toBytes()),
+                config.getLog().getFsyncPolicy(),
+                config.getLog().getFsyncIntervalMs(),
+                config.getLog().getSnapshotIntervalMs()
+        ));
+    }
+
+    LogStructuredSportEventStore(EventLog eventLog) {
+        this.eventLog = eventLog;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        eventLog.open(memory::restore, () -> memory.findAll(null, null));
+    }
+
+    @PreDestroy
+    public void close() {
+        eventLog.close();
+    }
+
+    @Override
+    public SportEvent save(SportEvent event) {
+        return saveAll(List.of(event)).get(0);
+    }
+
+    @Override
+    public List<SportEvent> saveAll(List<SportEvent> events) {
+        List<SportEvent> stored = new ArrayList<>(events.size());
+        List<EventLog.Commit> commits = new ArrayList<>(events.size());
+        for (SportEvent event : events) {
+            synchronized (lockFor(event.id())) {
+                // An existing event with the same id is kept as is and needs no record
+                Optional<SportEvent> existing = memory.findById(event.id());
+                if (existing.isPresent()) {
+                    stored.add(existing.get());
+                    continue;
+                }
+                commits.add(eventLog.append(event));
+                stored.add(memory.save(event));
+            }
+        }
+        awaitDurable(commits);
+        return stored;
+    }
+
+    @Override
+    public Optional<SportEvent> findById(UUID id) {
+        return memory.findById(id);
+    }
+
+    @Override
+    public List<SportEvent> findAll(EventStatus status, String sport) {
+        return memory.findAll(status, sport);
+    }
+
+    @Override
+    public Stream<SportEvent> stream(EventStatus status, String sport) {
+        return memory.stream(status, sport);
+    }
+
+    @Override
+    public Stream<SportEvent> stream(EventStatus status, String sport, LocalDateTime from, LocalDateTime to) {
+        return memory.stream(status, sport, from, to);
+    }
+
+    @Override
+    public EventPage findPage(EventStatus status, String sport, LocalDateTime from, LocalDateTime to,
+                              EventCursor after, int limit) {
+        return memory.findPage(status, sport, from, to, after, limit);
+    }
+
+    @Override
+    public long changeCount() {
+        return memory.changeCount();
+    }
+
+    @Override
+    public long count(EventStatus status) {
+        return memory.count(status);
+    }
+
+    @Override
+    public void updateStatus(UUID id, EventStatus newStatus) {
+        transitionStatus(id, newStatus, (event, status) -> { });
+    }
+
+    @Override
+    public Optional<SportEvent> transitionStatus(UUID id, EventStatus newStatus, EventValidationRule validator) {
+        List<EventLog.Commit> commits = new ArrayList<>(1);
+        Optional<SportEvent> updated = transitionLocked(id, newStatus, validator, commits);
+        awaitDurable(commits);
+        return updated;
+    }
+
+    @Override
+    public List<BatchItemResult> transitionStatuses(List<StatusChange> changes, EventValidationRule validator) {
+        List<BatchItemResult> results = new ArrayList<>(changes.size());
+        List<EventLog.Commit> commits = new ArrayList<>(changes.size());
+        for (StatusChange change : changes) {
+            try {
+                results.add(transitionLocked(change.id(), change.newStatus(), validator, commits)
+                        .map(BatchItemResult::success)
+                        .orElseGet(() -> BatchItemResult.failure(new EventNotFoundException(change.id()))));
+            } catch (RuntimeException e) {
+                results.add(BatchItemResult.failure(e));
+            }
+        }
+        awaitDurable(commits);
+        return results;
+    }
+
+    /**
+     * Appends the record of a transition and then applies it in memory, adding the commit to wait for to
+     * {@code commits}. Every write of the event holds its stripe, so the state validated is the one replaced.
+     */
+    private Optional<SportEvent> transitionLocked(UUID id, EventStatus newStatus, EventValidationRule validator,
+                                                  List<EventLog.Commit> commits) {
+        synchronized (lockFor(id)) {
+            Optional<SportEvent> current = memory.findById(id);
+            if (current.isEmpty()) {
+                return current;
+            }
+            validator.validate(current.get(), newStatus);
+            SportEvent updated = current.get().withStatus(newStatus);
+            commits.add(eventLog.append(updated));
+            memory.restore(updated);
+            return Optional.of(updated);
+        }
+    }
+
+    /**
+     * Waits for the records of one write call. Syncs cover everything appended before them, so waiting for the
+     * newest record first usually leaves nothing to wait for on the older ones: a batch costs one fsync.
+     */
+    private static void awaitDurable(List<EventLog.Commit> commits) {
+        for (int i = commits.size() - 1; i >= 0; i--) {
+            commits.get(i).awaitDurable();
+        }
+    }
+
+    private Object lockFor(UUID id) {
+        int h = id.hashCode();
+        return locks[Math.floorMod(h ^ (h >>> 16), LOCK_STRIPES)];
+    }
+}
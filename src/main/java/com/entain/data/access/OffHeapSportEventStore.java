@@ -0,0 +1,406 @@
+package com.entain.data.access;
+
+import com.entain.config.StoreConfig;
+import com.entain.data.EventStatus;
+import com.entain.data.SportEvent;
+import com.entain.data.access.offheap.OffHeapColumn;
+import com.entain.data.access.offheap.SportDictionary;
+import com.entain.data.access.offheap.StringArena;
+import com.entain.data.access.offheap.UuidIndex;
+import com.entain.validation.EventValidationRule;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Columnar implementation of the {@link SportEventDAO} interface keeping events in direct (off-heap) memory,
+ * enabled with {@code store.type=offheap}.
+ *
+ * <p>Each event is one row number across a set of {@link OffHeapColumn}s rather than a graph of objects:</p>
+ * <ul>
+ *     <li>the id as its two {@code long} halves;</li>
+ *     <li>a state word holding the version in the high 56 bits and the status ordinal in the low byte;</li>
+ *     <li>the sport as an id of the {@link SportDictionary};</li>
+ *     <li>the start time as epoch seconds (UTC) and nanoseconds, with nanoseconds of -1 for no start time;</li>
+ *     <li>the name as a reference into a {@link StringArena}, or -1 for no name.</li>
+ * </ul>
+ * <p>Ids are looked up through a {@link UuidIndex}. A stored event therefore costs about 50 bytes plus its name
+ * off-heap and a few bytes of index, and adds no objects for the garbage collector to trace: ten million events
+ * are a few hundred buffers and one {@code int[]}. {@link SportEvent}s are only created for the events a call
+ * returns.</p>
+ *
+ * <p>Filtered reads scan the columns they need and decode only the matching rows; pages keep the best
+ * {@code limit + 1} rows by comparing columns. This trades the secondary indexes of {@link InMemorySportEventStore}
+ * for footprint: a listing costs one pass over the columns, which stays fast because each column is read
+ * sequentially. Counts per status are kept as counters.</p>
+ *
+ * <p>Concurrency notes:</p>
+ * <ul>
+ *     <li>Inserts are serialized by one lock. A row is written in full before it is indexed and before the row
+ *         count is raised, both with volatile writes, so readers never see a partial row.</li>
+ *     <li>Only the state word changes after an insert. It is read and written as one atomic {@code long}, so the
+ *         status and version of a decoded event always belong together. Status changes to the same row are
+ *         serialized by one of {@value #LOCK_STRIPES} striped locks, which makes
+ *         {@link #transitionStatus(UUID, EventStatus, EventValidationRule)} check and apply under the same lock.</li>
+ *     <li>{@link #changeCount()} is incremented once the change is visible, never before.</li>
+ * </ul>
+ * <p>Memory is returned only when the store itself is discarded; {@code -XX:MaxDirectMemorySize} must leave room
+ * for the expected population.</p>
+ */
+@Repository
+@ConditionalOnProperty(prefix = "store", name = "type", havingValue = "offheap")
+public class OffHeapSportEventStore implements SportEventDAO {
+
+    private static final int LOCK_STRIPES = 64;
+    private static final int STATUS_BITS = 8;
+    private static final long STATUS_MASK = (1L << STATUS_BITS) - 1;
+    private static final int NO_START_TIME = -1;
+    private static final long NO_NAME = -1;
+    private static final EventStatus[] STATUSES = EventStatus.values();
+
+    private final OffHeapColumn ids = new OffHeapColumn(2 * Long.BYTES);
+    private final OffHeapColumn states = new OffHeapColumn(Long.BYTES);
+    private final OffHeapColumn sports = new OffHeapColumn(Integer.BYTES);
+    private final OffHeapColumn startSeconds = new OffHeapColumn(Long.BYTES);
+    private final OffHeapColumn startNanos = new OffHeapColumn(Integer.BYTES);
+    private final OffHeapColumn names = new OffHeapColumn(Long.BYTES);
+    private final OffHeapColumn[] columns = {ids, states, sports, startSeconds, startNanos, names};
+    private final StringArena nameArena = new StringArena();
+    private final SportDictionary sportDictionary = new SportDictionary();
+    private final UuidIndex index;
+
+    private final Object insertLock = new Object();
+    private final Object[] stateLocks = new Object[LOCK_STRIPES];
+    private final AtomicLongArray statusCounts = new AtomicLongArray(STATUSES.length);
+    private final AtomicLong changes = new AtomicLong();
+    private volatile int size;
+
+    @Autowired
+    public OffHeapSportEventStore(StoreConfig config) {
+        this(config.getOffHeap().getInitialCapacity());
+    }
+
+    /**
+     * @param initialCapacity events to size the id index for before it first grows
+     */
+    public OffHeapSportEventStore(int initialCapacity) {
+        index = new UuidIndex(ids, initialCapacity);
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            stateLocks[i] = new Object();
+        }
+    }
+
+    @Override
+    public SportEvent save(SportEvent event) {
+        SportEvent stored;
+        synchronized (insertLock) {
+            int row = index.get(event.id());
+            if (row >= 0) {
+                return read(row);
+            }
+            stored = insert(event);
+        }
+        changes.incrementAndGet();
+        return stored;
+    }
+
+    @Override
+    public List<SportEvent> saveAll(List<SportEvent> events) {
+        // One lock for the whole batch; the changes become visible one by one as with save
+        List<SportEvent> stored = new ArrayList<>(events.size());
+        int inserted = 0;
+        synchronized (insertLock) {
+            for (SportEvent event : events) {
+                int row = index.get(event.id());
+                if (row >= 0) {
+                    stored.add(read(row));
+                } else {
+                    stored.add(insert(event));
+                    inserted++;
+                }
+            }
+        }
+        changes.addAndGet(inserted);
+        return stored;
+    }
+
+    @Override
+    public Optional<SportEvent> findById(UUID id) {
+        int row = index.get(id);
+        return row < 0 ? Optional.empty() : Optional.of(read(row));
+    }
+
+    @Override
+    public List<SportEvent> findAll(EventStatus status, String sport) {
+        return stream(status, sport).toList();
+    }
+
+    @Override
+    public Stream<SportEvent> stream(EventStatus status, String sport) {
+        return stream(status, sport, null, null);
+    }
+
+    @Override
+    public Stream<SportEvent> stream(EventStatus status, String sport, LocalDateTime from, LocalDateTime to) {
+        RowFilter filter = new RowFilter(status, sport, from, to, null);
+        Stream<SportEvent> events = IntStream.range(0, size)
+                .filter(filter::matchesFixedColumns)
+                .mapToObj(row -> decodeIfStatus(row, status))
+                .filter(Objects::nonNull);
+        // A range is answered in start time order, as by the other stores
+        return from == null && to == null ? events : events.sorted(EventCursor.ORDER);
+    }
+
+    @Override
+    public EventPage findPage(EventStatus status, String sport, LocalDateTime from, LocalDateTime to,
+                              EventCursor after, int limit) {
+        RowFilter filter = new RowFilter(status, sport, from, to, after);
+        // Max-heap of the smallest limit + 1 rows, compared on the columns; only rows that enter it are boxed
+        PriorityQueue<Integer> smallest = new PriorityQueue<>(limit + 1, (a, b) -> compareRows(b, a));
+        int rows = size;
+        for (int row = 0; row < rows; row++) {
+            if (!filter.matchesFixedColumns(row) || !filter.matchesStatus(states.getLongAcquire(row, 0))) {
+                continue;
+            }
+            if (smallest.size() <= limit) {
+                smallest.add(row);
+            } else if (compareRows(row, smallest.peek()) < 0) {
+                smallest.poll();
+                smallest.add(row);
+            }
+        }
+        List<Integer> firstRows = new ArrayList<>(smallest);
+        firstRows.sort(this::compareRows);
+        List<SportEvent> firstMatches = new ArrayList<>(firstRows.size());
+        for (int row : firstRows) {
+            // Skips a row whose status changed since the scan
+            SportEvent event = decodeIfStatus(row, status);
+            if (event != null) {
+                firstMatches.add(event);
+            }
+        }
+        return EventPage.of(firstMatches, limit);
+    }
+
+    @Override
+    public void updateStatus(UUID id, EventStatus newStatus) {
+        transitionStatus(id, newStatus, (event, status) -> {
+        });
+    }
+
+    @Override
+    public Optional<SportEvent> transitionStatus(UUID id, EventStatus newStatus, EventValidationRule validator) {
+        int row = index.get(id);
+        if (row < 0) {
+            return Optional.empty();
+        }
+        SportEvent updated;
+        synchronized (stateLocks[row & (LOCK_STRIPES - 1)]) {
+            long state = states.getLongAcquire(row, 0);
+            SportEvent current = decode(row, state);
+            // Validating under the row's lock checks the state actually being replaced
+            validator.validate(current, newStatus);
+            updated = current.withStatus(newStatus);
+            states.setLongRelease(row, 0, state(updated));
+            // Counted in the new status before leaving the old one, like the index moves of the other stores
+            statusCounts.incrementAndGet(newStatus.ordinal());
+            statusCounts.decrementAndGet(current.status().ordinal());
+        }
+        changes.incrementAndGet();
+        return Optional.of(updated);
+    }
+
+    @Override
+    public long changeCount() {
+        return changes.get();
+    }
+
+    @Override
+    public long count(EventStatus status) {
+        return statusCounts.get(status.ordinal());
+    }
+
+    /**
+     * @return number of stored events
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return direct memory held by the columns and names; the id index is on the heap
+     */
+    public long offHeapBytes() {
+        long bytes = nameArena.allocatedBytes();
+        for (OffHeapColumn column : columns) {
+            bytes += column.allocatedBytes();
+        }
+        return bytes;
+    }
+
+    /**
+     * Writes the event to the next row. Caller holds {@link #insertLock}.
+     */
+    private SportEvent insert(SportEvent event) {
+        int row = size;
+        if (row == Integer.MAX_VALUE) {
+            throw new IllegalStateException("Off-heap store is full at " + row + " events");
+        }
+        for (OffHeapColumn column : columns) {
+            column.ensureCapacity(row + 1);
+        }
+        ids.putLong(row, 0, event.id().getMostSignificantBits());
+        ids.putLong(row, 8, event.id().getLeastSignificantBits());
+        sports.putInt(row, 0, sportDictionary.intern(event.sport()));
+        LocalDateTime startTime = event.startTime();
+        startSeconds.putLong(row, 0, startTime == null ? 0 : startTime.toEpochSecond(ZoneOffset.UTC));
+        startNanos.putInt(row, 0, startTime == null ? NO_START_TIME : startTime.getNano());
+        names.putLong(row, 0, event.name() == null ? NO_NAME : nameArena.append(event.name()));
+        states.setLongRelease(row, 0, state(event));
+        statusCounts.incrementAndGet(event.status().ordinal());
+        index.put(event.id().getMostSignificantBits(), event.id().getLeastSignificantBits(), row);
+        size = row + 1;
+        return event;
+    }
+
+    private SportEvent read(int row) {
+        return decode(row, states.getLongAcquire(row, 0));
+    }
+
+    /**
+     * @return the event in its current state if it has the status, or any status if {@code status} is
+     *         {@code null}; otherwise {@code null}
+     */
+    private SportEvent decodeIfStatus(int row, EventStatus status) {
+        long state = states.getLongAcquire(row, 0);
+        return status == null || statusOf(state) == status ? decode(row, state) : null;
+    }
+
+    private SportEvent decode(int row, long state) {
+        UUID id = new UUID(ids.getLong(row, 0), ids.getLong(row, 8));
+        long nameReference = names.getLong(row, 0);
+        String name = nameReference == NO_NAME ? null : nameArena.read(nameReference);
+        int nanos = startNanos.getInt(row, 0);
+        LocalDateTime startTime = nanos == NO_START_TIME
+                ? null
+                : LocalDateTime.ofEpochSecond(startSeconds.getLong(row, 0), nanos, ZoneOffset.UTC);
+        return new SportEvent(id, name, sportDictionary.name(sports.getInt(row, 0)), statusOf(state), startTime,
+                state >>> STATUS_BITS);
+    }
+
+    private static long state(SportEvent event) {
+        return event.version() << STATUS_BITS | event.status().ordinal();
+    }
+
+    private static EventStatus statusOf(long state) {
+        return STATUSES[(int) (state & STATUS_MASK)];
+    }
+
+    /**
+     * Compares two rows in {@link EventCursor#ORDER}.
+     */
+    private int compareRows(int a, int b) {
+        int byTime = compareTime(startNanos.getInt(a, 0), startSeconds.getLong(a, 0),
+                startNanos.getInt(b, 0), startSeconds.getLong(b, 0));
+        if (byTime != 0) {
+            return byTime;
+        }
+        int byMsb = Long.compare(ids.getLong(a, 0), ids.getLong(b, 0));
+        return byMsb != 0 ? byMsb : Long.compare(ids.getLong(a, 8), ids.getLong(b, 8));
+    }
+
+    /**
+     * Compares start times in column form; a missing start time sorts last.
+     */
+    private static int compareTime(int nanosA, long secondsA, int nanosB, long secondsB) {
+        if (nanosA == NO_START_TIME || nanosB == NO_START_TIME) {
+            return Boolean.compare(nanosA == NO_START_TIME, nanosB == NO_START_TIME);
+        }
+        int bySeconds = Long.compare(secondsA, secondsB);
+        return bySeconds != 0 ? bySeconds : Integer.compare(nanosA, nanosB);
+    }
+
+    /**
+     * A filter on the columns that never change after an insert: sport, start time and position after a cursor.
+     * The status is checked separately on one read of the state word, so a row is never taken in a state that does
+     * not match.
+     */
+    private final class RowFilter {
+
+        private final EventStatus status;
+        private final boolean[] sportIds;
+        private final boolean bounded;
+        private final long fromSeconds;
+        private final int fromNanos;
+        private final long toSeconds;
+        private final int toNanos;
+        private final EventCursor after;
+        private final long afterSeconds;
+        private final int afterNanos;
+
+        RowFilter(EventStatus status, String sport, LocalDateTime from, LocalDateTime to, EventCursor after) {
+            this.status = status;
+            this.sportIds = sport == null ? null : sportDictionary.idsMatching(sport);
+            this.bounded = from != null || to != null;
+            this.fromSeconds = from == null ? 0 : from.toEpochSecond(ZoneOffset.UTC);
+            this.fromNanos = from == null ? NO_START_TIME : from.getNano();
+            this.toSeconds = to == null ? 0 : to.toEpochSecond(ZoneOffset.UTC);
+            this.toNanos = to == null ? NO_START_TIME : to.getNano();
+            this.after = after;
+            this.afterSeconds = after == null || after.startTime() == null
+                    ? 0 : after.startTime().toEpochSecond(ZoneOffset.UTC);
+            this.afterNanos = after == null || after.startTime() == null ? NO_START_TIME : after.startTime().getNano();
+        }
+
+        boolean matchesFixedColumns(int row) {
+            if (sportIds != null) {
+                int sportId = sports.getInt(row, 0);
+                if (sportId == SportDictionary.NONE || sportId >= sportIds.length || !sportIds[sportId]) {
+                    return false;
+                }
+            }
+            if (!bounded && after == null) {
+                return true;
+            }
+            int nanos = startNanos.getInt(row, 0);
+            long seconds = startSeconds.getLong(row, 0);
+            if (bounded) {
+                // Events without a start time never fall within a range; a null bound is open
+                if (nanos == NO_START_TIME
+                        || fromNanos != NO_START_TIME && compareTime(nanos, seconds, fromNanos, fromSeconds) < 0
+                        || toNanos != NO_START_TIME && compareTime(nanos, seconds, toNanos, toSeconds) >= 0) {
+                    return false;
+                }
+            }
+            return after == null || isAfterCursor(row, nanos, seconds);
+        }
+
+        boolean matchesStatus(long state) {
+            return status == null || statusOf(state) == status;
+        }
+
+        private boolean isAfterCursor(int row, int nanos, long seconds) {
+            int byTime = compareTime(afterNanos, afterSeconds, nanos, seconds);
+            if (byTime != 0) {
+                return byTime < 0;
+            }
+            int byMsb = Long.compare(after.id().getMostSignificantBits(), ids.getLong(row, 0));
+            return byMsb != 0
+                    ? byMsb < 0
+                    : Long.compare(after.id().getLeastSignificantBits(), ids.getLong(row, 8)) < 0;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.entain.data.access;
+
+import com.entain.config.ReplicationConfig;
+import com.entain.data.EventStatus;
+import com.entain.data.SportEvent;
+import com.entain.exception.ReadOnlyReplicaException;
+import com.entain.validation.EventValidationRule;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Read-only implementation of the {@link SportEventDAO} interface for a replication follower, enabled with
+ * {@code store.type=replica}.
+ *
+ * <p>Reads are served from a local {@link InMemorySportEventStore}, kept up to date with the leader by
+ * {@link com.entain.replication.ReplicationFollower}. Writes are rejected with {@link ReadOnlyReplicaException};
+ * they must be sent to the leader.</p>
+ *
+ * <p>Replicated changes are applied with {@link #apply(SportEvent)}, which keeps the highest version of each event.
+ * A follower that fell too far behind replaces its whole copy with {@link #reset(Collection)}: the new copy is
+ * built aside and swapped in, so readers see either the old copy or the new one. {@link #changeCount()} keeps
+ * growing across a reset. Both methods are called by the single replication thread only.</p>
+ */
+@Repository
+@ConditionalOnProperty(prefix = "store", name = "type", havingValue = "replica")
+public class ReplicaSportEventStore implements SportEventDAO {
+
+    /**
+     * One copy of the leader's events; {@code changeOffset} carries the change count of the copies before it.
+     */
+    private record Copy(InMemorySportEventStore store, long changeOffset) {
+    }
+
+    private final String leaderUrl;
+    private volatile Copy copy = new Copy(new InMemorySportEventStore(), 0);
+
+    @Autowired
+    public ReplicaSportEventStore(ReplicationConfig config) {
+        this(config.getLeaderUrl());
+    }
+
+    ReplicaSportEventStore(String leaderUrl) {
+        this.leaderUrl = leaderUrl;
+    }
+
+    /**
+     * Applies a change replicated from the leader.
+     *
+     * @return {@code true} if it was newer than the local state of the event
+     */
+    public boolean apply(SportEvent event) {
+        return copy.store().restoreIfNewer(event);
+    }
+
+    /**
+     * Replaces every local event with {@code events}, e.g. from a snapshot of the leader.
+     */
+    public void reset(Collection<SportEvent> events) {
+        InMemorySportEventStore store = new InMemorySportEventStore();
+        for (SportEvent event : events) {
+            store.restore(event);
+        }
+        // One more than before, so that even an identical copy changes the count and any cached listing is dropped
+        copy = new Copy(store, changeCount() + 1);
+    }
+
+    @Override
+    public SportEvent save(SportEvent event) {
+        throw new ReadOnlyReplicaException(leaderUrl);
+    }
+
+    @Override
+    public List<SportEvent> saveAll(List<SportEvent> events) {
+        throw new ReadOnlyReplicaException(leaderUrl);
+    }
+
+    @Override
+    public Optional<SportEvent> findById(UUID id) {
+        return copy.store().findById(id);
+    }
+
+    @Override
+    public List<SportEvent> findAll(EventStatus status, String sport) {
+        return copy.store().findAll(status, sport);
+    }
+
+    @Override
+    public Stream<SportEvent> stream(EventStatus status, String sport) {
+        return copy.store().stream(status, sport);
+    }
+
+    @Override
+    public Stream<SportEvent> stream(EventStatus status, String sport, LocalDateTime from, LocalDateTime to) {
+        return copy.store().stream(status, sport, from, to);
+    }
+
+    @Override
+    public EventPage findPage(EventStatus status, String sport, LocalDateTime from, LocalDateTime to,
+                              EventCursor after, int limit) {
+        return copy.store().findPage(status, sport, from, to, after, limit);
+    }
+
+    @Override
+    public void updateStatus(UUID id, EventStatus newStatus) {
+        throw new ReadOnlyReplicaException(leaderUrl);
+    }
+
+    @Override
+    public Optional<SportEvent> transitionStatus(UUID id, EventStatus newStatus, EventValidationRule validator) {
+        throw new ReadOnlyReplicaException(leaderUrl);
+    }
+
+    @Override
+    public long changeCount() {
+        Copy current = copy;
+        return current.changeOffset() + current.store().changeCount();
+    }
+
+    @Override
+    public long count(EventStatus status) {
+        return copy.store().count(status);
+    }
+}
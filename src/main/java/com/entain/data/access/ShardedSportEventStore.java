@@ -0,0 +1,287 @@
+package com.entain.data.access;
+
+import com.entain.config.ClusterConfig;
+import com.entain.config.StoreConfig;
+import com.entain.data.EventStatus;
+import com.entain.data.SportEvent;
+import com.entain.data.access.shard.ConsistentHashRing;
+import com.entain.data.access.shard.LocalShard;
+import com.entain.data.access.shard.RemoteShard;
+import com.entain.data.access.shard.Shard;
+import com.entain.validation.EventValidationRule;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Repository;
+import org.springframework.web.client.RestClient;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static com.entain.config.EntainConstant.CLUSTER_SECRET_HEADER;
+
+/**
+ * Implementation of the {@link SportEventDAO} interface spreading the events over several nodes, enabled with
+ * {@code store.type=sharded}.
+ *
+ * <p>Every event is owned by one node, chosen by its id on a {@link ConsistentHashRing} of the nodes in
+ * {@code store.sharding.nodes}. This node keeps the events it owns in a {@link LocalShard} and reaches the others
+ * as {@link RemoteShard}s, so the population is bounded by the memory of all nodes together, not of one.</p>
+ *
+ * <ul>
+ *     <li>Writes and lookups by id go to the owner only. Batches are split by owner and the parts sent in
+ *         parallel, one request per owner.</li>
+ *     <li>Listings, pages and counts are scattered to every shard in parallel and gathered here. A page asks each
+ *         shard for its first {@code limit + 1} events after the cursor; the overall first {@code limit + 1} are
+ *         among them.</li>
+ *     <li>Status changes keep the guarantee of {@link #transitionStatus}: an owner on this node applies them
+ *         atomically, a remote owner with a compare-and-set on the event version, retried on a lost race.</li>
+ *     <li>If a shard cannot be reached, operations needing it fail with
+ *         {@link com.entain.exception.ShardUnavailableException} rather than return partial results.</li>
+ * </ul>
+ *
+ * <p>The assignment depends on the node names only, so every node must be configured with the same names.
+ * Changing the set of nodes does not move existing events; the ring is meant for a fixed cluster.</p>
+ */
+@Repository
+@ConditionalOnProperty(prefix = "store", name = "type", havingValue = "sharded")
+public class ShardedSportEventStore implements SportEventDAO {
+
+    /**
+     * The change count of one shard as reported by this store. A peer restarts from 0, so a count lower than the
+     * last one seen carries that one over in {@code offset}, like {@link ReplicaSportEventStore#reset} does.
+     * A late answer lower than the last one is taken for a restart too; that only drops a cached listing.
+     */
+    private static final class ChangeMark {
+        private long seen;
+        private long offset;
+
+        synchronized long advance(long count) {
+            if (count < seen) {
+                // One more than before, so that a restarted peer's count never repeats a value handed out
+                offset += seen + 1;
+            }
+            seen = count;
+            return offset + count;
+        }
+    }
+
+    private final ConsistentHashRing ring;
+    private final Map<String, Shard> shards;
+    private final Map<String, ChangeMark> changeMarks;
+    private final LocalShard localShard;
+    private final ExecutorService scatterExecutor;
+
+    @Autowired
+    public ShardedSportEventStore(StoreConfig config, ClusterConfig clusterConfig,
+                                  RestClient.Builder restClientBuilder) {
+        this(new LocalShard(config.getSharding().getSelf()),
+                remoteShards(config.getSharding(), clusterConfig.requireSecret("store.type=sharded"),
+                        restClientBuilder),
+                config.getSharding().getVirtualNodes());
+    }
+
+    /**
+     * @param remoteShards the other nodes' shards
+     */
+    ShardedSportEventStore(LocalShard localShard, Collection<? extends Shard> remoteShards, int virtualNodes) {
+        Map<String, Shard> byName = new LinkedHashMap<>();
+        byName.put(localShard.name(), localShard);
+        for (Shard shard : remoteShards) {
+            byName.put(shard.name(), shard);
+        }
+        this.localShard = localShard;
+        this.shards = Map.copyOf(byName);
+        Map<String, ChangeMark> marks = new LinkedHashMap<>();
+        byName.keySet().forEach(name -> marks.put(name, new ChangeMark()));
+        this.changeMarks = Map.copyOf(marks);
+        this.ring = new ConsistentHashRing(byName.keySet(), virtualNodes);
+        AtomicInteger threads = new AtomicInteger();
+        this.scatterExecutor = Executors.newCachedThreadPool(task -> {
+            Thread thread = new Thread(task, "shard-scatter-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static List<Shard> remoteShards(StoreConfig.Sharding sharding, String secret,
+                                            RestClient.Builder restClientBuilder) {
+        if (!sharding.getNodes().containsKey(sharding.getSelf())) {
+            throw new IllegalStateException("store.sharding.self '" + sharding.getSelf()
+                    + "' is not one of store.sharding.nodes " + sharding.getNodes().keySet());
+        }
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(Math.toIntExact(sharding.getTimeoutMs()));
+        requestFactory.setReadTimeout(Math.toIntExact(sharding.getTimeoutMs()));
+        List<Shard> remote = new ArrayList<>();
+        sharding.getNodes().forEach((name, baseUrl) -> {
+            if (!name.equals(sharding.getSelf())) {
+                remote.add(new RemoteShard(name, restClientBuilder.clone()
+                        .baseUrl(baseUrl)
+                        .defaultHeader(CLUSTER_SECRET_HEADER, secret)
+                        .requestFactory(requestFactory)
+                        .build()));
+            }
+        });
+        return remote;
+    }
+
+    @PreDestroy
+    public void close() {
+        scatterExecutor.shutdownNow();
+    }
+
+    /**
+     * @return the shard held by this node, served to the others by {@link com.entain.controller.ShardController}
+     */
+    public LocalShard localShard() {
+        return localShard;
+    }
+
+    /**
+     * @return the shard owning the event with this id
+     */
+    public Shard ownerOf(UUID id) {
+        return shards.get(ring.ownerOf(id));
+    }
+
+    @Override
+    public SportEvent save(SportEvent event) {
+        return ownerOf(event.id()).saveAll(List.of(event)).get(0);
+    }
+
+    @Override
+    public List<SportEvent> saveAll(List<SportEvent> events) {
+        Map<Shard, List<Integer>> positionsByOwner = new LinkedHashMap<>();
+        for (int i = 0; i < events.size(); i++) {
+            positionsByOwner.computeIfAbsent(ownerOf(events.get(i).id()), owner -> new ArrayList<>()).add(i);
+        }
+        List<Shard> owners = List.copyOf(positionsByOwner.keySet());
+        List<List<SportEvent>> storedByOwner = scatter(owners, owner -> {
+            List<Integer> positions = positionsByOwner.get(owner);
+            List<SportEvent> part = new ArrayList<>(positions.size());
+            for (int position : positions) {
+                part.add(events.get(position));
+            }
+            return owner.saveAll(part);
+        });
+        SportEvent[] stored = new SportEvent[events.size()];
+        for (int o = 0; o < owners.size(); o++) {
+            List<Integer> positions = positionsByOwner.get(owners.get(o));
+            List<SportEvent> part = storedByOwner.get(o);
+            for (int j = 0; j < positions.size(); j++) {
+                stored[positions.get(j)] = part.get(j);
+            }
+        }
+        return List.of(stored);
+    }
+
+    @Override
+    public Optional<SportEvent> findById(UUID id) {
+        return ownerOf(id).findById(id);
+    }
+
+    @Override
+    public List<SportEvent> findAll(EventStatus status, String sport) {
+        return gather(status, sport, null, null);
+    }
+
+    @Override
+    public Stream<SportEvent> stream(EventStatus status, String sport) {
+        return findAll(status, sport).stream();
+    }
+
+    @Override
+    public Stream<SportEvent> stream(EventStatus status, String sport, LocalDateTime from, LocalDateTime to) {
+        return gather(status, sport, from, to).stream();
+    }
+
+    @Override
+    public EventPage findPage(EventStatus status, String sport, LocalDateTime from, LocalDateTime to,
+                              EventCursor after, int limit) {
+        List<SportEvent> candidates = new ArrayList<>();
+        for (List<SportEvent> shardFirst : scatter(shards.values(),
+                shard -> shard.findFirst(status, sport, from, to, after, limit + 1))) {
+            candidates.addAll(shardFirst);
+        }
+        candidates.sort(EventCursor.ORDER);
+        return EventPage.of(candidates.size() > limit + 1 ? candidates.subList(0, limit + 1) : candidates, limit);
+    }
+
+    @Override
+    public void updateStatus(UUID id, EventStatus newStatus) {
+        ownerOf(id).transitionStatus(id, newStatus, (event, status) -> { });
+    }
+
+    @Override
+    public Optional<SportEvent> transitionStatus(UUID id, EventStatus newStatus, EventValidationRule validator) {
+        return ownerOf(id).transitionStatus(id, newStatus, validator);
+    }
+
+    @Override
+    public long changeCount() {
+        // Each shard's mark only grows, so the sum changes whenever any of them does
+        return scatter(shards.values(), shard -> changeMarks.get(shard.name()).advance(shard.changeCount()))
+                .stream().mapToLong(Long::longValue).sum();
+    }
+
+    @Override
+    public long count(EventStatus status) {
+        return scatter(shards.values(), shard -> shard.count(status)).stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * All matching events of every shard; in {@link EventCursor#ORDER} when a bound is given.
+     */
+    private List<SportEvent> gather(EventStatus status, String sport, LocalDateTime from, LocalDateTime to) {
+        List<SportEvent> events = new ArrayList<>();
+        for (List<SportEvent> part : scatter(shards.values(), shard -> shard.find(status, sport, from, to))) {
+            events.addAll(part);
+        }
+        if (from != null || to != null) {
+            events.sort(EventCursor.ORDER);
+        }
+        return events;
+    }
+
+    /**
+     * Runs the request against every given shard in parallel.
+     *
+     * @return the results in the order of {@code targets}
+     */
+    private <T> List<T> scatter(Collection<Shard> targets, Function<Shard, T> request) {
+        if (targets.size() == 1) {
+            return List.of(request.apply(targets.iterator().next()));
+        }
+        List<CompletableFuture<T>> futures = new ArrayList<>(targets.size());
+        for (Shard shard : targets) {
+            futures.add(CompletableFuture.supplyAsync(() -> request.apply(shard), scatterExecutor));
+        }
+        List<T> results = new ArrayList<>(futures.size());
+        for (CompletableFuture<T> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+        return results;
+    }
+}
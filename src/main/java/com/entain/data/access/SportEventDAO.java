@@ -1,10 +1,19 @@
 package com.entain.data.access;
 
+import com.entain.data.BatchItemResult;
 import com.entain.data.EventStatus;
 import com.entain.data.SportEvent;
+import com.entain.data.StatusChange;
+import com.entain.exception.EventNotFoundException;
+import com.entain.exception.InvalidStatusChangeException;
+import com.entain.validation.EventValidationRule;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.PriorityQueue;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Data Access Object (DAO) interface for managing SportEvent entities.
@@ -26,4 +35,132 @@ public interface SportEventDAO {
     Optional<SportEvent> findById(UUID id);
     List<SportEvent> findAll(EventStatus status, String sport);
     void updateStatus(UUID id, EventStatus newStatus);
+
+    /**
+     * Counts the writes applied so far. A write is counted only once readers can see it, so a caller that takes the
+     * count before reading knows the data is unchanged as long as the count is. Used to validate cached reads.
+     */
+    long changeCount();
+
+    /**
+     * Counts the stored events with the given status. Used for the store size gauges, so implementations with an
+     * index should answer without materializing the events.
+     */
+    default long count(EventStatus status) {
+        try (Stream<SportEvent> events = stream(status, null)) {
+            return events.count();
+        }
+    }
+
+    /**
+     * Saves several events with the same semantics as {@link #save(SportEvent)}. Implementations with a per-write
+     * cost, such as an fsync, pay it once for the whole batch.
+     *
+     * @return for each event, in order, the stored event; an existing event with the same id is kept and returned
+     */
+    default List<SportEvent> saveAll(List<SportEvent> events) {
+        List<SportEvent> stored = new ArrayList<>(events.size());
+        for (SportEvent event : events) {
+            stored.add(save(event));
+        }
+        return stored;
+    }
+
+    /**
+     * Atomically checks and applies a status change: {@code validator} runs against the current state of the event
+     * and the change is applied only if it passes, with no other write to the event in between. Two concurrent
+     * requests for the same transition therefore cannot both succeed.
+     *
+     * @param validator business rules for the change; an exception thrown by it aborts the change and is rethrown
+     * @return the updated event, or empty if there is no event with this id
+     */
+    Optional<SportEvent> transitionStatus(UUID id, EventStatus newStatus, EventValidationRule validator);
+
+    /**
+     * Applies several status changes in order, each one atomically as by
+     * {@link #transitionStatus(UUID, EventStatus, EventValidationRule)}. A change rejected by the validator, for
+     * a missing event or failing otherwise is reported and does not affect the others, so the changes applied are
+     * always returned.
+     *
+     * @return one result per change, in order: the updated event, or an {@link InvalidStatusChangeException},
+     *         {@link EventNotFoundException} or whatever else failed the change
+     */
+    default List<BatchItemResult> transitionStatuses(List<StatusChange> changes, EventValidationRule validator) {
+        List<BatchItemResult> results = new ArrayList<>(changes.size());
+        for (StatusChange change : changes) {
+            try {
+                results.add(transitionStatus(change.id(), change.newStatus(), validator)
+                        .map(BatchItemResult::success)
+                        .orElseGet(() -> BatchItemResult.failure(new EventNotFoundException(change.id()))));
+            } catch (RuntimeException e) {
+                results.add(BatchItemResult.failure(e));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Streams the matching events in no particular order, without copying them into a list first
+     * where the implementation allows it. The stream must be closed by the caller.
+     */
+    default Stream<SportEvent> stream(EventStatus status, String sport) {
+        return findAll(status, sport).stream();
+    }
+
+    /**
+     * Same as {@link #stream(EventStatus, String)}, restricted to events starting in {@code [from, to)}.
+     * Events without a start time never fall within a range.
+     *
+     * @param from inclusive lower bound of the start time, or {@code null} for no lower bound
+     * @param to   exclusive upper bound of the start time, or {@code null} for no upper bound
+     */
+    default Stream<SportEvent> stream(EventStatus status, String sport, LocalDateTime from, LocalDateTime to) {
+        Stream<SportEvent> events = stream(status, sport);
+        return from == null && to == null ? events : events.filter(event -> startsWithin(event, from, to));
+    }
+
+    /**
+     * Returns up to {@code limit} matching events following {@code after} in {@link EventCursor#ORDER}.
+     *
+     * @param after position after the last event of the previous page, or {@code null} for the first page
+     * @param limit maximum number of events, at least 1
+     */
+    default EventPage findPage(EventStatus status, String sport, EventCursor after, int limit) {
+        return findPage(status, sport, null, null, after, limit);
+    }
+
+    /**
+     * Same as {@link #findPage(EventStatus, String, EventCursor, int)}, restricted to events starting in
+     * {@code [from, to)}.
+     *
+     * <p>The default implementation makes one pass over {@link #stream(EventStatus, String, LocalDateTime,
+     * LocalDateTime)} and keeps only the best {@code limit + 1} candidates, so it never holds more than one page
+     * in memory.</p>
+     */
+    default EventPage findPage(EventStatus status, String sport, LocalDateTime from, LocalDateTime to,
+                               EventCursor after, int limit) {
+        // Max-heap of the smallest limit + 1 events; the extra one tells whether another page follows
+        PriorityQueue<SportEvent> smallest = new PriorityQueue<>(limit + 1, EventCursor.ORDER.reversed());
+        try (Stream<SportEvent> events = stream(status, sport, from, to)) {
+            events.filter(event -> after == null || after.precedes(event)).forEach(event -> {
+                smallest.add(event);
+                if (smallest.size() > limit + 1) {
+                    smallest.poll();
+                }
+            });
+        }
+        List<SportEvent> firstMatches = new ArrayList<>(smallest);
+        firstMatches.sort(EventCursor.ORDER);
+        return EventPage.of(firstMatches, limit);
+    }
+
+    /**
+     * @return {@code true} if the event has a start time within {@code [from, to)}; {@code null} bounds are open
+     */
+    static boolean startsWithin(SportEvent event, LocalDateTime from, LocalDateTime to) {
+        LocalDateTime startTime = event.startTime();
+        return startTime != null
+                && (from == null || !startTime.isBefore(from))
+                && (to == null || startTime.isBefore(to));
+    }
 }
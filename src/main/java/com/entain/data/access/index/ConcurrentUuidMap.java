@@ -0,0 +1,246 @@
+package com.entain.data.access.index;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+
+/**
+ * Concurrent hash map from {@link UUID} to non-null values, keyed by the id's two {@code long} halves.
+ *
+ * <p>Compared with a {@code ConcurrentHashMap<UUID, V>}, an entry costs two array slots of {@code long}s and one
+ * reference instead of a node object and the {@code UUID} itself, and a lookup hashes the two halves directly
+ * instead of calling {@link UUID#hashCode()} and {@link UUID#equals(Object)} on a boxed key.</p>
+ *
+ * <p>The map is split into {@value #SEGMENTS} segments chosen by the high bits of the hash. Each segment is an
+ * open-addressing table (linear probing) over parallel arrays: keys as {@code long} pairs and values as
+ * references. A segment grows by doubling when three quarters full. Entries are never removed, which keeps
+ * probing free of tombstones; the stores using this map never delete events.</p>
+ *
+ * <p>Concurrency:</p>
+ * <ul>
+ *     <li>Writes lock their segment only, so writes to different segments proceed in parallel, and run the
+ *         remapping function under that lock: like {@code ConcurrentHashMap.compute}, no other write to the key can
+ *         happen in between.</li>
+ *     <li>Reads take no lock. A slot's key is written before its value, which is written with release semantics
+ *         and read with acquire semantics, so a reader that sees a value also sees its key. A segment that grows
+ *         publishes its new table whole.</li>
+ *     <li>{@link #values()} and {@link #size()} are weakly consistent, as for {@code ConcurrentHashMap}.</li>
+ * </ul>
+ *
+ * @param <V> type of the values
+ */
+public final class ConcurrentUuidMap<V> {
+
+    private static final VarHandle VALUES = MethodHandles.arrayElementVarHandle(Object[].class);
+    private static final int SEGMENT_BITS = 6;
+    private static final int SEGMENTS = 1 << SEGMENT_BITS;
+    private static final int MIN_SEGMENT_CAPACITY = 16;
+    private static final int MAX_SEGMENT_CAPACITY = 1 << 30;
+
+    private final Segment[] segments = new Segment[SEGMENTS];
+
+    public ConcurrentUuidMap() {
+        this(0);
+    }
+
+    /**
+     * @param expectedSize entries to make room for before the first resize
+     */
+    public ConcurrentUuidMap(int expectedSize) {
+        int perSegment = expectedSize / SEGMENTS + 1;
+        long wanted = Math.max(MIN_SEGMENT_CAPACITY, (long) perSegment * 4 / 3 + 1);
+        int capacity = (int) Math.min(MAX_SEGMENT_CAPACITY, Long.highestOneBit(wanted - 1) << 1);
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(capacity);
+        }
+    }
+
+    /**
+     * @return the value for the id, or {@code null} if there is none
+     */
+    public V get(UUID id) {
+        return get(id.getMostSignificantBits(), id.getLeastSignificantBits());
+    }
+
+    /**
+     * @return the value for the id given by its two halves, or {@code null} if there is none
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long msb, long lsb) {
+        int hash = hash(msb, lsb);
+        Table table = segmentFor(hash).table;
+        int slot = table.find(hash, msb, lsb);
+        return slot < 0 ? null : (V) VALUES.getAcquire(table.values, slot);
+    }
+
+    public boolean containsKey(UUID id) {
+        return get(id) != null;
+    }
+
+    /**
+     * Stores the value returned by {@code remapping} for the current value, or {@code null} if there is none.
+     * An exception thrown by {@code remapping} leaves the entry unchanged and is rethrown.
+     *
+     * @param remapping returns the new value; must not return {@code null}, as entries cannot be removed
+     * @return the new value
+     */
+    public V compute(UUID id, BiFunction<? super UUID, ? super V, ? extends V> remapping) {
+        return update(id, remapping, true);
+    }
+
+    /**
+     * Same as {@link #compute(UUID, BiFunction)}, but only if the id already has a value.
+     *
+     * @return the new value, or {@code null} if the id had none
+     */
+    public V computeIfPresent(UUID id, BiFunction<? super UUID, ? super V, ? extends V> remapping) {
+        return update(id, remapping, false);
+    }
+
+    /**
+     * @return the number of entries
+     */
+    public int size() {
+        long size = 0;
+        for (Segment segment : segments) {
+            size += segment.size;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, size);
+    }
+
+    /**
+     * @return a lazy stream of the values, in no particular order
+     */
+    @SuppressWarnings("unchecked")
+    public Stream<V> values() {
+        return Arrays.stream(segments)
+                .flatMap(segment -> Arrays.stream(segment.table.values))
+                .filter(Objects::nonNull)
+                .map(value -> (V) value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private V update(UUID id, BiFunction<? super UUID, ? super V, ? extends V> remapping, boolean insert) {
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        int hash = hash(msb, lsb);
+        Segment segment = segmentFor(hash);
+        synchronized (segment) {
+            Table table = segment.table;
+            int slot = table.find(hash, msb, lsb);
+            V current = slot < 0 ? null : (V) table.values[slot];
+            if (current == null && !insert) {
+                return null;
+            }
+            V updated = Objects.requireNonNull(remapping.apply(id, current), "Entries cannot be removed");
+            if (current != null) {
+                VALUES.setRelease(table.values, slot, updated);
+                return updated;
+            }
+            if ((segment.size + 1) * 4L > table.values.length * 3L) {
+                table = segment.grow();
+            }
+            table.insert(hash, msb, lsb, updated);
+            segment.size++;
+            return updated;
+        }
+    }
+
+    private Segment segmentFor(int hash) {
+        return segments[hash >>> (Integer.SIZE - SEGMENT_BITS)];
+    }
+
+    /**
+     * Murmur3 finalizer over both halves, so ids that are not random, e.g. sequential ones, still spread evenly.
+     * The high bits pick the segment and the low bits the slot.
+     */
+    public static int hash(long msb, long lsb) {
+        long h = msb ^ Long.rotateLeft(lsb, 32);
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb93fe53a87cdL;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+
+    private static final class Segment {
+
+        volatile Table table;
+        /** Written under the segment's lock only. */
+        volatile int size;
+
+        Segment(int capacity) {
+            table = new Table(capacity);
+        }
+
+        /**
+         * Copies the entries into a table twice the size and publishes it. Caller holds the segment's lock.
+         */
+        Table grow() {
+            Table old = table;
+            if (old.values.length == MAX_SEGMENT_CAPACITY) {
+                throw new IllegalStateException("Map segment is full at " + size + " entries");
+            }
+            Table grown = new Table(old.values.length << 1);
+            for (int slot = 0; slot < old.values.length; slot++) {
+                Object value = old.values[slot];
+                if (value != null) {
+                    long msb = old.keys[2 * slot];
+                    long lsb = old.keys[2 * slot + 1];
+                    grown.insert(hash(msb, lsb), msb, lsb, value);
+                }
+            }
+            table = grown;
+            return grown;
+        }
+    }
+
+    /**
+     * One open-addressing table: slot {@code i} holds its key in {@code keys[2i]} and {@code keys[2i + 1]}
+     * and is empty while {@code values[i]} is {@code null}.
+     */
+    private static final class Table {
+
+        final long[] keys;
+        final Object[] values;
+        final int mask;
+
+        Table(int capacity) {
+            keys = new long[2 * capacity];
+            values = new Object[capacity];
+            mask = capacity - 1;
+        }
+
+        /**
+         * @return the slot holding the key, or -1 if there is none
+         */
+        int find(int hash, long msb, long lsb) {
+            for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+                if (VALUES.getAcquire(values, slot) == null) {
+                    return -1;
+                }
+                if (keys[2 * slot] == msb && keys[2 * slot + 1] == lsb) {
+                    return slot;
+                }
+            }
+        }
+
+        /**
+         * Fills the first free slot for a key that is not present yet.
+         */
+        void insert(int hash, long msb, long lsb, Object value) {
+            int slot = hash & mask;
+            while (values[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            keys[2 * slot] = msb;
+            keys[2 * slot + 1] = lsb;
+            VALUES.setRelease(values, slot, value);
+        }
+    }
+}
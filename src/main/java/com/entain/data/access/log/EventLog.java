@@ -0,0 +1,304 @@
+package com.entain.data.access.log;
+
+import com.entain.data.SportEvent;
+import com.entain.data.access.snapshot.SportEventSnapshot;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Append-only, memory-mapped log of {@link SportEvent} states with periodic snapshots.
+ *
+ * <p>Every write appends the full new state of one event, so replay is a plain "last record wins" per id.
+ * The log is a series of fixed-size segments ({@code log-<seq>.dat}). When a segment is full, or every
+ * snapshot interval, the log rotates to a fresh segment and the current state is written in the background
+ * to {@code snapshot-<seq>.dat}, a {@link SportEventSnapshot} covering every segment before {@code seq};
+ * those are deleted afterwards.</p>
+ *
+ * <p>Recovery replays the newest snapshot followed by all segments from its sequence on, stopping within a segment
+ * at the first zero length word or torn record. It then writes a fresh snapshot and starts a new segment, so a
+ * damaged tail is never appended to.</p>
+ *
+ * <p>Rotation correctness relies on the caller applying a change to its in-memory state <em>before</em> appending
+ * it: a snapshot taken after the switch then already contains every record of the segments it replaces.</p>
+ */
+@Slf4j
+public class EventLog implements Closeable {
+
+    private static final String SEGMENT_PREFIX = "log-";
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SUFFIX = ".dat";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final FsyncPolicy fsyncPolicy;
+    private final long fsyncIntervalMs;
+    private final long snapshotIntervalMs;
+    private final ScheduledExecutorService maintenance;
+
+    private Supplier<? extends Collection<SportEvent>> state;
+    // Guarded by "this"
+    private LogSegment current;
+    private boolean closed;
+    // Guarded by "snapshotLock"
+    private final Object snapshotLock = new Object();
+    private long lastSnapshotSequence = -1;
+
+    public EventLog(Path directory, int segmentSize, FsyncPolicy fsyncPolicy,
+                    long fsyncIntervalMs, long snapshotIntervalMs) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.fsyncPolicy = fsyncPolicy;
+        this.fsyncIntervalMs = fsyncIntervalMs;
+        this.snapshotIntervalMs = snapshotIntervalMs;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.maintenance = Executors.newScheduledThreadPool(2, r -> {
+            Thread thread = new Thread(r, "event-log-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Replays the persisted state into {@code replay}, then starts a new segment for appends.
+     *
+     * @param replay receives every recovered record in log order; later records for an id replace earlier ones
+     * @param state  supplies the complete current state whenever a snapshot is written
+     */
+    public void open(Consumer<SportEvent> replay, Supplier<? extends Collection<SportEvent>> state) throws IOException {
+        this.state = state;
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path temp : files.filter(p -> p.getFileName().toString().endsWith(TEMP_SUFFIX)).toList()) {
+                Files.delete(temp);
+            }
+        }
+
+        List<Long> snapshots = sequences(SNAPSHOT_PREFIX);
+        List<Long> segments = sequences(SEGMENT_PREFIX);
+        long snapshotSequence = snapshots.isEmpty() ? -1 : snapshots.get(snapshots.size() - 1);
+        long recovered = 0;
+        if (snapshotSequence >= 0) {
+            recovered += SportEventSnapshot.read(path(SNAPSHOT_PREFIX, snapshotSequence), replay);
+        }
+        long nextSequence = snapshotSequence + 1;
+        for (long segment : segments) {
+            if (segment >= snapshotSequence) {
+                recovered += replay(path(SEGMENT_PREFIX, segment), replay);
+            }
+            nextSequence = Math.max(nextSequence, segment + 1);
+        }
+        log.info("Recovered {} event log records from {}", recovered, directory);
+
+        snapshot(nextSequence);
+        synchronized (this) {
+            current = LogSegment.create(path(SEGMENT_PREFIX, nextSequence), nextSequence, segmentSize);
+        }
+
+        if (fsyncPolicy == FsyncPolicy.INTERVAL) {
+            maintenance.scheduleWithFixedDelay(this::forceCurrent,
+                    fsyncIntervalMs, fsyncIntervalMs, TimeUnit.MILLISECONDS);
+        }
+        maintenance.scheduleWithFixedDelay(this::rotateIfNotEmpty,
+                snapshotIntervalMs, snapshotIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Appends the new state of an event. The record is in the log once this returns;
+     * call {@link Commit#awaitDurable()} to wait until the fsync policy considers it durable.
+     */
+    public Commit append(SportEvent event) {
+        byte[] record = EventRecordCodec.encode(event);
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("Event log is closed");
+            }
+            int end = current.append(record);
+            if (end < 0) {
+                rotate();
+                end = current.append(record);
+                if (end < 0) {
+                    throw new IllegalArgumentException("Event record of " + record.length
+                            + " bytes does not fit into a log segment of " + segmentSize + " bytes");
+                }
+            }
+            return new Commit(current, end);
+        }
+    }
+
+    /**
+     * Forces the current segment and stops background maintenance.
+     */
+    @Override
+    public void close() {
+        maintenance.shutdown();
+        try {
+            maintenance.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            if (!closed && current != null) {
+                current.force();
+            }
+            closed = true;
+        }
+    }
+
+    // Must hold "this"
+    private void rotate() {
+        LogSegment previous = current;
+        previous.force();
+        long nextSequence = previous.sequence() + 1;
+        try {
+            current = LogSegment.create(path(SEGMENT_PREFIX, nextSequence), nextSequence, segmentSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create event log segment " + nextSequence, e);
+        }
+        maintenance.execute(() -> {
+            try {
+                snapshot(nextSequence);
+            } catch (IOException | RuntimeException e) {
+                // The segments stay in place, so nothing is lost; the next rotation retries
+                log.error("Failed to write event log snapshot {}", nextSequence, e);
+            }
+        });
+    }
+
+    private synchronized void rotateIfNotEmpty() {
+        if (!closed && !current.isEmpty()) {
+            try {
+                rotate();
+            } catch (RuntimeException e) {
+                log.error("Failed to rotate event log", e);
+            }
+        }
+    }
+
+    private void forceCurrent() {
+        LogSegment segment;
+        synchronized (this) {
+            segment = current;
+        }
+        try {
+            segment.force();
+        } catch (RuntimeException e) {
+            log.error("Failed to force event log segment {}", segment.sequence(), e);
+        }
+    }
+
+    /**
+     * Writes the current state as the snapshot covering every segment before {@code sequence},
+     * then deletes the files it supersedes.
+     */
+    private void snapshot(long sequence) throws IOException {
+        synchronized (snapshotLock) {
+            if (sequence <= lastSnapshotSequence) {
+                return;
+            }
+            Path target = path(SNAPSHOT_PREFIX, sequence);
+            Path temp = target.resolveSibling(target.getFileName() + TEMP_SUFFIX);
+            long written = SportEventSnapshot.write(temp, state.get());
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            forceDirectory();
+            lastSnapshotSequence = sequence;
+            log.info("Wrote event log snapshot {} with {} events", sequence, written);
+
+            for (long segment : sequences(SEGMENT_PREFIX)) {
+                if (segment < sequence) {
+                    Files.deleteIfExists(path(SEGMENT_PREFIX, segment));
+                }
+            }
+            for (long snapshot : sequences(SNAPSHOT_PREFIX)) {
+                if (snapshot < sequence) {
+                    Files.deleteIfExists(path(SNAPSHOT_PREFIX, snapshot));
+                }
+            }
+        }
+    }
+
+    private static long replay(Path segment, Consumer<SportEvent> sink) throws IOException {
+        // Segments are at most segment-size bytes, which is an int
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            long size = channel.size();
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            long count = 0;
+            SportEvent event;
+            while ((event = EventRecordCodec.decode(buffer)) != null) {
+                sink.accept(event);
+                count++;
+            }
+            if (buffer.remaining() >= EventRecordCodec.HEADER_BYTES && buffer.getInt(buffer.position()) != 0) {
+                log.warn("Stopped replaying {} at offset {}: torn or corrupt record", segment, buffer.position());
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Makes the snapshot rename durable. Not every platform can open a directory, which only costs that guarantee.
+     */
+    private void forceDirectory() {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            log.debug("Could not force event log directory {}", directory, e);
+        }
+    }
+
+    private List<Long> sequences(String prefix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(p -> p.getFileName().toString())
+                    .filter(name -> name.startsWith(prefix) && name.endsWith(SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(prefix.length(), name.length() - SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path path(String prefix, long sequence) {
+        return directory.resolve(prefix + String.format("%020d", sequence) + SUFFIX);
+    }
+
+    /**
+     * Position of an appended record, used to wait for its durability.
+     */
+    public final class Commit {
+
+        private final LogSegment segment;
+        private final int position;
+
+        private Commit(LogSegment segment, int position) {
+            this.segment = segment;
+            this.position = position;
+        }
+
+        /**
+         * Returns once the record is durable under the configured {@link FsyncPolicy}.
+         * Only {@link FsyncPolicy#ALWAYS} waits; the others return immediately.
+         */
+        public void awaitDurable() {
+            if (fsyncPolicy == FsyncPolicy.ALWAYS) {
+                segment.awaitForced(position);
+            }
+        }
+    }
+}
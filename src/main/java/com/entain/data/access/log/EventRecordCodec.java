@@ -0,0 +1,126 @@
+package com.entain.data.access.log;
+
+import com.entain.data.EventStatus;
+import com.entain.data.SportEvent;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+/**
+ * Binary encoding of a {@link SportEvent} as a self-checking log record.
+ *
+ * <pre>
+ * int   payload length (0 marks the end of the written part of a segment)
+ * int   CRC32C of the payload
+ * long  id, most significant bits
+ * long  id, least significant bits
+ * byte  status ordinal
+ * long  startTime epoch second (UTC), {@link Long#MIN_VALUE} when absent
+ * int   name length in UTF-8 bytes (-1 when absent), followed by the bytes
+ * int   sport length in UTF-8 bytes (-1 when absent), followed by the bytes
+ * long  version
+ * </pre>
+ *
+ * Field encodings match {@link com.entain.data.access.snapshot.SportEventSnapshot}, so an event reads back
+ * identically from a segment and from a snapshot: the start time keeps second precision, which is what the API
+ * accepts, and statuses are stored by ordinal, so constants of {@link EventStatus} may only ever be appended.
+ * Records written before events were versioned end after the sport and read back as
+ * {@link SportEvent#INITIAL_VERSION}.
+ */
+final class EventRecordCodec {
+
+    static final int HEADER_BYTES = 2 * Integer.BYTES;
+    private static final int FIXED_PAYLOAD_BYTES = 2 * Long.BYTES + 1 + Long.BYTES + 2 * Integer.BYTES;
+    private static final long NO_TIME = Long.MIN_VALUE;
+    private static final EventStatus[] STATUSES = EventStatus.values();
+
+    private EventRecordCodec() {
+    }
+
+    /**
+     * @return the complete record, header included
+     */
+    static byte[] encode(SportEvent event) {
+        byte[] name = utf8(event.name());
+        byte[] sport = utf8(event.sport());
+        int payloadLength = FIXED_PAYLOAD_BYTES + length(name) + length(sport) + Long.BYTES;
+        ByteBuffer record = ByteBuffer.allocate(HEADER_BYTES + payloadLength);
+        record.putInt(payloadLength).putInt(0);
+        record.putLong(event.id().getMostSignificantBits()).putLong(event.id().getLeastSignificantBits());
+        record.put((byte) event.status().ordinal());
+        record.putLong(event.startTime() == null ? NO_TIME : event.startTime().toEpochSecond(ZoneOffset.UTC));
+        putString(record, name);
+        putString(record, sport);
+        record.putLong(event.version());
+
+        CRC32C crc = new CRC32C();
+        crc.update(record.array(), HEADER_BYTES, payloadLength);
+        record.putInt(Integer.BYTES, (int) crc.getValue());
+        return record.array();
+    }
+
+    /**
+     * Reads the record at the buffer's position and advances past it.
+     *
+     * @return the decoded event, or {@code null} at the end of the written data or at a torn or corrupt record,
+     *         in which case the position is left unchanged
+     */
+    static SportEvent decode(ByteBuffer buffer) {
+        int start = buffer.position();
+        if (buffer.remaining() < HEADER_BYTES) {
+            return null;
+        }
+        int payloadLength = buffer.getInt(start);
+        if (payloadLength < FIXED_PAYLOAD_BYTES || payloadLength > buffer.remaining() - HEADER_BYTES) {
+            return null;
+        }
+        int storedCrc = buffer.getInt(start + Integer.BYTES);
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(start + HEADER_BYTES, payloadLength));
+        if ((int) crc.getValue() != storedCrc) {
+            return null;
+        }
+
+        buffer.position(start + HEADER_BYTES);
+        UUID id = new UUID(buffer.getLong(), buffer.getLong());
+        EventStatus status = STATUSES[buffer.get()];
+        long epochSecond = buffer.getLong();
+        LocalDateTime startTime = epochSecond == NO_TIME ? null : LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+        String name = getString(buffer);
+        String sport = getString(buffer);
+        long version = buffer.position() < start + HEADER_BYTES + payloadLength
+                ? buffer.getLong()
+                : SportEvent.INITIAL_VERSION;
+        return new SportEvent(id, name, sport, status, startTime, version);
+    }
+
+    private static byte[] utf8(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int length(byte[] bytes) {
+        return bytes == null ? 0 : bytes.length;
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] bytes) {
+        if (bytes == null) {
+            buffer.putInt(-1);
+        } else {
+            buffer.putInt(bytes.length).put(bytes);
+        }
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,24 @@
+package com.entain.data.access.log;
+
+/**
+ * When appended log records are forced to the storage device.
+ */
+public enum FsyncPolicy {
+
+    /**
+     * A write returns only after its record has been forced to disk. Concurrent writers are group-committed:
+     * one of them forces everything appended so far while the others wait for that single sync.
+     */
+    ALWAYS,
+
+    /**
+     * Records are forced in the background every {@code store.log.fsync-interval-ms}. A power loss may cost the
+     * writes of the last interval; a process crash loses nothing, as the mapped pages stay in the OS page cache.
+     */
+    INTERVAL,
+
+    /**
+     * Records are only forced on segment rotation and shutdown; the OS writes dirty pages back on its own schedule.
+     */
+    NEVER
+}
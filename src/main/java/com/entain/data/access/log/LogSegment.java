@@ -0,0 +1,106 @@
+package com.entain.data.access.log;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * One fixed-size, memory-mapped file of the event log.
+ *
+ * <p>The file is pre-sized and zero-filled, so the first zero length word marks the end of the written data.
+ * Appends are plain memory copies into the mapping and must be serialized by the caller.</p>
+ *
+ * <p>{@link #awaitForced(int)} implements group commit: the first waiter forces everything appended so far,
+ * and every writer whose record is covered by that sync returns without issuing its own.</p>
+ */
+final class LogSegment {
+
+    private final long sequence;
+    private final MappedByteBuffer buffer;
+    private volatile int written;
+
+    private final ReentrantLock forceLock = new ReentrantLock();
+    private final Condition forcedCondition = forceLock.newCondition();
+    // Guarded by "forceLock"
+    private int forced;
+    private boolean forcing;
+
+    private LogSegment(long sequence, MappedByteBuffer buffer) {
+        this.sequence = sequence;
+        this.buffer = buffer;
+    }
+
+    static LogSegment create(Path path, long sequence, int size) throws IOException {
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // The mapping stays valid after the channel is closed
+            return new LogSegment(sequence, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+        }
+    }
+
+    long sequence() {
+        return sequence;
+    }
+
+    /**
+     * @return position right after the record, or {@code -1} if the record does not fit
+     */
+    int append(byte[] record) {
+        int position = written;
+        // Keep room for the terminating zero length word
+        if (record.length > buffer.capacity() - position - Integer.BYTES) {
+            return -1;
+        }
+        buffer.put(position, record);
+        written = position + record.length;
+        return written;
+    }
+
+    boolean isEmpty() {
+        return written == 0;
+    }
+
+    /**
+     * Blocks until every byte before {@code position} has been forced to the storage device.
+     */
+    void awaitForced(int position) {
+        forceLock.lock();
+        try {
+            while (forced < position) {
+                if (forcing) {
+                    forcedCondition.awaitUninterruptibly();
+                    continue;
+                }
+                forcing = true;
+                int from = forced;
+                int to = written;
+                boolean success = false;
+                forceLock.unlock();
+                try {
+                    buffer.force(from, to - from);
+                    success = true;
+                } finally {
+                    forceLock.lock();
+                    forcing = false;
+                    if (success) {
+                        forced = Math.max(forced, to);
+                    }
+                    forcedCondition.signalAll();
+                }
+            }
+        } catch (UncheckedIOException e) {
+            throw new UncheckedIOException("Failed to force event log segment " + sequence, e.getCause());
+        } finally {
+            forceLock.unlock();
+        }
+    }
+
+    void force() {
+        awaitForced(written);
+    }
+}
@@ -0,0 +1,104 @@
+package com.entain.data.access.offheap;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * Growable column of fixed-width rows in direct (off-heap) memory.
+ *
+ * <p>Rows are stored in chunks of {@value #ROWS_PER_CHUNK} rows, each one direct {@link ByteBuffer}, so the column
+ * grows without copying and a billion-byte column is still a few hundred objects for the garbage collector. A row
+ * of {@code width} bytes may hold several fields, addressed by their byte offset within the row.</p>
+ *
+ * <p>Only one thread may call {@link #ensureCapacity(int)} and the plain {@code put} methods at a time. Values are
+ * read safely by other threads once the row has been published through a volatile write, e.g. of the row count.
+ * {@link #getLongAcquire(int, int)} and {@link #setLongRelease(int, int, long)} read and write one aligned long
+ * atomically, for fields that change after publication.</p>
+ */
+public final class OffHeapColumn {
+
+    static final int CHUNK_SHIFT = 16;
+    static final int ROWS_PER_CHUNK = 1 << CHUNK_SHIFT;
+    private static final int ROW_MASK = ROWS_PER_CHUNK - 1;
+
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class,
+            ByteOrder.nativeOrder());
+
+    private final int width;
+    private volatile ByteBuffer[] chunks = new ByteBuffer[0];
+
+    /**
+     * @param width bytes per row; a multiple of 8 keeps every long field aligned for atomic access
+     */
+    public OffHeapColumn(int width) {
+        if (width < 1) {
+            throw new IllegalArgumentException("Row width must be positive: " + width);
+        }
+        this.width = width;
+    }
+
+    /**
+     * Allocates chunks until the column holds at least {@code rows} rows. New memory is zeroed.
+     */
+    public void ensureCapacity(int rows) {
+        ByteBuffer[] current = chunks;
+        int needed = (int) (((long) rows + ROW_MASK) >>> CHUNK_SHIFT);
+        if (needed <= current.length) {
+            return;
+        }
+        ByteBuffer[] grown = Arrays.copyOf(current, needed);
+        for (int i = current.length; i < needed; i++) {
+            grown[i] = ByteBuffer.allocateDirect(ROWS_PER_CHUNK * width).order(ByteOrder.nativeOrder());
+        }
+        chunks = grown;
+    }
+
+    /**
+     * @return rows the allocated chunks can hold
+     */
+    public int capacity() {
+        return chunks.length * ROWS_PER_CHUNK;
+    }
+
+    /**
+     * @return off-heap bytes held by this column
+     */
+    public long allocatedBytes() {
+        return (long) chunks.length * ROWS_PER_CHUNK * width;
+    }
+
+    public long getLong(int row, int offset) {
+        return chunk(row).getLong(position(row, offset));
+    }
+
+    public void putLong(int row, int offset, long value) {
+        chunk(row).putLong(position(row, offset), value);
+    }
+
+    public int getInt(int row, int offset) {
+        return chunk(row).getInt(position(row, offset));
+    }
+
+    public void putInt(int row, int offset, int value) {
+        chunk(row).putInt(position(row, offset), value);
+    }
+
+    public long getLongAcquire(int row, int offset) {
+        return (long) LONGS.getAcquire(chunk(row), position(row, offset));
+    }
+
+    public void setLongRelease(int row, int offset, long value) {
+        LONGS.setRelease(chunk(row), position(row, offset), value);
+    }
+
+    private ByteBuffer chunk(int row) {
+        return chunks[row >>> CHUNK_SHIFT];
+    }
+
+    private int position(int row, int offset) {
+        return (row & ROW_MASK) * width + offset;
+    }
+}
@@ -0,0 +1,58 @@
+package com.entain.data.access.offheap;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Dictionary encoding of sport names: every distinct name is stored once and referred to by a small {@code int} id,
+ * assigned in order of first use.
+ *
+ * <p>Names are kept exactly as given, so a decoded event equals the one stored; {@link #idsMatching(String)} gives
+ * the case-insensitive matches used by filters. There are only a handful of sports, so both live on the heap.</p>
+ *
+ * <p>Only one thread may {@link #intern(String)} at a time; {@link #name(int)} and {@link #idsMatching(String)}
+ * may be called concurrently with it.</p>
+ */
+public final class SportDictionary {
+
+    /** Id standing for a {@code null} sport. */
+    public static final int NONE = -1;
+
+    private final Map<String, Integer> ids = new HashMap<>();
+    private volatile String[] names = new String[0];
+
+    /**
+     * @return the id of {@code name}, assigning the next one if it is new, or {@link #NONE} for {@code null}
+     */
+    public int intern(String name) {
+        if (name == null) {
+            return NONE;
+        }
+        return ids.computeIfAbsent(name, n -> {
+            String[] grown = Arrays.copyOf(names, names.length + 1);
+            grown[grown.length - 1] = n;
+            names = grown;
+            return grown.length - 1;
+        });
+    }
+
+    /**
+     * @return the name with this id, or {@code null} for {@link #NONE}
+     */
+    public String name(int id) {
+        return id == NONE ? null : names[id];
+    }
+
+    /**
+     * @return for every id assigned so far, whether its name equals {@code sport} ignoring case
+     */
+    public boolean[] idsMatching(String sport) {
+        String[] current = names;
+        boolean[] matching = new boolean[current.length];
+        for (int id = 0; id < current.length; id++) {
+            matching[id] = current[id].equalsIgnoreCase(sport);
+        }
+        return matching;
+    }
+}
@@ -0,0 +1,64 @@
+package com.entain.data.access.offheap;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Append-only store of strings in direct (off-heap) memory.
+ *
+ * <p>Each string is written once as its UTF-8 length and bytes into a chunk of {@value #CHUNK_SIZE} bytes and
+ * addressed by a {@code long} reference: the chunk index in the high 32 bits, the offset within it in the low 32.
+ * A string is never split over two chunks; one longer than a chunk gets a chunk of its own. Strings are never
+ * removed, so the arena suits values that are written once, such as event names.</p>
+ *
+ * <p>Only one thread may {@link #append(String)} at a time. A string is read safely by other threads once its
+ * reference has been published through a volatile write.</p>
+ */
+public final class StringArena {
+
+    static final int CHUNK_SIZE = 1 << 20;
+
+    private volatile ByteBuffer[] chunks = new ByteBuffer[0];
+    private ByteBuffer current;
+
+    /**
+     * @return the reference to read the string back with
+     */
+    public long append(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        int size = Integer.BYTES + bytes.length;
+        if (current == null || current.remaining() < size) {
+            addChunk(Math.max(CHUNK_SIZE, size));
+        }
+        int offset = current.position();
+        current.putInt(bytes.length).put(bytes);
+        return (long) (chunks.length - 1) << 32 | offset;
+    }
+
+    public String read(long reference) {
+        ByteBuffer chunk = chunks[(int) (reference >>> 32)];
+        int offset = (int) reference;
+        byte[] bytes = new byte[chunk.getInt(offset)];
+        chunk.get(offset + Integer.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return off-heap bytes held by the arena
+     */
+    public long allocatedBytes() {
+        long bytes = 0;
+        for (ByteBuffer chunk : chunks) {
+            bytes += chunk.capacity();
+        }
+        return bytes;
+    }
+
+    private void addChunk(int size) {
+        current = ByteBuffer.allocateDirect(size);
+        ByteBuffer[] grown = Arrays.copyOf(chunks, chunks.length + 1);
+        grown[grown.length - 1] = current;
+        chunks = grown;
+    }
+}
@@ -0,0 +1,113 @@
+package com.entain.data.access.offheap;
+
+import com.entain.data.access.index.ConcurrentUuidMap;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.UUID;
+
+/**
+ * Open-addressing hash index from event id to row number, stored in a single {@code int[]}.
+ *
+ * <p>A slot holds {@code row + 1}, or 0 when empty; ids are hashed as by {@link ConcurrentUuidMap} and collisions
+ * probe the following slots (linear probing). The keys themselves are not copied into the table: a candidate row is
+ * confirmed by comparing the id column, where every id is stored as its two {@code long} halves (most significant
+ * at offset 0, least significant at offset 8). The table is doubled when it is three quarters full. Rows are never
+ * removed, so there are no tombstones.</p>
+ *
+ * <p>Only one thread may {@link #put(long, long, int)} at a time, after writing the row's id. Lookups run
+ * concurrently without locking: a slot is written with release semantics and read with acquire semantics, so a
+ * row found through the index is fully visible. A lookup racing with a resize may miss a row being inserted, as if
+ * it ran just before the insert.</p>
+ */
+public final class UuidIndex {
+
+    private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(int[].class);
+    private static final int MIN_CAPACITY = 16;
+
+    private final OffHeapColumn ids;
+    private volatile int[] slots;
+    private int size;
+
+    /**
+     * @param ids          column holding the id of every row
+     * @param expectedRows rows to make room for before the first resize
+     */
+    public UuidIndex(OffHeapColumn ids, int expectedRows) {
+        this.ids = ids;
+        long wanted = Math.max(MIN_CAPACITY, (long) expectedRows * 4 / 3 + 1);
+        this.slots = new int[(int) Math.min(1 << 30, Long.highestOneBit(wanted - 1) << 1)];
+    }
+
+    /**
+     * @return the row of the id, or -1 if it is not indexed
+     */
+    public int get(UUID id) {
+        return get(id.getMostSignificantBits(), id.getLeastSignificantBits());
+    }
+
+    /**
+     * @return the row of the id, or -1 if it is not indexed
+     */
+    public int get(long msb, long lsb) {
+        int[] table = slots;
+        int mask = table.length - 1;
+        for (int slot = ConcurrentUuidMap.hash(msb, lsb) & mask; ; slot = (slot + 1) & mask) {
+            int entry = (int) SLOTS.getAcquire(table, slot);
+            if (entry == 0) {
+                return -1;
+            }
+            int row = entry - 1;
+            if (ids.getLong(row, 0) == msb && ids.getLong(row, 8) == lsb) {
+                return row;
+            }
+        }
+    }
+
+    /**
+     * Indexes a row whose id is not indexed yet.
+     */
+    public void put(long msb, long lsb, int row) {
+        if ((size + 1) * 4L > slots.length * 3L) {
+            resize();
+        }
+        insert(slots, msb, lsb, row);
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return slots of the table, a power of two
+     */
+    public int capacity() {
+        return slots.length;
+    }
+
+    private void resize() {
+        int[] old = slots;
+        if (old.length == 1 << 30) {
+            throw new IllegalStateException("Id index is full at " + size + " rows");
+        }
+        int[] grown = new int[old.length << 1];
+        for (int entry : old) {
+            if (entry != 0) {
+                int row = entry - 1;
+                insert(grown, ids.getLong(row, 0), ids.getLong(row, 8), row);
+            }
+        }
+        // Published whole: lookups use either the old table or the complete new one
+        slots = grown;
+    }
+
+    private static void insert(int[] table, long msb, long lsb, int row) {
+        int mask = table.length - 1;
+        int slot = ConcurrentUuidMap.hash(msb, lsb) & mask;
+        while (table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        SLOTS.setRelease(table, slot, row + 1);
+    }
+}
@@ -0,0 +1,102 @@
+package com.entain.data.access.shard;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Immutable consistent-hash ring assigning every event id to one node.
+ *
+ * <p>Each node is placed on a 64-bit ring at {@code virtualNodes} points derived from its name; an id belongs to
+ * the node owning the first point at or after the id's hash, wrapping around. Adding or removing a node therefore
+ * moves only about {@code 1/N} of the ids, and the virtual nodes spread each node's share evenly around the ring.</p>
+ *
+ * <p>The placement depends on the node names only, never on their order or on the JVM, so every node configured
+ * with the same names computes the same owners.</p>
+ */
+public final class ConsistentHashRing {
+
+    private final long[] points;
+    private final String[] owners;
+    private final List<String> nodes;
+
+    /**
+     * @throws IllegalArgumentException if there are no nodes or {@code virtualNodes} is below 1
+     */
+    public ConsistentHashRing(Collection<String> nodes, int virtualNodes) {
+        if (nodes.isEmpty() || virtualNodes < 1) {
+            throw new IllegalArgumentException("A hash ring needs at least one node and one virtual node per node");
+        }
+        this.nodes = List.copyOf(nodes);
+        int size = this.nodes.size() * virtualNodes;
+        long[] hashes = new long[size];
+        String[] names = new String[size];
+        int i = 0;
+        for (String node : this.nodes) {
+            for (int v = 0; v < virtualNodes; v++) {
+                hashes[i] = hash(node + "#" + v);
+                names[i] = node;
+                i++;
+            }
+        }
+        // Sort the points, carrying their owners along; a tie goes to the smaller name, independent of input order
+        Integer[] order = new Integer[size];
+        for (int j = 0; j < size; j++) {
+            order[j] = j;
+        }
+        Arrays.sort(order, (a, b) -> hashes[a] != hashes[b]
+                ? Long.compare(hashes[a], hashes[b])
+                : names[a].compareTo(names[b]));
+        this.points = new long[size];
+        this.owners = new String[size];
+        for (int j = 0; j < size; j++) {
+            points[j] = hashes[order[j]];
+            owners[j] = names[order[j]];
+        }
+    }
+
+    /**
+     * @return the name of the node owning {@code id}
+     */
+    public String ownerOf(UUID id) {
+        int index = Arrays.binarySearch(points, mix(id.getMostSignificantBits() ^ id.getLeastSignificantBits()));
+        if (index < 0) {
+            // Insertion point: the first point after the hash, or past the end, which wraps to the start
+            index = -index - 1;
+            if (index == points.length) {
+                index = 0;
+            }
+        }
+        return owners[index];
+    }
+
+    /**
+     * @return the node names, in configuration order
+     */
+    public List<String> nodes() {
+        return nodes;
+    }
+
+    /**
+     * FNV-1a over the UTF-8 bytes, finished with {@link #mix(long)} to spread similar names apart.
+     */
+    private static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h = (h ^ (b & 0xff)) * 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    // MurmurHash3 64-bit finalizer
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,89 @@
+package com.entain.data.access.shard;
+
+import com.entain.data.EventStatus;
+import com.entain.data.SportEvent;
+import com.entain.data.access.EventCursor;
+import com.entain.data.access.InMemorySportEventStore;
+import com.entain.exception.VersionConflictException;
+import com.entain.validation.EventValidationRule;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * The shard held by this node, in an {@link InMemorySportEventStore}. Also serves the peers' requests through
+ * {@link com.entain.controller.ShardController}.
+ */
+public class LocalShard implements Shard {
+
+    private final String name;
+    private final InMemorySportEventStore store;
+
+    public LocalShard(String name) {
+        this(name, new InMemorySportEventStore());
+    }
+
+    public LocalShard(String name, InMemorySportEventStore store) {
+        this.name = name;
+        this.store = store;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public List<SportEvent> saveAll(List<SportEvent> events) {
+        return store.saveAll(events);
+    }
+
+    @Override
+    public Optional<SportEvent> findById(UUID id) {
+        return store.findById(id);
+    }
+
+    @Override
+    public List<SportEvent> find(EventStatus status, String sport, LocalDateTime from, LocalDateTime to) {
+        if (from == null && to == null) {
+            return store.findAll(status, sport);
+        }
+        try (Stream<SportEvent> events = store.stream(status, sport, from, to)) {
+            return events.toList();
+        }
+    }
+
+    @Override
+    public List<SportEvent> findFirst(EventStatus status, String sport, LocalDateTime from, LocalDateTime to,
+                                      EventCursor after, int count) {
+        return store.findPage(status, sport, from, to, after, count).events();
+    }
+
+    @Override
+    public Optional<SportEvent> compareAndSetStatus(UUID id, long expectedVersion, EventStatus newStatus) {
+        return store.transitionStatus(id, newStatus, (current, status) -> {
+            if (current.version() != expectedVersion) {
+                throw new VersionConflictException(id);
+            }
+        });
+    }
+
+    @Override
+    public Optional<SportEvent> transitionStatus(UUID id, EventStatus newStatus, EventValidationRule validator) {
+        // Atomic in the store itself, no retry needed
+        return store.transitionStatus(id, newStatus, validator);
+    }
+
+    @Override
+    public long changeCount() {
+        return store.changeCount();
+    }
+
+    @Override
+    public long count(EventStatus status) {
+        return store.count(status);
+    }
+}
@@ -0,0 +1,155 @@
+package com.entain.data.access.shard;
+
+import com.entain.data.EventStatus;
+import com.entain.data.SportEvent;
+import com.entain.data.access.EventCursor;
+import com.entain.exception.ShardUnavailableException;
+import com.entain.exception.VersionConflictException;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.util.UriBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * The shard of a peer node, reached through its {@link com.entain.controller.ShardController} endpoints.
+ *
+ * <p>A 404 answer means the event does not exist and a 412 that a compare-and-set lost; anything else that keeps
+ * a request from completing, such as a refused connection, a timeout or a 5xx, is a
+ * {@link ShardUnavailableException}. Requests are never retried here: a failed write may or may not have been
+ * applied by the owner.</p>
+ */
+public class RemoteShard implements Shard {
+
+    /** Base path of the shard endpoints. */
+    public static final String PATH = "/internal/shard";
+    public static final String EVENTS = PATH + "/events";
+
+    private static final ParameterizedTypeReference<List<SportEvent>> EVENT_LIST = new ParameterizedTypeReference<>() {
+    };
+
+    private final String name;
+    private final RestClient restClient;
+
+    /**
+     * @param restClient client with the peer's base URL
+     */
+    public RemoteShard(String name, RestClient restClient) {
+        this.name = name;
+        this.restClient = restClient;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public List<SportEvent> saveAll(List<SportEvent> events) {
+        return call(() -> restClient.post()
+                .uri(EVENTS)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(events)
+                .retrieve()
+                .body(EVENT_LIST));
+    }
+
+    @Override
+    public Optional<SportEvent> findById(UUID id) {
+        return call(() -> {
+            try {
+                return Optional.ofNullable(restClient.get()
+                        .uri(EVENTS + "/{id}", id)
+                        .retrieve()
+                        .body(SportEvent.class));
+            } catch (HttpClientErrorException.NotFound e) {
+                return Optional.empty();
+            }
+        });
+    }
+
+    @Override
+    public List<SportEvent> find(EventStatus status, String sport, LocalDateTime from, LocalDateTime to) {
+        return call(() -> restClient.get()
+                .uri(uri -> filter(uri.path(EVENTS), status, sport, from, to).build())
+                .retrieve()
+                .body(EVENT_LIST));
+    }
+
+    @Override
+    public List<SportEvent> findFirst(EventStatus status, String sport, LocalDateTime from, LocalDateTime to,
+                                      EventCursor after, int count) {
+        return call(() -> restClient.get()
+                .uri(uri -> {
+                    filter(uri.path(EVENTS + "/first"), status, sport, from, to).queryParam("count", count);
+                    if (after != null) {
+                        // Both parts as they are: an encoded cursor keeps whole seconds only
+                        uri.queryParam("afterId", after.id());
+                        if (after.startTime() != null) {
+                            uri.queryParam("afterTime", after.startTime());
+                        }
+                    }
+                    return uri.build();
+                })
+                .retrieve()
+                .body(EVENT_LIST));
+    }
+
+    @Override
+    public Optional<SportEvent> compareAndSetStatus(UUID id, long expectedVersion, EventStatus newStatus) {
+        return call(() -> {
+            try {
+                return Optional.ofNullable(restClient.put()
+                        .uri(uri -> uri.path(EVENTS + "/{id}/status")
+                                .queryParam("status", newStatus)
+                                .queryParam("expectedVersion", expectedVersion)
+                                .build(id))
+                        .retrieve()
+                        .body(SportEvent.class));
+            } catch (HttpClientErrorException.NotFound e) {
+                return Optional.empty();
+            } catch (HttpClientErrorException.PreconditionFailed e) {
+                throw new VersionConflictException(id);
+            }
+        });
+    }
+
+    @Override
+    public long changeCount() {
+        return call(() -> restClient.get()
+                .uri(PATH + "/changes")
+                .retrieve()
+                .body(Long.class));
+    }
+
+    @Override
+    public long count(EventStatus status) {
+        return call(() -> restClient.get()
+                .uri(uri -> uri.path(PATH + "/count").queryParam("status", status).build())
+                .retrieve()
+                .body(Long.class));
+    }
+
+    private static UriBuilder filter(UriBuilder uri, EventStatus status, String sport,
+                                     LocalDateTime from, LocalDateTime to) {
+        return uri.queryParamIfPresent("status", Optional.ofNullable(status))
+                .queryParamIfPresent("sport", Optional.ofNullable(sport))
+                .queryParamIfPresent("from", Optional.ofNullable(from))
+                .queryParamIfPresent("to", Optional.ofNullable(to));
+    }
+
+    private <T> T call(Supplier<T> request) {
+        try {
+            return request.get();
+        } catch (RestClientException e) {
+            throw new ShardUnavailableException(name, e);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.entain.data.access.shard;
+
+import com.entain.data.EventStatus;
+import com.entain.data.SportEvent;
+import com.entain.data.access.EventCursor;
+import com.entain.exception.ShardUnavailableException;
+import com.entain.exception.VersionConflictException;
+import com.entain.validation.EventValidationRule;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * The part of the event population owned by one node of a sharded store, either this node's own
+ * ({@link LocalShard}) or a peer's reached over HTTP ({@link RemoteShard}).
+ *
+ * <p>Filters have the semantics of the matching {@link com.entain.data.access.SportEventDAO} methods. Methods of a
+ * remote shard throw {@link ShardUnavailableException} when the owner cannot be reached.</p>
+ */
+public interface Shard {
+
+    /** Attempts of {@link #transitionStatus} before a change losing every race gives up. */
+    int MAX_TRANSITION_ATTEMPTS = 16;
+
+    String name();
+
+    /**
+     * @return for each event, in order, the stored event; an existing event with the same id is kept
+     */
+    List<SportEvent> saveAll(List<SportEvent> events);
+
+    Optional<SportEvent> findById(UUID id);
+
+    /**
+     * @return the matching events; in {@link EventCursor#ORDER} when a bound is given
+     */
+    List<SportEvent> find(EventStatus status, String sport, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * @param after position to start after, or {@code null} to start at the first event
+     * @return up to {@code count} matching events following {@code after}, in {@link EventCursor#ORDER}
+     */
+    List<SportEvent> findFirst(EventStatus status, String sport, LocalDateTime from, LocalDateTime to,
+                               EventCursor after, int count);
+
+    /**
+     * Sets the status only if the event is still at {@code expectedVersion}.
+     *
+     * @return the updated event, or empty if there is no event with this id
+     * @throws VersionConflictException if the event is at another version
+     */
+    Optional<SportEvent> compareAndSetStatus(UUID id, long expectedVersion, EventStatus newStatus);
+
+    /**
+     * Checks and applies a status change with the guarantee of
+     * {@link com.entain.data.access.SportEventDAO#transitionStatus}.
+     *
+     * <p>The default implementation validates the current state and writes it back with
+     * {@link #compareAndSetStatus}, starting over if another write got in between, so the rules always pass
+     * against the state actually replaced.</p>
+     *
+     * @throws VersionConflictException if the change lost the race {@value #MAX_TRANSITION_ATTEMPTS} times
+     */
+    default Optional<SportEvent> transitionStatus(UUID id, EventStatus newStatus, EventValidationRule validator) {
+        for (int attempt = 1; ; attempt++) {
+            Optional<SportEvent> current = findById(id);
+            if (current.isEmpty()) {
+                return current;
+            }
+            validator.validate(current.get(), newStatus);
+            try {
+                return compareAndSetStatus(id, current.get().version(), newStatus);
+            } catch (VersionConflictException e) {
+                if (attempt == MAX_TRANSITION_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    long changeCount();
+
+    long count(EventStatus status);
+}
@@ -0,0 +1,280 @@
+package com.entain.data.access.snapshot;
+
+import com.entain.data.EventStatus;
+import com.entain.data.SportEvent;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Compact binary dump of a complete {@link SportEvent} population.
+ *
+ * <pre>
+ * header (32 bytes)
+ *   int   magic "SEVS"
+ *   int   format version
+ *   long  number of events
+ *   long  offset of the sport dictionary
+ *   int   number of dictionary entries
+ *   int   reserved
+ * events, one after another
+ *   long  id, most significant bits
+ *   long  id, least significant bits
+ *   byte  status ordinal
+ *   int   sport dictionary index, -1 when absent
+ *   long  startTime epoch second (UTC), {@link Long#MIN_VALUE} when absent
+ *   long  version (format version 2 and later)
+ *   int   name length in UTF-8 bytes (-1 when absent), followed by the bytes
+ * sport dictionary
+ *   int   length in UTF-8 bytes, followed by the bytes, per entry
+ * </pre>
+ *
+ * <p>Sports are written once in the dictionary, as there are only a handful of them. The start time keeps second
+ * precision, which is what the API accepts. Statuses are stored by ordinal, so constants of {@link EventStatus}
+ * may only ever be appended. Version 1 snapshots, written before events were versioned, are still read; their
+ * events get {@link SportEvent#INITIAL_VERSION}.</p>
+ *
+ * <p>{@link #read(Path, Consumer)} decodes straight from memory-mapped windows of the file. Apart from the
+ * event itself, it only allocates the name string; sport strings are decoded once and shared by all events.</p>
+ */
+public final class SportEventSnapshot {
+
+    private static final int MAGIC = 0x53455653;
+    private static final int VERSION = 2;
+    private static final int UNVERSIONED_EVENTS_VERSION = 1;
+    private static final int HEADER_BYTES = 32;
+    private static final int FIXED_EVENT_BYTES = 2 * Long.BYTES + 1 + Integer.BYTES + 2 * Long.BYTES + Integer.BYTES;
+    private static final long NO_TIME = Long.MIN_VALUE;
+    private static final int WRITE_BUFFER_BYTES = 1 << 20;
+    private static final long READ_WINDOW_BYTES = 256L << 20;
+    private static final EventStatus[] STATUSES = EventStatus.values();
+
+    private SportEventSnapshot() {
+    }
+
+    /**
+     * Writes the events to {@code file}, replacing its content. The file is forced to disk before returning.
+     *
+     * @return the number of events written
+     */
+    public static long write(Path file, Iterable<SportEvent> events) throws IOException {
+        Map<String, Integer> dictionary = new HashMap<>();
+        long count = 0;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            Writer writer = new Writer(channel);
+            writer.skip(HEADER_BYTES);
+            for (SportEvent event : events) {
+                byte[] name = utf8(event.name());
+                int sport = event.sport() == null
+                        ? -1
+                        : dictionary.computeIfAbsent(event.sport(), s -> dictionary.size());
+                ByteBuffer buffer = writer.reserve(FIXED_EVENT_BYTES + (name == null ? 0 : name.length));
+                buffer.putLong(event.id().getMostSignificantBits())
+                        .putLong(event.id().getLeastSignificantBits())
+                        .put((byte) event.status().ordinal())
+                        .putInt(sport)
+                        .putLong(event.startTime() == null ? NO_TIME : event.startTime().toEpochSecond(ZoneOffset.UTC))
+                        .putLong(event.version());
+                putBytes(buffer, name);
+                count++;
+            }
+
+            long dictionaryOffset = writer.position();
+            String[] sports = new String[dictionary.size()];
+            dictionary.forEach((sport, index) -> sports[index] = sport);
+            for (String sport : sports) {
+                byte[] bytes = utf8(sport);
+                putBytes(writer.reserve(Integer.BYTES + bytes.length), bytes);
+            }
+            writer.flush();
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                    .putInt(MAGIC)
+                    .putInt(VERSION)
+                    .putLong(count)
+                    .putLong(dictionaryOffset)
+                    .putInt(sports.length)
+                    .putInt(0)
+                    .flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            channel.force(true);
+        }
+        return count;
+    }
+
+    /**
+     * Decodes every event of the snapshot in {@code file}, in the order they were written.
+     *
+     * @return the number of events read
+     * @throws IOException if the file cannot be read or is not a complete snapshot
+     */
+    public static long read(Path file, Consumer<SportEvent> sink) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES) {
+                throw new IOException("Snapshot " + file + " is truncated");
+            }
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+            int magic = header.getInt();
+            int format = header.getInt();
+            if (magic != MAGIC || format != VERSION && format != UNVERSIONED_EVENTS_VERSION) {
+                throw new IOException(file + " is not a version " + UNVERSIONED_EVENTS_VERSION + " to " + VERSION
+                        + " sport event snapshot");
+            }
+            boolean versioned = format != UNVERSIONED_EVENTS_VERSION;
+            int fixedEventBytes = versioned ? FIXED_EVENT_BYTES : FIXED_EVENT_BYTES - Long.BYTES;
+            long count = header.getLong();
+            long dictionaryOffset = header.getLong();
+            int dictionarySize = header.getInt();
+            if (dictionaryOffset < HEADER_BYTES || dictionaryOffset > size) {
+                throw new IOException("Snapshot " + file + " is truncated");
+            }
+
+            Reader dictionaryReader = new Reader(channel, dictionaryOffset, size);
+            String[] sports = new String[dictionarySize];
+            for (int i = 0; i < dictionarySize; i++) {
+                sports[i] = dictionaryReader.string();
+            }
+
+            Reader reader = new Reader(channel, HEADER_BYTES, dictionaryOffset);
+            for (long i = 0; i < count; i++) {
+                ByteBuffer buffer = reader.require(fixedEventBytes);
+                UUID id = new UUID(buffer.getLong(), buffer.getLong());
+                EventStatus status = STATUSES[buffer.get()];
+                int sport = buffer.getInt();
+                long epochSecond = buffer.getLong();
+                long version = versioned ? buffer.getLong() : SportEvent.INITIAL_VERSION;
+                String name = reader.string();
+                sink.accept(new SportEvent(
+                        id,
+                        name,
+                        sport < 0 ? null : sports[sport],
+                        status,
+                        epochSecond == NO_TIME ? null : LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC),
+                        version
+                ));
+            }
+            return count;
+        }
+    }
+
+    private static byte[] utf8(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void putBytes(ByteBuffer buffer, byte[] bytes) {
+        if (bytes == null) {
+            buffer.putInt(-1);
+        } else {
+            buffer.putInt(bytes.length).put(bytes);
+        }
+    }
+
+    /**
+     * Buffers sequential writes into large channel writes.
+     */
+    private static final class Writer {
+
+        private final FileChannel channel;
+        private ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_BYTES);
+        private long flushed;
+
+        Writer(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        long position() {
+            return flushed + buffer.position();
+        }
+
+        void skip(int bytes) throws IOException {
+            reserve(bytes).position(buffer.position() + bytes);
+        }
+
+        /**
+         * @return the write buffer, with at least {@code bytes} remaining
+         */
+        ByteBuffer reserve(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+                if (buffer.capacity() < bytes) {
+                    buffer = ByteBuffer.allocateDirect(bytes);
+                }
+            }
+            return buffer;
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                flushed += channel.write(buffer, flushed);
+            }
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Sequential reader over a file region, mapped in windows of at most {@value #READ_WINDOW_BYTES} bytes
+     * so that snapshots larger than 2 GB can be read.
+     */
+    private static final class Reader {
+
+        private final FileChannel channel;
+        private final long end;
+        private long windowStart;
+        private MappedByteBuffer window;
+        private byte[] scratch = new byte[256];
+
+        Reader(FileChannel channel, long start, long end) throws IOException {
+            this.channel = channel;
+            this.end = end;
+            map(start, 0);
+        }
+
+        /**
+         * @return the current window, positioned at the next unread byte with at least {@code bytes} remaining
+         */
+        ByteBuffer require(int bytes) throws IOException {
+            if (window.remaining() < bytes) {
+                map(windowStart + window.position(), bytes);
+            }
+            return window;
+        }
+
+        String string() throws IOException {
+            int length = require(Integer.BYTES).getInt();
+            if (length < 0) {
+                return null;
+            }
+            ByteBuffer buffer = require(length);
+            if (scratch.length < length) {
+                scratch = new byte[length];
+            }
+            buffer.get(scratch, 0, length);
+            return new String(scratch, 0, length, StandardCharsets.UTF_8);
+        }
+
+        private void map(long position, int minimum) throws IOException {
+            long size = Math.min(Math.max(READ_WINDOW_BYTES, minimum), end - position);
+            if (size < minimum) {
+                throw new IOException("Snapshot is truncated at offset " + position);
+            }
+            windowStart = position;
+            window = channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+        }
+    }
+}
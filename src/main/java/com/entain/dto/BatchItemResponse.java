@@ -0,0 +1,15 @@
+package com.entain.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Result of one item of a batch request; exactly one of 'event' and 'error' is set")
+public record BatchItemResponse(
+        @Schema(description = "Position of the item in the request", example = "0")
+        int index,
+
+        @Schema(description = "The created or updated event, if the item succeeded")
+        SportEventResponse event,
+
+        @Schema(description = "Why the item was rejected, if it failed")
+        ErrorResponse error
+) {}
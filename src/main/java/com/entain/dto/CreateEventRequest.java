@@ -8,12 +8,14 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
+import static com.entain.config.EntainConstant.MAX_NAME_LENGTH;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Schema(description = "Request for creating a new sport event")
 public class CreateEventRequest {
-    @Schema(description = "Name of the event", example = "Champions League Final")
+    @Schema(description = "Name of the event", example = "Champions League Final", maxLength = MAX_NAME_LENGTH)
     private String name;
 
     @Schema(description = "Sport type of the event", example = "FOOTBALL")
@@ -21,9 +21,13 @@ public record SportEventResponse(
         EventStatus status,
 
         @Schema(description = "Start time of the event", example = "2025-09-01T20:00:00")
-        LocalDateTime startTime
+        LocalDateTime startTime,
+
+        @Schema(description = "Version of the event, incremented by every change; also sent as the ETag", example = "1")
+        long version
 ) {
     public static SportEventResponse from(SportEvent event) {
-        return new SportEventResponse(event.id(), event.name(), event.sport(), event.status(), event.startTime());
+        return new SportEventResponse(event.id(), event.name(), event.sport(), event.status(), event.startTime(),
+                event.version());
     }
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.entain.dto;
+
+import com.entain.data.EventStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.UUID;
+
+@Schema(description = "One status change of a batch status update")
+public record StatusChangeRequest(
+        @Schema(description = "Unique identifier of the event", example = "550e8400-e29b-41d4-a716-446655440000")
+        UUID id,
+
+        @Schema(description = "New status of the event", example = "ACTIVE")
+        EventStatus status
+) {}
@@ -1,5 +1,7 @@
 package com.entain.event;
 
+import java.util.UUID;
+
 /**
  * Marker interface for all domain events in the system.
  * <p>
@@ -8,4 +10,23 @@ package com.entain.event;
  * <p>
  * Domain events are published via {@link DomainEventPublisher} and consumed by listeners such as {@link SportEventSseListener}.
  */
-public interface DomainEvent {}
\ No newline at end of file
+public interface DomainEvent {
+
+    /**
+     * @return id of the {@link com.entain.data.SportEvent} this domain event relates to;
+     *         used to keep per-event ordering and to coalesce pending updates
+     */
+    UUID eventId();
+
+    /**
+     * @return {@link com.entain.data.SportEvent#version() version} of the sport event this domain event produced;
+     *         when pending updates are coalesced, an older version never replaces a newer one
+     */
+    long version();
+
+    /**
+     * @return {@link System#nanoTime()} when the event was published; the start of the delivery latency measured for
+     *         every SSE subscriber. Only comparable with other {@code nanoTime} values of the same JVM.
+     */
+    long publishedAtNanos();
+}
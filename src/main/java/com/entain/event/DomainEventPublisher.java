@@ -1,27 +1,40 @@
 package com.entain.event;
 
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
- * Publishes domain events to the Spring application context.
+ * Publishes domain events to the application's listeners.
  * <p>
  * This component decouples the event producers (e.g., services) from the event consumers (e.g., SSE listeners, message queues).
  * Any class can inject this publisher and call {@link #publish(DomainEvent)} to notify interested listeners about a domain event.
+ * <p>
+ * Events are handed to the {@link EventDispatcher}, which delivers them to Spring listeners asynchronously.
+ * Publishing therefore never blocks on, or fails because of, slow notification delivery.
+ * <p>
+ * Events are also handed to every {@link DomainEventSink}: the {@link com.entain.cluster.ClusterForwarder}, whose
+ * transport queues them for the other nodes without waiting for peers, the
+ * {@link com.entain.service.EventListingCache}, which drops the cached listings they affect, and on a replication
+ * leader the {@link com.entain.replication.ReplicationLog}. Events received from peers or from the leader bypass
+ * this class and go straight to the local dispatcher, so they are not forwarded again.
  */
 @Component
 public class DomainEventPublisher {
 
-    private final ApplicationEventPublisher springPublisher;
-
+    private final EventDispatcher dispatcher;
+    private final List<DomainEventSink> sinks;
 
     /**
-     * Constructs the DomainEventPublisher with the given Spring ApplicationEventPublisher.
+     * Constructs the DomainEventPublisher with the given dispatch stage.
      *
-     * @param springPublisher Spring's ApplicationEventPublisher used to broadcast events
+     * @param dispatcher bounded dispatch stage delivering events to Spring listeners
+     * @param sinks      further receivers of every event, e.g. the other nodes of the cluster
      */
-    public DomainEventPublisher(ApplicationEventPublisher springPublisher) {
-        this.springPublisher = springPublisher;
+    public DomainEventPublisher(EventDispatcher dispatcher, List<DomainEventSink> sinks) {
+        this.dispatcher = dispatcher;
+        this.sinks = sinks;
     }
 
 
@@ -31,6 +44,22 @@ public class DomainEventPublisher {
      * @param event the domain event to publish
      */
     public void publish(DomainEvent event) {
-        springPublisher.publishEvent(event);
+        dispatcher.submit(event);
+        // Indexed, so that publishing allocates no iterator
+        for (int i = 0; i < sinks.size(); i++) {
+            sinks.get(i).accept(event);
+        }
+    }
+
+    /**
+     * Publishes several domain events in one hand-off, e.g. the results of a batch request.
+     *
+     * @param events the domain events to publish, in order
+     */
+    public void publishAll(Collection<? extends DomainEvent> events) {
+        dispatcher.submitAll(events);
+        for (int i = 0; i < sinks.size(); i++) {
+            sinks.get(i).acceptAll(events);
+        }
     }
 }
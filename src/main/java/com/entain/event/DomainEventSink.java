@@ -0,0 +1,23 @@
+package com.entain.event;
+
+import java.util.Collection;
+
+/**
+ * Receives every domain event published on this node, besides the local listeners, e.g. to send it to other nodes.
+ * <p>
+ * Sinks are called by {@link DomainEventPublisher} on the publishing thread, right after the change was stored,
+ * so they must only hand the event off and never block.
+ */
+public interface DomainEventSink {
+
+    void accept(DomainEvent event);
+
+    /**
+     * @param events domain events published in one hand-off, in order
+     */
+    default void acceptAll(Collection<? extends DomainEvent> events) {
+        for (DomainEvent event : events) {
+            accept(event);
+        }
+    }
+}
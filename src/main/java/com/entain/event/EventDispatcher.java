@@ -0,0 +1,220 @@
+package com.entain.event;
+
+import com.entain.config.DispatchConfig;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded, batching dispatch stage between {@link DomainEventPublisher} and the domain event listeners.
+ * <p>
+ * {@link #submit(DomainEvent)} only records the event in a pending buffer and returns immediately, so a write
+ * request never waits for (or fails because of) notification delivery. A single dispatcher thread drains the
+ * buffer in batches and hands the events to the Spring listeners.
+ * <p>
+ * Backpressure is absorbed in the buffer:
+ * <ul>
+ *     <li>Pending events are keyed by {@link DomainEvent#eventId()}; an event for the same sport event replaces
+ *         the pending one in place unless it carries an older {@link DomainEvent#version()}, so listeners receive
+ *         the latest state and bursts for hot events collapse.</li>
+ *     <li>When listeners are slow, the dispatcher blocks on the full {@code eventExecutor} instead of rejecting,
+ *         and the buffer keeps coalescing in the meantime.</li>
+ *     <li>Only if the buffer holds {@code capacity} distinct events is the oldest pending one dropped and counted.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class EventDispatcher {
+
+    private final ApplicationEventPublisher springPublisher;
+    private final int capacity;
+    private final int batchSize;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    // Guarded by "lock"
+    private final LinkedHashMap<UUID, DomainEvent> pending = new LinkedHashMap<>();
+    private volatile int queueDepth;
+
+    private final AtomicLong dispatched = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public EventDispatcher(ApplicationEventPublisher springPublisher, DispatchConfig config) {
+        this.springPublisher = springPublisher;
+        this.capacity = config.getCapacity();
+        this.batchSize = config.getBatchSize();
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "event-dispatch");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        lock.lock();
+        try {
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        if (worker != null) {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    /**
+     * Queues a domain event for delivery to listeners. Never blocks on listeners and never throws because of them.
+     *
+     * @param event the domain event to deliver
+     */
+    public void submit(DomainEvent event) {
+        lock.lock();
+        try {
+            enqueue(event);
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Queues several domain events at once, taking the buffer lock and waking the dispatcher only once.
+     *
+     * @param events the domain events to deliver, in order
+     */
+    public void submitAll(Collection<? extends DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        lock.lock();
+        try {
+            for (DomainEvent event : events) {
+                enqueue(event);
+            }
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return number of sport events with a notification waiting to be dispatched
+     */
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public long getDispatchedCount() {
+        return dispatched.get();
+    }
+
+    public long getCoalescedCount() {
+        return coalesced.get();
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    // Must be called with "lock" held
+    private void enqueue(DomainEvent event) {
+        DomainEvent waiting = pending.get(event.eventId());
+        if (waiting != null) {
+            // Changes are published outside the store's lock and may also come from peers or the leader, so they
+            // can arrive out of version order: keep the newer of the two
+            if (event.version() >= waiting.version()) {
+                pending.put(event.eventId(), event);
+            }
+            coalesced.incrementAndGet();
+            return;
+        }
+        if (pending.size() >= capacity) {
+            Iterator<Map.Entry<UUID, DomainEvent>> oldest = pending.entrySet().iterator();
+            DomainEvent evicted = oldest.next().getValue();
+            oldest.remove();
+            dropped.incrementAndGet();
+            log.warn("Event dispatch buffer is full ({} events), dropping notification for {}",
+                    capacity, evicted.eventId());
+        }
+        pending.put(event.eventId(), event);
+        queueDepth = pending.size();
+    }
+
+    private void run() {
+        List<DomainEvent> batch = new ArrayList<>(batchSize);
+        while (true) {
+            try {
+                if (!takeBatch(batch)) {
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            for (DomainEvent event : batch) {
+                try {
+                    springPublisher.publishEvent(event);
+                    dispatched.incrementAndGet();
+                } catch (RuntimeException e) {
+                    failed.incrementAndGet();
+                    log.error("Failed to dispatch domain event for {}", event.eventId(), e);
+                }
+            }
+            batch.clear();
+        }
+    }
+
+    /**
+     * Waits for pending events and moves up to {@code batchSize} of them into the given list.
+     *
+     * @return {@code false} when the dispatcher is stopped and nothing is left to deliver
+     */
+    private boolean takeBatch(List<DomainEvent> batch) throws InterruptedException {
+        lock.lock();
+        try {
+            while (pending.isEmpty()) {
+                if (!running) {
+                    return false;
+                }
+                notEmpty.await();
+            }
+            Iterator<DomainEvent> head = pending.values().iterator();
+            while (head.hasNext() && batch.size() < batchSize) {
+                batch.add(head.next());
+                head.remove();
+            }
+            queueDepth = pending.size();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
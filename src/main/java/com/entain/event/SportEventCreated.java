@@ -2,10 +2,30 @@ package com.entain.event;
 
 import com.entain.data.SportEvent;
 
+import java.util.UUID;
+
 /**
  * Domain event representing the creation of a new {@link SportEvent}.
  * <p>
  * This event is published after a SportEvent is successfully created.
  * Listeners can use this event to notify clients, update logs, or trigger further processing.
  */
-public record SportEventCreated(SportEvent event) implements DomainEvent {}
\ No newline at end of file
+public record SportEventCreated(SportEvent event, long publishedAtNanos) implements DomainEvent {
+
+    /**
+     * Creates the domain event stamped with the current time, for publishing right away.
+     */
+    public SportEventCreated(SportEvent event) {
+        this(event, System.nanoTime());
+    }
+
+    @Override
+    public UUID eventId() {
+        return event.id();
+    }
+
+    @Override
+    public long version() {
+        return event.version();
+    }
+}
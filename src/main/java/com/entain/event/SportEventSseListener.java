@@ -5,7 +5,6 @@ import com.entain.service.SseEmitterService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 /**
@@ -22,6 +21,14 @@ import org.springframework.stereotype.Service;
  * <p>
  * This approach decouples the business logic in {@link com.entain.service.SportEventService} from the delivery mechanism (SSE),
  * making it easier to extend the system in the future (e.g., sending events to Kafka, WebSocket, or other channels).
+ * <p>
+ * Delivery runs on the {@code eventExecutor} {@link StripedExecutor}, keyed by the SportEvent id. Updates for the same
+ * event therefore reach subscribers in the order they were published, while updates for different events are still
+ * handled in parallel. Publish order is not necessarily version order: concurrent writers publish after leaving the
+ * store's lock, and peers or the leader deliver their own changes. Clients compare the {@code version} of updates.
+ * <p>
+ * The publish time of each domain event is passed on with the update, so its delivery latency is measured from the
+ * moment of the change (see {@link com.entain.sse.DeliveryTracer}).
  */
 @Slf4j
 @Service
@@ -29,46 +36,51 @@ import org.springframework.stereotype.Service;
 public class SportEventSseListener {
 
     private final SseEmitterService sseEmitterService;
+    private final StripedExecutor eventExecutor;
 
     /**
      * Handles the {@link SportEventCreated} event.
      * <p>
      * When a new SportEvent is created, this method is automatically invoked by Spring
-     * and sends the full SportEvent to all subscribed clients via SSE.
+     * and schedules sending the full SportEvent to all subscribed clients via SSE.
      *
      * @param event the domain event representing the creation of a new SportEvent
      */
-    @Async("eventExecutor")
     @EventListener
     public void onEventCreated(SportEventCreated event) {
-        if (log.isDebugEnabled()) {
-            log.debug("Handling SportEventCreated in thread: {}", Thread.currentThread().getName());
-        }
-        sseEmitterService.emitUpdate(event.event());
+        SportEvent created = event.event();
+        eventExecutor.execute(created.id(), () -> {
+            if (log.isDebugEnabled()) {
+                log.debug("Handling SportEventCreated in thread: {}", Thread.currentThread().getName());
+            }
+            sseEmitterService.emitUpdate(created, event.publishedAtNanos());
+        });
     }
 
     /**
      * Handles the {@link SportEventStatusChanged} event.
      * <p>
      * When a SportEvent changes its status, this method is automatically invoked by Spring.
-     * It constructs a full SportEvent object with the updated status and sends it to all subscribed clients via SSE.
+     * It constructs a full SportEvent object with the updated status and schedules sending it to all subscribed
+     * clients via SSE, after any update for the same event that is still pending.
      *
      * @param event the domain event representing the status change of a SportEvent
      */
-    @Async("eventExecutor")
     @EventListener
     public void onEventStatusChanged(SportEventStatusChanged event) {
-        if (log.isDebugEnabled()) {
-            log.debug("Handling SportEventStatusChanged in thread: {}", Thread.currentThread().getName());
-        }
-        sseEmitterService.emitUpdate(
-                new SportEvent(
-                        event.eventId(),
-                        event.name(),
-                        event.sport(),
-                        event.newStatus(),
-                        event.startTime()
-                )
+        SportEvent updated = new SportEvent(
+                event.eventId(),
+                event.name(),
+                event.sport(),
+                event.newStatus(),
+                event.startTime(),
+                event.version()
         );
+        eventExecutor.execute(updated.id(), () -> {
+            if (log.isDebugEnabled()) {
+                log.debug("Handling SportEventStatusChanged in thread: {}", Thread.currentThread().getName());
+            }
+            sseEmitterService.emitUpdate(updated, event.publishedAtNanos());
+        });
     }
 }
@@ -9,12 +9,27 @@ import java.util.UUID;
  * Domain event representing a status change of a {@link com.entain.data.SportEvent}.
  * <p>
  * This event is published whenever the status of a SportEvent changes (e.g., INACTIVE → ACTIVE, ACTIVE → FINISHED).
- * It contains all relevant information about the event so that listeners can send updates to clients or other systems.
+ * It contains all relevant information about the event so that listeners can send updates to clients or other systems,
+ * including the {@link com.entain.data.SportEvent#version() version} the change produced.
+ * <p>
+ * Equality includes {@link #publishedAtNanos()}, so two notifications of the same change published separately
+ * are different events.
  */
 public record SportEventStatusChanged(
         UUID eventId,
         EventStatus newStatus,
         String name,
         String sport,
-        LocalDateTime startTime
-) implements DomainEvent {}
+        LocalDateTime startTime,
+        long version,
+        long publishedAtNanos
+) implements DomainEvent {
+
+    /**
+     * Creates the domain event stamped with the current time, for publishing right away.
+     */
+    public SportEventStatusChanged(UUID eventId, EventStatus newStatus, String name, String sport,
+                                   LocalDateTime startTime, long version) {
+        this(eventId, newStatus, name, sport, startTime, version, System.nanoTime());
+    }
+}
@@ -0,0 +1,130 @@
+package com.entain.event;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Executor that serializes tasks per key while running different keys in parallel.
+ * <p>
+ * Tasks are routed to one of a fixed number of single-threaded stripes by the hash of their key,
+ * so all tasks submitted for the same key (e.g. a {@link com.entain.data.SportEvent} id) run one after
+ * another in submission order. Tasks for keys on different stripes run concurrently, and no global lock
+ * is involved.
+ * <p>
+ * Each stripe has its own bounded queue; when it is full, the given {@link RejectedExecutionHandler} decides
+ * what happens, exactly as for a regular {@link ThreadPoolExecutor}. Every call to the handler is counted as a
+ * saturation, and every call that ends in an exception as a rejection.
+ */
+public class StripedExecutor implements Executor {
+
+    private final ThreadPoolExecutor[] stripes;
+    private final AtomicInteger nextStripe = new AtomicInteger();
+    private final LongAdder saturated = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * Creates stripes backed by platform threads named {@code threadNamePrefix + stripeIndex}.
+     */
+    public StripedExecutor(String threadNamePrefix, int stripeCount, int queueCapacity,
+                           RejectedExecutionHandler rejectedExecutionHandler) {
+        this(platformThreads(threadNamePrefix), stripeCount, queueCapacity, rejectedExecutionHandler);
+    }
+
+    /**
+     * Creates stripes whose worker threads come from the given factory, e.g. a virtual thread factory.
+     */
+    public StripedExecutor(ThreadFactory threadFactory, int stripeCount, int queueCapacity,
+                           RejectedExecutionHandler rejectedExecutionHandler) {
+        if (stripeCount < 1) {
+            throw new IllegalArgumentException("stripeCount must be positive: " + stripeCount);
+        }
+        stripes = new ThreadPoolExecutor[stripeCount];
+        RejectedExecutionHandler countingHandler = (task, executor) -> {
+            saturated.increment();
+            try {
+                rejectedExecutionHandler.rejectedExecution(task, executor);
+            } catch (RuntimeException e) {
+                rejected.increment();
+                throw e;
+            }
+        };
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ThreadPoolExecutor(
+                    1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(queueCapacity),
+                    threadFactory,
+                    countingHandler
+            );
+        }
+    }
+
+    /**
+     * Runs the task after all previously submitted tasks with an equal key.
+     *
+     * @param key  ordering key, e.g. the sport event id
+     * @param task the task to run
+     */
+    public void execute(Object key, Runnable task) {
+        int hash = key.hashCode();
+        stripes[Math.floorMod(hash ^ (hash >>> 16), stripes.length)].execute(task);
+    }
+
+    /**
+     * Runs an unkeyed task on the next stripe in round-robin order. No ordering is guaranteed.
+     */
+    @Override
+    public void execute(Runnable task) {
+        stripes[Math.floorMod(nextStripe.getAndIncrement(), stripes.length)].execute(task);
+    }
+
+    public int getStripeCount() {
+        return stripes.length;
+    }
+
+    public int getActiveCount() {
+        int active = 0;
+        for (ThreadPoolExecutor stripe : stripes) {
+            active += stripe.getActiveCount();
+        }
+        return active;
+    }
+
+    public int getQueueSize() {
+        int queued = 0;
+        for (ThreadPoolExecutor stripe : stripes) {
+            queued += stripe.getQueue().size();
+        }
+        return queued;
+    }
+
+    /**
+     * @return number of tasks that found their stripe's queue full and were handed to the rejection handler
+     */
+    public long getSaturatedCount() {
+        return saturated.sum();
+    }
+
+    /**
+     * @return number of tasks the rejection handler finally refused
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public void shutdown() {
+        for (ThreadPoolExecutor stripe : stripes) {
+            stripe.shutdown();
+        }
+    }
+
+    private static ThreadFactory platformThreads(String threadNamePrefix) {
+        AtomicInteger index = new AtomicInteger();
+        return r -> new Thread(r, threadNamePrefix + index.getAndIncrement());
+    }
+}
@@ -1,20 +1,48 @@
 package com.entain.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import java.time.Duration;
 import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import static com.entain.config.EntainConstant.QUEUE_SIZE;
 import static com.entain.config.EntainConstant.THREAD_POOL_FULL_ERROR;
 
+/**
+ * Rejection policy for bounded executors.
+ * <p>
+ * With a positive offer timeout the submitting thread waits up to that long for room in the queue,
+ * which turns a full executor into backpressure on the producer. If there is still no room
+ * (or no timeout is configured), the rejection is logged and reported as {@link AsyncTaskRejectedException}.
+ */
 @Slf4j
 public class CustomRejectedExecutionHandler implements RejectedExecutionHandler {
 
+    private final long offerTimeoutMillis;
+
+    public CustomRejectedExecutionHandler() {
+        this(Duration.ZERO);
+    }
+
+    public CustomRejectedExecutionHandler(Duration offerTimeout) {
+        this.offerTimeoutMillis = offerTimeout.toMillis();
+    }
+
     @Override
     public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+        if (offerTimeoutMillis > 0 && !executor.isShutdown()) {
+            try {
+                if (executor.getQueue().offer(r, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
         String message = THREAD_POOL_FULL_ERROR
                 + executor.getActiveCount() 
                 + QUEUE_SIZE + executor.getQueue().size();
         log.error(message);
         throw new AsyncTaskRejectedException(message);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,12 @@
+package com.entain.exception;
+
+import java.util.UUID;
+
+import static com.entain.config.EntainConstant.EVENT_CONFLICT;
+import static com.entain.config.EntainConstant.SPORT_EVENT;
+
+public class EventConflictException extends IllegalStateException {
+    public EventConflictException(UUID id) {
+        super(SPORT_EVENT + id + EVENT_CONFLICT);
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.util.Arrays;
 import java.util.List;
@@ -18,12 +19,64 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(EventNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleNotFound(EventNotFoundException ex) {
-        return buildError(HttpStatus.NOT_FOUND, ex.getMessage());
+        return buildError(ex);
     }
 
     @ExceptionHandler(InvalidStatusChangeException.class)
     public ResponseEntity<ErrorResponse> handleInvalidStatus(InvalidStatusChangeException ex) {
-        return buildError(HttpStatus.BAD_REQUEST, ex.getMessage());
+        return buildError(ex);
+    }
+
+    @ExceptionHandler(InvalidPageRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidPage(InvalidPageRequestException ex) {
+        return buildError(ex);
+    }
+
+    @ExceptionHandler(InvalidTimeRangeException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidTimeRange(InvalidTimeRangeException ex) {
+        return buildError(ex);
+    }
+
+    @ExceptionHandler(InvalidBatchRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidBatch(InvalidBatchRequestException ex) {
+        return buildError(ex);
+    }
+
+    @ExceptionHandler(EventConflictException.class)
+    public ResponseEntity<ErrorResponse> handleEventConflict(EventConflictException ex) {
+        return buildError(ex);
+    }
+
+    @ExceptionHandler(VersionConflictException.class)
+    public ResponseEntity<ErrorResponse> handleVersionConflict(VersionConflictException ex) {
+        return buildError(ex);
+    }
+
+    @ExceptionHandler(ShardUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleShardUnavailable(ShardUnavailableException ex) {
+        return buildError(ex);
+    }
+
+    @ExceptionHandler(ReadOnlyReplicaException.class)
+    public ResponseEntity<ErrorResponse> handleReadOnlyReplica(ReadOnlyReplicaException ex) {
+        return buildError(ex);
+    }
+
+    @ExceptionHandler(InvalidClusterSecretException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidClusterSecret(InvalidClusterSecretException ex) {
+        return buildError(ex);
+    }
+
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidParameter(MethodArgumentTypeMismatchException ex) {
+        Class<?> targetType = ex.getParameter().nestedIfOptional().getNestedParameterType();
+        String message;
+        if (targetType.isEnum()) {
+            message = INVALID_VALUE + ex.getName() + ACCEPTED_VALUES + Arrays.toString(targetType.getEnumConstants());
+        } else {
+            message = INVALID_VALUE + ex.getName() + EXPECTED_TYPE + targetType.getSimpleName();
+        }
+        return buildError(HttpStatus.BAD_REQUEST, message);
     }
 
     @ExceptionHandler(Exception.class)
@@ -55,7 +108,59 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(AsyncTaskRejectedException.class)
     public ResponseEntity<ErrorResponse> handleAsyncRejected(AsyncTaskRejectedException ex) {
-        return buildError(HttpStatus.SERVICE_UNAVAILABLE, TASK_REJECTED + ex.getMessage());
+        return buildError(ex);
+    }
+
+    /**
+     * Status answered for an exception thrown by a request. Shared with the per-item results of batch requests, so
+     * that an item fails with the status the single-item endpoint would answer.
+     */
+    public static HttpStatus statusOf(RuntimeException ex) {
+        if (ex instanceof InvalidClusterSecretException) {
+            return HttpStatus.FORBIDDEN;
+        }
+        if (ex instanceof EventNotFoundException) {
+            return HttpStatus.NOT_FOUND;
+        }
+        if (ex instanceof EventConflictException) {
+            return HttpStatus.CONFLICT;
+        }
+        if (ex instanceof VersionConflictException) {
+            return HttpStatus.PRECONDITION_FAILED;
+        }
+        if (ex instanceof InvalidStatusChangeException || ex instanceof InvalidPageRequestException
+                || ex instanceof InvalidTimeRangeException || ex instanceof InvalidBatchRequestException) {
+            return HttpStatus.BAD_REQUEST;
+        }
+        if (ex instanceof ShardUnavailableException || ex instanceof ReadOnlyReplicaException
+                || ex instanceof AsyncTaskRejectedException) {
+            return HttpStatus.SERVICE_UNAVAILABLE;
+        }
+        return HttpStatus.INTERNAL_SERVER_ERROR;
+    }
+
+    /**
+     * Error body for an exception, as {@link #statusOf(RuntimeException)}; internal errors do not reveal their
+     * message.
+     */
+    public static ErrorResponse errorOf(RuntimeException ex) {
+        HttpStatus status = statusOf(ex);
+        String message;
+        if (status == HttpStatus.INTERNAL_SERVER_ERROR) {
+            message = INTERNAL_SERVER_ERROR;
+        } else if (ex instanceof AsyncTaskRejectedException) {
+            message = TASK_REJECTED + ex.getMessage();
+        } else {
+            message = ex.getMessage();
+        }
+        return ErrorResponse.of(message, status);
+    }
+
+    private ResponseEntity<ErrorResponse> buildError(RuntimeException ex) {
+        ErrorResponse error = errorOf(ex);
+        return ResponseEntity
+                .status(error.status())
+                .body(error);
     }
 
     private ResponseEntity<ErrorResponse> buildError(HttpStatus status, String message) {
@@ -0,0 +1,9 @@
+package com.entain.exception;
+
+import static com.entain.config.EntainConstant.INVALID_CLUSTER_SECRET;
+
+public class InvalidClusterSecretException extends RuntimeException {
+    public InvalidClusterSecretException() {
+        super(INVALID_CLUSTER_SECRET);
+    }
+}
@@ -0,0 +1,7 @@
+package com.entain.exception;
+
+public class InvalidTimeRangeException extends RuntimeException {
+    public InvalidTimeRangeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,9 @@
+package com.entain.exception;
+
+import static com.entain.config.EntainConstant.READ_ONLY_REPLICA;
+
+public class ReadOnlyReplicaException extends RuntimeException {
+    public ReadOnlyReplicaException(String leaderUrl) {
+        super(READ_ONLY_REPLICA + leaderUrl);
+    }
+}
@@ -0,0 +1,9 @@
+package com.entain.exception;
+
+import static com.entain.config.EntainConstant.SHARD_UNAVAILABLE;
+
+public class ShardUnavailableException extends RuntimeException {
+    public ShardUnavailableException(String shard, Throwable cause) {
+        super(SHARD_UNAVAILABLE + shard, cause);
+    }
+}
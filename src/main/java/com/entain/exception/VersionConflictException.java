@@ -0,0 +1,11 @@
+package com.entain.exception;
+
+import java.util.UUID;
+import static com.entain.config.EntainConstant.SPORT_EVENT;
+import static com.entain.config.EntainConstant.VERSION_CONFLICT;
+
+public class VersionConflictException extends RuntimeException {
+    public VersionConflictException(UUID id) {
+        super(SPORT_EVENT + id + VERSION_CONFLICT);
+    }
+}
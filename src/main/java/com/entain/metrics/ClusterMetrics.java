@@ -0,0 +1,41 @@
+package com.entain.metrics;
+
+import com.entain.cluster.ClusterBus;
+import com.entain.cluster.ClusterForwarder;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Publishes how many domain events this node exchanged with its peers.
+ */
+@Component
+@RequiredArgsConstructor
+public class ClusterMetrics implements MeterBinder {
+
+    public static final String MESSAGES = "sportevents.cluster.messages";
+
+    private final ClusterForwarder clusterForwarder;
+    private final ClusterBus clusterBus;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        messages(registry, "forwarded", clusterForwarder, ClusterForwarder::getForwardedCount);
+        messages(registry, "received", clusterForwarder, ClusterForwarder::getReceivedCount);
+        messages(registry, "duplicate", clusterForwarder, ClusterForwarder::getDuplicateCount);
+        messages(registry, "dropped", clusterBus, ClusterBus::getDroppedCount);
+        messages(registry, "malformed", clusterBus, ClusterBus::getMalformedCount);
+    }
+
+    private static <T> void messages(MeterRegistry registry, String outcome, T source,
+                                     ToDoubleFunction<T> count) {
+        FunctionCounter.builder(MESSAGES, source, count)
+                .description("Cluster messages by outcome")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+}
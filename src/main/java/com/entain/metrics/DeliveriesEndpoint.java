@@ -0,0 +1,55 @@
+package com.entain.metrics;
+
+import com.entain.service.SseEmitterService;
+import com.entain.sse.DeliveryTracer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Debug view of SSE delivery latency at {@code /actuator/deliveries}: the p99 of every stage and the slowest of the
+ * recent deliveries, with their breakdown by stage. See {@link DeliveryTracer} for what each stage covers.
+ */
+@Component
+@Endpoint(id = "deliveries")
+@RequiredArgsConstructor
+public class DeliveriesEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final SseEmitterService sseEmitterService;
+
+    /**
+     * @param limit number of slow deliveries to list, {@value #DEFAULT_LIMIT} if not given
+     */
+    @ReadOperation
+    public DeliveryReport deliveries(@Nullable Integer limit) {
+        DeliveryTracer tracer = sseEmitterService.getDeliveryTracer();
+        Map<String, StageSummary> stages = new LinkedHashMap<>();
+        for (DeliveryTracer.Stage stage : DeliveryTracer.Stage.values()) {
+            stages.put(stage.tag(), new StageSummary(
+                    tracer.timer(stage).count(),
+                    tracer.p99Millis(stage),
+                    tracer.timer(stage).max(TimeUnit.MILLISECONDS)));
+        }
+        return new DeliveryReport(stages, tracer.slowest(limit == null ? DEFAULT_LIMIT : Math.max(0, limit)));
+    }
+
+    public record DeliveryReport(Map<String, StageSummary> stages, List<DeliveryTracer.Delivery> slowest) {
+    }
+
+    /**
+     * @param count     deliveries recorded since startup
+     * @param p99Millis 99th percentile over the recent window
+     * @param maxMillis maximum over the recent window
+     */
+    public record StageSummary(long count, double p99Millis, double maxMillis) {
+    }
+}
@@ -0,0 +1,69 @@
+package com.entain.metrics;
+
+import com.entain.event.EventDispatcher;
+import com.entain.event.StripedExecutor;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Publishes the state of the notification path: the {@link EventDispatcher} buffer and the {@code eventExecutor}
+ * stripes behind it.
+ *
+ * <p>All values are read from counters the components keep anyway; nothing is recorded per event here.</p>
+ */
+@Component
+public class DispatchMetrics implements MeterBinder {
+
+    public static final String DISPATCHER_QUEUE = "sportevents.dispatch.queue";
+    public static final String DISPATCHER_EVENTS = "sportevents.dispatch.events";
+    public static final String EXECUTOR_ACTIVE = "sportevents.executor.active";
+    public static final String EXECUTOR_QUEUE = "sportevents.executor.queue";
+    public static final String EXECUTOR_SATURATED = "sportevents.executor.saturated";
+    public static final String EXECUTOR_REJECTED = "sportevents.executor.rejected";
+
+    private final EventDispatcher dispatcher;
+    private final StripedExecutor eventExecutor;
+
+    public DispatchMetrics(EventDispatcher dispatcher, @Qualifier("eventExecutor") StripedExecutor eventExecutor) {
+        this.dispatcher = dispatcher;
+        this.eventExecutor = eventExecutor;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(DISPATCHER_QUEUE, dispatcher, EventDispatcher::getQueueDepth)
+                .description("Sport events with a notification waiting to be dispatched")
+                .register(registry);
+        dispatcherEvents(registry, "dispatched", EventDispatcher::getDispatchedCount);
+        dispatcherEvents(registry, "coalesced", EventDispatcher::getCoalescedCount);
+        dispatcherEvents(registry, "dropped", EventDispatcher::getDroppedCount);
+        dispatcherEvents(registry, "failed", EventDispatcher::getFailedCount);
+
+        Gauge.builder(EXECUTOR_ACTIVE, eventExecutor, StripedExecutor::getActiveCount)
+                .description("eventExecutor stripes currently running a listener")
+                .register(registry);
+        Gauge.builder(EXECUTOR_QUEUE, eventExecutor, StripedExecutor::getQueueSize)
+                .description("Listener tasks queued across all eventExecutor stripes")
+                .register(registry);
+        FunctionCounter.builder(EXECUTOR_SATURATED, eventExecutor, StripedExecutor::getSaturatedCount)
+                .description("Listener tasks that found their stripe full and waited for room")
+                .register(registry);
+        FunctionCounter.builder(EXECUTOR_REJECTED, eventExecutor, StripedExecutor::getRejectedCount)
+                .description("Listener tasks rejected after waiting for room in a full stripe")
+                .register(registry);
+    }
+
+    private void dispatcherEvents(MeterRegistry registry, String outcome,
+                                  ToDoubleFunction<EventDispatcher> count) {
+        FunctionCounter.builder(DISPATCHER_EVENTS, dispatcher, count)
+                .description("Domain event notifications by outcome")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+}
@@ -0,0 +1,38 @@
+package com.entain.metrics;
+
+import com.entain.service.EventListingCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes how often {@code GET /events} listings are served from the {@link EventListingCache}, and its size.
+ */
+@Component
+@RequiredArgsConstructor
+public class ListingCacheMetrics implements MeterBinder {
+
+    public static final String REQUESTS = "sportevents.listing.cache";
+    public static final String BYTES = "sportevents.listing.cache.bytes";
+
+    private final EventListingCache cache;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(REQUESTS, cache, EventListingCache::getHitCount)
+                .description("Listings requested from the cache")
+                .tag("outcome", "hit")
+                .register(registry);
+        FunctionCounter.builder(REQUESTS, cache, EventListingCache::getMissCount)
+                .description("Listings requested from the cache")
+                .tag("outcome", "miss")
+                .register(registry);
+        Gauge.builder(BYTES, cache, EventListingCache::getCachedBytes)
+                .description("Serialized listings held by the cache")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+}
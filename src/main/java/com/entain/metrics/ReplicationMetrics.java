@@ -0,0 +1,45 @@
+package com.entain.metrics;
+
+import com.entain.replication.ReplicationFollower;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes how far a follower ({@code store.type=replica}) is behind its leader.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "store", name = "type", havingValue = "replica")
+public class ReplicationMetrics implements MeterBinder {
+
+    public static final String LAG = "sportevents.replication.lag";
+    public static final String LAG_CHANGES = "sportevents.replication.lag.changes";
+    public static final String APPLIED = "sportevents.replication.applied";
+    public static final String SNAPSHOTS = "sportevents.replication.snapshots";
+
+    private final ReplicationFollower follower;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        TimeGauge.builder(LAG, follower, TimeUnit.MILLISECONDS, ReplicationFollower::getLagMillis)
+                .description("Time since this follower last had every change logged by the leader")
+                .register(registry);
+        Gauge.builder(LAG_CHANGES, follower, ReplicationFollower::getLagChanges)
+                .description("Changes logged by the leader that this follower has not applied yet")
+                .register(registry);
+        FunctionCounter.builder(APPLIED, follower, ReplicationFollower::getAppliedCount)
+                .description("Changes received from the leader's log")
+                .register(registry);
+        FunctionCounter.builder(SNAPSHOTS, follower, ReplicationFollower::getSnapshotCount)
+                .description("Full reloads of the leader's events")
+                .register(registry);
+    }
+}
@@ -0,0 +1,47 @@
+package com.entain.metrics;
+
+import com.entain.service.SseEmitterService;
+import com.entain.sse.SseStats;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes SSE delivery state: connected subscribers, updates they lost and why they were disconnected.
+ *
+ * <p>The per-update fan-out latency is recorded by {@link SseEmitterService} itself, see
+ * {@link SseEmitterService#FAN_OUT_TIMER}.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class SseMetrics implements MeterBinder {
+
+    public static final String SUBSCRIBERS = "sportevents.sse.subscribers";
+    public static final String DROPPED_FRAMES = "sportevents.sse.dropped.frames";
+    public static final String DISCONNECTS = "sportevents.sse.disconnects";
+
+    private final SseEmitterService sseEmitterService;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(SUBSCRIBERS, sseEmitterService, SseEmitterService::getSubscriberCount)
+                .description("Connected SSE subscribers")
+                .register(registry);
+
+        SseStats stats = sseEmitterService.getStats();
+        FunctionCounter.builder(DROPPED_FRAMES, stats, SseStats::getDroppedFrames)
+                .description("Updates discarded from full subscriber queues")
+                .register(registry);
+        FunctionCounter.builder(DISCONNECTS, stats, SseStats::getOverflowDisconnects)
+                .description("Subscribers dropped by the server")
+                .tag("reason", "overflow")
+                .register(registry);
+        FunctionCounter.builder(DISCONNECTS, stats, SseStats::getWriteFailures)
+                .description("Subscribers dropped by the server")
+                .tag("reason", "write_failed")
+                .register(registry);
+    }
+}
@@ -0,0 +1,39 @@
+package com.entain.metrics;
+
+import com.entain.data.EventStatus;
+import com.entain.data.access.SportEventDAO;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the size of the event store per status and the number of writes applied to it.
+ *
+ * <p>Gauges are sampled on scrape through {@link SportEventDAO#count(EventStatus)}, which the in-memory store answers
+ * from its status index, so a scrape does not touch the events themselves.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class StoreMetrics implements MeterBinder {
+
+    public static final String EVENTS = "sportevents.store.events";
+    public static final String WRITES = "sportevents.store.writes";
+
+    private final SportEventDAO sportEventDAO;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (EventStatus status : EventStatus.values()) {
+            Gauge.builder(EVENTS, sportEventDAO, dao -> dao.count(status))
+                    .description("Number of stored sport events")
+                    .tag("status", status.name())
+                    .register(registry);
+        }
+        FunctionCounter.builder(WRITES, sportEventDAO, SportEventDAO::changeCount)
+                .description("Writes applied to the store since startup, including restored state")
+                .register(registry);
+    }
+}
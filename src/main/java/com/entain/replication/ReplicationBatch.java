@@ -0,0 +1,17 @@
+package com.entain.replication;
+
+import com.entain.cluster.ClusterMessage;
+
+import java.util.List;
+
+/**
+ * Changes read from the leader's {@link ReplicationLog}.
+ *
+ * @param origin  incarnation of the leader's log; a different value means the leader restarted
+ * @param oldest  sequence number of the oldest change still in the log; a follower that has not applied the one
+ *                before it has missed changes and must reload a snapshot
+ * @param head    sequence number of the newest change in the log, 0 if there is none yet
+ * @param changes the changes following the requested sequence number, in order
+ */
+public record ReplicationBatch(String origin, long oldest, long head, List<ClusterMessage> changes) {
+}
@@ -0,0 +1,236 @@
+package com.entain.replication;
+
+import com.entain.cluster.ClusterMessage;
+import com.entain.config.ClusterConfig;
+import com.entain.config.ReplicationConfig;
+import com.entain.controller.ReplicationController;
+import com.entain.data.access.ReplicaSportEventStore;
+import com.entain.event.EventDispatcher;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.entain.config.EntainConstant.CLUSTER_SECRET_HEADER;
+
+/**
+ * Keeps a follower ({@code store.type=replica}) up to date with the leader at {@code replication.leader-url}.
+ *
+ * <p>One thread tails the leader's {@link ReplicationLog}: it starts from a {@link ReplicationSnapshot}, then
+ * repeatedly asks for the changes after the last one applied. Each change newer than the local state is applied
+ * to the {@link ReplicaSportEventStore} and then handed to the local {@link EventDispatcher}, so this node's SSE
+ * subscribers are notified only once a read on this node returns the change. Replicated changes are not forwarded
+ * to other nodes.</p>
+ *
+ * <p>The follower reloads a snapshot when the leader restarted or when it fell behind the changes the leader
+ * still keeps; updates in between are not announced to subscribers.</p>
+ *
+ * <p>Lag is measured without comparing clocks: {@link #getLagMillis()} is the time since the follower last knew
+ * it had applied everything the leader had logged, and {@link #getLagChanges()} the changes it still has to
+ * apply.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "store", name = "type", havingValue = "replica")
+public class ReplicationFollower {
+
+    private final RestClient leader;
+    private final ReplicaSportEventStore store;
+    private final EventDispatcher dispatcher;
+    private final int batchSize;
+    private final long pollWaitMs;
+    private final long retryIntervalMs;
+    private final long maxLagMs;
+
+    private final LongAdder applied = new LongAdder();
+    private final LongAdder snapshots = new LongAdder();
+
+    private volatile String origin;
+    private volatile long appliedSequence;
+    private volatile long leaderHead;
+    private volatile long caughtUpAtNanos = System.nanoTime();
+    private volatile boolean synced;
+    private volatile boolean running;
+    private Thread thread;
+
+    @Autowired
+    public ReplicationFollower(ReplicationConfig config, ClusterConfig clusterConfig, ReplicaSportEventStore store,
+                               EventDispatcher dispatcher, RestClient.Builder restClientBuilder) {
+        this(restClientBuilder.clone()
+                        .baseUrl(config.getLeaderUrl())
+                        .defaultHeader(CLUSTER_SECRET_HEADER, clusterConfig.requireSecret("store.type=replica"))
+                        .requestFactory(requestFactory(config))
+                        .build(),
+                store, dispatcher, config);
+    }
+
+    ReplicationFollower(RestClient leader, ReplicaSportEventStore store, EventDispatcher dispatcher,
+                        ReplicationConfig config) {
+        this.leader = leader;
+        this.store = store;
+        this.dispatcher = dispatcher;
+        this.batchSize = config.getBatchSize();
+        this.pollWaitMs = config.getPollWaitMs();
+        this.retryIntervalMs = config.getRetryIntervalMs();
+        this.maxLagMs = config.getMaxLagMs();
+    }
+
+    private static SimpleClientHttpRequestFactory requestFactory(ReplicationConfig config) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(Math.toIntExact(config.getTimeoutMs()));
+        // The leader holds the request open for up to poll-wait-ms when there is nothing new
+        requestFactory.setReadTimeout(Math.toIntExact(config.getPollWaitMs() + config.getTimeoutMs()));
+        return requestFactory;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        thread = new Thread(this::run, "replication-follower");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    private void run() {
+        boolean failing = false;
+        while (running) {
+            try {
+                poll();
+                if (failing) {
+                    log.info("Replication from the leader resumed");
+                    failing = false;
+                }
+            } catch (RuntimeException e) {
+                // Unreachable leader, error response or unreadable body alike: keep the current copy and retry
+                if (!failing) {
+                    log.warn("Replication from the leader failed, retrying every {} ms: {}", retryIntervalMs,
+                            e.toString());
+                    failing = true;
+                }
+                try {
+                    TimeUnit.MILLISECONDS.sleep(retryIntervalMs);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Fetches and applies one batch of changes, or a snapshot if the log cannot be followed from where this node is.
+     */
+    void poll() {
+        if (!synced) {
+            loadSnapshot();
+            return;
+        }
+        ReplicationBatch batch = leader.get()
+                .uri(uri -> uri.path(ReplicationController.PATH + "/changes")
+                        .queryParam("after", appliedSequence)
+                        .queryParam("limit", batchSize)
+                        .queryParam("waitMs", pollWaitMs)
+                        .build())
+                .retrieve()
+                .body(ReplicationBatch.class);
+        if (!batch.origin().equals(origin)) {
+            log.info("Leader restarted, reloading its events");
+            loadSnapshot();
+            return;
+        }
+        if (appliedSequence + 1 < batch.oldest()) {
+            log.warn("Fell behind the leader's log (applied {}, oldest kept {}), reloading its events",
+                    appliedSequence, batch.oldest());
+            loadSnapshot();
+            return;
+        }
+        for (ClusterMessage change : batch.changes()) {
+            if (change.sequence() <= appliedSequence) {
+                continue;
+            }
+            if (store.apply(change.event())) {
+                dispatcher.submit(change.toDomainEvent(System.nanoTime()));
+            }
+            appliedSequence = change.sequence();
+            applied.increment();
+        }
+        leaderHead = batch.head();
+        if (appliedSequence >= leaderHead) {
+            caughtUpAtNanos = System.nanoTime();
+        }
+    }
+
+    private void loadSnapshot() {
+        ReplicationSnapshot snapshot = leader.get()
+                .uri(ReplicationController.PATH + "/snapshot")
+                .retrieve()
+                .body(ReplicationSnapshot.class);
+        store.reset(snapshot.events());
+        origin = snapshot.origin();
+        appliedSequence = snapshot.sequence();
+        leaderHead = snapshot.sequence();
+        caughtUpAtNanos = System.nanoTime();
+        synced = true;
+        snapshots.increment();
+        log.info("Loaded {} events from the leader at change {}", snapshot.events().size(), snapshot.sequence());
+    }
+
+    /**
+     * @return whether a snapshot of the leader has been loaded
+     */
+    public boolean isSynced() {
+        return synced;
+    }
+
+    /**
+     * @return milliseconds since this node last knew it had applied every change logged by the leader
+     */
+    public long getLagMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - caughtUpAtNanos);
+    }
+
+    /**
+     * @return changes logged by the leader, as of the last response, that this node has not applied yet
+     */
+    public long getLagChanges() {
+        return Math.max(0, leaderHead - appliedSequence);
+    }
+
+    /**
+     * @return whether reads on this node are recent enough to be served, within {@code replication.max-lag-ms}
+     */
+    public boolean isWithinMaxLag() {
+        return synced && getLagMillis() <= maxLagMs;
+    }
+
+    public long getMaxLagMillis() {
+        return maxLagMs;
+    }
+
+    public long getAppliedSequence() {
+        return appliedSequence;
+    }
+
+    public long getAppliedCount() {
+        return applied.sum();
+    }
+
+    public long getSnapshotCount() {
+        return snapshots.sum();
+    }
+}
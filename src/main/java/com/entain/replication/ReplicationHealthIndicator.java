@@ -0,0 +1,32 @@
+package com.entain.replication;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports a follower as out of service until it has loaded the leader's events and whenever its lag exceeds
+ * {@code replication.max-lag-ms}, so that a load balancer checking {@code /actuator/health} only sends reads to
+ * followers that are close enough to the leader.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "store", name = "type", havingValue = "replica")
+public class ReplicationHealthIndicator implements HealthIndicator {
+
+    private final ReplicationFollower follower;
+
+    @Override
+    public Health health() {
+        Health.Builder health = follower.isWithinMaxLag() ? Health.up() : Health.outOfService();
+        return health
+                .withDetail("synced", follower.isSynced())
+                .withDetail("lagMillis", follower.getLagMillis())
+                .withDetail("lagChanges", follower.getLagChanges())
+                .withDetail("maxLagMillis", follower.getMaxLagMillis())
+                .withDetail("appliedSequence", follower.getAppliedSequence())
+                .build();
+    }
+}
@@ -0,0 +1,98 @@
+package com.entain.replication;
+
+import com.entain.cluster.ClusterMessage;
+import com.entain.config.ReplicationConfig;
+import com.entain.event.DomainEvent;
+import com.entain.event.DomainEventSink;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The leader's ordered log of changes ({@code replication.leader=true}), tailed by followers through
+ * {@link com.entain.controller.ReplicationController}.
+ *
+ * <p>Every domain event published on the leader is numbered and kept in a ring of the last
+ * {@code replication.log-capacity} changes. A follower asks for the changes after the last sequence number it
+ * applied; if there are none yet the request waits for the next one (long polling), so a change reaches idle
+ * followers without a polling delay.</p>
+ *
+ * <p>Changes are appended when they are published, which is after they are stored but not necessarily in the
+ * order of their versions: two changes of one event made concurrently can be appended in either order. Every
+ * change carries the full state and version of the event, so followers keep the highest version they see.</p>
+ */
+@Component
+@ConditionalOnProperty(prefix = "replication", name = "leader", havingValue = "true")
+public class ReplicationLog implements DomainEventSink {
+
+    // A restarted leader numbers its changes from 1 again, so followers must be able to tell
+    private final String origin = UUID.randomUUID().toString();
+    private final ClusterMessage[] ring;
+    private long head;
+
+    public ReplicationLog(ReplicationConfig config) {
+        this(config.getLogCapacity());
+    }
+
+    ReplicationLog(int capacity) {
+        this.ring = new ClusterMessage[capacity];
+    }
+
+    @Override
+    public synchronized void accept(DomainEvent event) {
+        head++;
+        ring[(int) (head % ring.length)] = ClusterMessage.of(origin, head, event);
+        notifyAll();
+    }
+
+    @Override
+    public synchronized void acceptAll(Collection<? extends DomainEvent> events) {
+        for (DomainEvent event : events) {
+            head++;
+            ring[(int) (head % ring.length)] = ClusterMessage.of(origin, head, event);
+        }
+        notifyAll();
+    }
+
+    /**
+     * Returns the changes following {@code after}, waiting up to {@code waitMs} for one if there is none yet.
+     *
+     * @param after sequence number of the last change the caller has applied
+     * @param limit maximum number of changes to return
+     * @return the changes; none if {@code after} is older than the log, which the caller detects from
+     *         {@link ReplicationBatch#oldest()}
+     */
+    public synchronized ReplicationBatch read(long after, int limit, long waitMs) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitMs);
+        long remaining = waitMs;
+        while (head <= after && remaining > 0) {
+            wait(remaining);
+            remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        }
+        long oldest = oldest();
+        List<ClusterMessage> changes = new ArrayList<>();
+        if (after + 1 >= oldest) {
+            for (long sequence = after + 1; sequence <= head && changes.size() < limit; sequence++) {
+                changes.add(ring[(int) (sequence % ring.length)]);
+            }
+        }
+        return new ReplicationBatch(origin, oldest, head, changes);
+    }
+
+    public synchronized long head() {
+        return head;
+    }
+
+    public String origin() {
+        return origin;
+    }
+
+    private long oldest() {
+        return Math.max(1, head - ring.length + 1);
+    }
+}
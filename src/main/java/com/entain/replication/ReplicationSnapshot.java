@@ -0,0 +1,16 @@
+package com.entain.replication;
+
+import com.entain.data.SportEvent;
+
+import java.util.List;
+
+/**
+ * Every event of the leader, for a follower starting up or too far behind to catch up from the log.
+ *
+ * @param origin   incarnation of the leader's log
+ * @param sequence the log's head when the snapshot was started; every change up to it is included, later ones
+ *                 may be
+ * @param events   the leader's events
+ */
+public record ReplicationSnapshot(String origin, long sequence, List<SportEvent> events) {
+}
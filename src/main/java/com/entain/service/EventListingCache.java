@@ -0,0 +1,223 @@
+package com.entain.service;
+
+import com.entain.config.ListingCacheConfig;
+import com.entain.data.EventStatus;
+import com.entain.data.SportEvent;
+import com.entain.dto.SportEventResponse;
+import com.entain.event.DomainEvent;
+import com.entain.event.DomainEventSink;
+import com.entain.event.SportEventCreated;
+import com.entain.event.SportEventStatusChanged;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Materialized read model of {@code GET /events}: the serialized JSON of each status/sport listing, kept until a
+ * change touches it, so repeated requests such as dashboard polling are answered from bytes.
+ *
+ * <p>As a {@link DomainEventSink} the cache sees every change published on this node and invalidates only the
+ * listings it can affect: a created event those of its sport and status and the unfiltered ones, a status change
+ * those of its sport in every status, since the previous status is not part of the notification.</p>
+ *
+ * <p>Not every change is published here: peers of a sharded store, the leader of a replica and a restored
+ * snapshot change the store without it. A listing is therefore also checked against
+ * {@link com.entain.data.access.SportEventDAO#changeCount()}: it is served only if every change since it was built
+ * has been published through this cache. Otherwise it is rebuilt, as if every listing had been invalidated.</p>
+ *
+ * <p>Consistency: a listing records, in this order, the published change count, its invalidation count and the
+ * store's change count before reading the events, and a reader compares them in the same order. A change is counted
+ * in the store once visible, then invalidates, then counts as published, so a listing that misses a change can
+ * never pass the check. A listing read while a change was still unpublished is served but not cached.</p>
+ *
+ * <p>Every request reads the change count, hit or not. With {@code store.type=sharded} that asks every other node
+ * for its count and fails if one is unreachable, and every change made through another node rebuilds all listings,
+ * since it is not published here: the cache then saves the transfer of the listing at best.</p>
+ */
+@Component
+public class EventListingCache implements DomainEventSink {
+
+    /**
+     * One serialized listing.
+     *
+     * @param json        the JSON array of {@link SportEventResponse}s
+     * @param changeCount store change count the listing was read at; unique per listing content, used for its ETag
+     */
+    public record Listing(byte[] json, long changeCount) {
+    }
+
+    private record Key(EventStatus status, String sport) {
+    }
+
+    /**
+     * A {@link Listing} with the counts it was built at.
+     */
+    private record Entry(Listing listing, long published, long invalidations) {
+    }
+
+    /**
+     * The cache line of one key; {@code invalidations} grows with every change that may affect it.
+     */
+    private static final class Slot {
+        final AtomicLong invalidations = new AtomicLong();
+        volatile Entry entry;
+    }
+
+    private final ObjectWriter writer;
+    private final boolean enabled;
+    private final int maxEntries;
+    private final long maxEntryBytes;
+    private final Map<Key, Slot> slots = new ConcurrentHashMap<>();
+    private final AtomicLong published = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public EventListingCache(ObjectMapper objectMapper, ListingCacheConfig config) {
+        this.writer = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, SportEventResponse.class));
+        this.enabled = config.isEnabled();
+        this.maxEntries = config.getMaxEntries();
+        this.maxEntryBytes = config.getMaxEntrySize().toBytes();
+    }
+
+    /**
+     * Returns the listing for the filter, from the cache if nothing it shows has changed since it was built.
+     *
+     * @param changeCount the store's {@link com.entain.data.access.SportEventDAO#changeCount()}
+     * @param events      reads the matching events when the listing has to be built
+     */
+    public Listing get(EventStatus status, String sport, LongSupplier changeCount,
+                       Supplier<List<SportEvent>> events) {
+        Key key = new Key(status, sport == null ? null : sport.toUpperCase(Locale.ROOT));
+        Slot slot = slot(key);
+        if (slot == null) {
+            misses.increment();
+            return build(null, changeCount, events).listing();
+        }
+        Entry entry = slot.entry;
+        if (entry != null && isCurrent(slot, entry, changeCount)) {
+            hits.increment();
+            return entry.listing();
+        }
+        // One rebuild per key at a time; requests arriving meanwhile get its result
+        synchronized (slot) {
+            entry = slot.entry;
+            if (entry != null && isCurrent(slot, entry, changeCount)) {
+                hits.increment();
+                return entry.listing();
+            }
+            misses.increment();
+            entry = build(slot, changeCount, events);
+            slot.entry = entry.invalidations() < 0 ? null : entry;
+            return entry.listing();
+        }
+    }
+
+    @Override
+    public void accept(DomainEvent event) {
+        for (Map.Entry<Key, Slot> cached : slots.entrySet()) {
+            if (affects(event, cached.getKey())) {
+                cached.getValue().invalidations.incrementAndGet();
+            }
+        }
+        // Counted as published only once the listings it affects are invalidated
+        published.incrementAndGet();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return bytes of the cached listings
+     */
+    public long getCachedBytes() {
+        long bytes = 0;
+        for (Slot slot : slots.values()) {
+            Entry entry = slot.entry;
+            if (entry != null) {
+                bytes += entry.listing().json().length;
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * @return the slot of the key, or {@code null} if the listing is not to be cached
+     */
+    private Slot slot(Key key) {
+        if (!enabled) {
+            return null;
+        }
+        Slot slot = slots.get(key);
+        if (slot == null && slots.size() < maxEntries) {
+            // May overshoot maxEntries by a few under a race, which is harmless
+            slot = slots.computeIfAbsent(key, k -> new Slot());
+        }
+        return slot;
+    }
+
+    private boolean isCurrent(Slot slot, Entry entry, LongSupplier changeCount) {
+        long publishedNow = published.get();
+        long invalidationsNow = slot.invalidations.get();
+        long changeCountNow = changeCount.getAsLong();
+        return invalidationsNow == entry.invalidations()
+                && changeCountNow - entry.listing().changeCount() == publishedNow - entry.published();
+    }
+
+    /**
+     * Reads and serializes a listing. It is returned with negative counts, not to be cached, if it has no slot or is
+     * too large, or if the changes stored and the ones published during the read do not match: notifications
+     * arriving later could then balance changes the listing misses.
+     */
+    private Entry build(Slot slot, LongSupplier changeCount, Supplier<List<SportEvent>> events) {
+        long publishedBefore = published.get();
+        long invalidationsBefore = slot == null ? 0 : slot.invalidations.get();
+        long changeCountBefore = changeCount.getAsLong();
+        List<SportEventResponse> responses = events.get().stream().map(SportEventResponse::from).toList();
+        Listing listing;
+        try {
+            listing = new Listing(writer.writeValueAsBytes(responses), changeCountBefore);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (slot == null || listing.json().length > maxEntryBytes) {
+            return new Entry(listing, -1, -1);
+        }
+        boolean settled = changeCount.getAsLong() - changeCountBefore == published.get() - publishedBefore;
+        return settled
+                ? new Entry(listing, publishedBefore, invalidationsBefore)
+                : new Entry(listing, -1, -1);
+    }
+
+    private static boolean affects(DomainEvent event, Key key) {
+        String sport;
+        EventStatus status;
+        if (event instanceof SportEventCreated created) {
+            sport = created.event().sport();
+            status = created.event().status();
+        } else if (event instanceof SportEventStatusChanged changed) {
+            sport = changed.sport();
+            status = null;
+        } else {
+            return true;
+        }
+        return (key.sport() == null || sport != null && key.sport().equals(sport.toUpperCase(Locale.ROOT)))
+                && (key.status() == null || status == null || key.status() == status);
+    }
+}
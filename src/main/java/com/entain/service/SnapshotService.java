@@ -0,0 +1,80 @@
+package com.entain.service;
+
+import com.entain.config.StoreConfig;
+import com.entain.data.access.InMemorySportEventStore;
+import com.entain.data.access.snapshot.SportEventSnapshot;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Dumps and loads the whole in-memory event population as a {@link SportEventSnapshot}.
+ *
+ * <p>Used for warm restarts ({@code store.snapshot.save-on-shutdown} + {@code restore-on-startup})
+ * and for cloning a node by copying its snapshot file to another one.
+ * The log-structured store writes snapshots of its own and does not use this service.</p>
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "store", name = "type", havingValue = "memory", matchIfMissing = true)
+public class SnapshotService {
+
+    private final InMemorySportEventStore store;
+    private final StoreConfig.Snapshot config;
+
+    public SnapshotService(InMemorySportEventStore store, StoreConfig storeConfig) {
+        this.store = store;
+        this.config = storeConfig.getSnapshot();
+    }
+
+    @PostConstruct
+    public void restoreOnStartup() throws IOException {
+        Path file = Path.of(config.getPath());
+        if (config.isRestoreOnStartup() && Files.exists(file)) {
+            restore(file);
+        }
+    }
+
+    @PreDestroy
+    public void saveOnShutdown() throws IOException {
+        if (config.isSaveOnShutdown()) {
+            save(Path.of(config.getPath()));
+        }
+    }
+
+    /**
+     * Writes every stored event to {@code file}. The file is replaced atomically,
+     * so a crash while saving leaves the previous snapshot intact.
+     *
+     * @return the number of events written
+     */
+    public long save(Path file) throws IOException {
+        long start = System.nanoTime();
+        Path absolute = file.toAbsolutePath();
+        Files.createDirectories(absolute.getParent());
+        Path temp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+        long count = SportEventSnapshot.write(temp, store.findAll(null, null));
+        Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.info("Saved {} events to snapshot {} in {} ms", count, absolute, (System.nanoTime() - start) / 1_000_000);
+        return count;
+    }
+
+    /**
+     * Loads every event of the snapshot in {@code file} into the store, replacing stored events with the same id.
+     *
+     * @return the number of events read
+     */
+    public long restore(Path file) throws IOException {
+        long start = System.nanoTime();
+        long count = SportEventSnapshot.read(file, store::restore);
+        log.info("Restored {} events from snapshot {} in {} ms", count, file, (System.nanoTime() - start) / 1_000_000);
+        return count;
+    }
+}
@@ -1,31 +1,61 @@
 package com.entain.service;
 
+import com.entain.data.BatchItemResult;
 import com.entain.data.EventStatus;
 import com.entain.data.SportEvent;
+import com.entain.data.StatusChange;
+import com.entain.data.access.EventCursor;
+import com.entain.data.access.EventPage;
 import com.entain.data.access.SportEventDAO;
 import com.entain.event.DomainEventPublisher;
 import com.entain.event.SportEventCreated;
 import com.entain.event.SportEventStatusChanged;
+import com.entain.exception.EventConflictException;
 import com.entain.exception.EventNotFoundException;
+import com.entain.exception.InvalidBatchRequestException;
+import com.entain.exception.InvalidPageRequestException;
+import com.entain.exception.InvalidStatusChangeException;
+import com.entain.exception.InvalidTimeRangeException;
+import com.entain.exception.VersionConflictException;
 import com.entain.validation.EventValidationRule;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.nio.ByteBuffer;
+import java.security.SecureRandom;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static com.entain.config.EntainConstant.INVALID_BATCH_SIZE;
+import static com.entain.config.EntainConstant.INVALID_CURSOR;
+import static com.entain.config.EntainConstant.INVALID_LIMIT;
+import static com.entain.config.EntainConstant.INVALID_STATUS_CHANGE_ITEM;
+import static com.entain.config.EntainConstant.INVALID_TIME_RANGE;
+import static com.entain.config.EntainConstant.MAX_BATCH_SIZE;
+import static com.entain.config.EntainConstant.MAX_PAGE_LIMIT;
+import static com.entain.config.EntainConstant.MISSING_BATCH_ITEM;
 
 @Service
 @RequiredArgsConstructor
 public class SportEventService {
 
+    /** Timer of every public operation, tagged with the operation; see {@link io.micrometer.core.annotation.Timed}. */
+    public static final String OPERATION_TIMER = "sportevents.service";
+
+    private static final SecureRandom ID_RANDOM = new SecureRandom();
+
     private final SportEventDAO sportEventDAO;
     private final DomainEventPublisher eventPublisher;
     private final List<EventValidationRule> validationRules;
 
+    @Timed(value = OPERATION_TIMER, extraTags = {"operation", "create"}, histogram = true)
     public SportEvent createEvent(SportEvent event) {
-        for (EventValidationRule rule : validationRules) {
-            rule.validate(event, null);
-        }
+        validate(event, null);
 
         event = new SportEvent(
                 UUID.randomUUID(),
@@ -38,45 +68,265 @@ public class SportEventService {
         SportEvent stored = sportEventDAO.save(event);
 
         if (!stored.equals(event)) {
-            throw new IllegalStateException(
-                    "Event with id " + event.id() + " already exists. Conflict detected."
-            );
+            throw conflict(event.id());
         }
         eventPublisher.publish(new SportEventCreated(stored));
         return stored;
     }
 
+    /**
+     * Creates several events in one go, e.g. for feed ingestion.
+     * <p>
+     * Every event is validated on its own and invalid ones, including missing ({@code null}) ones, are reported
+     * without affecting the others. The valid ones are saved with one {@link SportEventDAO#saveAll(List)} call and announced with one
+     * {@link DomainEventPublisher#publishAll} hand-off.
+     *
+     * @return one result per requested event, in request order
+     * @throws InvalidBatchRequestException if the batch exceeds {@link com.entain.config.EntainConstant#MAX_BATCH_SIZE}
+     */
+    @Timed(value = OPERATION_TIMER, extraTags = {"operation", "create_batch"}, histogram = true)
+    public List<BatchItemResult> createEvents(List<SportEvent> events) {
+        validateBatchSize(events.size());
+        BatchItemResult[] results = new BatchItemResult[events.size()];
+        List<UUID> ids = randomIds(events.size());
+        List<SportEvent> accepted = new ArrayList<>(events.size());
+        List<Integer> acceptedPositions = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            SportEvent event = events.get(i);
+            if (event == null) {
+                results[i] = BatchItemResult.failure(new InvalidBatchRequestException(MISSING_BATCH_ITEM));
+                continue;
+            }
+            try {
+                validate(event, null);
+            } catch (RuntimeException e) {
+                results[i] = BatchItemResult.failure(e);
+                continue;
+            }
+            accepted.add(new SportEvent(ids.get(i), event.name(), event.sport(), event.status(), event.startTime()));
+            acceptedPositions.add(i);
+        }
+
+        List<SportEvent> stored = sportEventDAO.saveAll(accepted);
+        List<SportEventCreated> created = new ArrayList<>(stored.size());
+        for (int j = 0; j < stored.size(); j++) {
+            SportEvent event = accepted.get(j);
+            if (stored.get(j).equals(event)) {
+                results[acceptedPositions.get(j)] = BatchItemResult.success(event);
+                created.add(new SportEventCreated(event));
+            } else {
+                results[acceptedPositions.get(j)] = BatchItemResult.failure(conflict(event.id()));
+            }
+        }
+        eventPublisher.publishAll(created);
+        return List.of(results);
+    }
+
+    @Timed(value = OPERATION_TIMER, extraTags = {"operation", "list"}, histogram = true)
     public List<SportEvent> getEvents(EventStatus status, String sport) {
         return sportEventDAO.findAll(status, sport);
     }
 
+    /**
+     * Same as {@link #getEvents(EventStatus, String)}, restricted to events starting in {@code [from, to)},
+     * in start time order when a bound is given.
+     *
+     * @param from inclusive lower bound of the start time, or {@code null}
+     * @param to   exclusive upper bound of the start time, or {@code null}
+     * @throws InvalidTimeRangeException if {@code from} is not before {@code to}
+     */
+    @Timed(value = OPERATION_TIMER, extraTags = {"operation", "list"}, histogram = true)
+    public List<SportEvent> getEvents(EventStatus status, String sport, LocalDateTime from, LocalDateTime to) {
+        if (from == null && to == null) {
+            return getEvents(status, sport);
+        }
+        try (Stream<SportEvent> events = streamEvents(status, sport, from, to)) {
+            return events.toList();
+        }
+    }
+
+    /**
+     * Returns one page of events in start time order.
+     *
+     * @param from   inclusive lower bound of the start time, or {@code null}
+     * @param to     exclusive upper bound of the start time, or {@code null}
+     * @param cursor encoded position from the previous page, or {@code null} for the first page
+     * @param limit  page size; capped at {@link com.entain.config.EntainConstant#MAX_PAGE_LIMIT}
+     * @throws InvalidPageRequestException if the limit is below 1 or the cursor is malformed
+     * @throws InvalidTimeRangeException   if {@code from} is not before {@code to}
+     */
+    @Timed(value = OPERATION_TIMER, extraTags = {"operation", "page"}, histogram = true)
+    public EventPage getEventPage(EventStatus status, String sport, LocalDateTime from, LocalDateTime to,
+                                  String cursor, int limit) {
+        if (limit < 1) {
+            throw new InvalidPageRequestException(INVALID_LIMIT);
+        }
+        validateRange(from, to);
+        EventCursor after = null;
+        if (cursor != null) {
+            try {
+                after = EventCursor.decode(cursor);
+            } catch (IllegalArgumentException | DateTimeException e) {
+                throw new InvalidPageRequestException(INVALID_CURSOR + cursor);
+            }
+        }
+        return sportEventDAO.findPage(status, sport, from, to, after, Math.min(limit, MAX_PAGE_LIMIT));
+    }
+
+    /**
+     * Streams the matching events starting in {@code [from, to)}; in start time order when a bound is given,
+     * in no particular order otherwise. The stream must be closed by the caller.
+     *
+     * @throws InvalidTimeRangeException if {@code from} is not before {@code to}
+     */
+    @Timed(value = OPERATION_TIMER, extraTags = {"operation", "stream"}, histogram = true)
+    public Stream<SportEvent> streamEvents(EventStatus status, String sport, LocalDateTime from, LocalDateTime to) {
+        validateRange(from, to);
+        return sportEventDAO.stream(status, sport, from, to);
+    }
+
+    /**
+     * @return the number of writes applied to the store so far; while it stays the same, so does every listing
+     * @see SportEventDAO#changeCount()
+     */
+    public long getChangeCount() {
+        return sportEventDAO.changeCount();
+    }
+
+    @Timed(value = OPERATION_TIMER, extraTags = {"operation", "get"}, histogram = true)
     public SportEvent getEventById(UUID id) {
         return sportEventDAO.findById(id)
                 .orElseThrow(() -> new EventNotFoundException(id));
     }
 
+    /**
+     * Validates and applies a status change as one atomic step in the DAO, so of two concurrent requests for the
+     * same transition only one succeeds and only one notification is published.
+     *
+     * @throws EventNotFoundException        if there is no event with this id
+     * @throws InvalidStatusChangeException if the change breaks a business rule
+     */
+    @Timed(value = OPERATION_TIMER, extraTags = {"operation", "change_status"}, histogram = true)
     public SportEvent changeStatus(UUID id, EventStatus newStatus) {
-        SportEvent event = getEventById(id);
+        SportEvent event = sportEventDAO.transitionStatus(id, newStatus, this::validate)
+                .orElseThrow(() -> new EventNotFoundException(id));
 
-        for (EventValidationRule rule : validationRules) {
-            rule.validate(event, newStatus);
-        }
+        eventPublisher.publish(statusChanged(event));
 
-        // Update status immutably in DAO
-        sportEventDAO.updateStatus(id, newStatus);
+        return event;
+    }
 
-        // Fetch updated event to return (DAO returns new immutable instance)
-        event = sportEventDAO.findById(id)
+    /**
+     * Same as {@link #changeStatus(UUID, EventStatus)}, applied only if the event is still at
+     * {@code expectedVersion}. The version is compared in the same atomic step as the business rules.
+     *
+     * @throws VersionConflictException if the event has been changed since {@code expectedVersion}
+     */
+    @Timed(value = OPERATION_TIMER, extraTags = {"operation", "change_status"}, histogram = true)
+    public SportEvent changeStatus(UUID id, EventStatus newStatus, long expectedVersion) {
+        SportEvent event = sportEventDAO.transitionStatus(id, newStatus, (current, status) -> {
+                    if (current.version() != expectedVersion) {
+                        throw new VersionConflictException(id);
+                    }
+                    validate(current, status);
+                })
                 .orElseThrow(() -> new EventNotFoundException(id));
 
-        eventPublisher.publish(new SportEventStatusChanged(
+        eventPublisher.publish(statusChanged(event));
+
+        return event;
+    }
+
+    /**
+     * Applies several status changes in request order, as if they were made one by one: each change is validated
+     * against the state left by the previous ones, atomically as in {@link #changeStatus(UUID, EventStatus)}.
+     * <p>
+     * Rejected changes are reported without affecting the others. Changes without an id or a status are rejected
+     * before the store is touched; the others are applied with one
+     * {@link SportEventDAO#transitionStatuses(List, EventValidationRule)} call, and the ones applied are announced
+     * with one {@link DomainEventPublisher#publishAll} hand-off.
+     *
+     * @return one result per requested change, in request order
+     * @throws InvalidBatchRequestException if the batch exceeds {@link com.entain.config.EntainConstant#MAX_BATCH_SIZE}
+     */
+    @Timed(value = OPERATION_TIMER, extraTags = {"operation", "change_status_batch"}, histogram = true)
+    public List<BatchItemResult> changeStatuses(List<StatusChange> changes) {
+        validateBatchSize(changes.size());
+        BatchItemResult[] results = new BatchItemResult[changes.size()];
+        List<StatusChange> accepted = new ArrayList<>(changes.size());
+        List<Integer> acceptedPositions = new ArrayList<>(changes.size());
+        for (int i = 0; i < changes.size(); i++) {
+            StatusChange change = changes.get(i);
+            if (change == null || change.id() == null || change.newStatus() == null) {
+                results[i] = BatchItemResult.failure(new InvalidBatchRequestException(
+                        change == null ? MISSING_BATCH_ITEM : INVALID_STATUS_CHANGE_ITEM));
+                continue;
+            }
+            accepted.add(change);
+            acceptedPositions.add(i);
+        }
+
+        List<BatchItemResult> applied = sportEventDAO.transitionStatuses(accepted, this::validate);
+        List<SportEventStatusChanged> changed = new ArrayList<>(applied.size());
+        for (int j = 0; j < applied.size(); j++) {
+            BatchItemResult result = applied.get(j);
+            results[acceptedPositions.get(j)] = result;
+            if (result.succeeded()) {
+                changed.add(statusChanged(result.event()));
+            }
+        }
+        eventPublisher.publishAll(changed);
+        return List.of(results);
+    }
+
+    private void validate(SportEvent event, EventStatus newStatus) {
+        // Indexed, so that checking an event allocates no iterator
+        for (int i = 0; i < validationRules.size(); i++) {
+            validationRules.get(i).validate(event, newStatus);
+        }
+    }
+
+    private static SportEventStatusChanged statusChanged(SportEvent event) {
+        return new SportEventStatusChanged(
                 event.id(),
-                newStatus,
+                event.status(),
                 event.name(),
                 event.sport(),
-                event.startTime()
-        ));
+                event.startTime(),
+                event.version()
+        );
+    }
 
-        return event;
+    private static EventConflictException conflict(UUID id) {
+        return new EventConflictException(id);
+    }
+
+    /**
+     * Random (version 4) UUIDs like {@link UUID#randomUUID()}, drawing the randomness for the whole batch in one
+     * call instead of one synchronized {@link SecureRandom} call per id.
+     */
+    private static List<UUID> randomIds(int count) {
+        byte[] random = new byte[count * 16];
+        ID_RANDOM.nextBytes(random);
+        ByteBuffer buffer = ByteBuffer.wrap(random);
+        List<UUID> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long msb = (buffer.getLong() & ~0xF000L) | 0x4000L;
+            long lsb = (buffer.getLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+            ids.add(new UUID(msb, lsb));
+        }
+        return ids;
+    }
+
+    private static void validateBatchSize(int size) {
+        if (size > MAX_BATCH_SIZE) {
+            throw new InvalidBatchRequestException(INVALID_BATCH_SIZE);
+        }
+    }
+
+    private static void validateRange(LocalDateTime from, LocalDateTime to) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new InvalidTimeRangeException(INVALID_TIME_RANGE);
+        }
     }
 }
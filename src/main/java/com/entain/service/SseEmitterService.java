@@ -1,50 +1,223 @@
 package com.entain.service;
 
+import com.entain.config.SseConfig;
 import com.entain.data.SportEvent;
-import org.springframework.http.MediaType;
+import com.entain.sse.DeliveryTracer;
+import com.entain.sse.FrameTiming;
+import com.entain.sse.SseFilter;
+import com.entain.sse.SseFrame;
+import com.entain.sse.SseFrameEncoder;
+import com.entain.sse.SseReplayBuffer;
+import com.entain.sse.SseStats;
+import com.entain.sse.SseSubscriber;
+import com.entain.sse.SseSubscriberIndex;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import java.io.IOException;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Fans out sport event updates to SSE subscribers.
+ *
+ * <p>Each subscriber gets its own bounded outbound queue (see {@link SseSubscriber}) drained on the
+ * {@code sseWriterExecutor}, so {@link #emitUpdate(SportEvent)} never blocks on a client's socket and
+ * one slow consumer cannot add latency for the others.</p>
+ *
+ * <p>Each update is rendered into a {@link SseFrame} once and the same bytes are queued for every
+ * subscriber, so the JSON serialization cost does not grow with the number of clients.</p>
+ *
+ * <p>Updates are numbered: every frame carries an SSE id {@code <stream>-<sequence>}, where the stream part
+ * changes on every restart. The last {@code sse.replay-capacity} frames are kept in a {@link SseReplayBuffer},
+ * so a client reconnecting with {@code Last-Event-ID} receives only the updates it missed. If those are no
+ * longer available, it gets a {@code reset} event and must reload the full state.</p>
+ *
+ * <p>Subscribers may restrict their stream with a {@link SseFilter} (sport, status, event ids). Updates are routed
+ * through a {@link SseSubscriberIndex}, so only subscribers interested in an update are touched; replayed frames
+ * are filtered the same way.</p>
+ *
+ * <p>The time spent handing one update to its subscribers is recorded in the {@value #FAN_OUT_TIMER} timer;
+ * delivery losses are counted in the shared {@link SseStats}. The end-to-end latency from the domain event being
+ * published to each subscriber's flush is traced by a {@link DeliveryTracer}.</p>
+ */
+@Slf4j
 @Service
 public class SseEmitterService {
 
-    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    public static final String FAN_OUT_TIMER = "sportevents.sse.fanout";
+
+    private final SseSubscriberIndex subscribers = new SseSubscriberIndex();
+    private final SseConfig config;
+    private final Executor writerExecutor;
+    private final SseFrameEncoder frameEncoder;
+    private final SseStats stats = new SseStats();
+    private final Timer fanOutTimer;
+    private final DeliveryTracer deliveryTracer;
+
+    private final String streamId = Long.toString(System.currentTimeMillis(), 36);
+    // Numbering, replay buffer appends, fan-out and resume registration happen under this lock, so every
+    // subscriber sees frames in sequence order and a resuming client neither misses nor repeats one.
+    private final Object sequenceLock = new Object();
+    private final SseReplayBuffer replayBuffer;
+
+    public SseEmitterService(SseConfig config,
+                             @Qualifier("sseWriterExecutor") Executor writerExecutor,
+                             SseFrameEncoder frameEncoder,
+                             MeterRegistry meterRegistry) {
+        this.config = config;
+        this.writerExecutor = writerExecutor;
+        this.frameEncoder = frameEncoder;
+        this.fanOutTimer = Timer.builder(FAN_OUT_TIMER)
+                .description("Time to encode an update and queue it for every interested subscriber")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.deliveryTracer = new DeliveryTracer(meterRegistry, config.getTraceCapacity());
+        this.replayBuffer = new SseReplayBuffer(config.getReplayCapacity());
+    }
 
     public SseEmitter createEmitter() {
+        return createEmitter(null, SseFilter.ALL);
+    }
+
+    /**
+     * Opens a subscription, resuming after {@code lastEventId} when the missed updates are still buffered.
+     *
+     * @param lastEventId id of the last frame the client received, or {@code null} for a fresh subscription
+     * @param filter      which updates the subscriber receives
+     * @return the emitter to return from the controller
+     */
+    public SseEmitter createEmitter(String lastEventId, SseFilter filter) {
         SseEmitter emitter = new SseEmitter(0L);
-        emitters.add(emitter);
 
-        emitter.onCompletion(() -> emitters.remove(emitter));
-        emitter.onTimeout(() -> emitters.remove(emitter));
-        emitter.onError((ex) -> emitters.remove(emitter));
+        synchronized (sequenceLock) {
+            List<SseFrame> missed = lastEventId == null ? List.of() : missedSince(lastEventId, filter);
+            try {
+                if (missed == null) {
+                    // The client's state is too old to patch up: make it reload, then continue from here
+                    emitter.send(SseEmitter.event().id(currentId()).name("reset").data("replay unavailable"));
+                } else if (lastEventId == null) {
+                    emitter.send(SseEmitter.event().id(currentId()).name("init").data("connected"));
+                } else {
+                    // No id here: the client's position only advances with the replayed frames
+                    emitter.send(SseEmitter.event().name("init").data("resumed"));
+                }
+            } catch (IOException e) {
+                return emitter;
+            }
 
-        try {
-            emitter.send(SseEmitter.event().name("init").data("connected"));
-        } catch (IOException e) {
-            emitters.remove(emitter);
+            SseSubscriber subscriber = register(emitter, filter);
+            if (missed != null) {
+                missed.forEach(subscriber::offer);
+            }
         }
-
         return emitter;
     }
 
     public void emitUpdate(SportEvent event) {
-        emitters.forEach(emitter -> {
-            try {
-                emitter.send(
-                        SseEmitter.event()
-                                .name("update")
-                                .data(event, MediaType.APPLICATION_JSON)
-                );
-            } catch (IOException e) {
-                emitters.remove(emitter);
-            }
-        });
+        emitUpdate(event, System.nanoTime());
+    }
+
+    /**
+     * Sends an update to every interested subscriber.
+     *
+     * @param event            the new state of the sport event
+     * @param publishedAtNanos when the change was published, the start of the traced delivery latency; see
+     *                         {@link com.entain.event.DomainEvent#publishedAtNanos()}
+     */
+    public void emitUpdate(SportEvent event, long publishedAtNanos) {
+        if (subscribers.isEmpty() && config.getReplayCapacity() == 0) {
+            return;
+        }
+        long start = System.nanoTime();
+        byte[] json;
+        try {
+            json = frameEncoder.json(event);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to encode SSE update for event {}", event.id(), e);
+            return;
+        }
+        FrameTiming timing = new FrameTiming(publishedAtNanos, start, System.nanoTime());
+        deliveryTracer.serialized(timing);
+        synchronized (sequenceLock) {
+            SseFrame frame = frameEncoder.frame(id(replayBuffer.lastSequence() + 1), "update", event, json, timing);
+            replayBuffer.append(frame);
+            subscribers.forEachMatching(frame, subscriber -> subscriber.offer(frame));
+        }
+        fanOutTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    public SseStats getStats() {
+        return stats;
+    }
+
+    public DeliveryTracer getDeliveryTracer() {
+        return deliveryTracer;
+    }
+
+    SseSubscriber register(SseEmitter emitter) {
+        return register(emitter, SseFilter.ALL);
+    }
+
+    SseSubscriber register(SseEmitter emitter, SseFilter filter) {
+        SseSubscriber subscriber = new SseSubscriber(
+                emitter,
+                config.getQueueCapacity(),
+                config.getOverflowPolicy(),
+                writerExecutor,
+                subscribers::remove,
+                stats,
+                deliveryTracer
+        );
+        subscribers.add(subscriber, filter);
+
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError((ex) -> subscriber.close());
+        return subscriber;
+    }
+
+    List<SseSubscriber> getSubscribers() {
+        return List.copyOf(subscribers.subscribers());
+    }
+
+    /**
+     * @return the frames after {@code lastEventId} matching the filter, or {@code null} if the id belongs to
+     *         another stream, is malformed, or its successors were evicted or would not fit into a subscriber queue
+     */
+    private List<SseFrame> missedSince(String lastEventId, SseFilter filter) {
+        int separator = lastEventId.lastIndexOf('-');
+        if (separator < 0 || !lastEventId.substring(0, separator).equals(streamId)) {
+            return null;
+        }
+        long sequence;
+        try {
+            sequence = Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        List<SseFrame> missed = replayBuffer.since(sequence);
+        if (missed == null) {
+            return null;
+        }
+        missed = missed.stream().filter(filter::matches).toList();
+        return missed.size() <= config.getQueueCapacity() ? missed : null;
+    }
+
+    private String currentId() {
+        return id(replayBuffer.lastSequence());
     }
 
-    List<SseEmitter> getEmitters() {
-        return emitters;
+    private String id(long sequence) {
+        return streamId + "-" + sequence;
     }
 }
@@ -0,0 +1,150 @@
+package com.entain.sse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Measures how long a sport event change takes to reach each SSE subscriber, split into stages:
+ * <ul>
+ *     <li>{@link Stage#DISPATCH} — from publishing the domain event to the listener starting on the
+ *         {@code eventExecutor}: the dispatcher buffer and the stripe queue;</li>
+ *     <li>{@link Stage#SERIALIZE} — from the listener start to the JSON of the update being ready;</li>
+ *     <li>{@link Stage#FLUSH} — from the JSON being ready to the frame being written and flushed to one subscriber:
+ *         framing, fan-out, the subscriber's queue and the write. Recorded once per subscriber.</li>
+ * </ul>
+ * Each stage is a {@value #STAGE_TIMER} timer tagged with the stage, publishing a histogram and its p99.
+ *
+ * <p>The last {@code capacity} deliveries are also kept in a ring, from which {@link #slowest(int)} picks the
+ * slowest ones for troubleshooting. Writers only swap one array slot, so recording never blocks.</p>
+ *
+ * <p>Frames replayed to a resuming client are not recorded: their latency is the time the client was away.</p>
+ */
+public class DeliveryTracer {
+
+    public static final String STAGE_TIMER = "sportevents.delivery";
+
+    public enum Stage {
+        DISPATCH, SERIALIZE, FLUSH;
+
+        public String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * One update flushed to one subscriber; durations in microseconds.
+     */
+    public record Delivery(UUID eventId, Instant flushedAt, long dispatchMicros, long serializeMicros,
+                           long flushMicros, long totalMicros) {
+    }
+
+    private final Map<Stage, Timer> timers = new EnumMap<>(Stage.class);
+    private final AtomicReferenceArray<Delivery> recent;
+    private final AtomicLong recorded = new AtomicLong();
+
+    public DeliveryTracer(MeterRegistry registry, int capacity) {
+        for (Stage stage : Stage.values()) {
+            timers.put(stage, Timer.builder(STAGE_TIMER)
+                    .description("Latency of one stage of delivering a sport event change to SSE subscribers")
+                    .tag("stage", stage.tag())
+                    .publishPercentiles(0.99)
+                    .publishPercentileHistogram()
+                    .register(registry));
+        }
+        this.recent = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * Records the stages before the fan-out, once per update.
+     */
+    public void serialized(FrameTiming timing) {
+        record(Stage.DISPATCH, timing.listenerStartNanos() - timing.publishedAtNanos());
+        record(Stage.SERIALIZE, timing.serializedAtNanos() - timing.listenerStartNanos());
+    }
+
+    /**
+     * Records the frames of one write to a subscriber.
+     *
+     * @param frames            the frames just flushed
+     * @param subscribedAtNanos when the subscriber connected; earlier frames are replays and are skipped
+     */
+    void flushed(List<SseFrame> frames, long subscribedAtNanos) {
+        long now = System.nanoTime();
+        Instant flushedAt = null;
+        for (int i = 0; i < frames.size(); i++) {
+            SseFrame frame = frames.get(i);
+            FrameTiming timing = frame.timing();
+            if (timing == null || timing.serializedAtNanos() < subscribedAtNanos) {
+                continue;
+            }
+            long flush = now - timing.serializedAtNanos();
+            record(Stage.FLUSH, flush);
+            if (recent.length() == 0) {
+                continue;
+            }
+            if (flushedAt == null) {
+                flushedAt = Instant.now();
+            }
+            Delivery delivery = new Delivery(frame.eventId(), flushedAt,
+                    micros(timing.listenerStartNanos() - timing.publishedAtNanos()),
+                    micros(timing.serializedAtNanos() - timing.listenerStartNanos()),
+                    micros(flush),
+                    micros(now - timing.publishedAtNanos()));
+            recent.set((int) (recorded.getAndIncrement() % recent.length()), delivery);
+        }
+    }
+
+    /**
+     * @return the 99th percentile of the stage over the timer's recent window, in milliseconds; {@code NaN}
+     *         before anything was recorded
+     */
+    public double p99Millis(Stage stage) {
+        for (ValueAtPercentile value : timers.get(stage).takeSnapshot().percentileValues()) {
+            if (value.percentile() == 0.99) {
+                return value.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return Double.NaN;
+    }
+
+    public Timer timer(Stage stage) {
+        return timers.get(stage);
+    }
+
+    /**
+     * @param limit maximum number of deliveries to return
+     * @return the slowest of the recently kept deliveries, slowest first
+     */
+    public List<Delivery> slowest(int limit) {
+        List<Delivery> deliveries = new ArrayList<>(recent.length());
+        for (int i = 0; i < recent.length(); i++) {
+            Delivery delivery = recent.get(i);
+            if (delivery != null) {
+                deliveries.add(delivery);
+            }
+        }
+        deliveries.sort(Comparator.comparingLong(Delivery::totalMicros).reversed());
+        return deliveries.size() > limit ? List.copyOf(deliveries.subList(0, limit)) : deliveries;
+    }
+
+    private void record(Stage stage, long nanos) {
+        timers.get(stage).record(Math.max(0, nanos), TimeUnit.NANOSECONDS);
+    }
+
+    private static long micros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(Math.max(0, nanos));
+    }
+}
@@ -0,0 +1,12 @@
+package com.entain.sse;
+
+/**
+ * When the update in a {@link SseFrame} passed each stage before reaching the subscriber queues, as
+ * {@link System#nanoTime()} values.
+ *
+ * @param publishedAtNanos   the domain event was published, see {@link com.entain.event.DomainEvent#publishedAtNanos()}
+ * @param listenerStartNanos the listener started handling it on the {@code eventExecutor}
+ * @param serializedAtNanos  its JSON was ready
+ */
+public record FrameTiming(long publishedAtNanos, long listenerStartNanos, long serializedAtNanos) {
+}
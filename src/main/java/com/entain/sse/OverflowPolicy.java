@@ -0,0 +1,15 @@
+package com.entain.sse;
+
+/**
+ * Strategy applied when a subscriber's outbound queue is full.
+ *
+ * <ul>
+ *     <li>{@link #DROP_OLDEST} — discard the oldest queued update to make room for the new one.</li>
+ *     <li>{@link #COALESCE} — keep only the newest version queued per event id; when the queue is full of
+ *         distinct events, fall back to dropping the oldest one.</li>
+ *     <li>{@link #DISCONNECT} — close the subscriber's stream; the client is expected to reconnect and reload.</li>
+ * </ul>
+ */
+public enum OverflowPolicy {
+    DROP_OLDEST, COALESCE, DISCONNECT
+}
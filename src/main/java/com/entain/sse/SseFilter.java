@@ -0,0 +1,31 @@
+package com.entain.sse;
+
+import com.entain.data.EventStatus;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Which updates an SSE subscriber wants to receive. Every criterion is optional; a frame has to match all
+ * of the given ones.
+ *
+ * @param sport    sport of the event, case-insensitive, or {@code null} for any
+ * @param status   status of the event after the update, or {@code null} for any
+ * @param eventIds ids of the events of interest, empty for any
+ */
+public record SseFilter(String sport, EventStatus status, Set<UUID> eventIds) {
+
+    public static final SseFilter ALL = new SseFilter(null, null, Set.of());
+
+    public SseFilter {
+        sport = sport == null ? null : sport.toUpperCase(Locale.ROOT);
+        eventIds = eventIds == null ? Set.of() : Set.copyOf(eventIds);
+    }
+
+    public boolean matches(SseFrame frame) {
+        return (sport == null || sport.equals(frame.sport()))
+                && (status == null || status == frame.status())
+                && (eventIds.isEmpty() || eventIds.contains(frame.eventId()));
+    }
+}
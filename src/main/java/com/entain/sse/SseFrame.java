@@ -0,0 +1,109 @@
+package com.entain.sse;
+
+import com.entain.data.EventStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * A fully rendered SSE frame ({@code event:...}, {@code data:...} and the terminating blank line).
+ *
+ * <p>Frames are encoded once per domain event by {@link SseFrameEncoder} and the same instance is
+ * handed to every subscriber. Its {@link #payload()} is built along with it and passed to
+ * {@link ResponseBodyEmitter#send(Set)}, so the emitter writes the shared bytes as-is, without going through
+ * Jackson again.</p>
+ *
+ * <p>A frame also carries the sport and status of the event it describes, so subscription filters
+ * ({@link SseFilter}) can be evaluated without decoding the payload.</p>
+ *
+ * <p>Frames of live updates carry their {@link FrameTiming}, from which {@link DeliveryTracer} measures the
+ * delivery latency once the frame is flushed to a subscriber.</p>
+ */
+public final class SseFrame {
+
+    /** Version of frames that do not describe one version of an event. */
+    public static final long UNKNOWN_VERSION = -1;
+
+    private final UUID eventId;
+    private final String sport;
+    private final EventStatus status;
+    private final long version;
+    private final byte[] bytes;
+    private final Set<DataWithMediaType> payload;
+    private final FrameTiming timing;
+
+    public SseFrame(UUID eventId, byte[] bytes) {
+        this(eventId, null, null, bytes);
+    }
+
+    public SseFrame(UUID eventId, String sport, EventStatus status, byte[] bytes) {
+        this(eventId, sport, status, bytes, null);
+    }
+
+    public SseFrame(UUID eventId, String sport, EventStatus status, byte[] bytes, FrameTiming timing) {
+        this(eventId, sport, status, UNKNOWN_VERSION, bytes, timing);
+    }
+
+    public SseFrame(UUID eventId, String sport, EventStatus status, long version, byte[] bytes, FrameTiming timing) {
+        this.eventId = eventId;
+        this.sport = sport == null ? null : sport.toUpperCase(Locale.ROOT);
+        this.status = status;
+        this.version = version;
+        this.bytes = bytes;
+        this.payload = Set.of(new DataWithMediaType(bytes, MediaType.TEXT_EVENT_STREAM));
+        this.timing = timing;
+    }
+
+    /**
+     * @return id of the sport event this frame describes, used to coalesce pending updates
+     */
+    public UUID eventId() {
+        return eventId;
+    }
+
+    /**
+     * @return sport of the event, upper-case, or {@code null} if unknown
+     */
+    public String sport() {
+        return sport;
+    }
+
+    /**
+     * @return status of the event, or {@code null} if unknown
+     */
+    public EventStatus status() {
+        return status;
+    }
+
+    /**
+     * @return version of the event, or {@link #UNKNOWN_VERSION}; a coalesced update never replaces a newer one
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * @return the encoded frame; shared between subscribers and must not be modified
+     */
+    public byte[] bytes() {
+        return bytes;
+    }
+
+    /**
+     * @return the encoded frame as written by {@link ResponseBodyEmitter#send(Set)}
+     */
+    public Set<DataWithMediaType> payload() {
+        return payload;
+    }
+
+    /**
+     * @return when the update passed each stage before being queued, or {@code null} if it is not traced
+     */
+    public FrameTiming timing() {
+        return timing;
+    }
+}
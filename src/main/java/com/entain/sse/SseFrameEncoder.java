@@ -0,0 +1,86 @@
+package com.entain.sse;
+
+import com.entain.data.SportEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Renders sport events into ready-to-write {@link SseFrame}s.
+ *
+ * <p>The JSON payload is produced by the application {@link ObjectMapper}, so frames look exactly like
+ * the ones {@code SseEmitter.event().data(event, MediaType.APPLICATION_JSON)} would produce, but the
+ * serialization happens once per update instead of once per subscriber. Compact JSON never contains
+ * line breaks, so a single {@code data:} line is enough.</p>
+ *
+ * <p>Serialization and framing are separate steps, so a caller can serialize outside a critical section
+ * and only assign the SSE {@code id:} inside it.</p>
+ */
+@Component
+public class SseFrameEncoder {
+
+    private static final byte[] DATA = "data:".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] FRAME_END = "\n\n".getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectMapper objectMapper;
+
+    public SseFrameEncoder(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Encodes a frame without an SSE id for the given event.
+     *
+     * @param eventName SSE event name, e.g. {@code update}
+     * @param event     the sport event to send as JSON data
+     * @return the encoded frame
+     * @throws JsonProcessingException if the event cannot be serialized
+     */
+    public SseFrame encode(String eventName, SportEvent event) throws JsonProcessingException {
+        return frame(null, eventName, event, json(event));
+    }
+
+    /**
+     * @return the event serialized as compact JSON
+     * @throws JsonProcessingException if the event cannot be serialized
+     */
+    public byte[] json(SportEvent event) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(event);
+    }
+
+    /**
+     * Assembles a frame around already serialized JSON data.
+     *
+     * @param id        SSE event id, sent back by the client as {@code Last-Event-ID}; {@code null} for none
+     * @param eventName SSE event name, e.g. {@code update}
+     * @param event     the sport event the frame describes, for its id, sport and status
+     * @param json      the JSON data, see {@link #json(SportEvent)}
+     * @return the encoded frame
+     */
+    public SseFrame frame(String id, String eventName, SportEvent event, byte[] json) {
+        return frame(id, eventName, event, json, null);
+    }
+
+    /**
+     * Same as {@link #frame(String, String, SportEvent, byte[])}, for a live update whose delivery is traced.
+     *
+     * @param timing when the update passed each stage so far, or {@code null} if it is not traced
+     */
+    public SseFrame frame(String id, String eventName, SportEvent event, byte[] json, FrameTiming timing) {
+        String headerLines = (id == null ? "" : "id:" + id + "\n") + "event:" + eventName + "\n";
+        byte[] header = headerLines.getBytes(StandardCharsets.UTF_8);
+
+        byte[] frame = new byte[header.length + DATA.length + json.length + FRAME_END.length];
+        int pos = 0;
+        System.arraycopy(header, 0, frame, pos, header.length);
+        pos += header.length;
+        System.arraycopy(DATA, 0, frame, pos, DATA.length);
+        pos += DATA.length;
+        System.arraycopy(json, 0, frame, pos, json.length);
+        pos += json.length;
+        System.arraycopy(FRAME_END, 0, frame, pos, FRAME_END.length);
+        return new SseFrame(event.id(), event.sport(), event.status(), event.version(), frame, timing);
+    }
+}
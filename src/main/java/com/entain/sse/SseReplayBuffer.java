@@ -0,0 +1,59 @@
+package com.entain.sse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixed-size ring of the most recent update frames, indexed by their stream sequence number.
+ *
+ * <p>Sequence numbers are contiguous, so the frame for sequence {@code n} lives in slot {@code n % capacity}
+ * and no per-entry bookkeeping is needed. Not thread-safe: the owner serializes {@link #append(SseFrame)} and
+ * {@link #since(long)} with the assignment of sequence numbers.</p>
+ */
+public class SseReplayBuffer {
+
+    private final SseFrame[] frames;
+    private long lastSequence;
+
+    public SseReplayBuffer(int capacity) {
+        this.frames = new SseFrame[capacity];
+    }
+
+    /**
+     * Stores a frame under the next sequence number, evicting the oldest one when full.
+     *
+     * @return the sequence number assigned to the frame
+     */
+    public long append(SseFrame frame) {
+        lastSequence++;
+        if (frames.length > 0) {
+            frames[(int) (lastSequence % frames.length)] = frame;
+        }
+        return lastSequence;
+    }
+
+    /**
+     * @return sequence number of the most recent frame, {@code 0} before the first one
+     */
+    public long lastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * Returns the frames published after {@code sequence}, oldest first.
+     *
+     * @param sequence last sequence number the client has seen
+     * @return the missed frames (possibly none), or {@code null} if some of them were already evicted
+     *         or {@code sequence} was never issued
+     */
+    public List<SseFrame> since(long sequence) {
+        if (sequence > lastSequence || sequence < lastSequence - frames.length) {
+            return null;
+        }
+        List<SseFrame> missed = new ArrayList<>((int) (lastSequence - sequence));
+        for (long next = sequence + 1; next <= lastSequence; next++) {
+            missed.add(frames[(int) (next % frames.length)]);
+        }
+        return missed;
+    }
+}
@@ -0,0 +1,49 @@
+package com.entain.sse;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Delivery counters shared by all subscribers of one {@link com.entain.service.SseEmitterService}.
+ *
+ * <p>Subscribers come and go, so what they lost is added up here rather than kept per subscriber, where it would
+ * disappear with the connection. Increments are contended by every writer thread, hence {@link LongAdder}.</p>
+ */
+public class SseStats {
+
+    private final LongAdder droppedFrames = new LongAdder();
+    private final LongAdder overflowDisconnects = new LongAdder();
+    private final LongAdder writeFailures = new LongAdder();
+
+    void frameDropped() {
+        droppedFrames.increment();
+    }
+
+    void overflowDisconnect() {
+        overflowDisconnects.increment();
+    }
+
+    void writeFailed() {
+        writeFailures.increment();
+    }
+
+    /**
+     * @return updates discarded from full subscriber queues under {@link OverflowPolicy#DROP_OLDEST}
+     */
+    public long getDroppedFrames() {
+        return droppedFrames.sum();
+    }
+
+    /**
+     * @return subscribers closed because their queue was full under {@link OverflowPolicy#DISCONNECT}
+     */
+    public long getOverflowDisconnects() {
+        return overflowDisconnects.sum();
+    }
+
+    /**
+     * @return subscribers closed because a write to their connection failed
+     */
+    public long getWriteFailures() {
+        return writeFailures.sum();
+    }
+}
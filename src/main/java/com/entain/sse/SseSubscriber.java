@@ -0,0 +1,200 @@
+package com.entain.sse;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * A single SSE client together with its own bounded outbound queue.
+ *
+ * <p>Producers only {@link #offer(SseFrame) offer} pre-encoded frames, which is a short, non-blocking operation.
+ * Actual writes to the {@link SseEmitter} happen in a drain task scheduled on the shared writer executor,
+ * at most one per subscriber at a time. A slow client therefore only fills its own queue and never delays
+ * delivery to other subscribers.</p>
+ *
+ * <p>When the queue is full, the configured {@link OverflowPolicy} decides what happens.</p>
+ *
+ * <p>Updates that piled up while the previous write was in progress, e.g. after a batch request, are sent
+ * together: their frames are joined into one payload, so the client's socket is written and flushed once
+ * per run of queued updates instead of once per update.</p>
+ *
+ * <p>Dropped updates and disconnects are also added to the {@link SseStats} shared with the other subscribers,
+ * and every successful write is reported to the {@link DeliveryTracer}.</p>
+ */
+@Slf4j
+public class SseSubscriber {
+
+    /** Maximum number of writes in one drain run before yielding the writer thread to other subscribers. */
+    private static final int MAX_SENDS_PER_DRAIN = 64;
+    /** Maximum number of queued updates joined into one write. */
+    private static final int MAX_FRAMES_PER_SEND = 64;
+
+    private final SseEmitter emitter;
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
+    private final Executor writer;
+    private final Consumer<SseSubscriber> onClose;
+    private final SseStats stats;
+    private final DeliveryTracer tracer;
+    private final long subscribedAtNanos = System.nanoTime();
+
+    // Guarded by "this". Keys are event ids when coalescing and unique tokens otherwise,
+    // so the map doubles as a FIFO queue with optional replace-in-place semantics.
+    private final LinkedHashMap<Object, SseFrame> queue = new LinkedHashMap<>();
+    private boolean draining;
+    private boolean closed;
+    private long dropped;
+
+    public SseSubscriber(SseEmitter emitter, int capacity, OverflowPolicy overflowPolicy,
+                         Executor writer, Consumer<SseSubscriber> onClose, SseStats stats, DeliveryTracer tracer) {
+        this.emitter = emitter;
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        this.writer = writer;
+        this.onClose = onClose;
+        this.stats = stats;
+        this.tracer = tracer;
+    }
+
+    /**
+     * Queues an update for this subscriber and schedules a drain if none is running.
+     *
+     * @param frame the encoded update, shared with other subscribers
+     */
+    public void offer(SseFrame frame) {
+        boolean disconnect = false;
+        boolean schedule = false;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            Object key = overflowPolicy == OverflowPolicy.COALESCE ? frame.eventId() : new Object();
+            SseFrame waiting = queue.get(key);
+            if (waiting != null) {
+                // Coalescing: replace the pending update in place, keeping its position in the queue, unless it
+                // is newer; updates can arrive out of version order
+                if (frame.version() >= waiting.version()) {
+                    queue.put(key, frame);
+                }
+            } else if (queue.size() >= capacity && overflowPolicy == OverflowPolicy.DISCONNECT) {
+                disconnect = true;
+            } else {
+                if (queue.size() >= capacity) {
+                    Iterator<Object> oldest = queue.keySet().iterator();
+                    oldest.next();
+                    oldest.remove();
+                    dropped++;
+                    stats.frameDropped();
+                }
+                queue.put(key, frame);
+            }
+            if (!disconnect && !draining) {
+                draining = true;
+                schedule = true;
+            }
+        }
+        if (disconnect) {
+            log.warn("SSE subscriber queue is full ({} updates), disconnecting", capacity);
+            stats.overflowDisconnect();
+            emitter.complete();
+            close();
+        } else if (schedule) {
+            schedule();
+        }
+    }
+
+    /**
+     * Stops accepting updates and notifies the owner so the subscriber can be unregistered.
+     */
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            queue.clear();
+        }
+        onClose.accept(this);
+    }
+
+    public SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    public synchronized int getQueueSize() {
+        return queue.size();
+    }
+
+    public synchronized long getDroppedCount() {
+        return dropped;
+    }
+
+    private void schedule() {
+        try {
+            writer.execute(this::drain);
+        } catch (RuntimeException e) {
+            log.warn("SSE writer rejected drain task, closing subscriber", e);
+            close();
+        }
+    }
+
+    private void drain() {
+        List<SseFrame> batch = new ArrayList<>(MAX_FRAMES_PER_SEND);
+        for (int sent = 0; sent < MAX_SENDS_PER_DRAIN; sent++) {
+            if (!poll(batch)) {
+                return;
+            }
+            try {
+                emitter.send((batch.size() == 1 ? batch.get(0) : join(batch)).payload());
+            } catch (IOException | IllegalStateException e) {
+                stats.writeFailed();
+                close();
+                return;
+            }
+            tracer.flushed(batch, subscribedAtNanos);
+            batch.clear();
+        }
+        // Backlog left over: reschedule instead of monopolizing the writer thread
+        schedule();
+    }
+
+    /**
+     * Moves up to {@value #MAX_FRAMES_PER_SEND} queued frames into {@code batch}.
+     *
+     * @return {@code false} if there was nothing to send, in which case the drain ends
+     */
+    private synchronized boolean poll(List<SseFrame> batch) {
+        Iterator<Map.Entry<Object, SseFrame>> head = queue.entrySet().iterator();
+        if (closed || !head.hasNext()) {
+            draining = false;
+            return false;
+        }
+        while (head.hasNext() && batch.size() < MAX_FRAMES_PER_SEND) {
+            batch.add(head.next().getValue());
+            head.remove();
+        }
+        return true;
+    }
+
+    private static SseFrame join(List<SseFrame> frames) {
+        int length = 0;
+        for (SseFrame frame : frames) {
+            length += frame.bytes().length;
+        }
+        byte[] joined = new byte[length];
+        int offset = 0;
+        for (SseFrame frame : frames) {
+            System.arraycopy(frame.bytes(), 0, joined, offset, frame.bytes().length);
+            offset += frame.bytes().length;
+        }
+        return new SseFrame(null, joined);
+    }
+}
@@ -0,0 +1,129 @@
+package com.entain.sse;
+
+import com.entain.data.EventStatus;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Routes frames to the subscribers whose {@link SseFilter} matches, touching only plausible candidates.
+ *
+ * <p>Each subscriber is filed under its most selective criterion only: under each of its event ids if it has any,
+ * otherwise under its sport, otherwise under its status, otherwise in the unfiltered set. A frame therefore looks
+ * up one bucket per criterion and checks the remaining criteria of the few candidates found there. Since a
+ * subscriber lives in exactly one kind of bucket and a frame has a single event id, no candidate is visited
+ * twice. Delivery cost grows with the number of interested subscribers, not with the number of subscribers.</p>
+ *
+ * <p>All structures are concurrent, so subscribers can be added and removed while frames are routed.</p>
+ */
+public class SseSubscriberIndex {
+
+    private final Map<SseSubscriber, SseFilter> filters = new ConcurrentHashMap<>();
+    private final Set<SseSubscriber> unfiltered = ConcurrentHashMap.newKeySet();
+    private final Map<UUID, Set<SseSubscriber>> byEventId = new ConcurrentHashMap<>();
+    private final Map<String, Set<SseSubscriber>> bySport = new ConcurrentHashMap<>();
+    private final Map<EventStatus, Set<SseSubscriber>> byStatus = new EnumMap<>(EventStatus.class);
+
+    public SseSubscriberIndex() {
+        // Fully populated up front and never modified afterwards, so the EnumMap is safe to share
+        for (EventStatus status : EventStatus.values()) {
+            byStatus.put(status, ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    public void add(SseSubscriber subscriber, SseFilter filter) {
+        filters.put(subscriber, filter);
+        if (!filter.eventIds().isEmpty()) {
+            for (UUID eventId : filter.eventIds()) {
+                addToBucket(byEventId, eventId, subscriber);
+            }
+        } else if (filter.sport() != null) {
+            addToBucket(bySport, filter.sport(), subscriber);
+        } else if (filter.status() != null) {
+            byStatus.get(filter.status()).add(subscriber);
+        } else {
+            unfiltered.add(subscriber);
+        }
+    }
+
+    public void remove(SseSubscriber subscriber) {
+        SseFilter filter = filters.remove(subscriber);
+        if (filter == null) {
+            return;
+        }
+        if (!filter.eventIds().isEmpty()) {
+            for (UUID eventId : filter.eventIds()) {
+                removeFromBucket(byEventId, eventId, subscriber);
+            }
+        } else if (filter.sport() != null) {
+            removeFromBucket(bySport, filter.sport(), subscriber);
+        } else if (filter.status() != null) {
+            byStatus.get(filter.status()).remove(subscriber);
+        } else {
+            unfiltered.remove(subscriber);
+        }
+    }
+
+    /**
+     * Calls {@code action} once for every subscriber whose filter matches the frame.
+     */
+    public void forEachMatching(SseFrame frame, Consumer<SseSubscriber> action) {
+        unfiltered.forEach(action);
+        offerMatching(byEventId.get(frame.eventId()), frame, action);
+        if (frame.sport() != null) {
+            offerMatching(bySport.get(frame.sport()), frame, action);
+        }
+        if (frame.status() != null) {
+            offerMatching(byStatus.get(frame.status()), frame, action);
+        }
+    }
+
+    public SseFilter filterOf(SseSubscriber subscriber) {
+        return filters.get(subscriber);
+    }
+
+    public Set<SseSubscriber> subscribers() {
+        return filters.keySet();
+    }
+
+    public int size() {
+        return filters.size();
+    }
+
+    public boolean isEmpty() {
+        return filters.isEmpty();
+    }
+
+    private void offerMatching(Set<SseSubscriber> candidates, SseFrame frame, Consumer<SseSubscriber> action) {
+        if (candidates == null) {
+            return;
+        }
+        for (SseSubscriber candidate : candidates) {
+            SseFilter filter = filters.get(candidate);
+            if (filter != null && filter.matches(frame)) {
+                action.accept(candidate);
+            }
+        }
+    }
+
+    private static <K> void addToBucket(Map<K, Set<SseSubscriber>> index, K key, SseSubscriber subscriber) {
+        // Inside compute, so a concurrent removal cannot drop the bucket between lookup and insert
+        index.compute(key, (k, bucket) -> {
+            Set<SseSubscriber> target = bucket == null ? ConcurrentHashMap.newKeySet() : bucket;
+            target.add(subscriber);
+            return target;
+        });
+    }
+
+    private static <K> void removeFromBucket(Map<K, Set<SseSubscriber>> index, K key, SseSubscriber subscriber) {
+        // Drop emptied buckets so per-event-id subscriptions do not leave keys behind
+        index.computeIfPresent(key, (k, bucket) -> {
+            bucket.remove(subscriber);
+            return bucket.isEmpty() ? null : bucket;
+        });
+    }
+}
@@ -0,0 +1,29 @@
+package com.entain.validation;
+
+import com.entain.data.SportEvent;
+import com.entain.exception.InvalidStatusChangeException;
+import org.springframework.stereotype.Component;
+
+import static com.entain.config.EntainConstant.INVALID_NAME;
+import static com.entain.config.EntainConstant.MAX_NAME_LENGTH;
+
+/**
+ * Validation rule that limits the name of a {@link SportEvent} to
+ * {@value com.entain.config.EntainConstant#MAX_NAME_LENGTH} characters.
+ * <p>
+ * Every stored state of an event is written as one record, e.g. of the event log, so the name bounds the size of
+ * the records a client can cause.
+ * </p>
+ *
+ * <p>Throws {@link InvalidStatusChangeException} if the name is too long.</p>
+ */
+@Component
+public class EventNameRule implements BasicEventValidationRule {
+
+    @Override
+    public void validate(SportEvent event) {
+        if (event.name() != null && event.name().length() > MAX_NAME_LENGTH) {
+            throw new InvalidStatusChangeException(INVALID_NAME);
+        }
+    }
+}
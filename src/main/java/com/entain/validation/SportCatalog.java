@@ -0,0 +1,145 @@
+package com.entain.validation;
+
+import com.entain.data.SportType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, case-insensitive set of the allowed sport names, compiled once into a perfect hash table.
+ *
+ * <p>{@link #compile(Collection)} searches for a hash seed under which every name lands in its own slot of a
+ * power-of-two table. {@link #contains(String)} then hashes the candidate character by character, case-folded,
+ * and compares it with the single name in its slot: one pass over the string, no allocation and no probing,
+ * whatever the number of configured sports.</p>
+ *
+ * <p>Names differing only in case are one sport; the first spelling given is the one reported.</p>
+ */
+public final class SportCatalog {
+
+    /** Seeds tried per table size before the table is doubled. */
+    private static final int SEEDS_PER_SIZE = 1 << 10;
+    private static final int MAX_TABLE_SIZE = 1 << 20;
+
+    private final String[] slots;
+    private final int mask;
+    private final int seed;
+    private final List<String> names;
+    private final String description;
+
+    private SportCatalog(String[] slots, int seed, List<String> names) {
+        this.slots = slots;
+        this.mask = slots.length - 1;
+        this.seed = seed;
+        this.names = names;
+        this.description = names.toString();
+    }
+
+    /**
+     * @param extraTypes sports configured on top of {@link SportType}, may be {@code null}
+     * @return the catalog of every {@link SportType} followed by {@code extraTypes}
+     */
+    public static SportCatalog of(Collection<String> extraTypes) {
+        List<String> names = new ArrayList<>();
+        for (SportType type : SportType.values()) {
+            names.add(type.name());
+        }
+        if (extraTypes != null) {
+            names.addAll(extraTypes);
+        }
+        return compile(names);
+    }
+
+    /**
+     * Builds the perfect hash table for the given names. Runs at startup and on configuration changes only.
+     *
+     * @throws IllegalArgumentException if a name is {@code null}
+     */
+    public static SportCatalog compile(Collection<String> names) {
+        Map<String, String> unique = new LinkedHashMap<>();
+        for (String name : names) {
+            if (name == null) {
+                throw new IllegalArgumentException("Sport names must not be null");
+            }
+            unique.putIfAbsent(fold(name), name);
+        }
+        List<String> distinct = List.copyOf(unique.values());
+
+        // Twice as many slots as names keeps the expected number of seeds to try small
+        int size = Integer.highestOneBit(Math.max(1, distinct.size() * 2 - 1)) << 1;
+        for (; size <= MAX_TABLE_SIZE; size <<= 1) {
+            for (int seed = 0; seed < SEEDS_PER_SIZE; seed++) {
+                String[] slots = place(distinct, size, seed);
+                if (slots != null) {
+                    return new SportCatalog(slots, seed, distinct);
+                }
+            }
+        }
+        throw new IllegalStateException("No perfect hash found for " + distinct.size() + " sports");
+    }
+
+    /**
+     * @return whether {@code sport} is one of the allowed sports, ignoring case
+     */
+    public boolean contains(String sport) {
+        if (sport == null) {
+            return false;
+        }
+        String candidate = slots[hash(sport, seed) & mask];
+        return candidate != null && candidate.equalsIgnoreCase(sport);
+    }
+
+    /**
+     * @return the allowed sports in configuration order, enum constants first
+     */
+    public List<String> names() {
+        return names;
+    }
+
+    /**
+     * @return the allowed sports formatted as a list, e.g. for an error message
+     */
+    @Override
+    public String toString() {
+        return description;
+    }
+
+    private static String[] place(List<String> names, int size, int seed) {
+        String[] slots = new String[size];
+        for (String name : names) {
+            int slot = hash(name, seed) & (size - 1);
+            if (slots[slot] != null) {
+                return null;
+            }
+            slots[slot] = name;
+        }
+        return slots;
+    }
+
+    /**
+     * Seeded FNV-1a over the case-folded characters, so that all spellings of a name hash alike.
+     */
+    private static int hash(String value, int seed) {
+        int h = 0x811c9dc5 ^ seed * 0x9e3779b9;
+        for (int i = 0; i < value.length(); i++) {
+            h = (h ^ foldChar(value.charAt(i))) * 0x01000193;
+        }
+        return h ^ (h >>> 16);
+    }
+
+    // Same folding as String.equalsIgnoreCase
+    private static char foldChar(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    private static String fold(String value) {
+        char[] folded = new char[value.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = foldChar(value.charAt(i));
+        }
+        return new String(folded);
+    }
+}
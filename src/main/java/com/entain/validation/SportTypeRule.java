@@ -4,11 +4,9 @@ import com.entain.config.SportsConfig;
 import com.entain.data.SportEvent;
 import com.entain.data.SportType;
 import com.entain.exception.InvalidStatusChangeException;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays;
-import java.util.stream.Stream;
+import java.util.List;
 
 import static com.entain.config.EntainConstant.ACCEPTED_VALUES;
 import static com.entain.config.EntainConstant.INVALID_SPORT;
@@ -17,36 +15,55 @@ import static com.entain.config.EntainConstant.INVALID_SPORT;
  * Validation rule that ensures a {@link SportEvent} has a valid sport type.
  * <p>
  * The rule checks against both the predefined {@link SportType} enum values
- * and any additional sport types defined in {@link SportsConfig}.
+ * and any additional sport types defined in {@link SportsConfig}, ignoring case.
  * </p>
  *
+ * <p>The allowed sports are compiled into a {@link SportCatalog}, so a check is a single hash lookup that allocates
+ * nothing. The catalog is rebuilt when the configured list is replaced, e.g. by a configuration properties rebind;
+ * changes made inside the existing list are not noticed.</p>
+ *
  * <p>Throws {@link InvalidStatusChangeException} if the sport type is invalid.</p>
  */
 @Component
-@RequiredArgsConstructor
 public class SportTypeRule implements BasicEventValidationRule {
 
     private final SportsConfig config;
+    private volatile Compiled compiled;
+
+    public SportTypeRule(SportsConfig config) {
+        this.config = config;
+        this.compiled = compile(config.getExtraTypes());
+    }
 
     @Override
     public void validate(SportEvent event) {
-        String sport = event.sport();
-        boolean isValid = Arrays.stream(SportType.values())
-                .anyMatch(s -> s.name().equalsIgnoreCase(sport));
-
-        if (!isValid && config.getExtraTypes() != null) {
-            isValid = config.getExtraTypes().stream()
-                    .anyMatch(s -> s.equalsIgnoreCase(sport));
+        SportCatalog catalog = catalog();
+        if (!catalog.contains(event.sport())) {
+            throw new InvalidStatusChangeException(INVALID_SPORT + event.sport() + ACCEPTED_VALUES + catalog);
         }
+    }
 
-        if (!isValid) {
-            throw new InvalidStatusChangeException(
-                    INVALID_SPORT + sport + ACCEPTED_VALUES +
-                            Stream.concat(
-                                    Arrays.stream(SportType.values()).map(Enum::name),
-                                    config.getExtraTypes() != null ? config.getExtraTypes().stream() : Stream.empty()
-                            ).toList()
-            );
+    /**
+     * @return the catalog for the currently configured sports
+     */
+    SportCatalog catalog() {
+        List<String> extraTypes = config.getExtraTypes();
+        Compiled current = compiled;
+        if (current.extraTypes() != extraTypes) {
+            // A racing thread may compile the same list too; either result is correct
+            current = compile(extraTypes);
+            compiled = current;
         }
+        return current.catalog();
+    }
+
+    private static Compiled compile(List<String> extraTypes) {
+        return new Compiled(extraTypes, SportCatalog.of(extraTypes));
+    }
+
+    /**
+     * A catalog together with the configured list it was compiled from.
+     */
+    private record Compiled(List<String> extraTypes, SportCatalog catalog) {
     }
-}
\ No newline at end of file
+}
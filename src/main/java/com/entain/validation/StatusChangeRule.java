@@ -5,7 +5,13 @@ import com.entain.data.SportEvent;
 import com.entain.exception.InvalidStatusChangeException;
 import org.springframework.stereotype.Component;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneRules;
+import java.util.EnumMap;
+import java.util.Map;
 
 /**
  * Validation rule that ensures a {@link SportEvent} transitions only
@@ -19,26 +25,73 @@ import java.time.LocalDateTime;
  *   <li>FINISHED → cannot transition to any other state.</li>
  * </ul>
  *
+ * <p>The rules are precomputed into an {@link EnumMap} matrix indexed by current and new status, and the start
+ * time is compared with the clock in epoch milliseconds, so an allowed change is checked without allocating.</p>
+ *
  * <p>Throws {@link InvalidStatusChangeException} if a forbidden transition is attempted.</p>
  */
 @Component
 public class StatusChangeRule implements EventValidationRule {
 
+    private enum Transition {
+        ALLOWED,
+        ALLOWED_BEFORE_START,
+        FORBIDDEN
+    }
+
+    private static final Map<EventStatus, Map<EventStatus, Transition>> TRANSITIONS = transitions();
+
+    private final Clock clock;
+
+    public StatusChangeRule() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * @param clock source of the current time; its zone is the one start times are expressed in
+     */
+    public StatusChangeRule(Clock clock) {
+        this.clock = clock;
+    }
+
     @Override
     public void validate(SportEvent event, EventStatus newStatus) {
-        switch (event.status()) {
-            case INACTIVE -> {
-                if (newStatus == EventStatus.FINISHED)
-                    throw new InvalidStatusChangeException();
-                if (newStatus == EventStatus.ACTIVE && event.startTime().isBefore(LocalDateTime.now()))
-                    throw new InvalidStatusChangeException();
+        if (newStatus == null) {
+            // Not a status change but a new event, which can only be created INACTIVE
+            if (event.status() != EventStatus.INACTIVE)
+                throw new InvalidStatusChangeException();
+            return;
+        }
+        switch (TRANSITIONS.get(event.status()).get(newStatus)) {
+            case ALLOWED -> {
             }
-            case ACTIVE -> {
-                if (newStatus != EventStatus.FINISHED)
+            case ALLOWED_BEFORE_START -> {
+                if (hasStarted(event.startTime()))
                     throw new InvalidStatusChangeException();
             }
-            case FINISHED -> throw new InvalidStatusChangeException();
+            case FORBIDDEN -> throw new InvalidStatusChangeException();
         }
     }
-}
 
+    private boolean hasStarted(LocalDateTime startTime) {
+        ZoneRules rules = clock.getZone().getRules();
+        ZoneOffset offset = rules.isFixedOffset() ? rules.getOffset(Instant.EPOCH) : rules.getOffset(startTime);
+        long startMillis = startTime.toEpochSecond(offset) * 1000 + startTime.getNano() / 1_000_000;
+        return startMillis < clock.millis();
+    }
+
+    private static Map<EventStatus, Map<EventStatus, Transition>> transitions() {
+        Map<EventStatus, Map<EventStatus, Transition>> matrix = new EnumMap<>(EventStatus.class);
+        for (EventStatus from : EventStatus.values()) {
+            Map<EventStatus, Transition> row = new EnumMap<>(EventStatus.class);
+            for (EventStatus to : EventStatus.values()) {
+                row.put(to, Transition.FORBIDDEN);
+            }
+            matrix.put(from, row);
+        }
+        matrix.get(EventStatus.INACTIVE).put(EventStatus.INACTIVE, Transition.ALLOWED);
+        matrix.get(EventStatus.INACTIVE).put(EventStatus.ACTIVE, Transition.ALLOWED_BEFORE_START);
+        matrix.get(EventStatus.ACTIVE).put(EventStatus.FINISHED, Transition.ALLOWED);
+        return matrix;
+    }
+}
@@ -0,0 +1,149 @@
+package com.entain.cluster;
+
+import com.entain.config.ClusterConfig;
+import com.entain.data.EventStatus;
+import com.entain.data.SportEvent;
+import com.entain.event.DomainEvent;
+import com.entain.event.EventDispatcher;
+import com.entain.event.SportEventCreated;
+import com.entain.event.SportEventStatusChanged;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class ClusterForwarderTest {
+
+    /**
+     * Keeps what is broadcast and lets the test deliver messages as if they came from a peer.
+     */
+    private static class RecordingBus implements ClusterBus {
+        final List<ClusterMessage> sent = new ArrayList<>();
+        Consumer<ClusterMessage> receiver;
+
+        @Override
+        public void broadcast(ClusterMessage message) {
+            sent.add(message);
+        }
+
+        @Override
+        public void onMessage(Consumer<ClusterMessage> receiver) {
+            this.receiver = receiver;
+        }
+    }
+
+    private final RecordingBus bus = new RecordingBus();
+    private final EventDispatcher dispatcher = mock(EventDispatcher.class);
+    private final ClusterForwarder forwarder = new ClusterForwarder(bus, dispatcher, config("node-a"));
+
+    private static ClusterConfig config(String nodeId) {
+        ClusterConfig config = new ClusterConfig();
+        config.setNodeId(nodeId);
+        return config;
+    }
+
+    private static SportEvent event() {
+        return new SportEvent(UUID.randomUUID(), "Match", "FOOTBALL", EventStatus.INACTIVE,
+                LocalDateTime.of(2030, 1, 1, 18, 0));
+    }
+
+    private static ClusterMessage fromPeer(long sequence) {
+        return new ClusterMessage("node-b/1", sequence, ClusterMessage.Kind.CREATED, event());
+    }
+
+    @Test
+    void forward_numbersMessagesOfThisNode() {
+        SportEvent event = event();
+        SportEvent active = event.withStatus(EventStatus.ACTIVE);
+
+        forwarder.forwardAll(List.of(new SportEventCreated(event), new SportEventStatusChanged(active.id(),
+                active.status(), active.name(), active.sport(), active.startTime(), active.version())));
+
+        assertThat(bus.sent).extracting(ClusterMessage::sequence).containsExactly(1L, 2L);
+        assertThat(bus.sent).extracting(ClusterMessage::origin).containsOnly(forwarder.getOrigin());
+        assertThat(forwarder.getOrigin()).startsWith("node-a/");
+        assertThat(bus.sent.get(1).kind()).isEqualTo(ClusterMessage.Kind.STATUS_CHANGED);
+        assertThat(bus.sent.get(1).event()).isEqualTo(active);
+    }
+
+    @Test
+    void receive_submitsEachPeerMessageOnceLocally() {
+        bus.receiver.accept(fromPeer(2));
+        bus.receiver.accept(fromPeer(1));
+        bus.receiver.accept(fromPeer(2));
+        bus.receiver.accept(fromPeer(3));
+
+        // 1 arrived late but within the window; the second 2 is a duplicate
+        verify(dispatcher, times(3)).submit(any());
+        assertThat(forwarder.getReceivedCount()).isEqualTo(3);
+        assertThat(forwarder.getDuplicateCount()).isEqualTo(1);
+        assertThat(bus.sent).isEmpty();
+    }
+
+    @Test
+    void receive_ignoresOwnAndTooOldMessages() {
+        forwarder.forward(new SportEventCreated(event()));
+        bus.receiver.accept(bus.sent.get(0));
+
+        bus.receiver.accept(fromPeer(ClusterForwarder.WINDOW + 5L));
+        bus.receiver.accept(fromPeer(5));
+
+        verify(dispatcher, times(1)).submit(any());
+        assertThat(forwarder.getDuplicateCount()).isEqualTo(1);
+    }
+
+    @Test
+    void receive_rejectsIncompleteMessages() {
+        SportEvent event = event();
+        List<ClusterMessage> incomplete = List.of(
+                new ClusterMessage(null, 1, ClusterMessage.Kind.CREATED, event),
+                new ClusterMessage("node-b/1", 1, null, event),
+                new ClusterMessage("node-b/1", 1, ClusterMessage.Kind.CREATED, null));
+
+        for (ClusterMessage message : incomplete) {
+            assertThatThrownBy(() -> bus.receiver.accept(message)).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        verifyNoInteractions(dispatcher);
+        assertThat(forwarder.getOriginCount()).isZero();
+    }
+
+    @Test
+    void receive_forgetsTheStalestOriginBeyondTheLimit() {
+        bus.receiver.accept(new ClusterMessage("stale/1", 1, ClusterMessage.Kind.CREATED, event()));
+        for (int i = 0; i < ClusterForwarder.MAX_ORIGINS; i++) {
+            bus.receiver.accept(new ClusterMessage("node-" + i + "/1", 1, ClusterMessage.Kind.CREATED, event()));
+        }
+
+        assertThat(forwarder.getOriginCount()).isEqualTo(ClusterForwarder.MAX_ORIGINS);
+        // A recent origin is still de-duplicated, the stalest one starts over
+        bus.receiver.accept(new ClusterMessage("node-0/1", 1, ClusterMessage.Kind.CREATED, event()));
+        assertThat(forwarder.getDuplicateCount()).isEqualTo(1);
+        bus.receiver.accept(new ClusterMessage("stale/1", 1, ClusterMessage.Kind.CREATED, event()));
+        assertThat(forwarder.getDuplicateCount()).isEqualTo(1);
+    }
+
+    @Test
+    void receivedMessage_becomesLocalDomainEvent() {
+        ClusterForwarder peer = new ClusterForwarder(new RecordingBus(), mock(EventDispatcher.class), config("node-b"));
+        SportEvent finished = event().withStatus(EventStatus.ACTIVE).withStatus(EventStatus.FINISHED);
+        SportEventStatusChanged change = new SportEventStatusChanged(finished.id(), finished.status(),
+                finished.name(), finished.sport(), finished.startTime(), finished.version());
+
+        ClusterMessage message = ClusterMessage.of(peer.getOrigin(), 1, change);
+        bus.receiver.accept(message);
+
+        ArgumentCaptor<DomainEvent> submitted = ArgumentCaptor.forClass(DomainEvent.class);
+        verify(dispatcher).submit(submitted.capture());
+        SportEventStatusChanged received = (SportEventStatusChanged) submitted.getValue();
+        assertThat(received).usingRecursiveComparison().ignoringFields("publishedAtNanos").isEqualTo(change);
+    }
+}
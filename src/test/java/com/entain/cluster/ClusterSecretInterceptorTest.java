@@ -0,0 +1,68 @@
+package com.entain.cluster;
+
+import com.entain.exception.GlobalExceptionHandler;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static com.entain.config.EntainConstant.CLUSTER_SECRET_HEADER;
+import static com.entain.config.EntainConstant.INVALID_CLUSTER_SECRET;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class ClusterSecretInterceptorTest {
+
+    @RestController
+    static class Endpoints {
+        @GetMapping("/internal/shard/count")
+        public long internal() {
+            return 3;
+        }
+
+        @GetMapping("/events/count")
+        public long external() {
+            return 3;
+        }
+    }
+
+    private static MockMvc mockMvc(String secret) {
+        return MockMvcBuilders
+                .standaloneSetup(new Endpoints())
+                .addMappedInterceptors(new String[]{ClusterSecretInterceptor.PATH_PATTERN},
+                        new ClusterSecretInterceptor(secret))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void internalRequest_withTheSecret_isServed() throws Exception {
+        mockMvc("s3cret").perform(get("/internal/shard/count").header(CLUSTER_SECRET_HEADER, "s3cret"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("3"));
+    }
+
+    @Test
+    void internalRequest_withoutOrWithAnotherSecret_isForbidden() throws Exception {
+        MockMvc mockMvc = mockMvc("s3cret");
+
+        mockMvc.perform(get("/internal/shard/count"))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.message").value(INVALID_CLUSTER_SECRET));
+        mockMvc.perform(get("/internal/shard/count").header(CLUSTER_SECRET_HEADER, "s3cre"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void internalRequest_withoutConfiguredSecret_isForbidden() throws Exception {
+        mockMvc("").perform(get("/internal/shard/count").header(CLUSTER_SECRET_HEADER, ""))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void publicRequest_needsNoSecret() throws Exception {
+        mockMvc("s3cret").perform(get("/events/count"))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,199 @@
+package com.entain.cluster;
+
+import com.entain.config.ClusterConfig;
+import com.entain.data.EventStatus;
+import com.entain.data.SportEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Runs two nodes' buses in one JVM on ephemeral ports.
+ */
+class TcpClusterBusTest {
+
+    private static final String SECRET = "s3cret";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final List<ClusterMessage> receivedByA = new CopyOnWriteArrayList<>();
+    private TcpClusterBus nodeA;
+    private TcpClusterBus nodeB;
+
+    private static ClusterConfig config(List<String> peers) {
+        ClusterConfig config = new ClusterConfig();
+        config.setPort(0);
+        config.setBindAddress("localhost");
+        config.setPeers(peers);
+        config.setReconnectIntervalMs(50);
+        config.setSecret(SECRET);
+        return config;
+    }
+
+    private TcpClusterBus start(List<String> peers) throws Exception {
+        return start(config(peers));
+    }
+
+    private TcpClusterBus start(ClusterConfig config) throws Exception {
+        TcpClusterBus bus = new TcpClusterBus(config, objectMapper);
+        bus.start();
+        return bus;
+    }
+
+    /**
+     * Connects to node A as a peer would, sending {@code hello} as the first line.
+     */
+    private Socket connect(String hello) throws Exception {
+        Socket socket = new Socket("localhost", nodeA.getLocalPort());
+        socket.setSoTimeout(5_000);
+        socket.getOutputStream().write((hello + "\n").getBytes(StandardCharsets.UTF_8));
+        return socket;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (nodeB != null) {
+            nodeB.stop();
+        }
+        if (nodeA != null) {
+            nodeA.stop();
+        }
+    }
+
+    private static ClusterMessage message(long sequence) {
+        SportEvent event = new SportEvent(UUID.randomUUID(), "Match", "FOOTBALL", EventStatus.ACTIVE,
+                LocalDateTime.of(2030, 1, 1, 18, 0), 3);
+        return new ClusterMessage("node-b/1", sequence, ClusterMessage.Kind.STATUS_CHANGED, event);
+    }
+
+    @Test
+    void broadcast_reachesPeerInOrder() throws Exception {
+        nodeA = start(List.of());
+        nodeA.onMessage(receivedByA::add);
+        nodeB = start(List.of("localhost:" + nodeA.getLocalPort()));
+        List<ClusterMessage> sent = List.of(message(1), message(2), message(3));
+
+        sent.forEach(nodeB::broadcast);
+
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertThat(receivedByA).isEqualTo(sent));
+    }
+
+    @Test
+    void malformedLine_isSkipped() throws Exception {
+        nodeA = start(List.of());
+        nodeA.onMessage(receivedByA::add);
+        ClusterMessage valid = message(1);
+
+        try (Socket socket = connect(SECRET)) {
+            OutputStream out = socket.getOutputStream();
+            out.write("not json\n".getBytes(StandardCharsets.UTF_8));
+            out.write(objectMapper.writeValueAsBytes(valid));
+            out.write('\n');
+            out.flush();
+
+            await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertThat(receivedByA).containsExactly(valid));
+        }
+        assertThat(nodeA.getMalformedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectedMessage_isSkippedWithoutClosingTheConnection() throws Exception {
+        nodeA = start(List.of());
+        nodeA.onMessage(message -> {
+            if (message.origin() == null) {
+                throw new IllegalArgumentException("Incomplete cluster message");
+            }
+            receivedByA.add(message);
+        });
+        ClusterMessage valid = message(1);
+
+        try (Socket socket = connect(SECRET)) {
+            OutputStream out = socket.getOutputStream();
+            out.write("{}\n".getBytes(StandardCharsets.UTF_8));
+            out.write(objectMapper.writeValueAsBytes(valid));
+            out.write('\n');
+            out.flush();
+
+            await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertThat(receivedByA).containsExactly(valid));
+        }
+        assertThat(nodeA.getMalformedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void connectionWithWrongSecret_isClosedBeforeAnyMessage() throws Exception {
+        nodeA = start(List.of());
+        nodeA.onMessage(receivedByA::add);
+
+        try (Socket socket = connect("guess")) {
+            OutputStream out = socket.getOutputStream();
+            out.write(objectMapper.writeValueAsBytes(message(1)));
+            out.write('\n');
+            out.flush();
+
+            await().atMost(5, TimeUnit.SECONDS)
+                    .untilAsserted(() -> assertThat(nodeA.getRejectedConnectionCount()).isEqualTo(1));
+        }
+        assertThat(receivedByA).isEmpty();
+    }
+
+    @Test
+    void oversizedMessage_closesTheConnection() throws Exception {
+        ClusterConfig config = config(List.of());
+        config.setMaxMessageSize(DataSize.ofBytes(1_024));
+        nodeA = start(config);
+        nodeA.onMessage(receivedByA::add);
+
+        try (Socket socket = connect(SECRET)) {
+            OutputStream out = socket.getOutputStream();
+            out.write(new byte[1_025]);
+            out.flush();
+
+            await().atMost(5, TimeUnit.SECONDS)
+                    .untilAsserted(() -> assertThat(nodeA.getMalformedCount()).isEqualTo(1));
+        }
+        assertThat(receivedByA).isEmpty();
+    }
+
+    @Test
+    void connectionsBeyondTheLimit_areRefused() throws Exception {
+        ClusterConfig config = config(List.of());
+        config.setMaxConnections(1);
+        nodeA = start(config);
+        nodeA.onMessage(receivedByA::add);
+
+        try (Socket first = connect(SECRET); Socket second = connect(SECRET)) {
+            await().atMost(5, TimeUnit.SECONDS)
+                    .untilAsserted(() -> assertThat(nodeA.getRejectedConnectionCount()).isEqualTo(1));
+
+            OutputStream out = first.getOutputStream();
+            out.write(objectMapper.writeValueAsBytes(message(1)));
+            out.write('\n');
+            out.flush();
+            await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertThat(receivedByA).hasSize(1));
+        }
+    }
+
+    @Test
+    void constructor_refusesToStartWithoutSecret() {
+        ClusterConfig config = config(List.of());
+        config.setSecret("");
+
+        assertThatThrownBy(() -> new TcpClusterBus(config, objectMapper))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("cluster.secret");
+    }
+}
@@ -1,13 +1,27 @@
 package com.entain.controller;
 
+import com.entain.config.ListingCacheConfig;
+import com.entain.data.BatchItemResult;
 import com.entain.data.EventStatus;
 import com.entain.data.SportEvent;
+import com.entain.data.StatusChange;
+import com.entain.data.access.EventCursor;
+import com.entain.data.access.EventPage;
 import com.entain.dto.CreateEventRequest;
+import com.entain.dto.StatusChangeRequest;
 import com.entain.dto.UpdateStatusRequest;
 import com.entain.exception.EventNotFoundException;
 import com.entain.exception.GlobalExceptionHandler;
+import com.entain.exception.InvalidBatchRequestException;
+import com.entain.exception.InvalidPageRequestException;
+import com.entain.exception.InvalidStatusChangeException;
+import com.entain.exception.InvalidTimeRangeException;
+import com.entain.exception.VersionConflictException;
+import com.entain.event.SportEventStatusChanged;
+import com.entain.service.EventListingCache;
 import com.entain.service.SportEventService;
 import com.entain.service.SseEmitterService;
+import com.entain.sse.SseFilter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,21 +29,34 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static com.entain.config.EntainConstant.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.not;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -53,9 +80,13 @@ class SportEventControllerTest {
     @InjectMocks
     private SportEventController controller;
 
-    private final ObjectMapper objectMapper = new ObjectMapper()
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper()
             .registerModule(new JavaTimeModule());
 
+    @Spy
+    private EventListingCache listingCache = new EventListingCache(objectMapper, new ListingCacheConfig());
+
     private UUID eventId;
     private SportEvent event;
 
@@ -95,7 +126,7 @@ class SportEventControllerTest {
 
     @Test
     void getEvents_returnsList() throws Exception {
-        when(service.getEvents(EventStatus.INACTIVE, FOOTBALL))
+        when(service.getEvents(EventStatus.INACTIVE, FOOTBALL, null, null))
                 .thenReturn(List.of(event));
 
         mockMvc.perform(get("/events")
@@ -116,7 +147,7 @@ class SportEventControllerTest {
                 LocalDateTime.of(2025, 12, 15, 18, 0)
         );
 
-        when(service.getEvents(null, null))
+        when(service.getEvents(null, null, null, null))
                 .thenReturn(List.of(event, anotherEvent));
 
         mockMvc.perform(get("/events"))
@@ -148,6 +179,102 @@ class SportEventControllerTest {
                 .andExpect(jsonPath("$.status").value("ACTIVE"));
     }
 
+    @Test
+    void getEventById_returnsVersionAsEtag() throws Exception {
+        SportEvent active = event.withStatus(EventStatus.ACTIVE);
+        when(service.getEventById(eventId)).thenReturn(active);
+
+        mockMvc.perform(get("/events/{id}", eventId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(jsonPath("$.version").value(1));
+    }
+
+    @Test
+    void getEventById_unchanged_returnsNotModified() throws Exception {
+        when(service.getEventById(eventId)).thenReturn(event);
+
+        mockMvc.perform(get("/events/{id}", eventId)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void getEvents_unchangedStore_returnsNotModifiedWithoutReading() throws Exception {
+        when(service.getChangeCount()).thenReturn(7L);
+        when(service.getEvents(null, null, null, null)).thenReturn(List.of(event));
+        String etag = mockMvc.perform(get("/events"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/events").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        when(service.getChangeCount()).thenReturn(8L);
+        mockMvc.perform(get("/events").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)));
+        verify(service, times(2)).getEvents(null, null, null, null);
+    }
+
+    @Test
+    void getEvents_changeOfOtherSport_servesCachedListing() throws Exception {
+        when(service.getChangeCount()).thenReturn(7L);
+        when(service.getEvents(null, FOOTBALL, null, null)).thenReturn(List.of(event));
+        String etag = mockMvc.perform(get("/events").param("sport", FOOTBALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].id").value(eventId.toString()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        when(service.getChangeCount()).thenReturn(8L);
+        listingCache.accept(new SportEventStatusChanged(UUID.randomUUID(), EventStatus.ACTIVE, WORLD_FINAL,
+                "HOCKEY", event.startTime(), 1));
+        mockMvc.perform(get("/events").param("sport", FOOTBALL).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        verify(service, times(1)).getEvents(null, FOOTBALL, null, null);
+    }
+
+    @Test
+    void changeStatus_withIfMatch_passesExpectedVersion() throws Exception {
+        UpdateStatusRequest request = new UpdateStatusRequest(EventStatus.ACTIVE);
+        when(service.changeStatus(eventId, EventStatus.ACTIVE, 0L)).thenReturn(event.withStatus(EventStatus.ACTIVE));
+
+        mockMvc.perform(patch("/events/{id}/status", eventId)
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+    }
+
+    @Test
+    void changeStatus_staleIfMatch_returnsPreconditionFailed() throws Exception {
+        UpdateStatusRequest request = new UpdateStatusRequest(EventStatus.ACTIVE);
+        when(service.changeStatus(eventId, EventStatus.ACTIVE, 3L)).thenThrow(new VersionConflictException(eventId));
+
+        mockMvc.perform(patch("/events/{id}/status", eventId)
+                        .header(HttpHeaders.IF_MATCH, "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.status").value(412));
+    }
+
+    @Test
+    void changeStatus_weakIfMatch_neverMatches() throws Exception {
+        UpdateStatusRequest request = new UpdateStatusRequest(EventStatus.ACTIVE);
+
+        mockMvc.perform(patch("/events/{id}/status", eventId)
+                        .header(HttpHeaders.IF_MATCH, "W/\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isPreconditionFailed());
+        verifyNoInteractions(service);
+    }
+
     @Test
     void changeStatus_eventNotFound_returnsNotFound() throws Exception {
         UpdateStatusRequest request = new UpdateStatusRequest(EventStatus.ACTIVE);
@@ -189,12 +316,192 @@ class SportEventControllerTest {
                 .andExpect(jsonPath("$.status").value(400));
     }
 
+    @Test
+    void createEvents_returnsResultPerItem() throws Exception {
+        List<CreateEventRequest> requests = List.of(
+                new CreateEventRequest(WORLD_FINAL, FOOTBALL, event.startTime()),
+                new CreateEventRequest(WORLD_FINAL, "CURLING", event.startTime())
+        );
+        when(service.createEvents(anyList())).thenReturn(List.of(
+                BatchItemResult.success(event),
+                BatchItemResult.failure(new InvalidStatusChangeException(INVALID_SPORT + "CURLING"))
+        ));
+
+        mockMvc.perform(post("/events/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].index").value(0))
+                .andExpect(jsonPath("$[0].event.id").value(eventId.toString()))
+                .andExpect(jsonPath("$[1].index").value(1))
+                .andExpect(jsonPath("$[1].error.status").value(400))
+                .andExpect(jsonPath("$[1].error.message").value(INVALID_SPORT + "CURLING"));
+    }
+
+    @Test
+    void changeStatuses_mapsChangesAndReportsMissingEvents() throws Exception {
+        UUID missingId = UUID.randomUUID();
+        List<StatusChange> changes = List.of(
+                new StatusChange(eventId, EventStatus.ACTIVE),
+                new StatusChange(missingId, EventStatus.ACTIVE)
+        );
+        when(service.changeStatuses(changes)).thenReturn(List.of(
+                BatchItemResult.success(event.withStatus(EventStatus.ACTIVE)),
+                BatchItemResult.failure(new EventNotFoundException(missingId))
+        ));
+
+        mockMvc.perform(patch("/events/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(
+                                new StatusChangeRequest(eventId, EventStatus.ACTIVE),
+                                new StatusChangeRequest(missingId, EventStatus.ACTIVE)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].event.status").value("ACTIVE"))
+                .andExpect(jsonPath("$[1].error.status").value(404));
+    }
+
+    @Test
+    void changeStatuses_nullItem_isReportedAsFailedItem() throws Exception {
+        List<StatusChange> changes = Arrays.asList(new StatusChange(eventId, EventStatus.ACTIVE), null);
+        when(service.changeStatuses(changes)).thenReturn(List.of(
+                BatchItemResult.success(event.withStatus(EventStatus.ACTIVE)),
+                BatchItemResult.failure(new InvalidBatchRequestException(MISSING_BATCH_ITEM))
+        ));
+
+        mockMvc.perform(patch("/events/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"id\":\"" + eventId + "\",\"status\":\"ACTIVE\"},null]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].event.status").value("ACTIVE"))
+                .andExpect(jsonPath("$[1].error.status").value(400))
+                .andExpect(jsonPath("$[1].error.message").value(MISSING_BATCH_ITEM));
+    }
+
+    @Test
+    void getEvents_withLimit_returnsPageAndNextCursor() throws Exception {
+        EventCursor next = EventCursor.after(event);
+        when(service.getEventPage(null, FOOTBALL, null, null, null, 1))
+                .thenReturn(new EventPage(List.of(event), next));
+
+        mockMvc.perform(get("/events")
+                        .param("sport", FOOTBALL)
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", next.encode()))
+                .andExpect(jsonPath("$[0].id").value(eventId.toString()));
+    }
+
+    @Test
+    void getEvents_lastPage_hasNoNextCursor() throws Exception {
+        when(service.getEventPage(null, null, null, null, "abc", MAX_PAGE_LIMIT))
+                .thenReturn(new EventPage(List.of(event), null));
+
+        mockMvc.perform(get("/events").param("cursor", "abc"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Next-Cursor"))
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    @Test
+    void getEvents_invalidLimit_returnsBadRequest() throws Exception {
+        when(service.getEventPage(null, null, null, null, null, 0))
+                .thenThrow(new InvalidPageRequestException(INVALID_LIMIT));
+
+        mockMvc.perform(get("/events").param("limit", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(INVALID_LIMIT));
+    }
+
+    @Test
+    void getEvents_withTimeRange_passesBounds() throws Exception {
+        LocalDateTime from = LocalDateTime.of(2025, 12, 15, 18, 0);
+        LocalDateTime to = from.plusHours(2);
+        when(service.getEvents(null, null, from, to)).thenReturn(List.of(event));
+
+        mockMvc.perform(get("/events")
+                        .param("from", "2025-12-15T18:00:00")
+                        .param("to", "2025-12-15T20:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(eventId.toString()));
+    }
+
+    @Test
+    void getEvents_invalidTimeRange_returnsBadRequest() throws Exception {
+        LocalDateTime from = LocalDateTime.of(2025, 12, 15, 18, 0);
+        when(service.getEvents(null, null, from, from))
+                .thenThrow(new InvalidTimeRangeException(INVALID_TIME_RANGE));
+
+        mockMvc.perform(get("/events")
+                        .param("from", "2025-12-15T18:00:00")
+                        .param("to", "2025-12-15T18:00:00"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(INVALID_TIME_RANGE));
+    }
+
+    @Test
+    void getEvents_malformedTime_returnsBadRequest() throws Exception {
+        mockMvc.perform(get("/events").param("from", "tomorrow"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(INVALID_VALUE + "from" + EXPECTED_TYPE + "LocalDateTime"));
+    }
+
+    @Test
+    void streamEvents_writesNewlineDelimitedJson() throws Exception {
+        SportEvent other = new SportEvent(UUID.randomUUID(), WORLD_FINAL, FOOTBALL, EventStatus.ACTIVE, null);
+        when(service.streamEvents(EventStatus.INACTIVE, null, null, null)).thenReturn(Stream.of(event, other));
+
+        MvcResult result = mockMvc.perform(get("/events")
+                        .param("status", INACTIVE)
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).contains(eventId.toString());
+        assertThat(lines[1]).contains(other.id().toString());
+    }
+
     @Test
     void subscribe_returnsEmitter() throws Exception {
-        when(sseEmitterService.createEmitter()).thenReturn(new SseEmitter());
+        when(sseEmitterService.createEmitter(null, SseFilter.ALL)).thenReturn(new SseEmitter());
 
         mockMvc.perform(get("/events/subscribe"))
                 .andExpect(status().isOk());
     }
 
+    @Test
+    void subscribe_resumesFromLastEventIdHeader() throws Exception {
+        when(sseEmitterService.createEmitter("stream-42", SseFilter.ALL)).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/events/subscribe").header("Last-Event-ID", "stream-42"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void subscribe_passesFilterParameters() throws Exception {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        SseFilter filter = new SseFilter("tennis", EventStatus.ACTIVE, Set.of(first, second));
+        when(sseEmitterService.createEmitter(null, filter)).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/events/subscribe")
+                        .param("sport", "tennis")
+                        .param("status", "ACTIVE")
+                        .param("eventId", first + "," + second))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void subscribe_resumesFromLastEventIdParameter() throws Exception {
+        when(sseEmitterService.createEmitter("stream-7", SseFilter.ALL)).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/events/subscribe").param("lastEventId", "stream-7"))
+                .andExpect(status().isOk());
+    }
+
 }
\ No newline at end of file
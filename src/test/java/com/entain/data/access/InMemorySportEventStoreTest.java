@@ -2,17 +2,24 @@ package com.entain.data.access;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.entain.data.BatchItemResult;
 import com.entain.data.EventStatus;
 import com.entain.data.SportEvent;
+import com.entain.data.StatusChange;
+import com.entain.exception.EventNotFoundException;
+import com.entain.exception.InvalidStatusChangeException;
+import com.entain.validation.StatusChangeRule;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.stream.Stream;
 
 
 class InMemorySportEventStoreTest {
@@ -106,6 +113,91 @@ class InMemorySportEventStoreTest {
         assertTrue(store.findById(unknownId).isEmpty());
     }
 
+    @Test
+    void findAll_shouldFilterByStatusSportAndBoth() {
+        SportEvent inactiveFootball = createEvent(FOOTBALL, EventStatus.INACTIVE);
+        SportEvent activeFootball = createEvent(FOOTBALL, EventStatus.ACTIVE);
+        SportEvent activeBasketball = createEvent(BASKETBALL, EventStatus.ACTIVE);
+        store.save(inactiveFootball);
+        store.save(activeFootball);
+        store.save(activeBasketball);
+
+        assertEquals(3, store.findAll(null, null).size());
+        assertEquals(List.of(inactiveFootball), store.findAll(EventStatus.INACTIVE, null));
+        assertEquals(2, store.findAll(EventStatus.ACTIVE, null).size());
+        assertEquals(2, store.findAll(null, "football").size());
+        assertEquals(List.of(activeFootball), store.findAll(EventStatus.ACTIVE, "Football"));
+        assertTrue(store.findAll(EventStatus.FINISHED, FOOTBALL).isEmpty());
+        assertTrue(store.findAll(null, "HOCKEY").isEmpty());
+    }
+
+    @Test
+    void updateStatus_shouldMoveEventBetweenIndexes() {
+        SportEvent event = createEvent(FOOTBALL, EventStatus.INACTIVE);
+        store.save(event);
+
+        store.updateStatus(event.id(), EventStatus.ACTIVE);
+
+        assertTrue(store.findAll(EventStatus.INACTIVE, null).isEmpty());
+        assertTrue(store.findAll(EventStatus.INACTIVE, FOOTBALL).isEmpty());
+        assertEquals(EventStatus.ACTIVE, store.findAll(EventStatus.ACTIVE, FOOTBALL).get(0).status());
+        assertEquals(1, store.findAll(null, FOOTBALL).size());
+    }
+
+    @Test
+    void transitionStatus_rejectedByValidator_leavesEventUnchanged() {
+        SportEvent event = createEvent(FOOTBALL, EventStatus.INACTIVE);
+        store.save(event);
+
+        assertThrows(InvalidStatusChangeException.class, () -> store.transitionStatus(event.id(), EventStatus.ACTIVE,
+                (current, status) -> {
+                    throw new InvalidStatusChangeException("rejected");
+                }));
+
+        assertEquals(Optional.of(event), store.findById(event.id()));
+        assertEquals(List.of(event), store.findAll(EventStatus.INACTIVE, FOOTBALL));
+        assertTrue(store.findAll(EventStatus.ACTIVE, null).isEmpty());
+    }
+
+    @Test
+    void transitionStatuses_shouldValidateEachChangeAgainstTheStateLeftByEarlierOnes() {
+        SportEvent event = createEvent(FOOTBALL, EventStatus.INACTIVE);
+        store.save(event);
+        StatusChangeRule rule = new StatusChangeRule();
+
+        List<BatchItemResult> results = store.transitionStatuses(List.of(
+                new StatusChange(event.id(), EventStatus.ACTIVE),
+                new StatusChange(event.id(), EventStatus.FINISHED),
+                new StatusChange(event.id(), EventStatus.ACTIVE),
+                new StatusChange(UUID.randomUUID(), EventStatus.ACTIVE)
+        ), rule);
+
+        assertEquals(EventStatus.ACTIVE, results.get(0).event().status());
+        assertEquals(EventStatus.FINISHED, results.get(1).event().status());
+        assertInstanceOf(InvalidStatusChangeException.class, results.get(2).error());
+        assertInstanceOf(EventNotFoundException.class, results.get(3).error());
+        assertEquals(EventStatus.FINISHED, store.findById(event.id()).orElseThrow().status());
+    }
+
+    @Test
+    void changeCount_shouldGrowWithEveryAppliedWriteOnly() {
+        SportEvent event = createEvent(FOOTBALL, EventStatus.INACTIVE);
+        long initial = store.changeCount();
+
+        store.save(event);
+        store.save(event.withStatus(EventStatus.FINISHED));
+        assertEquals(initial + 1, store.changeCount());
+
+        store.transitionStatus(event.id(), EventStatus.ACTIVE, (current, status) -> { });
+        store.transitionStatus(UUID.randomUUID(), EventStatus.ACTIVE, (current, status) -> { });
+        assertThrows(InvalidStatusChangeException.class, () -> store.transitionStatus(event.id(), EventStatus.FINISHED,
+                (current, status) -> {
+                    throw new InvalidStatusChangeException("rejected");
+                }));
+        assertEquals(initial + 2, store.changeCount());
+        assertEquals(1, store.findById(event.id()).orElseThrow().version());
+    }
+
     @Test
     void concurrentSave_shouldNotOverwriteExistingEvent() throws InterruptedException {
         UUID eventId = UUID.randomUUID();
@@ -154,6 +246,127 @@ class InMemorySportEventStoreTest {
         assertTrue(stored.equals(firstEvent) || stored.equals(secondEvent));
     }
 
+    @Test
+    void findPage_shouldWalkAllEventsInStartTimeOrder() {
+        LocalDateTime base = LocalDateTime.of(2030, 1, 1, 12, 0);
+        List<SportEvent> expected = new java.util.ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            // Every fifth event shares a start time, two have none and must come last
+            LocalDateTime startTime = i < 2 ? null : base.plusMinutes(i / 5);
+            SportEvent event = new SportEvent(UUID.randomUUID(), TEST_MATCH, FOOTBALL, EventStatus.INACTIVE, startTime);
+            store.save(event);
+            expected.add(event);
+        }
+        store.save(createEvent(BASKETBALL, EventStatus.INACTIVE));
+        expected.sort(EventCursor.ORDER);
+
+        List<SportEvent> walked = new java.util.ArrayList<>();
+        EventCursor cursor = null;
+        int pages = 0;
+        do {
+            EventPage page = store.findPage(null, FOOTBALL, cursor, 10);
+            walked.addAll(page.events());
+            cursor = page.next() == null ? null : EventCursor.decode(page.next().encode());
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(expected, walked);
+        assertEquals(3, pages);
+    }
+
+    @Test
+    void findPage_shouldReturnNoCursorWhenPageIsExactlyFull() {
+        store.save(createEvent(FOOTBALL, EventStatus.ACTIVE));
+        store.save(createEvent(FOOTBALL, EventStatus.ACTIVE));
+
+        EventPage page = store.findPage(EventStatus.ACTIVE, null, null, 2);
+
+        assertEquals(2, page.events().size());
+        assertNull(page.next());
+    }
+
+    @Test
+    void stream_withTimeRange_shouldReturnEventsInRangeInStartTimeOrder() {
+        LocalDateTime base = LocalDateTime.of(2030, 1, 1, 12, 0);
+        List<SportEvent> events = new java.util.ArrayList<>();
+        for (int hour = 5; hour >= 0; hour--) {
+            SportEvent event = new SportEvent(UUID.randomUUID(), TEST_MATCH, FOOTBALL, EventStatus.INACTIVE,
+                    base.plusHours(hour));
+            store.save(event);
+            events.add(0, event);
+        }
+        store.save(new SportEvent(UUID.randomUUID(), TEST_MATCH, FOOTBALL, EventStatus.INACTIVE, null));
+        store.updateStatus(events.get(2).id(), EventStatus.ACTIVE);
+
+        try (Stream<SportEvent> range = store.stream(null, null, base.plusHours(1), base.plusHours(4))) {
+            assertEquals(List.of(events.get(1).id(), events.get(2).id(), events.get(3).id()),
+                    range.map(SportEvent::id).toList());
+        }
+        try (Stream<SportEvent> range = store.stream(EventStatus.ACTIVE, FOOTBALL, base, null)) {
+            assertEquals(List.of(events.get(2).id()), range.map(SportEvent::id).toList());
+        }
+        try (Stream<SportEvent> range = store.stream(null, null, null, base.plusHours(1))) {
+            assertEquals(List.of(events.get(0)), range.toList());
+        }
+    }
+
+    @Test
+    void findPage_withTimeRangeOrSelectiveFilter_shouldWalkMatchingEventsInOrder() {
+        LocalDateTime base = LocalDateTime.of(2030, 1, 1, 12, 0);
+        List<SportEvent> basketball = new java.util.ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            SportEvent event = new SportEvent(UUID.randomUUID(), TEST_MATCH, i % 20 == 0 ? BASKETBALL : FOOTBALL,
+                    EventStatus.INACTIVE, base.plusMinutes(i));
+            store.save(event);
+            if (event.sport().equals(BASKETBALL)) {
+                basketball.add(event);
+            }
+        }
+
+        // Few matches: paged from the sport index rather than the time index
+        EventPage first = store.findPage(null, BASKETBALL, null, 1);
+        EventPage second = store.findPage(null, BASKETBALL, first.next(), 1);
+        assertEquals(List.of(basketball.get(0)), first.events());
+        assertEquals(List.of(basketball.get(1)), second.events());
+        assertNull(second.next());
+
+        EventPage ranged = store.findPage(null, FOOTBALL, base.plusMinutes(10), base.plusMinutes(25), null, 10);
+        assertEquals(10, ranged.events().size());
+        assertEquals(base.plusMinutes(10), ranged.events().get(0).startTime());
+        EventPage rest = store.findPage(null, FOOTBALL, base.plusMinutes(10), base.plusMinutes(25), ranged.next(), 10);
+        // Minutes 20..24, without the basketball event at minute 20
+        assertEquals(4, rest.events().size());
+        assertNull(rest.next());
+    }
+
+    @Test
+    void restoreIfNewer_keepsHighestVersion() {
+        SportEvent created = createEvent(FOOTBALL, EventStatus.INACTIVE);
+        SportEvent active = created.withStatus(EventStatus.ACTIVE);
+        SportEvent finished = active.withStatus(EventStatus.FINISHED);
+
+        assertTrue(store.restoreIfNewer(created));
+        assertTrue(store.restoreIfNewer(finished));
+        // Older or repeated states arriving late are ignored
+        assertFalse(store.restoreIfNewer(active));
+        assertFalse(store.restoreIfNewer(finished));
+
+        assertEquals(Optional.of(finished), store.findById(created.id()));
+        assertEquals(List.of(finished), store.findAll(EventStatus.FINISHED, FOOTBALL));
+        assertTrue(store.findAll(EventStatus.INACTIVE, null).isEmpty());
+        assertEquals(2, store.changeCount());
+    }
+
+    private SportEvent createEvent(String sport, EventStatus status) {
+        return new SportEvent(
+                UUID.randomUUID(),
+                TEST_MATCH,
+                sport,
+                status,
+                LocalDateTime.now().plusHours(1)
+        );
+    }
+
     private void awaitLatch(CountDownLatch latch) {
         try {
             latch.await();
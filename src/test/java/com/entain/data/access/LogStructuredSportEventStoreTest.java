@@ -0,0 +1,235 @@
+package com.entain.data.access;
+
+import com.entain.data.BatchItemResult;
+import com.entain.data.EventStatus;
+import com.entain.data.SportEvent;
+import com.entain.data.StatusChange;
+import com.entain.data.access.log.EventLog;
+import com.entain.data.access.log.FsyncPolicy;
+import com.entain.exception.EventNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LogStructuredSportEventStoreTest {
+
+    private static final int SEGMENT_SIZE = 64 * 1024;
+
+    @TempDir
+    Path directory;
+
+    private LogStructuredSportEventStore store;
+
+    @AfterEach
+    void tearDown() {
+        if (store != null) {
+            store.close();
+        }
+    }
+
+    private LogStructuredSportEventStore open(FsyncPolicy fsyncPolicy, int segmentSize) throws IOException {
+        if (store != null) {
+            store.close();
+        }
+        store = new LogStructuredSportEventStore(
+                new EventLog(directory, segmentSize, fsyncPolicy, 10, 60_000));
+        store.open();
+        return store;
+    }
+
+    private static SportEvent event(String name) {
+        return new SportEvent(UUID.randomUUID(), name, "FOOTBALL", EventStatus.INACTIVE,
+                LocalDateTime.of(2030, 1, 1, 18, 30, 15));
+    }
+
+    @Test
+    void createsAndStatusChanges_surviveRestart() throws IOException {
+        open(FsyncPolicy.NEVER, SEGMENT_SIZE);
+        SportEvent first = store.save(event("First"));
+        SportEvent second = store.save(event("Second"));
+        store.updateStatus(first.id(), EventStatus.ACTIVE);
+        store.updateStatus(first.id(), EventStatus.FINISHED);
+
+        open(FsyncPolicy.NEVER, SEGMENT_SIZE);
+
+        assertThat(store.findById(first.id())).contains(first.withStatus(EventStatus.ACTIVE).withStatus(EventStatus.FINISHED));
+        assertThat(store.findById(second.id())).contains(second);
+        assertThat(store.findAll(EventStatus.INACTIVE, "football")).containsExactly(second);
+    }
+
+    @Test
+    void save_shouldNotLogDuplicateId() throws IOException {
+        open(FsyncPolicy.NEVER, SEGMENT_SIZE);
+        SportEvent original = store.save(event("Original"));
+        SportEvent duplicate = new SportEvent(original.id(), "Duplicate", "TENNIS",
+                EventStatus.ACTIVE, original.startTime());
+
+        assertThat(store.save(duplicate)).isEqualTo(original);
+
+        open(FsyncPolicy.NEVER, SEGMENT_SIZE);
+        assertThat(store.findById(original.id())).contains(original);
+    }
+
+    @Test
+    void recovery_shouldStopAtCorruptRecord() throws IOException {
+        open(FsyncPolicy.NEVER, SEGMENT_SIZE);
+        SportEvent kept = store.save(event("Kept"));
+        SportEvent corrupted = store.save(event("Corrupted"));
+        store.close();
+        store = null;
+
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.filter(p -> p.getFileName().toString().startsWith("log-")).findFirst().orElseThrow();
+        }
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+            channel.read(length, 0);
+            int secondRecord = 2 * Integer.BYTES + length.flip().getInt();
+            // Flip a byte inside the second record's payload, as a torn write would
+            channel.write(ByteBuffer.wrap(new byte[]{(byte) 0xFF}), secondRecord + 2 * Integer.BYTES + 1);
+        }
+
+        open(FsyncPolicy.NEVER, SEGMENT_SIZE);
+
+        assertThat(store.findById(kept.id())).contains(kept);
+        assertThat(store.findById(corrupted.id())).isEmpty();
+    }
+
+    @Test
+    void rotation_shouldSnapshotAndKeepEveryEvent() throws IOException {
+        open(FsyncPolicy.INTERVAL, 4096);
+        List<SportEvent> saved = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            SportEvent event = store.save(event("Match " + i));
+            store.updateStatus(event.id(), EventStatus.ACTIVE);
+            saved.add(event.withStatus(EventStatus.ACTIVE));
+        }
+
+        open(FsyncPolicy.INTERVAL, 4096);
+
+        assertThat(store.findAll(null, null)).containsExactlyInAnyOrderElementsOf(saved);
+        try (Stream<Path> files = Files.list(directory)) {
+            // Superseded segments and snapshots are deleted once a newer snapshot is written
+            assertThat(files.count()).isLessThan(10);
+        }
+    }
+
+    @Test
+    void fsyncAlways_shouldGroupCommitConcurrentWriters() throws Exception {
+        open(FsyncPolicy.ALWAYS, SEGMENT_SIZE);
+        ExecutorService writers = Executors.newFixedThreadPool(8);
+        List<Future<SportEvent>> futures = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            String name = "Match " + i;
+            futures.add(writers.submit(() -> store.save(event(name))));
+        }
+        List<SportEvent> saved = new ArrayList<>();
+        for (Future<SportEvent> future : futures) {
+            saved.add(future.get());
+        }
+        writers.shutdown();
+
+        open(FsyncPolicy.ALWAYS, SEGMENT_SIZE);
+
+        assertThat(store.findAll(null, null)).containsExactlyInAnyOrderElementsOf(saved);
+    }
+
+    @Test
+    void batchWrites_surviveRestart() throws IOException {
+        open(FsyncPolicy.ALWAYS, SEGMENT_SIZE);
+        SportEvent existing = store.save(event("Existing"));
+        SportEvent duplicate = new SportEvent(existing.id(), "Duplicate", "TENNIS",
+                EventStatus.INACTIVE, existing.startTime());
+        List<SportEvent> batch = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            batch.add(event("Match " + i));
+        }
+        batch.add(duplicate);
+
+        List<SportEvent> stored = store.saveAll(batch);
+        List<BatchItemResult> transitions = store.transitionStatuses(List.of(
+                new StatusChange(batch.get(0).id(), EventStatus.ACTIVE),
+                new StatusChange(batch.get(0).id(), EventStatus.FINISHED),
+                new StatusChange(UUID.randomUUID(), EventStatus.ACTIVE)
+        ), (event, status) -> { });
+
+        assertThat(stored.subList(0, 50)).isEqualTo(batch.subList(0, 50));
+        assertThat(transitions.get(2).error()).isInstanceOf(EventNotFoundException.class);
+        assertThat(stored.get(50)).isEqualTo(existing);
+
+        open(FsyncPolicy.ALWAYS, SEGMENT_SIZE);
+
+        assertThat(store.findAll(null, null)).hasSize(51);
+        assertThat(store.findById(existing.id())).contains(existing);
+        assertThat(store.findById(batch.get(0).id()))
+                .contains(batch.get(0).withStatus(EventStatus.ACTIVE).withStatus(EventStatus.FINISHED));
+    }
+
+    @Test
+    void save_recordLargerThanSegment_isNeitherStoredNorVisible() throws IOException {
+        open(FsyncPolicy.NEVER, 4 * 1024);
+        SportEvent tooLarge = event("x".repeat(8 * 1024));
+
+        assertThatThrownBy(() -> store.save(tooLarge)).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(store.findById(tooLarge.id())).isEmpty();
+        assertThat(store.changeCount()).isZero();
+        SportEvent small = store.save(event("Small"));
+
+        open(FsyncPolicy.NEVER, 4 * 1024);
+
+        assertThat(store.findAll(null, null)).containsExactly(small);
+    }
+
+    @Test
+    void transition_failedAppend_leavesEventUnchanged() throws IOException {
+        AtomicBoolean diskFull = new AtomicBoolean();
+        store = new LogStructuredSportEventStore(new EventLog(directory, SEGMENT_SIZE, FsyncPolicy.NEVER, 10, 60_000) {
+            @Override
+            public Commit append(SportEvent event) {
+                if (diskFull.get()) {
+                    throw new UncheckedIOException(new IOException("No space left on device"));
+                }
+                return super.append(event);
+            }
+        });
+        store.open();
+        SportEvent event = store.save(event("Final"));
+        diskFull.set(true);
+
+        assertThatThrownBy(() -> store.updateStatus(event.id(), EventStatus.ACTIVE))
+                .isInstanceOf(UncheckedIOException.class);
+        List<BatchItemResult> results = store.transitionStatuses(
+                List.of(new StatusChange(event.id(), EventStatus.ACTIVE)), (current, status) -> { });
+
+        assertThat(results.get(0).error()).isInstanceOf(UncheckedIOException.class);
+        assertThat(store.findById(event.id())).contains(event);
+        assertThat(store.findAll(EventStatus.ACTIVE, null)).isEmpty();
+
+        diskFull.set(false);
+        open(FsyncPolicy.NEVER, SEGMENT_SIZE);
+
+        assertThat(store.findById(event.id())).contains(event);
+    }
+}
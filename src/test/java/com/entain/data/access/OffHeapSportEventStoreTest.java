@@ -0,0 +1,227 @@
+package com.entain.data.access;
+
+import com.entain.data.EventStatus;
+import com.entain.data.SportEvent;
+import com.entain.exception.InvalidStatusChangeException;
+import com.entain.validation.StatusChangeRule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapSportEventStoreTest {
+
+    private static final String FOOTBALL = "FOOTBALL";
+    private static final String BASKETBALL = "BASKETBALL";
+    private static final LocalDateTime BASE = LocalDateTime.of(2030, 1, 1, 12, 0);
+
+    private OffHeapSportEventStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new OffHeapSportEventStore(16);
+    }
+
+    private static SportEvent event(String sport, EventStatus status, LocalDateTime startTime) {
+        return new SportEvent(UUID.randomUUID(), "Match", sport, status, startTime);
+    }
+
+    @Test
+    void save_decodesEveryFieldExactly() {
+        SportEvent full = new SportEvent(UUID.randomUUID(), "Derby \u2014 S\u00fcd", "Football", EventStatus.ACTIVE,
+                BASE.withNano(123_456_789), 7);
+        SportEvent sparse = new SportEvent(UUID.randomUUID(), null, null, EventStatus.INACTIVE, null);
+
+        assertEquals(full, store.save(full));
+        store.save(sparse);
+
+        assertEquals(Optional.of(full), store.findById(full.id()));
+        assertEquals(Optional.of(sparse), store.findById(sparse.id()));
+        assertEquals(Optional.empty(), store.findById(UUID.randomUUID()));
+    }
+
+    @Test
+    void save_keepsExistingEvent() {
+        SportEvent original = event(FOOTBALL, EventStatus.INACTIVE, BASE);
+        SportEvent duplicate = new SportEvent(original.id(), "Other", BASKETBALL, EventStatus.ACTIVE, null);
+        store.save(original);
+
+        assertEquals(original, store.save(duplicate));
+        assertEquals(List.of(original), store.saveAll(List.of(duplicate)));
+        assertEquals(1, store.size());
+        assertEquals(1, store.changeCount());
+    }
+
+    @Test
+    void save_growsBeyondOneChunkAndTheInitialIndexSize() {
+        List<SportEvent> events = new ArrayList<>();
+        for (int i = 0; i < 70_000; i++) {
+            events.add(new SportEvent(new UUID(0, i), "Event " + i, i % 2 == 0 ? FOOTBALL : BASKETBALL,
+                    EventStatus.INACTIVE, BASE.plusMinutes(i)));
+        }
+
+        store.saveAll(events);
+
+        assertEquals(70_000, store.size());
+        assertEquals(70_000, store.count(EventStatus.INACTIVE));
+        for (int i = 0; i < events.size(); i += 997) {
+            assertEquals(Optional.of(events.get(i)), store.findById(events.get(i).id()));
+        }
+        assertEquals(35_000, store.findAll(null, "basketball").size());
+        assertTrue(store.offHeapBytes() > 0);
+    }
+
+    @Test
+    void findAll_filtersByStatusAndSportIgnoringCase() {
+        SportEvent inactiveFootball = event(FOOTBALL, EventStatus.INACTIVE, BASE);
+        SportEvent activeFootball = event("Football", EventStatus.ACTIVE, BASE);
+        SportEvent activeBasketball = event(BASKETBALL, EventStatus.ACTIVE, BASE);
+        store.saveAll(List.of(inactiveFootball, activeFootball, activeBasketball));
+
+        assertEquals(3, store.findAll(null, null).size());
+        assertEquals(List.of(inactiveFootball), store.findAll(EventStatus.INACTIVE, null));
+        assertEquals(2, store.findAll(null, "football").size());
+        assertEquals(List.of(activeFootball), store.findAll(EventStatus.ACTIVE, "FOOTBALL"));
+        assertTrue(store.findAll(null, "HOCKEY").isEmpty());
+    }
+
+    @Test
+    void transitionStatus_bumpsVersionAndMovesCounts() {
+        SportEvent event = event(FOOTBALL, EventStatus.INACTIVE, BASE.plusDays(1));
+        store.save(event);
+
+        Optional<SportEvent> updated = store.transitionStatus(event.id(), EventStatus.ACTIVE, new StatusChangeRule());
+
+        assertEquals(Optional.of(event.withStatus(EventStatus.ACTIVE)), updated);
+        assertEquals(updated, store.findById(event.id()));
+        assertEquals(0, store.count(EventStatus.INACTIVE));
+        assertEquals(1, store.count(EventStatus.ACTIVE));
+        assertEquals(List.of(updated.get()), store.findAll(EventStatus.ACTIVE, FOOTBALL));
+        assertEquals(Optional.empty(), store.transitionStatus(UUID.randomUUID(), EventStatus.ACTIVE,
+                new StatusChangeRule()));
+        assertEquals(2, store.changeCount());
+    }
+
+    @Test
+    void transitionStatus_rejectedByValidator_leavesEventUnchanged() {
+        SportEvent event = event(FOOTBALL, EventStatus.INACTIVE, BASE);
+        store.save(event);
+
+        assertThrows(InvalidStatusChangeException.class, () -> store.transitionStatus(event.id(), EventStatus.ACTIVE,
+                (current, status) -> {
+                    throw new InvalidStatusChangeException("rejected");
+                }));
+
+        assertEquals(Optional.of(event), store.findById(event.id()));
+        assertEquals(1, store.count(EventStatus.INACTIVE));
+        assertEquals(1, store.changeCount());
+    }
+
+    @Test
+    void concurrentTransitions_onlyOneSucceeds() throws Exception {
+        SportEvent event = event(FOOTBALL, EventStatus.INACTIVE, BASE.plusDays(1));
+        store.save(event);
+        StatusChangeRule rule = new StatusChangeRule();
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<Boolean>> attempts = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            attempts.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    start.await();
+                    store.transitionStatus(event.id(), EventStatus.ACTIVE, (current, status) -> {
+                        // Only INACTIVE may become ACTIVE here, so a second winner would see ACTIVE
+                        if (current.status() != EventStatus.INACTIVE) {
+                            throw new InvalidStatusChangeException("already active");
+                        }
+                        rule.validate(current, status);
+                    });
+                    return true;
+                } catch (InvalidStatusChangeException e) {
+                    return false;
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            }));
+        }
+        start.countDown();
+
+        long succeeded = attempts.stream().filter(CompletableFuture::join).count();
+
+        assertEquals(1, succeeded);
+        assertEquals(1, store.findById(event.id()).orElseThrow().version());
+    }
+
+    @Test
+    void findPage_walksMatchingEventsInStartTimeOrder() {
+        List<SportEvent> expected = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            // Every fifth event shares a start time, two have none and must come last
+            SportEvent event = event(FOOTBALL, EventStatus.INACTIVE, i < 2 ? null : BASE.plusMinutes(i / 5));
+            store.save(event);
+            expected.add(event);
+        }
+        store.save(event(BASKETBALL, EventStatus.INACTIVE, BASE));
+        expected.sort(EventCursor.ORDER);
+
+        List<SportEvent> walked = new ArrayList<>();
+        EventCursor cursor = null;
+        int pages = 0;
+        do {
+            EventPage page = store.findPage(null, FOOTBALL, cursor, 10);
+            walked.addAll(page.events());
+            cursor = page.next() == null ? null : EventCursor.decode(page.next().encode());
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(expected, walked);
+        assertEquals(3, pages);
+    }
+
+    @Test
+    void findPage_withTimeRange_stopsAtUpperBound() {
+        for (int i = 0; i < 40; i++) {
+            store.save(event(i % 20 == 0 ? BASKETBALL : FOOTBALL, EventStatus.INACTIVE, BASE.plusMinutes(i)));
+        }
+
+        EventPage ranged = store.findPage(null, FOOTBALL, BASE.plusMinutes(10), BASE.plusMinutes(25), null, 10);
+        EventPage rest = store.findPage(null, FOOTBALL, BASE.plusMinutes(10), BASE.plusMinutes(25), ranged.next(), 10);
+
+        assertEquals(10, ranged.events().size());
+        assertEquals(BASE.plusMinutes(10), ranged.events().get(0).startTime());
+        // Minutes 20..24, without the basketball event at minute 20
+        assertEquals(4, rest.events().size());
+        assertNull(rest.next());
+    }
+
+    @Test
+    void stream_withTimeRange_returnsEventsInRangeInStartTimeOrder() {
+        List<SportEvent> events = new ArrayList<>();
+        for (int hour = 5; hour >= 0; hour--) {
+            SportEvent event = event(FOOTBALL, EventStatus.INACTIVE, BASE.plusHours(hour));
+            store.save(event);
+            events.add(0, event);
+        }
+        store.save(event(FOOTBALL, EventStatus.INACTIVE, null));
+        store.updateStatus(events.get(2).id(), EventStatus.ACTIVE);
+
+        try (Stream<SportEvent> range = store.stream(null, null, BASE.plusHours(1), BASE.plusHours(4))) {
+            assertEquals(List.of(events.get(1).id(), events.get(2).id(), events.get(3).id()),
+                    range.map(SportEvent::id).toList());
+        }
+        try (Stream<SportEvent> range = store.stream(EventStatus.ACTIVE, FOOTBALL, BASE, null)) {
+            assertEquals(List.of(events.get(2).id()), range.map(SportEvent::id).toList());
+        }
+        try (Stream<SportEvent> range = store.stream(null, null, null, BASE.plusHours(1))) {
+            assertEquals(List.of(events.get(0)), range.toList());
+        }
+    }
+}
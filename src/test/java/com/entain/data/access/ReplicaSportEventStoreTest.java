@@ -0,0 +1,74 @@
+package com.entain.data.access;
+
+import com.entain.data.EventStatus;
+import com.entain.data.SportEvent;
+import com.entain.exception.ReadOnlyReplicaException;
+import com.entain.validation.StatusChangeRule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplicaSportEventStoreTest {
+
+    private static final String LEADER = "http://leader:8080";
+
+    private ReplicaSportEventStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new ReplicaSportEventStore(LEADER);
+    }
+
+    private static SportEvent event() {
+        return new SportEvent(UUID.randomUUID(), "Final", "FOOTBALL", EventStatus.INACTIVE,
+                LocalDateTime.now().plusHours(1));
+    }
+
+    @Test
+    void apply_servesReplicatedStateToReads() {
+        SportEvent event = event();
+        SportEvent active = event.withStatus(EventStatus.ACTIVE);
+
+        assertTrue(store.apply(event));
+        assertTrue(store.apply(active));
+        assertFalse(store.apply(event));
+
+        assertEquals(Optional.of(active), store.findById(event.id()));
+        assertEquals(List.of(active), store.findAll(EventStatus.ACTIVE, null));
+        assertEquals(1, store.count(EventStatus.ACTIVE));
+    }
+
+    @Test
+    void reset_replacesEveryEventAndKeepsChangeCountGrowing() {
+        SportEvent dropped = event();
+        store.apply(dropped);
+        long before = store.changeCount();
+        SportEvent kept = event();
+
+        store.reset(List.of(kept));
+
+        assertEquals(Optional.empty(), store.findById(dropped.id()));
+        assertEquals(Optional.of(kept), store.findById(kept.id()));
+        assertTrue(store.changeCount() > before);
+    }
+
+    @Test
+    void writes_areRejected() {
+        SportEvent event = event();
+        store.apply(event);
+
+        ReadOnlyReplicaException e = assertThrows(ReadOnlyReplicaException.class, () -> store.save(event()));
+        assertTrue(e.getMessage().endsWith(LEADER));
+        assertThrows(ReadOnlyReplicaException.class, () -> store.saveAll(List.of(event())));
+        assertThrows(ReadOnlyReplicaException.class,
+                () -> store.transitionStatus(event.id(), EventStatus.ACTIVE, new StatusChangeRule()));
+        assertThrows(ReadOnlyReplicaException.class, () -> store.updateStatus(event.id(), EventStatus.ACTIVE));
+        assertEquals(Optional.of(event), store.findById(event.id()));
+    }
+}
@@ -0,0 +1,309 @@
+package com.entain.data.access;
+
+import com.entain.data.EventStatus;
+import com.entain.data.SportEvent;
+import com.entain.data.access.shard.LocalShard;
+import com.entain.data.access.shard.Shard;
+import com.entain.exception.InvalidStatusChangeException;
+import com.entain.exception.ShardUnavailableException;
+import com.entain.validation.StatusChangeRule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShardedSportEventStoreTest {
+
+    private static final LocalDateTime START = LocalDateTime.now().plusDays(1).withNano(0);
+
+    private LocalShard nodeA;
+    private LocalShard nodeB;
+    private LocalShard nodeC;
+    private ShardedSportEventStore store;
+
+    /**
+     * A peer's shard as seen over the network: every call is a plain request, status changes go through the
+     * compare-and-set loop of {@link Shard#transitionStatus}.
+     */
+    private static class PeerShard implements Shard {
+        // Replaced to simulate a restart of the peer
+        LocalShard peer;
+        final AtomicBoolean down = new AtomicBoolean();
+        // Runs once before the next compare-and-set, to simulate a write racing with it
+        Runnable beforeNextCas;
+
+        PeerShard(LocalShard peer) {
+            this.peer = peer;
+        }
+
+        private void checkUp() {
+            if (down.get()) {
+                throw new ShardUnavailableException(peer.name(), new RuntimeException("connection refused"));
+            }
+        }
+
+        @Override
+        public String name() {
+            return peer.name();
+        }
+
+        @Override
+        public List<SportEvent> saveAll(List<SportEvent> events) {
+            checkUp();
+            return peer.saveAll(events);
+        }
+
+        @Override
+        public Optional<SportEvent> findById(UUID id) {
+            checkUp();
+            return peer.findById(id);
+        }
+
+        @Override
+        public List<SportEvent> find(EventStatus status, String sport, LocalDateTime from, LocalDateTime to) {
+            checkUp();
+            return peer.find(status, sport, from, to);
+        }
+
+        @Override
+        public List<SportEvent> findFirst(EventStatus status, String sport, LocalDateTime from, LocalDateTime to,
+                                          EventCursor after, int count) {
+            checkUp();
+            return peer.findFirst(status, sport, from, to, after, count);
+        }
+
+        @Override
+        public Optional<SportEvent> compareAndSetStatus(UUID id, long expectedVersion, EventStatus newStatus) {
+            checkUp();
+            if (beforeNextCas != null) {
+                Runnable race = beforeNextCas;
+                beforeNextCas = null;
+                race.run();
+            }
+            return peer.compareAndSetStatus(id, expectedVersion, newStatus);
+        }
+
+        @Override
+        public long changeCount() {
+            checkUp();
+            return peer.changeCount();
+        }
+
+        @Override
+        public long count(EventStatus status) {
+            checkUp();
+            return peer.count(status);
+        }
+    }
+
+    private PeerShard peerB;
+    private PeerShard peerC;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new LocalShard("a");
+        nodeB = new LocalShard("b");
+        nodeC = new LocalShard("c");
+        peerB = new PeerShard(nodeB);
+        peerC = new PeerShard(nodeC);
+        store = new ShardedSportEventStore(nodeA, List.of(peerB, peerC), 64);
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    private static SportEvent event(int minutes) {
+        return new SportEvent(UUID.randomUUID(), "Match " + minutes, "FOOTBALL", EventStatus.INACTIVE,
+                START.plusMinutes(minutes));
+    }
+
+    private List<SportEvent> saveEvents(int count) {
+        List<SportEvent> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            events.add(event(i));
+        }
+        assertEquals(events, store.saveAll(events));
+        return events;
+    }
+
+    /**
+     * An event owned by the given node.
+     */
+    private SportEvent eventOwnedBy(String node) {
+        for (int i = 0; ; i++) {
+            SportEvent event = event(i);
+            if (store.ownerOf(event.id()).name().equals(node)) {
+                return event;
+            }
+        }
+    }
+
+    @Test
+    void save_storesEventOnItsOwnerOnly() {
+        List<SportEvent> events = saveEvents(300);
+
+        for (SportEvent event : events) {
+            String owner = store.ownerOf(event.id()).name();
+            assertEquals(owner.equals("a"), nodeA.findById(event.id()).isPresent());
+            assertEquals(owner.equals("b"), nodeB.findById(event.id()).isPresent());
+            assertEquals(owner.equals("c"), nodeC.findById(event.id()).isPresent());
+            assertEquals(Optional.of(event), store.findById(event.id()));
+        }
+        // Every node got a share
+        assertTrue(nodeA.count(EventStatus.INACTIVE) > 0);
+        assertTrue(nodeB.count(EventStatus.INACTIVE) > 0);
+        assertTrue(nodeC.count(EventStatus.INACTIVE) > 0);
+    }
+
+    @Test
+    void saveAll_keepsRequestOrderAndExistingEvents() {
+        SportEvent existing = eventOwnedBy("b");
+        store.save(existing);
+        SportEvent sameId = new SportEvent(existing.id(), "Other", "HOCKEY", EventStatus.INACTIVE, START);
+        SportEvent first = eventOwnedBy("c");
+        SportEvent last = eventOwnedBy("a");
+
+        List<SportEvent> stored = store.saveAll(List.of(first, sameId, last));
+
+        assertEquals(List.of(first, existing, last), stored);
+    }
+
+    @Test
+    void findAll_gathersEveryShard() {
+        List<SportEvent> events = saveEvents(100);
+
+        assertEquals(new HashSet<>(events), new HashSet<>(store.findAll(null, null)));
+        assertEquals(100, store.findAll(EventStatus.INACTIVE, "football").size());
+        assertTrue(store.findAll(EventStatus.ACTIVE, null).isEmpty());
+        assertEquals(100, store.count(EventStatus.INACTIVE));
+    }
+
+    @Test
+    void stream_withRange_isOrderedByStartTime() {
+        List<SportEvent> events = saveEvents(100);
+
+        try (Stream<SportEvent> range = store.stream(null, null, START.plusMinutes(10), START.plusMinutes(60))) {
+            assertEquals(events.subList(10, 60), range.toList());
+        }
+    }
+
+    @Test
+    void findPage_mergesShardsIntoOnePagedOrder() {
+        List<SportEvent> events = saveEvents(95);
+        List<SportEvent> paged = new ArrayList<>();
+
+        EventPage page = store.findPage(null, null, null, 10);
+        while (true) {
+            paged.addAll(page.events());
+            if (page.next() == null) {
+                break;
+            }
+            page = store.findPage(null, null, page.next(), 10);
+        }
+
+        assertEquals(events, paged);
+    }
+
+    @Test
+    void findPage_lastFullPageHasNoNextCursor() {
+        saveEvents(20);
+
+        EventPage page = store.findPage(null, null, null, 20);
+
+        assertEquals(20, page.events().size());
+        assertNull(page.next());
+    }
+
+    @Test
+    void transitionStatus_onRemoteOwner_appliesChange() {
+        SportEvent event = eventOwnedBy("b");
+        store.save(event);
+
+        SportEvent updated = store.transitionStatus(event.id(), EventStatus.ACTIVE, new StatusChangeRule())
+                .orElseThrow();
+
+        assertEquals(EventStatus.ACTIVE, updated.status());
+        assertEquals(Optional.of(updated), nodeB.findById(event.id()));
+    }
+
+    @Test
+    void transitionStatus_onRemoteOwner_revalidatesAfterLostRace() {
+        SportEvent event = eventOwnedBy("c");
+        store.save(event);
+        // Another node activates the event between our read and our write
+        peerC.beforeNextCas = () -> nodeC.transitionStatus(event.id(), EventStatus.ACTIVE, (e, s) -> { });
+
+        // The retry sees ACTIVE, so a second INACTIVE -> ACTIVE is rejected instead of applied twice
+        assertThrows(InvalidStatusChangeException.class,
+                () -> store.transitionStatus(event.id(), EventStatus.ACTIVE, new StatusChangeRule()));
+        assertEquals(1, nodeC.findById(event.id()).orElseThrow().version());
+    }
+
+    @Test
+    void transitionStatus_missingEvent_isEmpty() {
+        assertTrue(store.transitionStatus(UUID.randomUUID(), EventStatus.ACTIVE, new StatusChangeRule())
+                .isEmpty());
+    }
+
+    @Test
+    void changeCount_growsWithWritesOnAnyShard() {
+        long before = store.changeCount();
+        SportEvent event = eventOwnedBy("b");
+
+        store.save(event);
+        store.updateStatus(event.id(), EventStatus.ACTIVE);
+
+        assertEquals(before + 2, store.changeCount());
+    }
+
+    @Test
+    void changeCount_keepsGrowingAcrossPeerRestart() {
+        for (int i = 0; i < 3; i++) {
+            store.save(eventOwnedBy("b"));
+        }
+        long beforeRestart = store.changeCount();
+
+        peerB.peer = new LocalShard("b");
+        long afterRestart = store.changeCount();
+        // As many writes as before the restart, which brought the plain sum back to its old value
+        for (int i = 0; i < 3; i++) {
+            store.save(eventOwnedBy("b"));
+        }
+
+        assertTrue(afterRestart > beforeRestart);
+        assertTrue(store.changeCount() > afterRestart);
+    }
+
+    @Test
+    void unreachableShard_failsScatterButNotOtherOwners() {
+        SportEvent onA = eventOwnedBy("a");
+        store.save(onA);
+        peerB.down.set(true);
+
+        assertThrows(ShardUnavailableException.class, () -> store.findAll(null, null));
+        assertThrows(ShardUnavailableException.class, () -> store.findById(eventOwnedBy("b").id()));
+        assertEquals(Optional.of(onA), store.findById(onA.id()));
+    }
+
+    @Test
+    void constructor_spreadsIdsOverEveryNode() {
+        Set<String> owners = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            owners.add(store.ownerOf(UUID.randomUUID()).name());
+        }
+        assertEquals(Set.of("a", "b", "c"), owners);
+    }
+}
@@ -0,0 +1,105 @@
+package com.entain.data.access.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConcurrentUuidMapTest {
+
+    @Test
+    void compute_insertsAndReplacesValues() {
+        ConcurrentUuidMap<String> map = new ConcurrentUuidMap<>();
+        UUID id = UUID.randomUUID();
+
+        assertThat(map.compute(id, (key, current) -> current == null ? "first" : current + "!")).isEqualTo("first");
+        assertThat(map.compute(id, (key, current) -> current == null ? "first" : current + "!")).isEqualTo("first!");
+
+        assertThat(map.get(id)).isEqualTo("first!");
+        assertThat(map.get(id.getMostSignificantBits(), id.getLeastSignificantBits())).isEqualTo("first!");
+        assertThat(map.get(UUID.randomUUID())).isNull();
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    void computeIfPresent_skipsMissingIds() {
+        ConcurrentUuidMap<String> map = new ConcurrentUuidMap<>();
+        UUID id = UUID.randomUUID();
+
+        assertThat(map.computeIfPresent(id, (key, current) -> "value")).isNull();
+        assertThat(map.containsKey(id)).isFalse();
+
+        map.compute(id, (key, current) -> "value");
+        assertThat(map.computeIfPresent(id, (key, current) -> current.toUpperCase())).isEqualTo("VALUE");
+    }
+
+    @Test
+    void compute_failingFunctionLeavesEntryUnchanged() {
+        ConcurrentUuidMap<String> map = new ConcurrentUuidMap<>();
+        UUID id = UUID.randomUUID();
+        map.compute(id, (key, current) -> "kept");
+
+        assertThatThrownBy(() -> map.compute(id, (key, current) -> {
+            throw new IllegalStateException("rejected");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> map.compute(id, (key, current) -> null)).isInstanceOf(NullPointerException.class);
+
+        assertThat(map.get(id)).isEqualTo("kept");
+    }
+
+    @Test
+    void get_findsEveryEntryAfterGrowing() {
+        ConcurrentUuidMap<Integer> map = new ConcurrentUuidMap<>();
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            // Sequential ids in one half, random ones in the other
+            UUID id = i % 2 == 0 ? new UUID(7, i) : UUID.randomUUID();
+            ids.add(id);
+            int value = i;
+            map.compute(id, (key, current) -> value);
+        }
+
+        for (int i = 0; i < ids.size(); i++) {
+            assertThat(map.get(ids.get(i))).isEqualTo(i);
+        }
+        assertThat(map.size()).isEqualTo(100_000);
+        assertThat(map.values().count()).isEqualTo(100_000L);
+    }
+
+    @Test
+    void concurrentWrites_areNotLost() throws Exception {
+        ConcurrentUuidMap<Integer> map = new ConcurrentUuidMap<>();
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            ids.add(UUID.randomUUID());
+        }
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<Void>> writers = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            writers.add(CompletableFuture.runAsync(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                // Every writer increments every id, inserting the ones not there yet
+                for (UUID id : ids) {
+                    map.compute(id, (key, current) -> current == null ? 1 : current + 1);
+                }
+            }));
+        }
+        start.countDown();
+        CompletableFuture.allOf(writers.toArray(CompletableFuture[]::new)).join();
+
+        for (UUID id : ids) {
+            assertThat(map.get(id)).isEqualTo(8);
+        }
+        assertThat(map.size()).isEqualTo(ids.size());
+    }
+}
@@ -0,0 +1,43 @@
+package com.entain.data.access.offheap;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StringArenaTest {
+
+    @Test
+    void read_returnsAppendedStringsAcrossChunks() {
+        StringArena arena = new StringArena();
+        List<String> values = new ArrayList<>();
+        List<Long> references = new ArrayList<>();
+        // About 3 MB of short strings fill several chunks
+        for (int i = 0; i < 100_000; i++) {
+            String value = "Match " + i + " \u2014 Z\u00fcrich";
+            values.add(value);
+            references.add(arena.append(value));
+        }
+
+        for (int i = 0; i < values.size(); i++) {
+            assertThat(arena.read(references.get(i))).isEqualTo(values.get(i));
+        }
+        assertThat(arena.allocatedBytes()).isGreaterThan(2L * StringArena.CHUNK_SIZE);
+    }
+
+    @Test
+    void append_storesStringLongerThanAChunk() {
+        StringArena arena = new StringArena();
+        long before = arena.append("before");
+        String huge = "x".repeat(StringArena.CHUNK_SIZE + 1);
+
+        long reference = arena.append(huge);
+        long after = arena.append("");
+
+        assertThat(arena.read(before)).isEqualTo("before");
+        assertThat(arena.read(reference)).isEqualTo(huge);
+        assertThat(arena.read(after)).isEmpty();
+    }
+}
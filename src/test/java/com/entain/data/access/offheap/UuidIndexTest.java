@@ -0,0 +1,60 @@
+package com.entain.data.access.offheap;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidIndexTest {
+
+    private static UuidIndex indexOf(OffHeapColumn ids, UUID[] keys) {
+        UuidIndex index = new UuidIndex(ids, 0);
+        ids.ensureCapacity(keys.length);
+        for (int row = 0; row < keys.length; row++) {
+            ids.putLong(row, 0, keys[row].getMostSignificantBits());
+            ids.putLong(row, 8, keys[row].getLeastSignificantBits());
+            index.put(keys[row].getMostSignificantBits(), keys[row].getLeastSignificantBits(), row);
+        }
+        return index;
+    }
+
+    @Test
+    void get_findsEveryRowAfterResizes() {
+        UUID[] keys = new UUID[10_000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = UUID.randomUUID();
+        }
+
+        UuidIndex index = indexOf(new OffHeapColumn(16), keys);
+
+        for (int row = 0; row < keys.length; row++) {
+            assertThat(index.get(keys[row])).isEqualTo(row);
+        }
+        assertThat(index.get(UUID.randomUUID())).isEqualTo(-1);
+        assertThat(index.size()).isEqualTo(keys.length);
+        assertThat(index.capacity()).isEqualTo(16_384);
+    }
+
+    @Test
+    void get_distinguishesIdsSharingOneHalf() {
+        // Sequential ids differ in one half only; the other half alone would put them all in one slot
+        UUID[] keys = new UUID[1_000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = i % 2 == 0 ? new UUID(42, i) : new UUID(i, 42);
+        }
+
+        UuidIndex index = indexOf(new OffHeapColumn(16), keys);
+
+        for (int row = 0; row < keys.length; row++) {
+            assertThat(index.get(keys[row])).isEqualTo(row);
+        }
+        assertThat(index.get(new UUID(7, 7))).isEqualTo(-1);
+    }
+
+    @Test
+    void constructor_sizesTableForExpectedRows() {
+        assertThat(new UuidIndex(new OffHeapColumn(16), 0).capacity()).isEqualTo(16);
+        assertThat(new UuidIndex(new OffHeapColumn(16), 1_000_000).capacity()).isEqualTo(2_097_152);
+    }
+}
@@ -0,0 +1,67 @@
+package com.entain.data.access.shard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConsistentHashRingTest {
+
+    private static final int KEYS = 30_000;
+
+    @Test
+    void ownerOf_isTheSameForAnyNodeOrder() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("a", "b", "c"), 128);
+        ConsistentHashRing reordered = new ConsistentHashRing(List.of("c", "a", "b"), 128);
+
+        for (int i = 0; i < 1_000; i++) {
+            UUID id = UUID.randomUUID();
+            assertEquals(ring.ownerOf(id), reordered.ownerOf(id));
+        }
+    }
+
+    @Test
+    void ownerOf_spreadsKeysEvenly() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("a", "b", "c"), 128);
+        Map<String, Integer> counts = new HashMap<>();
+
+        for (int i = 0; i < KEYS; i++) {
+            counts.merge(ring.ownerOf(UUID.randomUUID()), 1, Integer::sum);
+        }
+
+        assertEquals(3, counts.size());
+        // A third each, within a generous margin for the virtual node placement
+        counts.values().forEach(count -> assertTrue(count > KEYS / 3 * 0.7 && count < KEYS / 3 * 1.3,
+                "unbalanced: " + counts));
+    }
+
+    @Test
+    void addingANode_movesKeysOnlyToTheNewNode() {
+        ConsistentHashRing before = new ConsistentHashRing(List.of("a", "b", "c"), 128);
+        ConsistentHashRing after = new ConsistentHashRing(List.of("a", "b", "c", "d"), 128);
+        int moved = 0;
+
+        for (int i = 0; i < KEYS; i++) {
+            UUID id = UUID.randomUUID();
+            String oldOwner = before.ownerOf(id);
+            String newOwner = after.ownerOf(id);
+            if (!oldOwner.equals(newOwner)) {
+                assertEquals("d", newOwner);
+                moved++;
+            }
+        }
+
+        // About a quarter of the keys belong to the new node
+        assertTrue(moved > KEYS / 4 * 0.7 && moved < KEYS / 4 * 1.3, "moved " + moved);
+    }
+
+    @Test
+    void constructor_rejectsEmptyRing() {
+        assertThrows(IllegalArgumentException.class, () -> new ConsistentHashRing(List.of(), 128));
+        assertThrows(IllegalArgumentException.class, () -> new ConsistentHashRing(List.of("a"), 0));
+    }
+}
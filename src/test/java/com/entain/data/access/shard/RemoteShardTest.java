@@ -0,0 +1,96 @@
+package com.entain.data.access.shard;
+
+import com.entain.data.EventStatus;
+import com.entain.data.SportEvent;
+import com.entain.data.access.EventCursor;
+import com.entain.exception.ShardUnavailableException;
+import com.entain.exception.VersionConflictException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class RemoteShardTest {
+
+    private static final String BASE_URL = "http://node-b:8080";
+    private static final UUID ID = UUID.fromString("6f1c2c1e-0000-4000-8000-000000000001");
+
+    private MockRestServiceServer server;
+    private RemoteShard shard;
+
+    @BeforeEach
+    void setUp() {
+        RestClient.Builder builder = RestClient.builder().baseUrl(BASE_URL);
+        server = MockRestServiceServer.bindTo(builder).build();
+        shard = new RemoteShard("b", builder.build());
+    }
+
+    private static String eventJson(EventStatus status, long version) {
+        return "{\"id\":\"" + ID + "\",\"name\":\"Final\",\"sport\":\"FOOTBALL\",\"status\":\"" + status
+                + "\",\"startTime\":\"2030-01-01T18:00:00\",\"version\":" + version + "}";
+    }
+
+    @Test
+    void findById_readsEvent() {
+        server.expect(requestTo(BASE_URL + "/internal/shard/events/" + ID))
+                .andRespond(withSuccess(eventJson(EventStatus.ACTIVE, 3), MediaType.APPLICATION_JSON));
+
+        SportEvent event = shard.findById(ID).orElseThrow();
+
+        assertEquals(new SportEvent(ID, "Final", "FOOTBALL", EventStatus.ACTIVE,
+                LocalDateTime.of(2030, 1, 1, 18, 0), 3), event);
+    }
+
+    @Test
+    void findById_notFound_isEmpty() {
+        server.expect(requestTo(BASE_URL + "/internal/shard/events/" + ID))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+
+        assertEquals(Optional.empty(), shard.findById(ID));
+    }
+
+    @Test
+    void findFirst_sendsFiltersAndExactCursor() {
+        LocalDateTime afterTime = LocalDateTime.of(2030, 1, 1, 18, 0, 0, 500_000_000);
+        server.expect(requestTo(BASE_URL + "/internal/shard/events/first?status=ACTIVE&count=11&afterId=" + ID
+                        + "&afterTime=2030-01-01T18:00:00.500"))
+                .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+
+        assertEquals(List.of(), shard.findFirst(EventStatus.ACTIVE, null, null, null,
+                new EventCursor(afterTime, ID), 11));
+        server.verify();
+    }
+
+    @Test
+    void compareAndSetStatus_preconditionFailed_isVersionConflict() {
+        server.expect(requestTo(BASE_URL + "/internal/shard/events/" + ID
+                        + "/status?status=FINISHED&expectedVersion=1"))
+                .andExpect(method(HttpMethod.PUT))
+                .andRespond(withStatus(HttpStatus.PRECONDITION_FAILED));
+
+        assertThrows(VersionConflictException.class, () -> shard.compareAndSetStatus(ID, 1, EventStatus.FINISHED));
+    }
+
+    @Test
+    void serverError_isShardUnavailable() {
+        server.expect(requestTo(BASE_URL + "/internal/shard/changes")).andRespond(withServerError());
+
+        ShardUnavailableException e = assertThrows(ShardUnavailableException.class, shard::changeCount);
+        assertTrue(e.getMessage().endsWith("b"));
+    }
+}
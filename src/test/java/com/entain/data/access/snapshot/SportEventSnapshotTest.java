@@ -0,0 +1,126 @@
+package com.entain.data.access.snapshot;
+
+import com.entain.data.EventStatus;
+import com.entain.data.SportEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SportEventSnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    private static SportEvent event(String name, String sport, EventStatus status, LocalDateTime startTime) {
+        return new SportEvent(UUID.randomUUID(), name, sport, status, startTime);
+    }
+
+    @Test
+    void writeAndRead_shouldRoundTripEvents() throws IOException {
+        List<SportEvent> events = List.of(
+                event("Final", "FOOTBALL", EventStatus.INACTIVE, LocalDateTime.of(2030, 5, 1, 20, 0, 0))
+                        .withStatus(EventStatus.ACTIVE),
+                event("Semi-final ⚽", "FOOTBALL", EventStatus.INACTIVE, LocalDateTime.of(2030, 4, 20, 18, 45, 30)),
+                event("Open", "TENNIS", EventStatus.FINISHED, LocalDateTime.of(1999, 12, 31, 23, 59, 59)),
+                event(null, null, EventStatus.INACTIVE, null)
+        );
+        Path file = directory.resolve("events.snapshot");
+
+        assertThat(SportEventSnapshot.write(file, events)).isEqualTo(4);
+
+        List<SportEvent> restored = new ArrayList<>();
+        assertThat(SportEventSnapshot.read(file, restored::add)).isEqualTo(4);
+        assertThat(restored).containsExactlyElementsOf(events);
+    }
+
+    @Test
+    void read_shouldShareDictionaryEncodedSports() throws IOException {
+        Path file = directory.resolve("events.snapshot");
+        SportEventSnapshot.write(file, List.of(
+                event("A", new String("FOOTBALL"), EventStatus.ACTIVE, null),
+                event("B", new String("FOOTBALL"), EventStatus.ACTIVE, null)
+        ));
+
+        List<SportEvent> restored = new ArrayList<>();
+        SportEventSnapshot.read(file, restored::add);
+
+        assertThat(restored.get(0).sport()).isSameAs(restored.get(1).sport());
+    }
+
+    @Test
+    void write_shouldUseCompactEncoding() throws IOException {
+        List<SportEvent> events = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            events.add(event("Match", "FOOTBALL", EventStatus.ACTIVE, LocalDateTime.of(2030, 1, 1, 0, 0)));
+        }
+        Path file = directory.resolve("events.snapshot");
+
+        SportEventSnapshot.write(file, events);
+
+        // 16 id + 1 status + 4 sport + 8 start time + 8 version + 4 + 5 name bytes per event
+        assertThat(Files.size(file)).isLessThan(32 + 1_000 * 46 + 64);
+    }
+
+    @Test
+    void read_shouldReadUnversionedSnapshotsAsInitialVersion() throws IOException {
+        UUID id = UUID.randomUUID();
+        byte[] name = "Old".getBytes(StandardCharsets.UTF_8);
+        int eventBytes = 2 * Long.BYTES + 1 + Integer.BYTES + Long.BYTES + Integer.BYTES + name.length;
+        ByteBuffer file = ByteBuffer.allocate(32 + eventBytes)
+                // Version 1 header: magic, format, count, dictionary offset and size, reserved
+                .putInt(0x53455653).putInt(1).putLong(1).putLong(32 + eventBytes).putInt(0).putInt(0)
+                .putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits())
+                .put((byte) EventStatus.ACTIVE.ordinal())
+                .putInt(-1)
+                .putLong(Long.MIN_VALUE)
+                .putInt(name.length).put(name);
+        Path path = directory.resolve("events.snapshot");
+        Files.write(path, file.array());
+
+        List<SportEvent> restored = new ArrayList<>();
+        SportEventSnapshot.read(path, restored::add);
+
+        assertThat(restored).containsExactly(new SportEvent(id, "Old", null, EventStatus.ACTIVE, null,
+                SportEvent.INITIAL_VERSION));
+    }
+
+    @Test
+    void read_shouldRejectTruncatedSnapshot() throws IOException {
+        Path file = directory.resolve("events.snapshot");
+        SportEventSnapshot.write(file, List.of(
+                event("A", "FOOTBALL", EventStatus.ACTIVE, null),
+                event("B", "FOOTBALL", EventStatus.ACTIVE, null)
+        ));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(40);
+        }
+
+        assertThatThrownBy(() -> SportEventSnapshot.read(file, e -> { }))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("truncated");
+    }
+
+    @Test
+    void read_shouldRejectOtherFiles() throws IOException {
+        Path file = directory.resolve("events.json");
+        Files.writeString(file, "[{\"id\": \"not a snapshot at all\"}]");
+
+        assertThatThrownBy(() -> SportEventSnapshot.read(file, e -> { }))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("not a version");
+    }
+}
@@ -0,0 +1,149 @@
+package com.entain.event;
+
+import com.entain.config.DispatchConfig;
+import com.entain.data.EventStatus;
+import com.entain.data.SportEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class EventDispatcherTest {
+
+    private static final String FOOTBALL = "FOOTBALL";
+
+    private final List<Object> delivered = new CopyOnWriteArrayList<>();
+    private final ApplicationEventPublisher springPublisher = delivered::add;
+    private EventDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        DispatchConfig config = new DispatchConfig();
+        config.setCapacity(3);
+        config.setBatchSize(2);
+        dispatcher = new EventDispatcher(springPublisher, config);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.stop();
+    }
+
+    private SportEvent event(String name) {
+        return new SportEvent(UUID.randomUUID(), name, FOOTBALL, EventStatus.INACTIVE, LocalDateTime.now().plusHours(1));
+    }
+
+    private SportEventStatusChanged statusChanged(SportEvent event, EventStatus status) {
+        return new SportEventStatusChanged(event.id(), status, event.name(), event.sport(), event.startTime(),
+                event.version() + 1);
+    }
+
+    @Test
+    void submit_coalescesPendingUpdatesPerEventId() {
+        SportEvent first = event("A");
+        SportEvent second = event("B");
+        SportEventStatusChanged finished = statusChanged(first, EventStatus.FINISHED);
+        SportEventCreated secondCreated = new SportEventCreated(second);
+
+        dispatcher.submit(new SportEventCreated(first));
+        dispatcher.submit(secondCreated);
+        dispatcher.submit(statusChanged(first, EventStatus.ACTIVE));
+        dispatcher.submit(finished);
+
+        assertThat(dispatcher.getQueueDepth()).isEqualTo(2);
+        assertThat(dispatcher.getCoalescedCount()).isEqualTo(2);
+
+        dispatcher.start();
+
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() ->
+                assertThat(delivered).containsExactly(finished, secondCreated));
+        assertThat(dispatcher.getQueueDepth()).isZero();
+        assertThat(dispatcher.getDispatchedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void submit_olderVersionDoesNotReplacePendingNewerOne() {
+        SportEvent event = event("A");
+        SportEventStatusChanged finished = new SportEventStatusChanged(event.id(), EventStatus.FINISHED, event.name(),
+                event.sport(), event.startTime(), 2);
+
+        dispatcher.submit(finished);
+        // Published late by a concurrent writer
+        dispatcher.submit(statusChanged(event, EventStatus.ACTIVE));
+
+        assertThat(dispatcher.getCoalescedCount()).isEqualTo(1);
+
+        dispatcher.start();
+
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> assertThat(delivered).containsExactly(finished));
+    }
+
+    @Test
+    void submit_dropsOldestWhenFullInsteadOfFailing() {
+        SportEventCreated oldest = new SportEventCreated(event("A"));
+        dispatcher.submit(oldest);
+        dispatcher.submit(new SportEventCreated(event("B")));
+        dispatcher.submit(new SportEventCreated(event("C")));
+        dispatcher.submit(new SportEventCreated(event("D")));
+
+        assertThat(dispatcher.getQueueDepth()).isEqualTo(3);
+        assertThat(dispatcher.getDroppedCount()).isEqualTo(1);
+
+        dispatcher.start();
+
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> assertThat(delivered).hasSize(3));
+        assertThat(delivered).doesNotContain(oldest);
+    }
+
+    @Test
+    void submitAll_queuesBatchWithSameCoalescingAsSubmit() {
+        SportEvent first = event("A");
+        SportEvent second = event("B");
+        SportEventStatusChanged active = statusChanged(first, EventStatus.ACTIVE);
+        SportEventCreated secondCreated = new SportEventCreated(second);
+
+        dispatcher.submitAll(List.of(new SportEventCreated(first), secondCreated, active));
+
+        assertThat(dispatcher.getQueueDepth()).isEqualTo(2);
+        assertThat(dispatcher.getCoalescedCount()).isEqualTo(1);
+
+        dispatcher.start();
+
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() ->
+                assertThat(delivered).containsExactly(active, secondCreated));
+    }
+
+    @Test
+    void listenerFailure_doesNotStopDispatching() {
+        EventDispatcher failing = new EventDispatcher(event -> {
+            delivered.add(event);
+            throw new IllegalStateException("listener failed");
+        }, new DispatchConfig());
+        try {
+            failing.start();
+            failing.submit(new SportEventCreated(event("A")));
+            failing.submit(new SportEventCreated(event("B")));
+
+            await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> assertThat(delivered).hasSize(2));
+            assertThat(failing.getFailedCount()).isEqualTo(2);
+        } finally {
+            stopQuietly(failing);
+        }
+    }
+
+    private void stopQuietly(EventDispatcher eventDispatcher) {
+        try {
+            eventDispatcher.stop();
+        } catch (InterruptedException ignored) {
+        }
+    }
+}
@@ -2,10 +2,13 @@ package com.entain.event;
 
 import com.entain.data.EventStatus;
 import com.entain.data.SportEvent;
+import com.entain.exception.CustomRejectedExecutionHandler;
 import com.entain.service.SseEmitterService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -14,6 +17,9 @@ import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -23,12 +29,23 @@ class SportEventListenerAsyncTest {
     private static final String FOOTBALL = "football";
     private static final String EVENT_NAME = "Chelsea vs Arsenal";
 
-    @InjectMocks
     private SportEventSseListener sportEventSseListener;
+    private StripedExecutor eventExecutor;
 
     @Mock
     private SseEmitterService sseEmitterService;
 
+    @BeforeEach
+    void setUp() {
+        eventExecutor = new StripedExecutor("test-event-", 4, 100, new CustomRejectedExecutionHandler());
+        sportEventSseListener = new SportEventSseListener(sseEmitterService, eventExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventExecutor.shutdown();
+    }
+
     @Test
     void shouldHandleSportEventCreatedAsync() {
         // given
@@ -46,7 +63,7 @@ class SportEventListenerAsyncTest {
 
         // then
         await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> {
-            verify(sseEmitterService, times(1)).emitUpdate(event);
+            verify(sseEmitterService, times(1)).emitUpdate(event, createdEvent.publishedAtNanos());
         });
     }
 
@@ -59,7 +76,8 @@ class SportEventListenerAsyncTest {
                 EventStatus.ACTIVE,
                 EVENT_NAME,
                 FOOTBALL,
-                LocalDateTime.now().plusHours(2)
+                LocalDateTime.now().plusHours(2),
+                1
         );
 
         SportEvent expectedEvent = new SportEvent(
@@ -67,7 +85,8 @@ class SportEventListenerAsyncTest {
                 statusChanged.name(),
                 statusChanged.sport(),
                 statusChanged.newStatus(),
-                statusChanged.startTime()
+                statusChanged.startTime(),
+                statusChanged.version()
         );
 
         // when
@@ -75,7 +94,39 @@ class SportEventListenerAsyncTest {
 
         // then
         await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> {
-            verify(sseEmitterService, times(1)).emitUpdate(expectedEvent);
+            verify(sseEmitterService, times(1)).emitUpdate(expectedEvent, statusChanged.publishedAtNanos());
+        });
+    }
+
+    @Test
+    void shouldDeliverUpdatesForSameEventInPublicationOrder() {
+        // given
+        SportEvent event = new SportEvent(
+                UUID.randomUUID(),
+                EVENT_NAME,
+                FOOTBALL,
+                EventStatus.INACTIVE,
+                LocalDateTime.now().plusHours(1)
+        );
+        SportEvent active = event.withStatus(EventStatus.ACTIVE);
+        SportEvent finished = event.withStatus(EventStatus.FINISHED);
+
+        // when
+        sportEventSseListener.onEventCreated(new SportEventCreated(event));
+        sportEventSseListener.onEventStatusChanged(statusChanged(active));
+        sportEventSseListener.onEventStatusChanged(statusChanged(finished));
+
+        // then
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> {
+            InOrder order = inOrder(sseEmitterService);
+            order.verify(sseEmitterService).emitUpdate(eq(event), anyLong());
+            order.verify(sseEmitterService).emitUpdate(eq(active), anyLong());
+            order.verify(sseEmitterService).emitUpdate(eq(finished), anyLong());
         });
     }
+
+    private SportEventStatusChanged statusChanged(SportEvent event) {
+        return new SportEventStatusChanged(event.id(), event.status(), event.name(), event.sport(), event.startTime(),
+                event.version());
+    }
 }
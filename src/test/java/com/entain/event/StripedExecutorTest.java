@@ -0,0 +1,94 @@
+package com.entain.event;
+
+import com.entain.exception.AsyncTaskRejectedException;
+import com.entain.exception.CustomRejectedExecutionHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StripedExecutorTest {
+
+    private StripedExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new StripedExecutor("test-stripe-", 4, 1000, new CustomRejectedExecutionHandler());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void tasksWithSameKey_runInSubmissionOrder() throws InterruptedException {
+        UUID key = UUID.randomUUID();
+        List<Integer> executed = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(500);
+
+        for (int i = 0; i < 500; i++) {
+            int sequence = i;
+            executor.execute(key, () -> {
+                executed.add(sequence);
+                done.countDown();
+            });
+        }
+
+        assertThat(done.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(executed).containsExactlyElementsOf(IntStream.range(0, 500).boxed().toList());
+    }
+
+    @Test
+    void tasksWithDifferentKeys_runInParallel() throws InterruptedException {
+        // Find two keys mapped to different stripes: a task blocked on one stripe must not hold up the other
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch otherDone = new CountDownLatch(1);
+        UUID blockedKey = UUID.randomUUID();
+        executor.execute(blockedKey, () -> awaitLatch(blocker));
+
+        UUID otherKey;
+        do {
+            otherKey = UUID.randomUUID();
+        } while (Math.floorMod(otherKey.hashCode() ^ (otherKey.hashCode() >>> 16), 4)
+                == Math.floorMod(blockedKey.hashCode() ^ (blockedKey.hashCode() >>> 16), 4));
+        executor.execute(otherKey, otherDone::countDown);
+
+        assertThat(otherDone.await(2, TimeUnit.SECONDS)).isTrue();
+        blocker.countDown();
+    }
+
+    @Test
+    void fullStripe_countsSaturationAndRejection() {
+        StripedExecutor single = new StripedExecutor("test-full-", 1, 1, new CustomRejectedExecutionHandler());
+        CountDownLatch blocker = new CountDownLatch(1);
+        try {
+            // One task running, one queued: the third finds the stripe full and is rejected
+            single.execute(() -> awaitLatch(blocker));
+            single.execute(() -> { });
+            assertThatThrownBy(() -> single.execute(() -> { })).isInstanceOf(AsyncTaskRejectedException.class);
+
+            assertThat(single.getSaturatedCount()).isEqualTo(1);
+            assertThat(single.getRejectedCount()).isEqualTo(1);
+        } finally {
+            blocker.countDown();
+            single.shutdown();
+        }
+    }
+
+    private void awaitLatch(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ignored) {
+        }
+    }
+}
@@ -8,6 +8,8 @@ import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -48,4 +50,28 @@ class CustomRejectedExecutionHandlerTest {
 
         assertThat(exception.getMessage()).contains(TASK_REJECTED);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testRejectedExecution_WithOfferTimeout_WaitsForRoom() throws InterruptedException {
+        CustomRejectedExecutionHandler blockingHandler = new CustomRejectedExecutionHandler(Duration.ofSeconds(2));
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch executed = new CountDownLatch(1);
+
+        mockExecutor.execute(() -> awaitLatch(release));
+        mockExecutor.execute(() -> System.out.println(DUMMY_TASK));
+
+        // Free the queue shortly after the handler starts waiting
+        new Thread(release::countDown).start();
+        assertDoesNotThrow(() -> blockingHandler.rejectedExecution(executed::countDown, mockExecutor));
+
+        assertTrue(executed.await(2, TimeUnit.SECONDS));
+        mockExecutor.shutdown();
+    }
+
+    private void awaitLatch(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ignored) {
+        }
+    }
+}
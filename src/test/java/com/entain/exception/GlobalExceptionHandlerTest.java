@@ -1,6 +1,7 @@
 package com.entain.exception;
 
 import com.entain.data.EventStatus;
+import com.entain.dto.ErrorResponse;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import org.junit.jupiter.api.BeforeEach;
@@ -43,6 +44,59 @@ class GlobalExceptionHandlerTest {
         assertEquals(INVALID_STATUS_CHANGE_ATTEMPT, response.getBody().message());
     }
 
+    @Test
+    void handleShardUnavailable_returns503() {
+        ShardUnavailableException ex = new ShardUnavailableException("node-b", new RuntimeException("refused"));
+
+        var response = handler.handleShardUnavailable(ex);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals(SHARD_UNAVAILABLE + "node-b", response.getBody().message());
+    }
+
+    @Test
+    void handleReadOnlyReplica_returns503() {
+        ReadOnlyReplicaException ex = new ReadOnlyReplicaException("http://leader:8080");
+
+        var response = handler.handleReadOnlyReplica(ex);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals(READ_ONLY_REPLICA + "http://leader:8080", response.getBody().message());
+    }
+
+    @Test
+    void handleEventConflict_returns409() {
+        UUID id = UUID.randomUUID();
+
+        var response = handler.handleEventConflict(new EventConflictException(id));
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals(SPORT_EVENT + id + EVENT_CONFLICT, response.getBody().message());
+    }
+
+    @Test
+    void handleInvalidClusterSecret_returns403() {
+        var response = handler.handleInvalidClusterSecret(new InvalidClusterSecretException());
+
+        assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
+        assertEquals(INVALID_CLUSTER_SECRET, response.getBody().message());
+    }
+
+    @Test
+    void errorOf_matchesTheHandlersForBatchItems() {
+        UUID id = UUID.randomUUID();
+
+        assertEquals(HttpStatus.PRECONDITION_FAILED.value(),
+                GlobalExceptionHandler.errorOf(new VersionConflictException(id)).status());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(),
+                GlobalExceptionHandler.errorOf(new ShardUnavailableException("node-b", null)).status());
+        assertEquals(HttpStatus.CONFLICT.value(),
+                GlobalExceptionHandler.errorOf(new EventConflictException(id)).status());
+        // Any other failure is internal, as answered by handleOther
+        assertEquals(ErrorResponse.of(INTERNAL_SERVER_ERROR, HttpStatus.INTERNAL_SERVER_ERROR),
+                GlobalExceptionHandler.errorOf(new IllegalStateException("store failure")));
+    }
+
     @Test
     void handleOther_returns500() {
         RuntimeException ex = new RuntimeException("Some error");
@@ -0,0 +1,57 @@
+package com.entain.metrics;
+
+import com.entain.data.EventStatus;
+import com.entain.data.SportEvent;
+import com.entain.service.SportEventService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class PrometheusEndpointIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SportEventService sportEventService;
+
+    @Test
+    void prometheus_exposesServiceStoreDispatchAndSseMeters() throws Exception {
+        sportEventService.createEvent(
+                new SportEvent(UUID.randomUUID(), "Metrics match", "FOOTBALL", EventStatus.INACTIVE, null));
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("sportevents_service_seconds_count{")))
+                .andExpect(content().string(containsString("operation=\"create\"")))
+                .andExpect(content().string(containsString("sportevents_store_events{")))
+                .andExpect(content().string(containsString("sportevents_dispatch_queue")))
+                .andExpect(content().string(containsString("sportevents_executor_rejected_total")))
+                .andExpect(content().string(containsString("sportevents_sse_fanout_seconds")))
+                .andExpect(content().string(containsString("sportevents_sse_subscribers")));
+    }
+
+    @Test
+    void deliveries_reportsStagesAndSlowestDeliveries() throws Exception {
+        mockMvc.perform(get("/actuator/deliveries").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.stages.dispatch.count").exists())
+                .andExpect(jsonPath("$.stages.serialize.p99Millis").exists())
+                .andExpect(jsonPath("$.stages.flush.maxMillis").exists())
+                .andExpect(jsonPath("$.slowest").isArray());
+    }
+}
@@ -0,0 +1,54 @@
+package com.entain.metrics;
+
+import com.entain.config.SseConfig;
+import com.entain.data.EventStatus;
+import com.entain.data.SportEvent;
+import com.entain.service.SseEmitterService;
+import com.entain.sse.OverflowPolicy;
+import com.entain.sse.SseFrameEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SseMetricsTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    // Drains are never run, so every subscriber queue fills up
+    private final List<Runnable> parkedDrains = new ArrayList<>();
+    private SseEmitterService service;
+
+    @BeforeEach
+    void setUp() {
+        SseConfig config = new SseConfig();
+        config.setQueueCapacity(1);
+        config.setOverflowPolicy(OverflowPolicy.DROP_OLDEST);
+        SseFrameEncoder encoder = new SseFrameEncoder(new ObjectMapper().registerModule(new JavaTimeModule()));
+        service = new SseEmitterService(config, parkedDrains::add, encoder, registry);
+        new SseMetrics(service).bindTo(registry);
+    }
+
+    @Test
+    void meters_reportSubscribersDropsAndFanOut() {
+        service.createEmitter();
+        service.createEmitter();
+        for (int i = 0; i < 3; i++) {
+            service.emitUpdate(new SportEvent(UUID.randomUUID(), "Match", "FOOTBALL", EventStatus.ACTIVE, null));
+        }
+
+        assertThat(registry.get(SseMetrics.SUBSCRIBERS).gauge().value()).isEqualTo(2);
+        // Each subscriber keeps the newest update and drops the two before it
+        assertThat(registry.get(SseMetrics.DROPPED_FRAMES).functionCounter().count()).isEqualTo(4);
+        assertThat(registry.get(SseMetrics.DISCONNECTS).tag("reason", "overflow").functionCounter().count())
+                .isZero();
+        assertThat(registry.get(SseEmitterService.FAN_OUT_TIMER).timer().count()).isEqualTo(3);
+    }
+}
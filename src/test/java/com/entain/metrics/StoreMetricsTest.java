@@ -0,0 +1,44 @@
+package com.entain.metrics;
+
+import com.entain.data.EventStatus;
+import com.entain.data.SportEvent;
+import com.entain.data.access.InMemorySportEventStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StoreMetricsTest {
+
+    private final InMemorySportEventStore store = new InMemorySportEventStore();
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        new StoreMetrics(store).bindTo(registry);
+    }
+
+    private double events(EventStatus status) {
+        return registry.get(StoreMetrics.EVENTS).tag("status", status.name()).gauge().value();
+    }
+
+    private static SportEvent event() {
+        return new SportEvent(UUID.randomUUID(), "Match", "FOOTBALL", EventStatus.INACTIVE, null);
+    }
+
+    @Test
+    void gauges_followStatusChanges() {
+        SportEvent first = store.save(event());
+        store.save(event());
+        store.updateStatus(first.id(), EventStatus.ACTIVE);
+
+        assertThat(events(EventStatus.INACTIVE)).isEqualTo(1);
+        assertThat(events(EventStatus.ACTIVE)).isEqualTo(1);
+        assertThat(events(EventStatus.FINISHED)).isZero();
+        assertThat(registry.get(StoreMetrics.WRITES).functionCounter().count()).isEqualTo(3);
+    }
+}
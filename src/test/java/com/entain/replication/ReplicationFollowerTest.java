@@ -0,0 +1,154 @@
+package com.entain.replication;
+
+import com.entain.cluster.ClusterMessage;
+import com.entain.config.ClusterConfig;
+import com.entain.config.ReplicationConfig;
+import com.entain.data.EventStatus;
+import com.entain.data.SportEvent;
+import com.entain.data.access.ReplicaSportEventStore;
+import com.entain.event.DomainEvent;
+import com.entain.event.EventDispatcher;
+import com.entain.event.SportEventStatusChanged;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class ReplicationFollowerTest {
+
+    private static final String LEADER = "http://leader:8080";
+    private static final String SNAPSHOT = LEADER + "/internal/replication/snapshot";
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private MockRestServiceServer server;
+    private ReplicaSportEventStore store;
+    private EventDispatcher dispatcher;
+    private ReplicationFollower follower;
+
+    private final SportEvent event = new SportEvent(UUID.randomUUID(), "Final", "FOOTBALL", EventStatus.INACTIVE,
+            LocalDateTime.of(2030, 1, 1, 18, 0));
+
+    @BeforeEach
+    void setUp() {
+        RestClient.Builder builder = RestClient.builder().baseUrl(LEADER);
+        server = MockRestServiceServer.bindTo(builder).build();
+        ReplicationConfig config = new ReplicationConfig();
+        config.setLeaderUrl(LEADER);
+        config.setBatchSize(100);
+        config.setPollWaitMs(0);
+        store = mock(ReplicaSportEventStore.class);
+        dispatcher = mock(EventDispatcher.class);
+        follower = new ReplicationFollower(builder.build(), store, dispatcher, config);
+    }
+
+    private void respond(String url, Object body) throws Exception {
+        server.expect(requestTo(url))
+                .andRespond(withSuccess(objectMapper.writeValueAsString(body), MediaType.APPLICATION_JSON));
+    }
+
+    private static String changesAfter(long sequence) {
+        return LEADER + "/internal/replication/changes?after=" + sequence + "&limit=100&waitMs=0";
+    }
+
+    @Test
+    void poll_loadsSnapshotFirst() throws Exception {
+        respond(SNAPSHOT, new ReplicationSnapshot("leader-1", 7, List.of(event)));
+
+        follower.poll();
+
+        verify(store).reset(List.of(event));
+        assertThat(follower.isSynced()).isTrue();
+        assertThat(follower.getAppliedSequence()).isEqualTo(7);
+        assertThat(follower.isWithinMaxLag()).isTrue();
+        verifyNoInteractions(dispatcher);
+    }
+
+    @Test
+    void poll_appliesChangesAndNotifiesLocalSubscribers() throws Exception {
+        respond(SNAPSHOT, new ReplicationSnapshot("leader-1", 7, List.of(event)));
+        SportEvent active = event.withStatus(EventStatus.ACTIVE);
+        SportEvent other = new SportEvent(UUID.randomUUID(), "Semi", "FOOTBALL", EventStatus.INACTIVE, null);
+        respond(changesAfter(7), new ReplicationBatch("leader-1", 1, 10, List.of(
+                new ClusterMessage("leader-1", 8, ClusterMessage.Kind.STATUS_CHANGED, active),
+                new ClusterMessage("leader-1", 9, ClusterMessage.Kind.CREATED, other))));
+        when(store.apply(active)).thenReturn(true);
+        // Already applied, e.g. included in the snapshot
+        when(store.apply(other)).thenReturn(false);
+
+        follower.poll();
+        follower.poll();
+
+        ArgumentCaptor<DomainEvent> published = ArgumentCaptor.forClass(DomainEvent.class);
+        verify(dispatcher).submit(published.capture());
+        assertThat(published.getValue()).isInstanceOfSatisfying(SportEventStatusChanged.class,
+                changed -> assertThat(changed.version()).isEqualTo(active.version()));
+        assertThat(follower.getAppliedSequence()).isEqualTo(9);
+        assertThat(follower.getLagChanges()).isEqualTo(1);
+        assertThat(follower.getAppliedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void poll_reloadsSnapshotWhenLeaderRestarted() throws Exception {
+        respond(SNAPSHOT, new ReplicationSnapshot("leader-1", 7, List.of()));
+        respond(changesAfter(7), new ReplicationBatch("leader-2", 1, 2, List.of()));
+        respond(SNAPSHOT, new ReplicationSnapshot("leader-2", 2, List.of(event)));
+
+        follower.poll();
+        follower.poll();
+
+        verify(store).reset(List.of(event));
+        assertThat(follower.getAppliedSequence()).isEqualTo(2);
+        assertThat(follower.getSnapshotCount()).isEqualTo(2);
+        server.verify();
+    }
+
+    @Test
+    void poll_reloadsSnapshotWhenBehindTheLog() throws Exception {
+        respond(SNAPSHOT, new ReplicationSnapshot("leader-1", 7, List.of()));
+        respond(changesAfter(7), new ReplicationBatch("leader-1", 20, 30, List.of()));
+        respond(SNAPSHOT, new ReplicationSnapshot("leader-1", 30, List.of(event)));
+
+        follower.poll();
+        follower.poll();
+
+        verify(store).reset(List.of(event));
+        assertThat(follower.getAppliedSequence()).isEqualTo(30);
+        verify(store, never()).apply(any());
+        server.verify();
+    }
+
+    @Test
+    void isWithinMaxLag_falseBeforeFirstSync() {
+        assertThat(follower.isSynced()).isFalse();
+        assertThat(follower.isWithinMaxLag()).isFalse();
+    }
+
+    @Test
+    void constructor_refusesToStartWithoutClusterSecret() {
+        ReplicationConfig config = new ReplicationConfig();
+        config.setLeaderUrl(LEADER);
+
+        assertThatThrownBy(() -> new ReplicationFollower(config, new ClusterConfig(), store, dispatcher,
+                RestClient.builder()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("cluster.secret");
+    }
+}
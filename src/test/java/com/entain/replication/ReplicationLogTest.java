@@ -0,0 +1,85 @@
+package com.entain.replication;
+
+import com.entain.cluster.ClusterMessage;
+import com.entain.data.EventStatus;
+import com.entain.data.SportEvent;
+import com.entain.event.SportEventCreated;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicationLogTest {
+
+    private static SportEventCreated created(String name) {
+        return new SportEventCreated(new SportEvent(UUID.randomUUID(), name, "FOOTBALL", EventStatus.INACTIVE,
+                LocalDateTime.now().plusHours(1)));
+    }
+
+    @Test
+    void read_returnsChangesAfterSequenceInOrder() throws InterruptedException {
+        ReplicationLog log = new ReplicationLog(10);
+        SportEventCreated first = created("A");
+        SportEventCreated second = created("B");
+        log.accept(first);
+        log.acceptAll(List.of(second, created("C")));
+
+        ReplicationBatch batch = log.read(1, 1, 0);
+
+        assertThat(batch.origin()).isEqualTo(log.origin());
+        assertThat(batch.head()).isEqualTo(3);
+        assertThat(batch.oldest()).isEqualTo(1);
+        assertThat(batch.changes()).extracting(ClusterMessage::sequence).containsExactly(2L);
+        assertThat(batch.changes().get(0).event()).isEqualTo(second.event());
+        assertThat(batch.changes().get(0).kind()).isEqualTo(ClusterMessage.Kind.CREATED);
+    }
+
+    @Test
+    void read_afterOverwrittenChanges_returnsNothing() throws InterruptedException {
+        ReplicationLog log = new ReplicationLog(2);
+        for (int i = 0; i < 5; i++) {
+            log.accept(created("E" + i));
+        }
+
+        ReplicationBatch batch = log.read(1, 10, 0);
+
+        // Changes 2 and 3 are gone; the follower sees it from oldest and reloads a snapshot
+        assertThat(batch.oldest()).isEqualTo(4);
+        assertThat(batch.changes()).isEmpty();
+        assertThat(log.read(3, 10, 0).changes()).extracting(ClusterMessage::sequence).containsExactly(4L, 5L);
+    }
+
+    @Test
+    void read_waitsForNextChange() throws Exception {
+        ReplicationLog log = new ReplicationLog(10);
+
+        CompletableFuture<ReplicationBatch> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return log.read(0, 10, 5_000);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Thread.sleep(50);
+        assertThat(waiting).isNotDone();
+        log.accept(created("A"));
+
+        assertThat(waiting.get(1, TimeUnit.SECONDS).changes()).hasSize(1);
+    }
+
+    @Test
+    void read_withNothingNew_returnsEmptyAfterWait() throws InterruptedException {
+        ReplicationLog log = new ReplicationLog(10);
+        log.accept(created("A"));
+
+        ReplicationBatch batch = log.read(1, 10, 20);
+
+        assertThat(batch.head()).isEqualTo(1);
+        assertThat(batch.changes()).isEmpty();
+    }
+}
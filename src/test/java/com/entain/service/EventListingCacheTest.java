@@ -0,0 +1,171 @@
+package com.entain.service;
+
+import com.entain.config.ListingCacheConfig;
+import com.entain.data.EventStatus;
+import com.entain.data.SportEvent;
+import com.entain.event.SportEventCreated;
+import com.entain.event.SportEventStatusChanged;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventListingCacheTest {
+
+    private static final String FOOTBALL = "FOOTBALL";
+    private static final String HOCKEY = "HOCKEY";
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final AtomicLong changeCount = new AtomicLong();
+    private final AtomicInteger reads = new AtomicInteger();
+
+    private static SportEvent event(String sport, EventStatus status) {
+        return new SportEvent(UUID.randomUUID(), "Match", sport, status, LocalDateTime.of(2025, 9, 1, 20, 0));
+    }
+
+    private Supplier<List<SportEvent>> reading(SportEvent... events) {
+        return () -> {
+            reads.incrementAndGet();
+            return List.of(events);
+        };
+    }
+
+    /**
+     * Stores a change and publishes it, in the order the service does.
+     */
+    private void publish(EventListingCache cache, SportEventStatusChanged event) {
+        changeCount.incrementAndGet();
+        cache.accept(event);
+    }
+
+    private static SportEventStatusChanged statusChanged(SportEvent event, EventStatus status) {
+        return new SportEventStatusChanged(event.id(), status, event.name(), event.sport(), event.startTime(), 1);
+    }
+
+    @Test
+    void get_servesCachedJsonUntilAnEventOfTheFilterChanges() throws Exception {
+        EventListingCache cache = new EventListingCache(objectMapper, new ListingCacheConfig());
+        SportEvent football = event(FOOTBALL, EventStatus.INACTIVE);
+
+        EventListingCache.Listing first = cache.get(null, FOOTBALL, changeCount::get, reading(football));
+        EventListingCache.Listing second = cache.get(null, "football", changeCount::get, reading(football));
+
+        assertThat(second).isSameAs(first);
+        assertThat(reads.get()).isEqualTo(1);
+        assertThat(objectMapper.readTree(first.json()).get(0).get("id").asText()).isEqualTo(football.id().toString());
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getCachedBytes()).isEqualTo(first.json().length);
+
+        publish(cache, statusChanged(football, EventStatus.ACTIVE));
+        EventListingCache.Listing rebuilt = cache.get(null, FOOTBALL, changeCount::get, reading(football));
+
+        assertThat(rebuilt).isNotSameAs(first);
+        assertThat(rebuilt.changeCount()).isEqualTo(1);
+        assertThat(reads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void accept_keepsListingsOfOtherSports() {
+        EventListingCache cache = new EventListingCache(objectMapper, new ListingCacheConfig());
+        SportEvent hockey = event(HOCKEY, EventStatus.INACTIVE);
+        EventListingCache.Listing football = cache.get(null, FOOTBALL, changeCount::get, reading());
+        cache.get(null, null, changeCount::get, reading());
+
+        publish(cache, statusChanged(hockey, EventStatus.ACTIVE));
+
+        assertThat(cache.get(null, FOOTBALL, changeCount::get, reading())).isSameAs(football);
+        cache.get(null, null, changeCount::get, reading());
+        assertThat(reads.get()).isEqualTo(3);
+    }
+
+    @Test
+    void accept_createdEventInvalidatesListingsOfItsStatusOnly() {
+        EventListingCache cache = new EventListingCache(objectMapper, new ListingCacheConfig());
+        cache.get(EventStatus.INACTIVE, FOOTBALL, changeCount::get, reading());
+        EventListingCache.Listing finished = cache.get(EventStatus.FINISHED, FOOTBALL, changeCount::get, reading());
+
+        changeCount.incrementAndGet();
+        cache.accept(new SportEventCreated(event(FOOTBALL, EventStatus.INACTIVE)));
+
+        assertThat(cache.get(EventStatus.FINISHED, FOOTBALL, changeCount::get, reading())).isSameAs(finished);
+        cache.get(EventStatus.INACTIVE, FOOTBALL, changeCount::get, reading());
+        assertThat(reads.get()).isEqualTo(3);
+    }
+
+    @Test
+    void get_rebuildsAfterChangesNotPublishedHere() {
+        EventListingCache cache = new EventListingCache(objectMapper, new ListingCacheConfig());
+        EventListingCache.Listing first = cache.get(null, FOOTBALL, changeCount::get, reading());
+
+        // e.g. applied by another shard or by the leader of a replica
+        changeCount.incrementAndGet();
+
+        assertThat(cache.get(null, FOOTBALL, changeCount::get, reading())).isNotSameAs(first);
+        assertThat(reads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void get_changeCountedDuringRead_isNotCached() {
+        EventListingCache cache = new EventListingCache(objectMapper, new ListingCacheConfig());
+        SportEvent hockey = event(HOCKEY, EventStatus.INACTIVE);
+
+        cache.get(null, FOOTBALL, changeCount::get, () -> {
+            reads.incrementAndGet();
+            // Stored while the listing is read, published only afterwards
+            changeCount.incrementAndGet();
+            return List.of();
+        });
+        cache.accept(statusChanged(hockey, EventStatus.ACTIVE));
+        cache.get(null, FOOTBALL, changeCount::get, reading());
+
+        assertThat(reads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void get_uncachedListing_readsChangeCountOnce() {
+        ListingCacheConfig disabled = new ListingCacheConfig();
+        disabled.setEnabled(false);
+        EventListingCache cache = new EventListingCache(objectMapper, disabled);
+        AtomicInteger changeCountReads = new AtomicInteger();
+
+        // Reading the change count of a sharded store asks every other node
+        cache.get(null, null, () -> {
+            changeCountReads.incrementAndGet();
+            return changeCount.get();
+        }, reading());
+
+        assertThat(changeCountReads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void get_disabledOrFull_buildsEveryTime() {
+        ListingCacheConfig disabled = new ListingCacheConfig();
+        disabled.setEnabled(false);
+        EventListingCache off = new EventListingCache(objectMapper, disabled);
+        off.get(null, null, changeCount::get, reading());
+        off.get(null, null, changeCount::get, reading());
+        assertThat(reads.get()).isEqualTo(2);
+
+        ListingCacheConfig single = new ListingCacheConfig();
+        single.setMaxEntries(1);
+        EventListingCache full = new EventListingCache(objectMapper, single);
+        full.get(null, FOOTBALL, changeCount::get, reading());
+        full.get(null, HOCKEY, changeCount::get, reading());
+        full.get(null, HOCKEY, changeCount::get, reading());
+        full.get(null, FOOTBALL, changeCount::get, reading());
+        assertThat(reads.get()).isEqualTo(5);
+        assertThat(full.getMissCount()).isEqualTo(3);
+    }
+}
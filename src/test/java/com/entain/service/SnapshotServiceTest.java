@@ -0,0 +1,55 @@
+package com.entain.service;
+
+import com.entain.config.StoreConfig;
+import com.entain.data.EventStatus;
+import com.entain.data.SportEvent;
+import com.entain.data.access.InMemorySportEventStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SnapshotServiceTest {
+
+    @TempDir
+    Path directory;
+
+    private StoreConfig config(boolean restoreOnStartup, boolean saveOnShutdown) {
+        StoreConfig config = new StoreConfig();
+        config.getSnapshot().setPath(directory.resolve("nested/events.snapshot").toString());
+        config.getSnapshot().setRestoreOnStartup(restoreOnStartup);
+        config.getSnapshot().setSaveOnShutdown(saveOnShutdown);
+        return config;
+    }
+
+    @Test
+    void saveOnShutdownAndRestoreOnStartup_shouldCarryEventsAcrossRestart() throws IOException {
+        InMemorySportEventStore before = new InMemorySportEventStore();
+        SportEvent active = before.save(new SportEvent(UUID.randomUUID(), "Final", "FOOTBALL",
+                EventStatus.ACTIVE, LocalDateTime.of(2030, 5, 1, 20, 0)));
+        SportEvent inactive = before.save(new SportEvent(UUID.randomUUID(), "Open", "TENNIS",
+                EventStatus.INACTIVE, LocalDateTime.of(2030, 6, 1, 10, 0)));
+        new SnapshotService(before, config(true, true)).saveOnShutdown();
+
+        InMemorySportEventStore after = new InMemorySportEventStore();
+        new SnapshotService(after, config(true, true)).restoreOnStartup();
+
+        assertThat(after.findAll(null, null)).containsExactlyInAnyOrder(active, inactive);
+        assertThat(after.findAll(EventStatus.ACTIVE, "football")).containsExactly(active);
+    }
+
+    @Test
+    void restoreOnStartup_shouldSkipWhenDisabledOrMissing() throws IOException {
+        InMemorySportEventStore store = new InMemorySportEventStore();
+
+        new SnapshotService(store, config(true, false)).restoreOnStartup();
+        new SnapshotService(store, config(false, false)).restoreOnStartup();
+
+        assertThat(store.findAll(null, null)).isEmpty();
+    }
+}
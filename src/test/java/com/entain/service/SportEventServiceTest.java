@@ -1,13 +1,24 @@
 package com.entain.service;
 
 import com.entain.config.SportsConfig;
+import com.entain.data.BatchItemResult;
 import com.entain.data.EventStatus;
 import com.entain.data.SportEvent;
+import com.entain.data.StatusChange;
+import com.entain.data.access.EventCursor;
+import com.entain.data.access.EventPage;
+import com.entain.data.access.InMemorySportEventStore;
 import com.entain.data.access.SportEventDAO;
+import com.entain.event.DomainEvent;
 import com.entain.event.DomainEventPublisher;
 import com.entain.event.SportEventCreated;
+import com.entain.event.SportEventStatusChanged;
 import com.entain.exception.EventNotFoundException;
+import com.entain.exception.InvalidBatchRequestException;
+import com.entain.exception.InvalidPageRequestException;
+import com.entain.exception.InvalidTimeRangeException;
 import com.entain.exception.InvalidStatusChangeException;
+import com.entain.exception.VersionConflictException;
 import com.entain.validation.EventValidationRule;
 import com.entain.validation.SportTypeRule;
 import com.entain.validation.StatusChangeRule;
@@ -21,13 +32,23 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Stream;
 
+import static com.entain.config.EntainConstant.MAX_BATCH_SIZE;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -47,12 +68,13 @@ class SportEventServiceTest {
     @Mock
     private DomainEventPublisher publisher;
 
+    private List<EventValidationRule> rules;
     private SportEventService service;
     private SportEvent baseEvent;
 
     @BeforeEach
     void setUp() {
-        List<EventValidationRule> rules = List.of(
+        rules = List.of(
                 new StatusChangeRule(),
                 new SportTypeRule(new SportsConfig())
         );
@@ -78,12 +100,12 @@ class SportEventServiceTest {
                 startTime
         );
 
-        when(repository.findById(eventToTest.id())).thenReturn(Optional.of(eventToTest));
+        storeHolds(eventToTest);
 
         assertThrows(InvalidStatusChangeException.class,
                 () -> service.changeStatus(eventToTest.id(), newStatus));
 
-        verify(repository, never()).updateStatus(any(), any());
+        verify(publisher, never()).publish(any());
         verifyNoInteractions(sseEmitterService);
     }
 
@@ -101,15 +123,84 @@ class SportEventServiceTest {
     @Test
     void changeStatus_eventNotFound_throwsEventNotFoundException() {
         UUID missingId = UUID.randomUUID();
-        when(repository.findById(missingId)).thenReturn(Optional.empty());
+        when(repository.transitionStatus(eq(missingId), eq(EventStatus.ACTIVE), any())).thenReturn(Optional.empty());
 
         assertThrows(EventNotFoundException.class,
                 () -> service.changeStatus(missingId, EventStatus.ACTIVE));
 
-        verify(repository, never()).updateStatus(any(), any());
+        verify(publisher, never()).publish(any());
         verifyNoInteractions(sseEmitterService);
     }
 
+    @Test
+    void changeStatus_shouldTransitionInOneDaoCallAndPublishOnce() {
+        storeHolds(baseEvent);
+
+        SportEvent updated = service.changeStatus(baseEvent.id(), EventStatus.ACTIVE);
+
+        assertEquals(baseEvent.withStatus(EventStatus.ACTIVE), updated);
+        verify(repository).transitionStatus(eq(baseEvent.id()), eq(EventStatus.ACTIVE), any());
+        verify(repository, never()).findById(any());
+        verify(publisher).publish(sameEvent(new SportEventStatusChanged(baseEvent.id(), EventStatus.ACTIVE,
+                baseEvent.name(), baseEvent.sport(), baseEvent.startTime(), 1)));
+    }
+
+    @Test
+    void changeStatus_expectedVersion_appliesOnlyToThatVersion() {
+        SportEvent active = baseEvent.withStatus(EventStatus.ACTIVE);
+        storeHolds(active);
+
+        assertThrows(VersionConflictException.class,
+                () -> service.changeStatus(active.id(), EventStatus.FINISHED, active.version() - 1));
+        verify(publisher, never()).publish(any());
+
+        SportEvent finished = service.changeStatus(active.id(), EventStatus.FINISHED, active.version());
+        assertEquals(active.version() + 1, finished.version());
+        verify(publisher).publish(any(SportEventStatusChanged.class));
+    }
+
+    @Test
+    void changeStatus_concurrentSameTransition_onlyOneSucceeds() throws Exception {
+        InMemorySportEventStore store = new InMemorySportEventStore();
+        store.save(baseEvent.withStatus(EventStatus.ACTIVE));
+        SportEventService storeBacked = new SportEventService(store, publisher, rules);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> attempts = new java.util.ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            attempts.add(executor.submit(() -> {
+                start.await();
+                try {
+                    storeBacked.changeStatus(baseEvent.id(), EventStatus.FINISHED);
+                    return true;
+                } catch (InvalidStatusChangeException e) {
+                    return false;
+                }
+            }));
+        }
+        start.countDown();
+        int succeeded = 0;
+        for (Future<Boolean> attempt : attempts) {
+            succeeded += attempt.get() ? 1 : 0;
+        }
+        executor.shutdown();
+
+        assertEquals(1, succeeded);
+        verify(publisher, times(1)).publish(any(SportEventStatusChanged.class));
+    }
+
+    /**
+     * Makes the mocked DAO hold {@code current} and run the service's validator against it, as a real store does.
+     */
+    private void storeHolds(SportEvent current) {
+        when(repository.transitionStatus(eq(current.id()), any(), any())).thenAnswer(invocation -> {
+            EventStatus newStatus = invocation.getArgument(1);
+            invocation.<EventValidationRule>getArgument(2).validate(current, newStatus);
+            return Optional.of(current.withStatus(newStatus));
+        });
+    }
+
     @Test
     void createEvent_shouldSaveAndPublish_whenEventIsUnique() {
         SportEvent request = new SportEvent(
@@ -200,4 +291,181 @@ class SportEventServiceTest {
     }
 
 
-}
\ No newline at end of file
+
+    @Test
+    void createEvents_shouldSaveValidEventsInOneBatchAndReportInvalidOnes() {
+        SportEvent valid = new SportEvent(null, MATCH_A, SPORT, EventStatus.INACTIVE, LocalDateTime.now().plusHours(1));
+        SportEvent invalid = new SportEvent(null, MATCH_B, "CURLING", EventStatus.INACTIVE, LocalDateTime.now().plusHours(1));
+        when(repository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<BatchItemResult> results = service.createEvents(List.of(valid, invalid, valid));
+
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).succeeded());
+        assertInstanceOf(InvalidStatusChangeException.class, results.get(1).error());
+        assertTrue(results.get(2).succeeded());
+        assertNotNull(results.get(0).event().id());
+        assertEquals(4, results.get(0).event().id().version());
+        assertNotEquals(results.get(0).event().id(), results.get(2).event().id());
+        verify(repository).saveAll(List.of(results.get(0).event(), results.get(2).event()));
+        verify(publisher).publishAll(sameEvents(
+                new SportEventCreated(results.get(0).event()),
+                new SportEventCreated(results.get(2).event())
+        ));
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void changeStatuses_shouldValidateAgainstEarlierChangesOfTheSameBatch() {
+        InMemorySportEventStore store = new InMemorySportEventStore();
+        store.save(baseEvent);
+        SportEventService storeBacked = new SportEventService(store, publisher, rules);
+        UUID missingId = UUID.randomUUID();
+
+        List<BatchItemResult> results = storeBacked.changeStatuses(List.of(
+                new StatusChange(baseEvent.id(), EventStatus.ACTIVE),
+                new StatusChange(missingId, EventStatus.ACTIVE),
+                new StatusChange(baseEvent.id(), EventStatus.FINISHED),
+                new StatusChange(baseEvent.id(), EventStatus.ACTIVE)
+        ));
+
+        assertEquals(EventStatus.ACTIVE, results.get(0).event().status());
+        assertInstanceOf(EventNotFoundException.class, results.get(1).error());
+        assertEquals(EventStatus.FINISHED, results.get(2).event().status());
+        // FINISHED is terminal
+        assertInstanceOf(InvalidStatusChangeException.class, results.get(3).error());
+        assertEquals(Optional.of(baseEvent.withStatus(EventStatus.ACTIVE).withStatus(EventStatus.FINISHED)),
+                store.findById(baseEvent.id()));
+        verify(publisher).publishAll(sameEvents(
+                new SportEventStatusChanged(baseEvent.id(), EventStatus.ACTIVE, baseEvent.name(), baseEvent.sport(),
+                        baseEvent.startTime(), 1),
+                new SportEventStatusChanged(baseEvent.id(), EventStatus.FINISHED, baseEvent.name(), baseEvent.sport(),
+                        baseEvent.startTime(), 2)
+        ));
+    }
+
+    @Test
+    void changeStatuses_shouldRejectIncompleteChangesWithoutTouchingTheStore() {
+        InMemorySportEventStore store = new InMemorySportEventStore();
+        store.save(baseEvent);
+        SportEventService storeBacked = new SportEventService(store, publisher, rules);
+
+        List<BatchItemResult> results = storeBacked.changeStatuses(Arrays.asList(
+                new StatusChange(baseEvent.id(), EventStatus.ACTIVE),
+                null,
+                new StatusChange(null, EventStatus.FINISHED),
+                new StatusChange(baseEvent.id(), null)
+        ));
+
+        assertEquals(4, results.size());
+        assertEquals(EventStatus.ACTIVE, results.get(0).event().status());
+        assertInstanceOf(InvalidBatchRequestException.class, results.get(1).error());
+        assertInstanceOf(InvalidBatchRequestException.class, results.get(2).error());
+        assertInstanceOf(InvalidBatchRequestException.class, results.get(3).error());
+        assertEquals(1, store.count(EventStatus.ACTIVE));
+        verify(publisher).publishAll(sameEvents(
+                new SportEventStatusChanged(baseEvent.id(), EventStatus.ACTIVE, baseEvent.name(), baseEvent.sport(),
+                        baseEvent.startTime(), 1)
+        ));
+    }
+
+    @Test
+    void changeStatuses_failingChange_stillPublishesTheAppliedOnes() {
+        UUID failingId = UUID.randomUUID();
+        InMemorySportEventStore store = new InMemorySportEventStore() {
+            @Override
+            public Optional<SportEvent> transitionStatus(UUID id, EventStatus newStatus,
+                                                         EventValidationRule validator) {
+                if (id.equals(failingId)) {
+                    throw new IllegalStateException("store failure");
+                }
+                return super.transitionStatus(id, newStatus, validator);
+            }
+        };
+        store.save(baseEvent);
+        SportEventService storeBacked = new SportEventService(store, publisher, rules);
+
+        List<BatchItemResult> results = storeBacked.changeStatuses(List.of(
+                new StatusChange(baseEvent.id(), EventStatus.ACTIVE),
+                new StatusChange(failingId, EventStatus.ACTIVE)
+        ));
+
+        assertTrue(results.get(0).succeeded());
+        assertInstanceOf(IllegalStateException.class, results.get(1).error());
+        verify(publisher).publishAll(sameEvents(
+                new SportEventStatusChanged(baseEvent.id(), EventStatus.ACTIVE, baseEvent.name(), baseEvent.sport(),
+                        baseEvent.startTime(), 1)
+        ));
+    }
+
+    @Test
+    void createEvents_shouldReportMissingEvents() {
+        SportEvent valid = new SportEvent(null, MATCH_A, SPORT, EventStatus.INACTIVE, LocalDateTime.now().plusHours(1));
+        when(repository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<BatchItemResult> results = service.createEvents(Arrays.asList(null, valid));
+
+        assertInstanceOf(InvalidBatchRequestException.class, results.get(0).error());
+        assertTrue(results.get(1).succeeded());
+        verify(repository).saveAll(List.of(results.get(1).event()));
+    }
+
+    @Test
+    void createEvents_shouldRejectOversizedBatch() {
+        List<SportEvent> tooMany = java.util.Collections.nCopies(MAX_BATCH_SIZE + 1, baseEvent);
+
+        assertThrows(InvalidBatchRequestException.class, () -> service.createEvents(tooMany));
+        verifyNoInteractions(repository, publisher);
+    }
+
+    @Test
+    void getEventPage_shouldCapLimitAndDecodeCursor() {
+        EventCursor cursor = EventCursor.after(baseEvent);
+        EventPage page = new EventPage(List.of(baseEvent), null);
+        when(repository.findPage(EventStatus.INACTIVE, SPORT, null, null, cursor, 1000)).thenReturn(page);
+
+        assertSame(page, service.getEventPage(EventStatus.INACTIVE, SPORT, null, null, cursor.encode(), 50_000));
+    }
+
+    @Test
+    void getEventPage_shouldRejectInvalidLimitOrCursor() {
+        assertThrows(InvalidPageRequestException.class,
+                () -> service.getEventPage(null, null, null, null, null, 0));
+        assertThrows(InvalidPageRequestException.class,
+                () -> service.getEventPage(null, null, null, null, "not-a-cursor", 10));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void getEvents_shouldQueryTimeRangeAndRejectEmptyRange() {
+        LocalDateTime from = LocalDateTime.of(2030, 1, 1, 18, 0);
+        LocalDateTime to = from.plusHours(2);
+        when(repository.stream(null, SPORT, from, to)).thenReturn(Stream.of(baseEvent));
+
+        assertEquals(List.of(baseEvent), service.getEvents(null, SPORT, from, to));
+        assertThrows(InvalidTimeRangeException.class, () -> service.getEvents(null, SPORT, to, from));
+        assertThrows(InvalidTimeRangeException.class, () -> service.getEventPage(null, SPORT, from, from, null, 10));
+    }
+
+    /**
+     * Matches a published domain event by content; the publish time stamped on it differs on every run.
+     */
+    private static DomainEvent sameEvent(DomainEvent expected) {
+        return argThat(event -> unstamped(event).equals(unstamped(expected)));
+    }
+
+    private static <T extends Collection<? extends DomainEvent>> T sameEvents(DomainEvent... expected) {
+        List<DomainEvent> unstampedExpected = Stream.of(expected).map(SportEventServiceTest::unstamped).toList();
+        return argThat(events -> events.stream().map(SportEventServiceTest::unstamped).toList()
+                .equals(unstampedExpected));
+    }
+
+    private static DomainEvent unstamped(DomainEvent event) {
+        if (event instanceof SportEventCreated created) {
+            return new SportEventCreated(created.event(), 0);
+        }
+        SportEventStatusChanged changed = (SportEventStatusChanged) event;
+        return new SportEventStatusChanged(changed.eventId(), changed.newStatus(), changed.name(), changed.sport(),
+                changed.startTime(), changed.version(), 0);
+    }
+}
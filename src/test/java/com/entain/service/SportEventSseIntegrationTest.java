@@ -12,8 +12,10 @@ import org.springframework.test.web.servlet.MvcResult;
 
 import java.nio.charset.StandardCharsets;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -48,9 +50,12 @@ class SportEventSseIntegrationTest {
         );
         sseEmitterService.emitUpdate(event);
 
-        String responseContent = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        // Delivery happens asynchronously on the subscriber's writer
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> {
+            String responseContent = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
 
-        assertThat(responseContent).contains("update");
-        assertThat(responseContent).contains(INTEGRATION_MATCH);
+            assertThat(responseContent).contains("update");
+            assertThat(responseContent).contains(INTEGRATION_MATCH);
+        });
     }
 }
\ No newline at end of file
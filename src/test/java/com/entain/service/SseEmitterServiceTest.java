@@ -1,13 +1,27 @@
 package com.entain.service;
 
+import com.entain.config.SseConfig;
 import com.entain.data.EventStatus;
 import com.entain.data.SportEvent;
+import com.entain.sse.SseFilter;
+import com.entain.sse.SseFrameEncoder;
+import com.entain.sse.SseSubscriber;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -24,7 +38,8 @@ class SseEmitterServiceTest {
 
     @BeforeEach
     void setUp() {
-        service = new SseEmitterService();
+        SseFrameEncoder encoder = new SseFrameEncoder(new ObjectMapper().registerModule(new JavaTimeModule()));
+        service = new SseEmitterService(new SseConfig(), Runnable::run, encoder, new SimpleMeterRegistry());
     }
 
     private SportEvent createEvent(String name, String sport) {
@@ -42,19 +57,19 @@ class SseEmitterServiceTest {
         SseEmitter emitter = service.createEmitter();
 
         assertThat(emitter).isNotNull();
-        assertThat(service.getEmitters()).hasSize(1);
+        assertThat(service.getSubscribers()).hasSize(1);
     }
 
     @Test
     void emitUpdate_shouldSendEventToAllEmitters() throws Exception {
         SseEmitter emitter = spy(new SseEmitter(0L));
-        service.getEmitters().add(emitter);
+        service.register(emitter);
 
         SportEvent event = createEvent(TEST_MATCH, FOOTBALL);
 
         service.emitUpdate(event);
 
-        verify(emitter, atLeastOnce()).send(any(SseEmitter.SseEventBuilder.class));
+        verify(emitter, atLeastOnce()).send(anySet());
     }
 
     @Test
@@ -62,14 +77,99 @@ class SseEmitterServiceTest {
         SseEmitter badEmitter = mock(SseEmitter.class);
         doThrow(new IOException("fail"))
                 .when(badEmitter)
-                .send(any(SseEmitter.SseEventBuilder.class));
+                .send(anySet());
 
-        service.getEmitters().add(badEmitter);
+        service.register(badEmitter);
 
         SportEvent event = createEvent(BROKEN_MATCH, BASKETBALL);
 
         service.emitUpdate(event);
 
-        assertThat(service.getEmitters()).isEmpty();
+        assertThat(service.getSubscribers()).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void emitUpdate_shouldEncodeOnceAndShareFrame() throws Exception {
+        SseEmitter first = spy(new SseEmitter(0L));
+        SseEmitter second = spy(new SseEmitter(0L));
+        service.register(first);
+        service.register(second);
+
+        service.emitUpdate(createEvent(TEST_MATCH, FOOTBALL));
+
+        ArgumentCaptor<Set<DataWithMediaType>> firstFrame = ArgumentCaptor.forClass(Set.class);
+        ArgumentCaptor<Set<DataWithMediaType>> secondFrame = ArgumentCaptor.forClass(Set.class);
+        verify(first).send(firstFrame.capture());
+        verify(second).send(secondFrame.capture());
+
+        assertThat(firstFrame.getValue()).singleElement()
+                .extracting(DataWithMediaType::getMediaType)
+                .isEqualTo(MediaType.TEXT_EVENT_STREAM);
+        assertThat(firstFrame.getValue()).isSameAs(secondFrame.getValue());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void createEmitter_withLastEventId_shouldReplayOnlyMissedUpdates() throws Exception {
+        List<Runnable> pendingDrains = new ArrayList<>();
+        SseFrameEncoder encoder = new SseFrameEncoder(new ObjectMapper().registerModule(new JavaTimeModule()));
+        service = new SseEmitterService(new SseConfig(), pendingDrains::add, encoder, new SimpleMeterRegistry());
+        SseEmitter live = spy(new SseEmitter(0L));
+        service.register(live);
+
+        service.emitUpdate(createEvent(TEST_MATCH, FOOTBALL));
+        service.emitUpdate(createEvent(TEST_MATCH, FOOTBALL));
+        service.emitUpdate(createEvent(TEST_MATCH, FOOTBALL));
+        pendingDrains.forEach(Runnable::run);
+        pendingDrains.clear();
+
+        // The three queued updates are written together; the joined payload starts with the first frame
+        ArgumentCaptor<Set<DataWithMediaType>> frames = ArgumentCaptor.forClass(Set.class);
+        verify(live).send(frames.capture());
+        String firstId = frameId(frames.getValue());
+
+        service.createEmitter(firstId, SseFilter.ALL);
+
+        SseSubscriber resumed = service.getSubscribers().stream()
+                .filter(s -> s.getEmitter() != live)
+                .findFirst()
+                .orElseThrow();
+        assertThat(resumed.getQueueSize()).isEqualTo(2);
+    }
+
+    @Test
+    void createEmitter_withUnknownLastEventId_shouldNotReplay() {
+        List<Runnable> pendingDrains = new ArrayList<>();
+        SseFrameEncoder encoder = new SseFrameEncoder(new ObjectMapper().registerModule(new JavaTimeModule()));
+        service = new SseEmitterService(new SseConfig(), pendingDrains::add, encoder, new SimpleMeterRegistry());
+        service.emitUpdate(createEvent(TEST_MATCH, FOOTBALL));
+
+        service.createEmitter("previous-run-1", SseFilter.ALL);
+
+        assertThat(service.getSubscribers()).singleElement()
+                .extracting(SseSubscriber::getQueueSize)
+                .isEqualTo(0);
+    }
+
+    private static String frameId(Set<DataWithMediaType> frame) {
+        String text = new String((byte[]) frame.iterator().next().getData(), StandardCharsets.UTF_8);
+        return text.substring("id:".length(), text.indexOf('\n'));
+    }
+
+    @Test
+    void emitUpdate_shouldOnlyReachMatchingSubscribers() throws Exception {
+        SseEmitter everything = spy(new SseEmitter(0L));
+        SseEmitter football = spy(new SseEmitter(0L));
+        SseEmitter tennis = spy(new SseEmitter(0L));
+        service.register(everything);
+        service.register(football, new SseFilter("football", null, null));
+        service.register(tennis, new SseFilter("TENNIS", null, null));
+
+        service.emitUpdate(createEvent(TEST_MATCH, FOOTBALL));
+
+        verify(everything).send(anySet());
+        verify(football).send(anySet());
+        verify(tennis, never()).send(anySet());
+    }
+}
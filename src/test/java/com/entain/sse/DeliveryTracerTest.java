@@ -0,0 +1,54 @@
+package com.entain.sse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeliveryTracerTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final DeliveryTracer tracer = new DeliveryTracer(new SimpleMeterRegistry(), 3);
+
+    /**
+     * A frame published {@code totalMs} ago, split evenly between the stages before the flush.
+     */
+    private static SseFrame frame(long totalMs) {
+        long now = System.nanoTime();
+        long published = now - totalMs * MS;
+        long listenerStart = published + totalMs * MS / 3;
+        long serialized = listenerStart + totalMs * MS / 3;
+        return new SseFrame(UUID.randomUUID(), null, null, new byte[0],
+                new FrameTiming(published, listenerStart, serialized));
+    }
+
+    @Test
+    void serialized_recordsDispatchAndSerializeStages() {
+        tracer.serialized(new FrameTiming(0, 5 * MS, 7 * MS));
+
+        assertThat(tracer.timer(DeliveryTracer.Stage.DISPATCH).totalTime(TimeUnit.MILLISECONDS)).isEqualTo(5);
+        assertThat(tracer.timer(DeliveryTracer.Stage.SERIALIZE).totalTime(TimeUnit.MILLISECONDS)).isEqualTo(2);
+        assertThat(tracer.p99Millis(DeliveryTracer.Stage.DISPATCH)).isGreaterThan(4);
+    }
+
+    @Test
+    void slowest_keepsOnlyRecentDeliveriesSlowestFirst() {
+        SseFrame slowButOld = frame(900);
+        tracer.flushed(List.of(slowButOld), 0);
+        List<SseFrame> recent = List.of(frame(30), frame(90), frame(60));
+        tracer.flushed(recent, 0);
+
+        // The ring holds three deliveries, so the oldest one is gone
+        assertThat(tracer.slowest(2)).extracting(DeliveryTracer.Delivery::eventId)
+                .containsExactly(recent.get(1).eventId(), recent.get(2).eventId());
+        DeliveryTracer.Delivery slowest = tracer.slowest(1).get(0);
+        assertThat(slowest.totalMicros()).isGreaterThanOrEqualTo(90_000);
+        assertThat(slowest.dispatchMicros()).isEqualTo(30_000);
+        assertThat(tracer.timer(DeliveryTracer.Stage.FLUSH).count()).isEqualTo(4);
+    }
+}
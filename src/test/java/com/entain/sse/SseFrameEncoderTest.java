@@ -0,0 +1,66 @@
+package com.entain.sse;
+
+import com.entain.data.EventStatus;
+import com.entain.data.SportEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SseFrameEncoderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final SseFrameEncoder encoder = new SseFrameEncoder(objectMapper);
+
+    @Test
+    void encode_rendersCompleteUpdateFrame() throws Exception {
+        SportEvent event = new SportEvent(
+                UUID.randomUUID(),
+                "Final",
+                "FOOTBALL",
+                EventStatus.ACTIVE,
+                LocalDateTime.of(2025, 9, 1, 20, 0)
+        );
+
+        SseFrame frame = encoder.encode("update", event);
+
+        String expected = "event:update\ndata:" + objectMapper.writeValueAsString(event) + "\n\n";
+        assertThat(new String(frame.bytes(), StandardCharsets.UTF_8)).isEqualTo(expected);
+        assertThat(frame.eventId()).isEqualTo(event.id());
+        assertThat(frame.sport()).isEqualTo("FOOTBALL");
+        assertThat(frame.status()).isEqualTo(EventStatus.ACTIVE);
+    }
+
+    @Test
+    void frame_prefixesSseId() throws Exception {
+        SportEvent event = new SportEvent(UUID.randomUUID(), "Final", "FOOTBALL", EventStatus.INACTIVE, null);
+
+        SseFrame frame = encoder.frame("stream-7", "update", event, encoder.json(event));
+
+        String expected = "id:stream-7\nevent:update\ndata:" + objectMapper.writeValueAsString(event) + "\n\n";
+        assertThat(new String(frame.bytes(), StandardCharsets.UTF_8)).isEqualTo(expected);
+    }
+
+    @Test
+    void build_returnsSharedBytesWithoutCopying() throws Exception {
+        SportEvent event = new SportEvent(UUID.randomUUID(), "Final", "FOOTBALL", EventStatus.INACTIVE, null);
+
+        SseFrame frame = encoder.encode("update", event);
+
+        assertThat(frame.build())
+                .singleElement()
+                .extracting(ResponseBodyEmitter.DataWithMediaType::getData)
+                .isSameAs(frame.bytes());
+        assertThat(frame.build()).isSameAs(frame.build());
+    }
+}
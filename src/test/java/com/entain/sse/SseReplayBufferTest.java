@@ -0,0 +1,51 @@
+package com.entain.sse;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SseReplayBufferTest {
+
+    private static SseFrame frame(String name) {
+        return new SseFrame(UUID.randomUUID(), name.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void since_returnsFramesAfterSequenceInOrder() {
+        SseReplayBuffer buffer = new SseReplayBuffer(4);
+        SseFrame first = frame("A");
+        SseFrame second = frame("B");
+        SseFrame third = frame("C");
+
+        assertThat(buffer.append(first)).isEqualTo(1);
+        buffer.append(second);
+        buffer.append(third);
+
+        assertThat(buffer.since(1)).containsExactly(second, third);
+        assertThat(buffer.since(3)).isEmpty();
+    }
+
+    @Test
+    void since_returnsNullWhenFramesWereEvicted() {
+        SseReplayBuffer buffer = new SseReplayBuffer(2);
+        buffer.append(frame("A"));
+        SseFrame second = frame("B");
+        SseFrame third = frame("C");
+        buffer.append(second);
+        buffer.append(third);
+
+        assertThat(buffer.since(0)).isNull();
+        assertThat(buffer.since(1)).containsExactly(second, third);
+    }
+
+    @Test
+    void since_returnsNullForSequenceFromTheFuture() {
+        SseReplayBuffer buffer = new SseReplayBuffer(2);
+        buffer.append(frame("A"));
+
+        assertThat(buffer.since(5)).isNull();
+    }
+}
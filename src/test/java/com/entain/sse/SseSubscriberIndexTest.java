@@ -0,0 +1,74 @@
+package com.entain.sse;
+
+import com.entain.data.EventStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class SseSubscriberIndexTest {
+
+    private final SseSubscriberIndex index = new SseSubscriberIndex();
+
+    private SseSubscriber subscriber(SseFilter filter) {
+        SseSubscriber subscriber = new SseSubscriber(mock(SseEmitter.class), 16, OverflowPolicy.DROP_OLDEST,
+                Runnable::run, index::remove, new SseStats(), new DeliveryTracer(new SimpleMeterRegistry(), 0));
+        index.add(subscriber, filter);
+        return subscriber;
+    }
+
+    private static SseFrame frame(UUID eventId, String sport, EventStatus status) {
+        return new SseFrame(eventId, sport, status, new byte[0]);
+    }
+
+    private List<SseSubscriber> matching(SseFrame frame) {
+        List<SseSubscriber> matched = new ArrayList<>();
+        index.forEachMatching(frame, matched::add);
+        return matched;
+    }
+
+    @Test
+    void forEachMatching_appliesEveryCriterion() {
+        UUID watched = UUID.randomUUID();
+        SseSubscriber all = subscriber(SseFilter.ALL);
+        SseSubscriber tennis = subscriber(new SseFilter("tennis", null, null));
+        SseSubscriber activeTennis = subscriber(new SseFilter("TENNIS", EventStatus.ACTIVE, null));
+        SseSubscriber finished = subscriber(new SseFilter(null, EventStatus.FINISHED, null));
+        SseSubscriber single = subscriber(new SseFilter(null, null, Set.of(watched)));
+
+        assertThat(matching(frame(watched, "Tennis", EventStatus.ACTIVE)))
+                .containsExactlyInAnyOrder(all, tennis, activeTennis, single);
+        assertThat(matching(frame(UUID.randomUUID(), "TENNIS", EventStatus.FINISHED)))
+                .containsExactlyInAnyOrder(all, tennis, finished);
+        assertThat(matching(frame(UUID.randomUUID(), "FOOTBALL", EventStatus.INACTIVE)))
+                .containsExactly(all);
+    }
+
+    @Test
+    void forEachMatching_visitsMultiIdSubscriberOnce() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        SseSubscriber both = subscriber(new SseFilter(null, null, Set.of(first, second)));
+
+        assertThat(matching(frame(first, "FOOTBALL", EventStatus.ACTIVE))).containsExactly(both);
+        assertThat(matching(frame(second, "FOOTBALL", EventStatus.ACTIVE))).containsExactly(both);
+    }
+
+    @Test
+    void close_removesSubscriberFromIndex() {
+        UUID watched = UUID.randomUUID();
+        SseSubscriber single = subscriber(new SseFilter("FOOTBALL", null, Set.of(watched)));
+
+        single.close();
+
+        assertThat(matching(frame(watched, "FOOTBALL", EventStatus.ACTIVE))).isEmpty();
+        assertThat(index.isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,194 @@
+package com.entain.sse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class SseSubscriberTest {
+
+    private final List<Runnable> pendingTasks = new ArrayList<>();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final SseStats stats = new SseStats();
+    private final DeliveryTracer tracer = new DeliveryTracer(new SimpleMeterRegistry(), 16);
+    private SseEmitter emitter;
+
+    @BeforeEach
+    void setUp() {
+        emitter = mock(SseEmitter.class);
+    }
+
+    private SseSubscriber subscriber(OverflowPolicy policy) {
+        // Drain tasks are parked until runPending() to simulate a slow writer
+        return new SseSubscriber(emitter, 2, policy, pendingTasks::add, s -> closed.set(true), stats,
+                tracer);
+    }
+
+    private SseFrame frame(String name) {
+        return frame(UUID.randomUUID(), name);
+    }
+
+    private SseFrame frame(UUID eventId, String name) {
+        return new SseFrame(eventId, name.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void runPending() {
+        while (!pendingTasks.isEmpty()) {
+            pendingTasks.remove(0).run();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Set<DataWithMediaType>> sentFrames() throws Exception {
+        ArgumentCaptor<Set<DataWithMediaType>> captor = ArgumentCaptor.forClass(Set.class);
+        verify(emitter, atLeast(0)).send(captor.capture());
+        return captor.getAllValues();
+    }
+
+    /**
+     * @return everything written to the client, whether sent frame by frame or joined
+     */
+    private String sentPayload() throws Exception {
+        StringBuilder payload = new StringBuilder();
+        for (Set<DataWithMediaType> frame : sentFrames()) {
+            for (DataWithMediaType data : frame) {
+                payload.append(new String((byte[]) data.getData(), StandardCharsets.UTF_8));
+            }
+        }
+        return payload.toString();
+    }
+
+    @Test
+    void offer_schedulesSingleDrainForBurst() throws Exception {
+        SseSubscriber subscriber = subscriber(OverflowPolicy.DROP_OLDEST);
+        SseFrame first = frame("A");
+        SseFrame second = frame("B");
+
+        subscriber.offer(first);
+        subscriber.offer(second);
+
+        assertThat(pendingTasks).hasSize(1);
+        runPending();
+        // Both queued updates go out in one write
+        assertThat(sentFrames()).hasSize(1);
+        assertThat(sentPayload()).isEqualTo("AB");
+    }
+
+    @Test
+    void drain_sendsSingleQueuedFrameAsIs() throws Exception {
+        SseSubscriber subscriber = subscriber(OverflowPolicy.DROP_OLDEST);
+        SseFrame only = frame("A");
+
+        subscriber.offer(only);
+        runPending();
+
+        assertThat(sentFrames()).containsExactly(only.payload());
+    }
+
+    @Test
+    void dropOldest_discardsOldestWhenFull() throws Exception {
+        SseSubscriber subscriber = subscriber(OverflowPolicy.DROP_OLDEST);
+        SseFrame first = frame("A");
+        SseFrame second = frame("B");
+        SseFrame third = frame("C");
+
+        subscriber.offer(first);
+        subscriber.offer(second);
+        subscriber.offer(third);
+        runPending();
+
+        assertThat(sentPayload()).isEqualTo("BC");
+        assertThat(subscriber.getDroppedCount()).isEqualTo(1);
+        assertThat(stats.getDroppedFrames()).isEqualTo(1);
+    }
+
+    @Test
+    void coalesce_keepsLatestUpdatePerEventId() throws Exception {
+        SseSubscriber subscriber = subscriber(OverflowPolicy.COALESCE);
+        SseFrame first = frame("A");
+        SseFrame other = frame("B");
+        SseFrame firstActive = frame(first.eventId(), "A active");
+        SseFrame firstFinished = frame(first.eventId(), "A finished");
+
+        subscriber.offer(first);
+        subscriber.offer(other);
+        subscriber.offer(firstActive);
+        subscriber.offer(firstFinished);
+        runPending();
+
+        assertThat(sentPayload()).isEqualTo("A finishedB");
+        assertThat(subscriber.getDroppedCount()).isZero();
+    }
+
+    @Test
+    void coalesce_olderVersionDoesNotReplaceNewerUpdate() throws Exception {
+        SseSubscriber subscriber = subscriber(OverflowPolicy.COALESCE);
+        UUID eventId = UUID.randomUUID();
+        SseFrame finished = new SseFrame(eventId, null, null, 2, "A finished".getBytes(StandardCharsets.UTF_8), null);
+        SseFrame active = new SseFrame(eventId, null, null, 1, "A active".getBytes(StandardCharsets.UTF_8), null);
+
+        subscriber.offer(finished);
+        subscriber.offer(active);
+        runPending();
+
+        assertThat(sentPayload()).isEqualTo("A finished");
+    }
+
+    @Test
+    void disconnect_closesSubscriberWhenFull() {
+        SseSubscriber subscriber = subscriber(OverflowPolicy.DISCONNECT);
+
+        subscriber.offer(frame("A"));
+        subscriber.offer(frame("B"));
+        subscriber.offer(frame("C"));
+
+        verify(emitter).complete();
+        assertThat(closed).isTrue();
+        assertThat(subscriber.getQueueSize()).isZero();
+        assertThat(stats.getOverflowDisconnects()).isEqualTo(1);
+    }
+
+    @Test
+    void failedWrite_closesSubscriberAndIsCounted() throws Exception {
+        SseSubscriber subscriber = subscriber(OverflowPolicy.DROP_OLDEST);
+        doThrow(new IOException("broken pipe")).when(emitter).send(anySet());
+
+        subscriber.offer(frame("A"));
+        runPending();
+
+        assertThat(closed).isTrue();
+        assertThat(stats.getWriteFailures()).isEqualTo(1);
+    }
+
+    @Test
+    void drain_tracesLiveFramesOnly() {
+        long before = System.nanoTime();
+        SseSubscriber subscriber = subscriber(OverflowPolicy.DROP_OLDEST);
+        long now = System.nanoTime();
+        SseFrame replayed = new SseFrame(UUID.randomUUID(), null, null, new byte[0],
+                new FrameTiming(before, before, before));
+        SseFrame live = new SseFrame(UUID.randomUUID(), null, null, new byte[0], new FrameTiming(now, now, now));
+
+        subscriber.offer(replayed);
+        subscriber.offer(live);
+        runPending();
+        subscriber.offer(frame("untraced"));
+        runPending();
+
+        assertThat(tracer.timer(DeliveryTracer.Stage.FLUSH).count()).isEqualTo(1);
+        assertThat(tracer.slowest(10)).extracting(DeliveryTracer.Delivery::eventId).containsExactly(live.eventId());
+    }
+}
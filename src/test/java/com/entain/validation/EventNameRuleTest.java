@@ -0,0 +1,46 @@
+package com.entain.validation;
+
+import com.entain.data.EventStatus;
+import com.entain.data.SportEvent;
+import com.entain.exception.InvalidStatusChangeException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static com.entain.config.EntainConstant.INVALID_NAME;
+import static com.entain.config.EntainConstant.MAX_NAME_LENGTH;
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventNameRuleTest {
+
+    private final EventNameRule rule = new EventNameRule();
+
+    private SportEvent createEvent(String name) {
+        return new SportEvent(
+                UUID.randomUUID(),
+                name,
+                "FOOTBALL",
+                EventStatus.INACTIVE,
+                LocalDateTime.now().plusHours(1)
+        );
+    }
+
+    @Test
+    void validate_nameOfMaxLength_shouldPass() {
+        SportEvent event = createEvent("x".repeat(MAX_NAME_LENGTH));
+        assertDoesNotThrow(() -> rule.validate(event));
+    }
+
+    @Test
+    void validate_longerName_shouldThrow() {
+        SportEvent event = createEvent("x".repeat(MAX_NAME_LENGTH + 1));
+
+        InvalidStatusChangeException ex = assertThrows(
+                InvalidStatusChangeException.class,
+                () -> rule.validate(event)
+        );
+
+        assertEquals(INVALID_NAME, ex.getMessage());
+    }
+}
@@ -0,0 +1,59 @@
+package com.entain.validation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SportCatalogTest {
+
+    @Test
+    void of_shouldContainEnumAndExtraSportsIgnoringCase() {
+        SportCatalog catalog = SportCatalog.of(List.of("TENNIS", "Volleyball"));
+
+        assertTrue(catalog.contains("FOOTBALL"));
+        assertTrue(catalog.contains("football"));
+        assertTrue(catalog.contains("tEnNiS"));
+        assertTrue(catalog.contains("VOLLEYBALL"));
+        assertEquals(List.of("FOOTBALL", "HOCKEY", "BASKETBALL", "TENNIS", "Volleyball"), catalog.names());
+        assertEquals("[FOOTBALL, HOCKEY, BASKETBALL, TENNIS, Volleyball]", catalog.toString());
+    }
+
+    @Test
+    void contains_shouldRejectUnknownNullAndBlankSports() {
+        SportCatalog catalog = SportCatalog.of(null);
+
+        assertFalse(catalog.contains("CRICKET"));
+        assertFalse(catalog.contains("FOOTBAL"));
+        assertFalse(catalog.contains("FOOTBALLS"));
+        assertFalse(catalog.contains(null));
+        assertFalse(catalog.contains(""));
+        assertFalse(catalog.contains(" "));
+    }
+
+    @Test
+    void compile_shouldMergeNamesDifferingOnlyInCase() {
+        SportCatalog catalog = SportCatalog.compile(List.of("Tennis", "TENNIS", "tennis"));
+
+        assertEquals(List.of("Tennis"), catalog.names());
+        assertTrue(catalog.contains("TENNIS"));
+    }
+
+    @Test
+    void compile_shouldGiveEveryOneOfManyNamesItsOwnSlot() {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            names.add("SPORT-" + i);
+        }
+
+        SportCatalog catalog = SportCatalog.compile(names);
+
+        for (String name : names) {
+            assertTrue(catalog.contains(name.toLowerCase(Locale.ROOT)), name);
+        }
+        assertFalse(catalog.contains("SPORT-1000"));
+    }
+}
@@ -87,4 +87,27 @@ class SportTypeRuleTest {
 
         assertTrue(ex.getMessage().contains(" "));
     }
-}
\ No newline at end of file
+
+    @Test
+    void validate_sportInOtherCase_shouldPass() {
+        assertDoesNotThrow(() -> rule.validate(createEvent("Cricket")));
+    }
+
+    @Test
+    void validate_invalidSport_messageListsAllowedSports() {
+        InvalidStatusChangeException ex = assertThrows(
+                InvalidStatusChangeException.class,
+                () -> rule.validate(createEvent(FOO))
+        );
+
+        assertTrue(ex.getMessage().endsWith("[FOOTBALL, HOCKEY, BASKETBALL, CRICKET, SWIMMING]"));
+    }
+
+    @Test
+    void validate_shouldFollowReplacedConfiguration() {
+        config.setExtraTypes(List.of(FOO));
+
+        assertDoesNotThrow(() -> rule.validate(createEvent(FOO)));
+        assertThrows(InvalidStatusChangeException.class, () -> rule.validate(createEvent(CRICKET)));
+    }
+}
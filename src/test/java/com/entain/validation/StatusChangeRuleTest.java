@@ -6,7 +6,10 @@ import com.entain.exception.InvalidStatusChangeException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -78,4 +81,25 @@ class StatusChangeRuleTest {
         assertThrows(InvalidStatusChangeException.class,
                 () -> rule.validate(event, EventStatus.FINISHED));
     }
-}
\ No newline at end of file
+
+    @Test
+    void inactiveToActive_comparesStartTimeWithClock() {
+        LocalDateTime start = LocalDateTime.of(2030, 3, 31, 1, 30);
+        ZoneId zone = ZoneId.of("Europe/Berlin");
+        Instant startInstant = start.atZone(zone).toInstant();
+        SportEvent event = createEvent(EventStatus.INACTIVE, start);
+
+        StatusChangeRule atStart = new StatusChangeRule(Clock.fixed(startInstant, zone));
+        StatusChangeRule justAfter = new StatusChangeRule(Clock.fixed(startInstant.plusMillis(1), zone));
+
+        assertDoesNotThrow(() -> atStart.validate(event, EventStatus.ACTIVE));
+        assertThrows(InvalidStatusChangeException.class, () -> justAfter.validate(event, EventStatus.ACTIVE));
+    }
+
+    @Test
+    void creation_onlyInactiveEvents_shouldPass() {
+        assertDoesNotThrow(() -> rule.validate(createEvent(EventStatus.INACTIVE, futureStartTime), null));
+        assertThrows(InvalidStatusChangeException.class,
+                () -> rule.validate(createEvent(EventStatus.ACTIVE, futureStartTime), null));
+    }
+}